@@ -0,0 +1,74 @@
+package coffeandcommit.crema.build
+
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * 최근 jmh 결과를 커밋된 기준선과 비교해 출력한다. 매 실행마다 출력해야 하므로 입력/출력을 선언하지 않는다. (항상 실행)
+ */
+abstract class JmhCompareTask extends DefaultTask {
+
+    @Internal
+    abstract RegularFileProperty getBaselineFile()
+
+    @Internal
+    abstract RegularFileProperty getResultsFile()
+
+    @Internal
+    abstract Property<Double> getTolerance()
+
+    @Internal
+    abstract Property<Boolean> getFailOnRegression()
+
+    JmhCompareTask() {
+        tolerance.convention(JmhComparison.DEFAULT_TOLERANCE)
+        failOnRegression.convention(false)
+    }
+
+    @TaskAction
+    void compare() {
+        def results = resultsFile.get().asFile
+        if (!results.exists()) {
+            throw new GradleException("JMH 결과가 없습니다. 먼저 ./gradlew jmh 를 실행하세요: ${results}")
+        }
+        def slurper = new JsonSlurper()
+        Map<String, Map> baseline = (slurper.parse(baselineFile.get().asFile) as List<Map>)
+                .collectEntries { [(JmhComparison.key(it)): it] }
+
+        def regressions = []
+        (slurper.parse(results) as List<Map>).each { current ->
+            String key = JmhComparison.key(current)
+            def base = baseline[key]
+            if (base == null) {
+                logger.lifecycle(String.format('%-90s %12.1f %s (no baseline)',
+                        key, JmhComparison.score(current), current.primaryMetric.scoreUnit))
+                return
+            }
+            double changePercent = JmhComparison.changePercent(base, current)
+            boolean regression = JmhComparison.isRegression(base, current, tolerance.get())
+            // 허용 범위를 넘었어도 신뢰 구간이 겹치면 잡음으로 보고 표시만 한다
+            String note = regression ? ' REGRESSION'
+                    : changePercent > tolerance.get() ? ' (within error)' : ''
+            logger.lifecycle(String.format('%-90s %12.1f ±%.0f%% -> %12.1f ±%.0f%% %s (%+.1f%%)%s',
+                    key, JmhComparison.score(base), JmhComparison.relativeErrorPercent(base),
+                    JmhComparison.score(current), JmhComparison.relativeErrorPercent(current),
+                    current.primaryMetric.scoreUnit, changePercent, note))
+            if (regression) {
+                regressions << key
+            }
+        }
+
+        if (!regressions.isEmpty()) {
+            def message = "JMH 기준선 대비 ${tolerance.get()}% 이상 느려지고 신뢰 구간이 겹치지 않는 벤치마크: ${regressions}"
+            if (failOnRegression.get()) {
+                throw new GradleException(message)
+            }
+            logger.warn(message)
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package coffeandcommit.crema.build
+
+/**
+ * JMH 결과(JSON) 기준선 비교. avgt 모드라 점수가 클수록 느리다.
+ * 한 번의 측정은 잡음이 크므로 점수 변화율만으로 회귀를 판단하지 않고,
+ * 변화율이 허용 범위를 넘으면서 두 결과의 99.9% 신뢰 구간(scoreConfidence)이 겹치지 않을 때만 회귀로 본다.
+ */
+class JmhComparison {
+
+    static final double DEFAULT_TOLERANCE = 20
+
+    static String key(Map result) {
+        result.benchmark + (result.params ? result.params.toString() : '')
+    }
+
+    static double score(Map result) {
+        result.primaryMetric.score as double
+    }
+
+    /**
+     * 신뢰 구간 [하한, 상한]. 측정이 1회뿐이라 구간이 NaN 이면 점수 하나짜리 구간으로 본다.
+     */
+    static List<Double> confidence(Map result) {
+        def metric = result.primaryMetric
+        double score = metric.score as double
+        double error = number(metric.scoreError)
+        List bounds = metric.scoreConfidence instanceof List ? metric.scoreConfidence as List : []
+        if (bounds.size() == 2 && !number(bounds[0]).naN && !number(bounds[1]).naN) {
+            return [number(bounds[0]), number(bounds[1])]
+        }
+        error.naN ? [score, score] : [score - error, score + error]
+    }
+
+    /** 점수 대비 오차(scoreError) 비율(%) */
+    static double relativeErrorPercent(Map result) {
+        double error = number(result.primaryMetric.scoreError)
+        error.naN ? 0 : error / score(result) * 100
+    }
+
+    static double changePercent(Map base, Map current) {
+        (score(current) - score(base)) / score(base) * 100
+    }
+
+    static boolean overlaps(Map base, Map current) {
+        def before = confidence(base)
+        def after = confidence(current)
+        after[0] <= before[1] && before[0] <= after[1]
+    }
+
+    /**
+     * 허용 범위 이상 느려졌고, 그 차이가 측정 오차로 설명되지 않는 경우(신뢰 구간이 겹치지 않음)만 회귀.
+     */
+    static boolean isRegression(Map base, Map current, double tolerance) {
+        changePercent(base, current) > tolerance && !overlaps(base, current)
+    }
+
+    private static double number(Object value) {
+        value == null ? Double.NaN : value as double
+    }
+}
@@ -0,0 +1,99 @@
+package coffeandcommit.crema.build
+
+import groovy.json.JsonSlurper
+
+/**
+ * k6 결과(--out json) 엔드포인트별 집계와 기준선 비교.
+ * 경로 변수(숫자 id, 회원 id 등)는 {id} 로 묶어 엔드포인트 단위로 집계한다.
+ */
+class LoadTestReport {
+
+    /** p95 가 이만큼(%) 느려지면 회귀 */
+    static final double DEFAULT_TOLERANCE = 20
+    /** 에러율이 이만큼(%p) 늘면 회귀 */
+    static final double ERROR_RATE_TOLERANCE = 1
+
+    static String normalize(String url) {
+        def path = url.replaceFirst('^[a-z]+://[^/]+', '').replaceFirst('[?#].*$', '')
+        path.split('/').collect { segment ->
+            (segment ==~ /\d+/ || segment ==~ /.*\d.*/ && segment ==~ /[A-Za-z0-9_-]{6,}/) ? '{id}' : segment
+        }.join('/')
+    }
+
+    static String endpointOf(Map tags) {
+        String name = tags.name ?: tags.url
+        name.startsWith('http') ? "${tags.method} ${normalize(name)}".toString() : name
+    }
+
+    /**
+     * k6 JSON 라인들을 엔드포인트별 count / errorRate / p50 / p95 / p99 / max 로 집계한다.
+     * setup / teardown 요청은 제외한다.
+     */
+    static Map<String, Map> summarize(Iterable<File> inputs) {
+        def slurper = new JsonSlurper()
+        Map<String, List<Double>> durations = [:].withDefault { [] }
+        Map<String, Integer> errors = [:].withDefault { 0 }
+        inputs.each { input ->
+            input.eachLine('UTF-8') { line ->
+                if (!line.contains('"http_req_duration"') || !line.contains('"Point"')) {
+                    return
+                }
+                def point = slurper.parseText(line)
+                def tags = point.data.tags ?: [:]
+                if (point.metric != 'http_req_duration' || tags.group in ['::setup', '::teardown']) {
+                    return
+                }
+                def endpoint = endpointOf(tags)
+                durations[endpoint] << (point.data.value as double)
+                int status = (tags.status ?: '0') as int
+                if (status == 0 || status >= 400) {
+                    errors[endpoint] = errors[endpoint] + 1
+                }
+            }
+        }
+
+        def summary = new TreeMap<String, Map>()
+        durations.each { endpoint, values ->
+            def sorted = values.sort()
+            summary[endpoint] = [
+                    count    : sorted.size(),
+                    errorRate: round(errors[endpoint] * 100.0d / sorted.size()),
+                    p50      : round(percentile(sorted, 50)),
+                    p95      : round(percentile(sorted, 95)),
+                    p99      : round(percentile(sorted, 99)),
+                    max      : round(sorted.last()),
+            ]
+        }
+        summary
+    }
+
+    /**
+     * 기준선 대비 p95 변화율(%). 기준선이 없으면 null.
+     */
+    static Double p95Change(Map current, Map base) {
+        if (base == null) {
+            return null
+        }
+        double before = base.p95 as double
+        before > 0 ? ((current.p95 as double) - before) / before * 100 : 0
+    }
+
+    /**
+     * p95 가 허용 범위 이상 느려졌거나 에러율이 1%p 이상 늘어난 엔드포인트. 기준선에 없는 엔드포인트는 비교하지 않는다.
+     */
+    static List<String> regressions(Map<String, Map> summary, Map baseline, double tolerance) {
+        summary.findAll { endpoint, s ->
+            def base = baseline[endpoint] as Map
+            base != null && (p95Change(s, base) > tolerance
+                    || (s.errorRate as double) - (base.errorRate as double) >= ERROR_RATE_TOLERANCE)
+        }.keySet().toList()
+    }
+
+    private static double percentile(List<Double> sorted, double p) {
+        sorted[Math.max(0, (Math.ceil(p / 100 * sorted.size()) as int) - 1)]
+    }
+
+    private static double round(double value) {
+        Math.round(value * 100) / 100.0d
+    }
+}
@@ -0,0 +1,82 @@
+package coffeandcommit.crema.build
+
+import groovy.json.JsonOutput
+import groovy.json.JsonSlurper
+import org.gradle.api.DefaultTask
+import org.gradle.api.GradleException
+import org.gradle.api.file.ConfigurableFileCollection
+import org.gradle.api.file.RegularFileProperty
+import org.gradle.api.provider.Property
+import org.gradle.api.tasks.Internal
+import org.gradle.api.tasks.TaskAction
+
+/**
+ * k6 결과를 엔드포인트별로 요약해 저장하고, 커밋된 기준선과 비교한다.
+ * 매 실행마다 리포트를 출력해야 하므로 입력/출력을 선언하지 않는다. (항상 실행)
+ */
+abstract class LoadTestReportTask extends DefaultTask {
+
+    @Internal
+    abstract ConfigurableFileCollection getResults()
+
+    @Internal
+    abstract RegularFileProperty getBaselineFile()
+
+    @Internal
+    abstract RegularFileProperty getSummaryFile()
+
+    @Internal
+    abstract Property<Double> getTolerance()
+
+    @Internal
+    abstract Property<Boolean> getFailOnRegression()
+
+    @Internal
+    abstract Property<Boolean> getSaveBaseline()
+
+    LoadTestReportTask() {
+        tolerance.convention(LoadTestReport.DEFAULT_TOLERANCE)
+        failOnRegression.convention(false)
+        saveBaseline.convention(false)
+    }
+
+    @TaskAction
+    void report() {
+        def inputs = results.files.toList()
+        if (inputs.isEmpty() || inputs.any { !it.exists() }) {
+            throw new GradleException("k6 결과가 없습니다. load-test/README.md 의 k6 run --out json=... 으로 먼저 실행하세요: ${inputs}")
+        }
+
+        def summary = LoadTestReport.summarize(inputs)
+        def out = summaryFile.get().asFile
+        out.parentFile.mkdirs()
+        out.text = JsonOutput.prettyPrint(JsonOutput.toJson(summary))
+
+        def baselineJson = baselineFile.get().asFile
+        Map baseline = baselineJson.exists() ? new JsonSlurper().parse(baselineJson) as Map : [:]
+        logger.lifecycle(String.format('%-55s %8s %7s %9s %9s %9s %9s', 'endpoint', 'count', 'err%', 'p50', 'p95', 'p99', 'max'))
+        summary.each { endpoint, s ->
+            def base = baseline[endpoint] as Map
+            String change = base == null ? '' : String.format(' (p95 %+.1f%%, err %+.2f%%p)',
+                    LoadTestReport.p95Change(s, base), (s.errorRate as double) - (base.errorRate as double))
+            logger.lifecycle(String.format('%-55s %8d %7.2f %9.1f %9.1f %9.1f %9.1f%s',
+                    endpoint, s.count, s.errorRate, s.p50, s.p95, s.p99, s.max, change))
+        }
+        logger.lifecycle("요약 저장: ${out}")
+
+        if (saveBaseline.get()) {
+            baselineJson.parentFile.mkdirs()
+            baselineJson.text = out.text
+            logger.lifecycle("기준선 갱신: ${baselineJson}")
+            return
+        }
+        def regressions = LoadTestReport.regressions(summary, baseline, tolerance.get())
+        if (!regressions.isEmpty()) {
+            def message = "부하 테스트 기준선 대비 회귀한 엔드포인트: ${regressions}"
+            if (failOnRegression.get()) {
+                throw new GradleException(message)
+            }
+            logger.warn(message)
+        }
+    }
+}
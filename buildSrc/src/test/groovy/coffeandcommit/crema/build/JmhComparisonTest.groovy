@@ -0,0 +1,59 @@
+package coffeandcommit.crema.build
+
+import groovy.json.JsonSlurper
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertFalse
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+class JmhComparisonTest {
+
+    @Test
+    @DisplayName("벤치마크 이름과 (JSON 에서 읽은) 파라미터로 결과를 식별한다")
+    void key() {
+        def params = new JsonSlurper().parseText('{"size": "10"}')
+
+        assertEquals('a.B.run', JmhComparison.key(result(1, 0)))
+        assertEquals('a.B.run{size=10}', JmhComparison.key(result(1, 0) + [params: params]))
+    }
+
+    @Test
+    @DisplayName("허용 범위 이상 느려지고 신뢰 구간이 겹치지 않으면 회귀")
+    void regressionWhenIntervalsAreDisjoint() {
+        assertTrue(JmhComparison.isRegression(result(100, 5), result(150, 5), 20))
+    }
+
+    @Test
+    @DisplayName("허용 범위를 넘어도 신뢰 구간이 겹치면 잡음으로 본다")
+    void noRegressionWhenIntervalsOverlap() {
+        def base = result(100, 40)
+        def current = result(150, 40)
+
+        assertEquals(50.0d, JmhComparison.changePercent(base, current), 1e-9)
+        assertTrue(JmhComparison.overlaps(base, current))
+        assertFalse(JmhComparison.isRegression(base, current, 20))
+    }
+
+    @Test
+    @DisplayName("신뢰 구간이 겹치지 않아도 허용 범위 이내이거나 빨라졌으면 회귀가 아니다")
+    void noRegressionWithinTolerance() {
+        assertFalse(JmhComparison.isRegression(result(100, 1), result(110, 1), 20))
+        assertFalse(JmhComparison.isRegression(result(100, 1), result(50, 1), 20))
+    }
+
+    @Test
+    @DisplayName("측정이 1회라 오차가 NaN 이면 점수만으로 구간을 만든다")
+    void nanErrorFallsBackToScore() {
+        def single = [benchmark: 'a.B.run', primaryMetric: [score: 100, scoreError: 'NaN', scoreConfidence: ['NaN', 'NaN']]]
+
+        assertEquals([100.0d, 100.0d], JmhComparison.confidence(single))
+        assertEquals(0.0d, JmhComparison.relativeErrorPercent(single))
+        assertTrue(JmhComparison.isRegression(single, result(130, 1), 20))
+    }
+
+    private static Map result(double score, double error) {
+        [benchmark: 'a.B.run', primaryMetric: [score: score, scoreError: error, scoreConfidence: [score - error, score + error]]]
+    }
+}
@@ -0,0 +1,82 @@
+package coffeandcommit.crema.build
+
+import groovy.json.JsonOutput
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+import java.nio.file.Path
+
+import static org.junit.jupiter.api.Assertions.assertEquals
+import static org.junit.jupiter.api.Assertions.assertTrue
+
+class LoadTestReportTest {
+
+    @TempDir
+    Path tempDir
+
+    @Test
+    @DisplayName("경로의 숫자 id / 회원 id 를 {id} 로 묶고 쿼리스트링을 뗀다")
+    void normalize() {
+        assertEquals('/api/guides/{id}/reviews', LoadTestReport.normalize('http://localhost:8080/api/guides/12/reviews?page=0'))
+        assertEquals('/api/member/{id}', LoadTestReport.normalize('https://crema.example/api/member/a1B2c3D4'))
+        assertEquals('/api/guides', LoadTestReport.normalize('http://localhost:8080/api/guides#top'))
+    }
+
+    @Test
+    @DisplayName("name 태그가 URL 이면 메서드 + 정규화 경로, 아니면 그대로 엔드포인트 이름으로 쓴다")
+    void endpointOf() {
+        assertEquals('GET /api/guides/{id}', LoadTestReport.endpointOf([method: 'GET', name: 'http://localhost/api/guides/3']))
+        assertEquals('guide search', LoadTestReport.endpointOf([method: 'GET', name: 'guide search', url: 'http://localhost/api/guides']))
+    }
+
+    @Test
+    @DisplayName("엔드포인트별 백분위와 에러율을 집계하고 setup / teardown 요청과 다른 지표는 제외한다")
+    void summarize() {
+        def lines = (1..100).collect { i -> point(i, i % 20 == 0 ? '500' : '200', null) }
+        lines << point(10_000, '200', '::setup')
+        lines << JsonOutput.toJson([type: 'Point', metric: 'http_req_waiting', data: [value: 1, tags: [method: 'GET', name: 'search']]])
+        lines << JsonOutput.toJson([type: 'Metric', metric: 'http_req_duration', data: [:]])
+        File input = tempDir.resolve('k6.json').toFile()
+        input.text = lines.join('\n')
+
+        def summary = LoadTestReport.summarize([input])
+
+        assertEquals(['search'], summary.keySet().toList())
+        assertEquals(100, summary.search.count)
+        assertEquals(5.0d, summary.search.errorRate)
+        assertEquals(50.0d, summary.search.p50)
+        assertEquals(95.0d, summary.search.p95)
+        assertEquals(99.0d, summary.search.p99)
+        assertEquals(100.0d, summary.search.max)
+    }
+
+    @Test
+    @DisplayName("p95 가 허용 범위를 넘거나 에러율이 1%p 이상 늘면 회귀, 기준선에 없는 엔드포인트는 비교하지 않는다")
+    void regressions() {
+        Map<String, Map> summary = [
+                slower : [p95: 130.0d, errorRate: 0.0d],
+                stable : [p95: 110.0d, errorRate: 0.5d],
+                errors : [p95: 100.0d, errorRate: 2.0d],
+                created: [p95: 999.0d, errorRate: 50.0d],
+        ]
+        Map baseline = [
+                slower: [p95: 100, errorRate: 0],
+                stable: [p95: 100, errorRate: 0],
+                errors: [p95: 100, errorRate: 0.5],
+        ]
+
+        def regressions = LoadTestReport.regressions(summary, baseline, 20)
+
+        assertEquals(['slower', 'errors'] as Set, regressions as Set)
+        assertTrue(LoadTestReport.regressions(summary, [:], 20).isEmpty())
+    }
+
+    private static String point(double value, String status, String group) {
+        def tags = [method: 'GET', name: 'search', status: status]
+        if (group != null) {
+            tags.group = group
+        }
+        JsonOutput.toJson([type: 'Point', metric: 'http_req_duration', data: [value: value, tags: tags]])
+    }
+}
@@ -0,0 +1,94 @@
+// load-test/lib/common.js - 시나리오 공통: 설정, 시드 매니페스트, 테스트 계정 로그인, 엔드포인트 태깅
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+export const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+// LoadTestSeedRunner 가 남긴 매니페스트 (회원/가이드 수, 첫 가이드 id, 화상 세션 목록)
+// k6 의 open() 은 스크립트 위치 기준 상대 경로 - 기본값은 저장소 루트의 build/load-test
+export const manifest = JSON.parse(open(__ENV.SEED_MANIFEST || '../../build/load-test/seed-manifest.json'));
+
+// 로그인 계정 풀 크기 (setup 에서 한 번만 로그인하고 VU 들이 토큰을 나눠 쓴다)
+const ACCOUNT_POOL = parseInt(__ENV.ACCOUNT_POOL || '50', 10);
+
+export function rookieNickname(index) {
+    return manifest.rookieNicknamePrefix + String(index).padStart(6, '0');
+}
+
+export function guideNickname(index) {
+    return manifest.guideNicknamePrefix + String(index).padStart(6, '0');
+}
+
+/* 회원 번호: 1 ~ guides 는 가이드, guides+1 ~ members 는 멘티 */
+export function randomRookieIndex() {
+    return manifest.guides + 1 + Math.floor(Math.random() * (manifest.members - manifest.guides));
+}
+
+export function randomGuideIndex() {
+    return 1 + Math.floor(Math.random() * manifest.guides);
+}
+
+/* 가이드 번호 → 가이드 PK */
+export function guideId(index) {
+    return manifest.firstGuideId + index - 1;
+}
+
+export function login(nickname) {
+    const res = http.post(`${BASE_URL}/api/test/auth/login`, JSON.stringify({ nickname }), {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'POST /api/test/auth/login' },
+    });
+    if (res.status !== 200) {
+        throw new Error(`login failed: nickname=${nickname}, status=${res.status}`);
+    }
+    return res.json().result.accessToken;
+}
+
+/* setup() 용: 계정 풀 로그인 (닉네임 생성 함수를 받아 토큰 배열 반환) */
+export function loginPool(nicknameOf, count = ACCOUNT_POOL) {
+    const tokens = [];
+    for (let i = 0; i < count; i++) {
+        tokens.push({ nickname: nicknameOf(i), token: login(nicknameOf(i)) });
+    }
+    return tokens;
+}
+
+/* VU 별로 고정된 계정 선택 */
+export function accountFor(pool) {
+    return pool[(__VU - 1) % pool.length];
+}
+
+/* 리포트(./gradlew loadTestReport)는 name 태그 단위로 집계 - 경로 변수는 {id} 로 묶는다 */
+export function params(token, name, extraHeaders = {}) {
+    return {
+        headers: Object.assign({ Authorization: `Bearer ${token}` }, extraHeaders),
+        tags: { name },
+    };
+}
+
+export function checkStatus(res, name, expected = 200) {
+    return check(res, { [`${name} - status ${expected}`]: (r) => r.status === expected });
+}
+
+// 시나리오 공통 부하 프로필 (VUS, DURATION 으로 조정)
+export function standardOptions(thresholds = {}) {
+    return {
+        scenarios: {
+            steady: {
+                executor: 'ramping-vus',
+                startVUs: 0,
+                stages: [
+                    { duration: __ENV.RAMP_UP || '30s', target: parseInt(__ENV.VUS || '100', 10) },
+                    { duration: __ENV.DURATION || '3m', target: parseInt(__ENV.VUS || '100', 10) },
+                    { duration: '10s', target: 0 },
+                ],
+                gracefulRampDown: '10s',
+            },
+        },
+        thresholds: Object.assign({
+            http_req_failed: ['rate<0.01'],
+        }, thresholds),
+        tags: { test_type: __ENV.TEST_TYPE || 'load_test_suite' },
+    };
+}
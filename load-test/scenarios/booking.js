@@ -0,0 +1,40 @@
+// load-test/scenarios/booking.js - 멘티 예약 신청 (신청 화면 조회 → multipart 예약 생성)
+// k6 run --out json=build/load-test/k6/booking.json load-test/scenarios/booking.js
+
+import http from 'k6/http';
+import { sleep } from 'k6';
+import { BASE_URL, accountFor, checkStatus, guideId, loginPool, params, randomGuideIndex, randomRookieIndex, rookieNickname, standardOptions } from '../lib/common.js';
+
+const APPLY = 'GET /api/reservations/apply/{id}';
+const CREATE = 'POST /api/reservations';
+
+export const options = standardOptions({
+    [`http_req_duration{name:${CREATE}}`]: ['p(95)<1000'],
+});
+
+export function setup() {
+    return { accounts: loginPool(() => rookieNickname(randomRookieIndex())) };
+}
+
+function preferredDate() {
+    const date = new Date(Date.now() + (1 + Math.floor(Math.random() * 30)) * 24 * 3600 * 1000);
+    date.setUTCHours(10 + Math.floor(Math.random() * 3), 0, 0, 0);
+    return date.toISOString().substring(0, 19);
+}
+
+export default function (data) {
+    const { token } = accountFor(data.accounts);
+    const id = guideId(randomGuideIndex());
+
+    checkStatus(http.get(`${BASE_URL}/api/reservations/apply/${id}`, params(token, APPLY)), APPLY);
+    sleep(Math.random() * 2); // 신청서 작성 시간
+
+    const reservation = {
+        guideId: id,
+        timeUnit: Math.random() < 0.7 ? 'MINUTE_30' : 'MINUTE_60',
+        survey: { messageToGuide: '이력서 피드백 부탁드립니다.', preferredDate: preferredDate() },
+    };
+    const body = { reservation: http.file(JSON.stringify(reservation), 'reservation.json', 'application/json') };
+    checkStatus(http.post(`${BASE_URL}/api/reservations`, body, params(token, CREATE)), CREATE, 201);
+    sleep(1);
+}
@@ -0,0 +1,50 @@
+// load-test/scenarios/chat-save.js - 가이드 세션 종료 시 채팅 기록 저장 (시드된 화상 세션 대상)
+// k6 run --out json=build/load-test/k6/chat-save.json load-test/scenarios/chat-save.js
+
+import http from 'k6/http';
+import { sleep } from 'k6';
+import { BASE_URL, checkStatus, login, manifest, params, standardOptions } from '../lib/common.js';
+
+const NAME = 'POST /api/video-call/sessions/{id}/end';
+const MESSAGE_COUNT = parseInt(__ENV.MESSAGE_COUNT || '300', 10);
+
+export const options = standardOptions({
+    [`http_req_duration{name:${NAME}}`]: ['p(95)<1500'],
+});
+
+// 세션마다 담당 가이드로 로그인 (ACCOUNT_POOL 개 세션까지)
+export function setup() {
+    const count = Math.min(manifest.sessions.length, parseInt(__ENV.ACCOUNT_POOL || '50', 10));
+    return {
+        sessions: manifest.sessions.slice(0, count).map((s) => Object.assign({ token: login(s.guideNickname) }, s)),
+    };
+}
+
+function messages(session) {
+    const start = Date.now() - MESSAGE_COUNT * 1000;
+    const result = [];
+    for (let i = 0; i < MESSAGE_COUNT; i++) {
+        const guide = i % 2 === 0;
+        result.push({
+            timestamp: new Date(start + i * 1000).toISOString(),
+            participantId: guide ? `lt_con_g_${session.reservationId}` : `lt_con_m_${session.reservationId}`,
+            participantName: guide ? session.guideNickname : session.menteeNickname,
+            message: `커피챗 메시지 ${i} - 포트폴리오와 이력서 구성에 대한 질문과 답변입니다.`,
+            messageType: 'CHAT',
+        });
+    }
+    return result;
+}
+
+export default function (data) {
+    const session = data.sessions[(__VU - 1) % data.sessions.length];
+    const body = {
+        messages: messages(session),
+        sessionStartTime: new Date(Date.now() - 3600 * 1000).toISOString().substring(0, 19),
+        sessionEndTime: new Date().toISOString().substring(0, 19),
+    };
+    const res = http.post(`${BASE_URL}/api/video-call/sessions/${session.sessionId}/end`, JSON.stringify(body),
+        params(session.token, NAME, { 'Content-Type': 'application/json' }));
+    checkStatus(res, NAME);
+    sleep(1);
+}
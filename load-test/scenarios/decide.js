@@ -0,0 +1,40 @@
+// load-test/scenarios/decide.js - 가이드 예약 승인/거절 (대기 목록 조회 → 한 건 결정)
+// k6 run --out json=build/load-test/k6/decide.json load-test/scenarios/decide.js
+
+import http from 'k6/http';
+import { sleep } from 'k6';
+import { BASE_URL, accountFor, checkStatus, guideNickname, loginPool, params, standardOptions } from '../lib/common.js';
+
+const PENDING = 'GET /api/guides/me/reservations/pending';
+const DECIDE = 'PATCH /api/reservations/{id}';
+
+export const options = standardOptions({
+    [`http_req_duration{name:${DECIDE}}`]: ['p(95)<800'],
+});
+
+// 앞쪽 가이드일수록 예약이 많도록 시드되므로 인기 가이드 풀로 로그인 (결정 경합이 생기는 구간)
+export function setup() {
+    return { accounts: loginPool((i) => guideNickname(i + 1)) };
+}
+
+export default function (data) {
+    const { token } = accountFor(data.accounts);
+
+    const pending = http.get(`${BASE_URL}/api/guides/me/reservations/pending?size=20`, params(token, PENDING));
+    if (!checkStatus(pending, PENDING)) {
+        return;
+    }
+    const content = pending.json().data.content;
+    if (content.length === 0) {
+        sleep(1);
+        return;
+    }
+
+    const target = content[Math.floor(Math.random() * content.length)];
+    const status = Math.random() < 0.8 ? 'CONFIRMED' : 'CANCELLED';
+    const res = http.patch(`${BASE_URL}/api/reservations/${target.reservationId}`, JSON.stringify({ status }),
+        params(token, DECIDE, { 'Content-Type': 'application/json' }));
+    // 같은 예약을 다른 VU 가 먼저 처리한 경우(409 등)도 실패율에 포함해 경합을 드러낸다
+    checkStatus(res, DECIDE);
+    sleep(Math.random());
+}
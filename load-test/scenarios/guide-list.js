@@ -0,0 +1,38 @@
+// load-test/scenarios/guide-list.js - 가이드 목록 조회 (필터/키워드/정렬 조합)
+// k6 run --out json=build/load-test/k6/guide-list.json load-test/scenarios/guide-list.js
+
+import http from 'k6/http';
+import { sleep } from 'k6';
+import { BASE_URL, accountFor, checkStatus, loginPool, params, randomRookieIndex, rookieNickname, standardOptions } from '../lib/common.js';
+
+const NAME = 'GET /api/guides';
+const JOB_NAMES = ['IT_DEVELOPMENT_DATA', 'DESIGN', 'MARKETING_PR', 'MANAGEMENT_SUPPORT', 'PLANNING_STRATEGY', 'RESEARCH_RND'];
+const TOPICS = ['RESUME', 'COVER_LETTER', 'PORTFOLIO', 'INTERVIEW', 'PRACTICAL_WORK', 'JOB_CHANGE'];
+const KEYWORDS = ['스프링', '자바', '리액트', '백엔드', '면접', '이직'];
+
+export const options = standardOptions({
+    [`http_req_duration{name:${NAME}}`]: ['p(95)<800', 'p(99)<1500'],
+});
+
+export function setup() {
+    return { accounts: loginPool(() => rookieNickname(randomRookieIndex())) };
+}
+
+function pick(values) {
+    return values[Math.floor(Math.random() * values.length)];
+}
+
+function query() {
+    const parts = [`page=${Math.floor(Math.random() * 5)}`, `size=${pick([10, 20])}`, `sort=${pick(['latest', 'popular'])}`];
+    if (Math.random() < 0.4) parts.push(`jobNames=${pick(JOB_NAMES)}`);
+    if (Math.random() < 0.3) parts.push(`chatTopicNames=${pick(TOPICS)}`);
+    if (Math.random() < 0.2) parts.push(`keyword=${encodeURIComponent(pick(KEYWORDS))}`);
+    return parts.join('&');
+}
+
+export default function (data) {
+    const { token } = accountFor(data.accounts);
+    const res = http.get(`${BASE_URL}/api/guides?${query()}`, params(token, NAME));
+    checkStatus(res, NAME);
+    sleep(Math.random() * 0.5);
+}
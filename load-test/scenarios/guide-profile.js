@@ -0,0 +1,32 @@
+// load-test/scenarios/guide-profile.js - 가이드 상세 진입 (프로필 + 통계 + 리뷰 + 일정)
+// k6 run --out json=build/load-test/k6/guide-profile.json load-test/scenarios/guide-profile.js
+
+import http from 'k6/http';
+import { group, sleep } from 'k6';
+import { BASE_URL, accountFor, checkStatus, guideId, loginPool, params, randomGuideIndex, randomRookieIndex, rookieNickname, standardOptions } from '../lib/common.js';
+
+export const options = standardOptions({
+    'http_req_duration{name:GET /api/guides/{id}/profile}': ['p(95)<500'],
+    'http_req_duration{name:GET /api/guides/{id}/reviews}': ['p(95)<800'],
+});
+
+export function setup() {
+    return { accounts: loginPool(() => rookieNickname(randomRookieIndex())) };
+}
+
+export default function (data) {
+    const { token } = accountFor(data.accounts);
+    const id = guideId(randomGuideIndex());
+
+    group('guide detail', () => {
+        const requests = [
+            ['GET /api/guides/{id}/profile', `/api/guides/${id}/profile`],
+            ['GET /api/guides/{id}/coffeechat-stats', `/api/guides/${id}/coffeechat-stats`],
+            ['GET /api/guides/{id}/schedules', `/api/guides/${id}/schedules`],
+            ['GET /api/guides/{id}/reviews', `/api/guides/${id}/reviews?page=0&size=10`],
+        ];
+        const responses = http.batch(requests.map(([name, path]) => ['GET', `${BASE_URL}${path}`, null, params(token, name)]));
+        responses.forEach((res, i) => checkStatus(res, requests[i][0]));
+    });
+    sleep(Math.random());
+}
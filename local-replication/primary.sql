@@ -0,0 +1,5 @@
+-- 복제 계정 + 애플리케이션 계정의 복제 상태 조회 권한 (ReplicaLagMonitor 의 SHOW REPLICA STATUS)
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+GRANT REPLICATION CLIENT ON *.* TO 'crema'@'%';
+FLUSH PRIVILEGES;
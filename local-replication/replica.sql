@@ -0,0 +1,11 @@
+-- primary 의 처음 GTID 부터 복제 시작 후 읽기 전용으로 전환 (super_read_only 는 재시작 후에도 유지)
+GRANT REPLICATION CLIENT ON *.* TO 'crema'@'%';
+CHANGE REPLICATION SOURCE TO
+    SOURCE_HOST = 'mysql-primary',
+    SOURCE_PORT = 3306,
+    SOURCE_USER = 'repl',
+    SOURCE_PASSWORD = 'repl',
+    SOURCE_AUTO_POSITION = 1,
+    GET_SOURCE_PUBLIC_KEY = 1;
+START REPLICA;
+SET PERSIST super_read_only = ON;
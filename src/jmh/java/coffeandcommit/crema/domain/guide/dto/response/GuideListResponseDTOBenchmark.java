@@ -0,0 +1,72 @@
+package coffeandcommit.crema.domain.guide.dto.response;
+
+import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.GuideJobField;
+import coffeandcommit.crema.domain.guide.entity.HashTag;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가이드 목록 한 페이지의 DTO 변환 비용 (GuideService#getGuides 의 변환 단계, 통계 조회 제외).
+ */
+@State(Scope.Benchmark)
+public class GuideListResponseDTOBenchmark {
+
+    @Param({"20", "100"})
+    public int pageSize;
+
+    private final List<Guide> guides = new ArrayList<>();
+    private final List<GuideJobField> jobFields = new ArrayList<>();
+    private final CoffeeChatStatsResponseDTO stats = CoffeeChatStatsResponseDTO.from(12L, 4.5, 8L, 5L);
+
+    @Setup
+    public void setUp() {
+        JobNameType[] jobNames = JobNameType.values();
+        for (int i = 0; i < pageSize; i++) {
+            Member member = Member.builder()
+                    .id("bench-guide-member-" + i)
+                    .nickname("가이드" + i)
+                    .role(MemberRole.GUIDE)
+                    .profileImageUrl("https://storage.googleapis.com/crema/profile/" + i + ".png")
+                    .build();
+
+            List<HashTag> hashTags = new ArrayList<>();
+            Guide guide = Guide.builder()
+                    .id((long) i)
+                    .member(member)
+                    .title("백엔드 개발자 커피챗 " + i)
+                    .workingPeriod("3년 2개월")
+                    .hashTags(hashTags)
+                    .build();
+            for (int t = 0; t < 5; t++) {
+                hashTags.add(HashTag.builder().id((long) i * 10 + t).guide(guide).hashTagName("태그" + t).build());
+            }
+
+            guides.add(guide);
+            jobFields.add(GuideJobField.builder().guide(guide).jobName(jobNames[i % jobNames.length]).build());
+        }
+    }
+
+    @Benchmark
+    public List<GuideListResponseDTO> mapPage() {
+        List<GuideListResponseDTO> page = new ArrayList<>(guides.size());
+        for (int i = 0; i < guides.size(); i++) {
+            Guide guide = guides.get(i);
+            GuideJobFieldResponseDTO jobField = GuideJobFieldResponseDTO.from(jobFields.get(i));
+            List<GuideHashTagResponseDTO> hashTags = guide.getHashTags().stream()
+                    .map(tag -> GuideHashTagResponseDTO.from(tag, guide.getId()))
+                    .toList();
+            page.add(GuideListResponseDTO.from(guide, guide.getWorkingPeriod(), jobField, hashTags, stats));
+        }
+        return page;
+    }
+}
@@ -0,0 +1,69 @@
+package coffeandcommit.crema.domain.member.dto.response;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.TimeUnit;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멘티 커피챗 목록 항목 변환 비용 - 엔티티 기반 변환과 프로젝션(ReservationSummaryDTO) 기반 변환 비교.
+ */
+@State(Scope.Benchmark)
+public class MemberCoffeeChatResponseBenchmark {
+
+    private Reservation reservation;
+    private ReservationSummaryDTO summary;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime preferredDate = LocalDateTime.of(2030, 1, 8, 19, 0);
+
+        Member guideMember = Member.builder()
+                .id("bench-guide-member")
+                .nickname("가이드")
+                .role(MemberRole.GUIDE)
+                .profileImageUrl("https://storage.googleapis.com/crema/profile/guide.png")
+                .build();
+        Guide guide = Guide.builder().id(1L).member(guideMember).title("커피챗").build();
+
+        reservation = Reservation.builder()
+                .id(1L)
+                .guide(guide)
+                .member(Member.builder().id("bench-mentee").nickname("멘티").role(MemberRole.ROOKIE).build())
+                .status(Status.CONFIRMED)
+                .survey(Survey.builder().preferredDate(preferredDate).build())
+                .timeUnit(TimeUnit.builder().timeType(TimeType.MINUTE_30).build())
+                .build();
+
+        summary = ReservationSummaryDTO.builder()
+                .reservationId(1L)
+                .status(Status.CONFIRMED)
+                .createdAt(preferredDate.minusDays(3))
+                .preferredDate(preferredDate)
+                .timeType(TimeType.MINUTE_30)
+                .counterpartNickname(guideMember.getNickname())
+                .counterpartProfileImageUrl(guideMember.getProfileImageUrl())
+                .build();
+    }
+
+    @Benchmark
+    public MemberCoffeeChatResponse fromEntity() {
+        return MemberCoffeeChatResponse.from(reservation);
+    }
+
+    @Benchmark
+    public MemberCoffeeChatResponse fromSummary() {
+        return MemberCoffeeChatResponse.from(summary);
+    }
+}
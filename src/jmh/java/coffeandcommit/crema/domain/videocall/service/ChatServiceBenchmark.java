@@ -0,0 +1,141 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.videocall.dto.ChatMessageDto;
+import coffeandcommit.crema.domain.videocall.dto.request.ChatHistorySaveRequest;
+import coffeandcommit.crema.domain.videocall.dto.response.ChatHistoryResponse;
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.SessionChatLog;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.SessionChatLogRepository;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * ChatService 채팅 기록 저장/조회 1회 비용 (mock 저장소).
+ * 저장은 권한 확인 + 직렬화 + 페이로드 메트릭 + 멱등성 비교까지, 조회는 권한 확인 + 역직렬화까지 실제 서비스 코드를 그대로 탄다.
+ * 메시지 수는 30분 세션의 일반적인 규모와 요청 최대치(1000).
+ */
+@State(Scope.Benchmark)
+public class ChatServiceBenchmark {
+
+    private static final String MENTEE_ID = "mentee-id";
+    private static final String NEW_SESSION_ID = "session_new";
+    private static final String SAVED_SESSION_ID = "session_saved";
+    private static final Long SAVED_RESERVATION_ID = 1L;
+
+    @Param({"100", "1000"})
+    public int messageCount;
+
+    private ChatService chatService;
+    private ChatHistorySaveRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        request = ChatHistorySaveRequest.builder()
+                .messages(messages(messageCount))
+                .sessionStartTime(LocalDateTime.of(2030, 1, 8, 19, 0))
+                .sessionEndTime(LocalDateTime.of(2030, 1, 8, 19, 30))
+                .build();
+
+        Member mentee = Member.builder().id(MENTEE_ID).nickname("멘티").build();
+        VideoSession newSession = session(NEW_SESSION_ID, mentee, 2L);
+        VideoSession savedSession = session(SAVED_SESSION_ID, mentee, SAVED_RESERVATION_ID);
+
+        // stubOnly: 호출 기록을 남기지 않아 반복 측정 중 메모리가 늘지 않는다
+        VideoSessionRepository videoSessionRepository = mock(VideoSessionRepository.class, withSettings().stubOnly());
+        when(videoSessionRepository.findBySessionId(NEW_SESSION_ID)).thenReturn(Optional.of(newSession));
+        when(videoSessionRepository.findBySessionId(SAVED_SESSION_ID)).thenReturn(Optional.of(savedSession));
+
+        // 이미 같은 내용이 저장된 세션 - 저장 요청은 멱등성 검사에서 건너뛰고, 조회는 이 기록을 읽는다
+        SessionChatLog savedLog = SessionChatLog.builder()
+                .sessionId(SAVED_SESSION_ID)
+                .chatMessages(objectMapper.writeValueAsString(request.getMessages()))
+                .totalMessages(messageCount)
+                .sessionStartTime(request.getSessionStartTime())
+                .sessionEndTime(request.getSessionEndTime())
+                .savedBy(MENTEE_ID)
+                .videoSession(savedSession)
+                .build();
+        SessionChatLogRepository sessionChatLogRepository = mock(SessionChatLogRepository.class, withSettings().stubOnly());
+        when(sessionChatLogRepository.findBySessionId(NEW_SESSION_ID)).thenReturn(Optional.empty());
+        when(sessionChatLogRepository.findBySessionId(SAVED_SESSION_ID)).thenReturn(Optional.of(savedLog));
+        when(sessionChatLogRepository.save(any(SessionChatLog.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        ReservationRepository reservationRepository = mock(ReservationRepository.class, withSettings().stubOnly());
+        when(reservationRepository.findById(SAVED_RESERVATION_ID)).thenReturn(Optional.of(savedSession.getReservation()));
+
+        chatService = new ChatService(sessionChatLogRepository, videoSessionRepository, reservationRepository,
+                objectMapper, new CremaMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public ChatHistorySaveRequest saveNewHistory() {
+        chatService.saveChatHistory(NEW_SESSION_ID, request, MENTEE_ID);
+        return request;
+    }
+
+    @Benchmark
+    public ChatHistorySaveRequest saveUnchangedHistory() {
+        chatService.saveChatHistory(SAVED_SESSION_ID, request, MENTEE_ID);
+        return request;
+    }
+
+    @Benchmark
+    public ChatHistoryResponse readHistory() {
+        return chatService.getChatHistory(String.valueOf(SAVED_RESERVATION_ID), MENTEE_ID);
+    }
+
+    private static VideoSession session(String sessionId, Member mentee, Long reservationId) {
+        VideoSession session = VideoSession.builder()
+                .sessionId(sessionId)
+                .sessionName(sessionId)
+                .build();
+        session.addParticipant(Participant.builder()
+                .connectionId("con_mentee")
+                .username(MENTEE_ID)
+                .member(mentee)
+                .build());
+        session.assignReservation(Reservation.builder()
+                .id(reservationId)
+                .member(mentee)
+                .videoSession(session)
+                .build());
+        return session;
+    }
+
+    private static List<ChatMessageDto> messages(int count) {
+        LocalDateTime start = LocalDateTime.of(2030, 1, 8, 19, 0);
+        List<ChatMessageDto> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(ChatMessageDto.builder()
+                    .timestamp(start.plusSeconds(i).toString())
+                    .participantId(i % 2 == 0 ? "con_guide" : "con_mentee")
+                    .participantName(i % 2 == 0 ? "가이드" : "멘티")
+                    .message("포트폴리오 리뷰 관련해서 질문드립니다. 프로젝트 " + i + "번의 아키텍처를 어떻게 설명하면 좋을까요?")
+                    .messageType("CHAT")
+                    .build());
+        }
+        return messages;
+    }
+}
@@ -0,0 +1,80 @@
+package coffeandcommit.crema.global.auth.jwt;
+
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.member.service.MemberService;
+import coffeandcommit.crema.global.auth.service.AuthService;
+import coffeandcommit.crema.global.auth.service.CustomUserDetails;
+import coffeandcommit.crema.global.auth.service.TokenBlacklistService;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 인증 필터 1회 통과 비용 (실제 JWT 검증 + mock 협력 객체).
+ * Redis 블랙리스트 / 회원 조회 I/O 를 제외한 필터 자체의 CPU 비용을 본다.
+ */
+@State(Scope.Benchmark)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        JwtTokenProvider jwtTokenProvider = JwtTokenProviderBenchmark.newProvider();
+        accessToken = jwtTokenProvider.createAccessToken(JwtTokenProviderBenchmark.MEMBER_ID);
+
+        // stubOnly: 호출 기록을 남기지 않아 반복 측정 중 메모리가 늘지 않는다
+        AuthService authService = mock(AuthService.class, withSettings().stubOnly());
+        when(authService.extractAccessToken(any(HttpServletRequest.class)))
+                .thenAnswer(invocation -> bearerToken(invocation.getArgument(0)));
+
+        TokenBlacklistService tokenBlacklistService = mock(TokenBlacklistService.class, withSettings().stubOnly());
+        when(tokenBlacklistService.isTokenBlacklisted(anyString())).thenReturn(false);
+
+        MemberService memberService = mock(MemberService.class, withSettings().stubOnly());
+        when(memberService.createUserDetails(anyString())).thenAnswer(invocation ->
+                new CustomUserDetails(invocation.getArgument(0), true, MemberRole.ROOKIE));
+
+        filter = new JwtAuthenticationFilter(jwtTokenProvider, authService, tokenBlacklistService, memberService);
+    }
+
+    @Benchmark
+    public MockHttpServletResponse authenticatedRequest() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/guides");
+        request.addHeader("Authorization", "Bearer " + accessToken);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } finally {
+            // 실제 요청에서는 SecurityContextHolderFilter 가 요청 종료 시 정리
+            SecurityContextHolder.clearContext();
+        }
+        return response;
+    }
+
+    @Benchmark
+    public MockHttpServletResponse skippedPath() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/actuator/health");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static String bearerToken(HttpServletRequest request) {
+        String header = request.getHeader("Authorization");
+        return header != null && header.startsWith("Bearer ") ? header.substring(7) : null;
+    }
+}
@@ -0,0 +1,62 @@
+package coffeandcommit.crema.global.auth.jwt;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 매 요청 인증 경로에서 호출되는 JWT 파싱/검증 비용.
+ * 필터는 요청당 validateToken, isAccessToken, getMemberId 를 각각 호출하므로 토큰을 세 번 파싱한다.
+ */
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    // 벤치마크 전용 HS512 키 (64바이트)
+    static final String SECRET =
+            "Y3JlbWEtam1oLWJlbmNobWFyay1zZWNyZXQta2V5LWZvci1oczUxMi1zaWduaW5nLW11c3QtYmUtNjQtYnl0ZXMtbG9uZw==";
+    static final String MEMBER_ID = "bench-member-0001";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String accessToken;
+    private String tamperedToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = newProvider();
+        accessToken = jwtTokenProvider.createAccessToken(MEMBER_ID);
+        tamperedToken = accessToken.substring(0, accessToken.length() - 2) + "xx";
+    }
+
+    static JwtTokenProvider newProvider() {
+        return new JwtTokenProvider(SECRET, 3_600_000L, 1_209_600_000L,
+                new CremaMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtTokenProvider.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public boolean validateToken_invalidSignature() {
+        return jwtTokenProvider.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public String getMemberId() {
+        return jwtTokenProvider.getMemberId(accessToken);
+    }
+
+    @Benchmark
+    public boolean isAccessToken() {
+        return jwtTokenProvider.isAccessToken(accessToken);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(MEMBER_ID);
+    }
+}
@@ -0,0 +1,59 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 동시 가입 시 회원 ID 생성 비용 - 기존 방식(UUID 8자리 + existsById 확인 루프)과 노드 시퀀스 방식 비교.
+ * 기존 방식의 existsById 는 인메모리 집합 조회 + dbRoundTripTokens 만큼의 CPU 소모로 대신한다.
+ * 실제 DB 왕복(수백 µs~ms)은 이보다 훨씬 크므로 기존 방식의 결과는 하한값이다.
+ * 노드 시퀀스 방식은 초당 32개를 넘기면 시계를 기다리므로, 대기 대신 가짜 시계를 1초 넘겨 생성 비용만 잰다.
+ */
+@State(Scope.Benchmark)
+@Threads(8)
+public class MemberIdGeneratorBenchmark {
+
+    @Param({"0", "2000"})
+    public long dbRoundTripTokens;
+
+    private final AtomicLong clock = new AtomicLong(System.currentTimeMillis() / 1000);
+    private final MemberIdGenerator generator = new MemberIdGenerator(1, clock::get, millis -> clock.incrementAndGet());
+    private final Set<String> existingIds = ConcurrentHashMap.newKeySet();
+
+    @Setup
+    public void setUp() {
+        existingIds.clear();
+        for (int i = 0; i < 100_000; i++) {
+            existingIds.add(legacyCandidate());
+        }
+    }
+
+    @Benchmark
+    public String legacyUuidWithExistsProbe() {
+        String id;
+        do {
+            id = legacyCandidate();
+            Blackhole.consumeCPU(dbRoundTripTokens);
+        } while (existingIds.contains(id));
+        return id;
+    }
+
+    @Benchmark
+    public String nodeSequence() {
+        return generator.nextId();
+    }
+
+    private static String legacyCandidate() {
+        return UUID.randomUUID().toString().replace("-", "").substring(0, 8).toLowerCase();
+    }
+}
@@ -0,0 +1,109 @@
+package coffeandcommit.crema.global.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.AppenderBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * 요청 1건당 호출 스레드의 로깅 비용 - 느린 출력 대상(이벤트당 1ms) 기준.
+ * 동기 배너(30줄), 비동기 배너(30줄), 비동기 단일 key-value 이벤트를 비교한다.
+ * 비동기 appender 설정은 logback-spring.xml 과 같다. (큐 8192, neverBlock, 호출자 정보 없음)
+ */
+@State(Scope.Benchmark)
+public class AsyncLoggingBenchmark {
+
+    private static final int BANNER_LINES = 30;
+    private static final long SINK_DELAY_MS = 1L;
+
+    private LoggerContext context;
+    private Logger syncLogger;
+    private Logger asyncBannerLogger;
+    private Logger asyncEventLogger;
+    private long sequence;
+
+    @Setup
+    public void setUp() {
+        context = new LoggerContext();
+        // 비동기 appender 는 이벤트를 넘기기 전에 MDC 를 복사하므로 어댑터가 필요하다 (없으면 append 실패)
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        SlowAppender sink = new SlowAppender();
+        sink.setContext(context);
+        sink.start();
+
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(8192);
+        async.setDiscardingThreshold(8192 / 5);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.setMaxFlushTime(0);
+        async.addAppender(sink);
+        async.start();
+
+        syncLogger = logger("sync-banner", sink);
+        asyncBannerLogger = logger("async-banner", async);
+        asyncEventLogger = logger("async-event", async);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public void syncBanner() {
+        banner(syncLogger);
+    }
+
+    @Benchmark
+    public void asyncBanner() {
+        banner(asyncBannerLogger);
+    }
+
+    @Benchmark
+    public void asyncKeyValueEvent() {
+        long n = sequence++;
+        asyncEventLogger.atInfo()
+                .setMessage("[SESSION-JOIN] 세션 참가 완료")
+                .addKeyValue("sessionId", "session_" + n)
+                .addKeyValue("totalMs", n)
+                .log();
+    }
+
+    private static void banner(Logger logger) {
+        for (int i = 0; i < BANNER_LINES; i++) {
+            logger.info("[SESSION-JOIN]   - line {}: {}", i, "value");
+        }
+    }
+
+    private Logger logger(String name, Appender<ILoggingEvent> appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    /* 느린 stdout/파일 출력을 흉내 내는 appender */
+    private static class SlowAppender extends AppenderBase<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                Thread.sleep(SINK_DELAY_MS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
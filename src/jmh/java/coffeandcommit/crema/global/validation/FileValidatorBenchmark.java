@@ -0,0 +1,45 @@
+package coffeandcommit.crema.global.validation;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 업로드 이미지 시그니처(매직 넘버) 판별 비용. 허용 포맷별로 검사 순서상 위치가 달라 포맷을 파라미터로 둔다.
+ */
+@State(Scope.Benchmark)
+public class FileValidatorBenchmark {
+
+    @Param({"jpeg", "png", "gif", "webp", "invalid"})
+    public String format;
+
+    private final FileValidator fileValidator = new FileValidator();
+    private byte[] header;
+
+    @Setup
+    public void setUp() {
+        header = switch (format) {
+            case "jpeg" -> bytes(0xFF, 0xD8, 0xFF, 0xE0, 0x00, 0x10, 'J', 'F', 'I', 'F', 0x00, 0x01);
+            case "png" -> bytes(0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A, 0x00, 0x00, 0x00, 0x0D);
+            case "gif" -> bytes('G', 'I', 'F', '8', '9', 'a', 0x01, 0x00, 0x01, 0x00, 0x80, 0x00);
+            case "webp" -> bytes('R', 'I', 'F', 'F', 0x24, 0x00, 0x00, 0x00, 'W', 'E', 'B', 'P');
+            case "invalid" -> bytes('%', 'P', 'D', 'F', '-', '1', '.', '7', 0x0A, 0x25, 0xE2, 0xE3);
+            default -> throw new IllegalArgumentException(format);
+        };
+    }
+
+    @Benchmark
+    public boolean isValidImageHeader() {
+        return fileValidator.isValidImageHeader(header);
+    }
+
+    private static byte[] bytes(int... values) {
+        byte[] result = new byte[values.length];
+        for (int i = 0; i < values.length; i++) {
+            result[i] = (byte) values[i];
+        }
+        return result;
+    }
+}
@@ -15,6 +15,10 @@ import lombok.*;
         name = "chat_topic",
         indexes = {
                 @Index(name = "idx_topic_name", columnList = "topic_name")
+        },
+        uniqueConstraints = {
+                // ChatTopicRegistry 가 기동 시 없는 주제를 채울 때 인스턴스 간 중복 생성 방지
+                @UniqueConstraint(name = "uk_chat_topic_topic_name", columnNames = "topic_name")
         }
 )
 public class ChatTopic extends BaseEntity{
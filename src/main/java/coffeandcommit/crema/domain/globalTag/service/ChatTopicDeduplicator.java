@@ -0,0 +1,143 @@
+package coffeandcommit.crema.domain.globalTag.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * chat_topic 중복 행 정리 (1회성 마이그레이션, 기동 시 ChatTopicRegistry 가 호출).
+ * 과거 findOrCreate 경합으로 같은 topic_name 행이 여러 개 남아 있으면 ddl-auto 가 uk_chat_topic_topic_name 을 추가하지 못하고,
+ * 가이드 검색은 canonical id(가장 작은 id)로만 거르므로 중복 행에 연결된 가이드가 검색에서 빠진다.
+ * 연결 행(guide_chat_topic, member_chat_topic)을 canonical id 로 옮기고 중복 행을 지운 뒤 유니크 제약을 추가한다.
+ * 중복이 없으면 조회 한 번으로 끝나므로 매 기동마다 실행해도 된다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatTopicDeduplicator {
+
+    static final String UNIQUE_CONSTRAINT = "uk_chat_topic_topic_name";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * 중복 행을 canonical 행으로 합친다. 호출자의 쓰기 트랜잭션 안에서 실행한다.
+     *
+     * @return 모든 중복을 정리했으면 true, 수동 정리가 필요한 주제가 남았으면 false
+     */
+    public boolean mergeDuplicates() {
+        Map<String, List<Long>> idsByTopic = new LinkedHashMap<>();
+        jdbcTemplate.query("SELECT id, topic_name FROM chat_topic ORDER BY id", rs -> {
+            idsByTopic.computeIfAbsent(rs.getString("topic_name"), topicName -> new ArrayList<>()).add(rs.getLong("id"));
+        });
+
+        boolean merged = true;
+        for (Map.Entry<String, List<Long>> entry : idsByTopic.entrySet()) {
+            List<Long> ids = entry.getValue();
+            if (ids.size() > 1) {
+                merged &= merge(entry.getKey(), ids.get(0), ids.subList(1, ids.size()));
+            }
+        }
+        return merged;
+    }
+
+    /**
+     * 유니크 제약이 없으면 추가한다. DDL 은 암묵적으로 커밋되므로 트랜잭션 밖에서 호출한다.
+     */
+    public void ensureUniqueConstraint() {
+        if (hasUniqueConstraint()) {
+            return;
+        }
+        try {
+            jdbcTemplate.getJdbcTemplate().execute(
+                    "ALTER TABLE chat_topic ADD CONSTRAINT " + UNIQUE_CONSTRAINT + " UNIQUE (topic_name)");
+            log.info("[ChatTopicDeduplicator] {} 추가", UNIQUE_CONSTRAINT);
+        } catch (DataAccessException e) {
+            // 다른 인스턴스가 먼저 추가했다면 그대로 진행
+            if (!hasUniqueConstraint()) {
+                throw e;
+            }
+        }
+    }
+
+    private boolean merge(String topicName, Long canonicalId, List<Long> duplicateIds) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("canonicalId", canonicalId)
+                .addValue("duplicateIds", duplicateIds);
+
+        // 옮긴 뒤 (guide_id, chat_topic_id) 유니크에 걸릴 연결을 먼저 지운다.
+        // 중복 행끼리 같은 가이드가 연결돼 있으면 가장 작은 id 하나만 남기고, canonical 에도 연결돼 있으면 중복 쪽을 모두 지운다
+        List<Long> redundantGuideLinks = findRedundantLinks("guide_chat_topic", "guide_id", params);
+        if (!redundantGuideLinks.isEmpty()) {
+            Integer withExperience = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM experience_group WHERE guide_chat_topic_id IN (:linkIds)",
+                    new MapSqlParameterSource("linkIds", redundantGuideLinks), Integer.class);
+            if (withExperience != null && withExperience > 0) {
+                // 경험 그룹이 달린 연결은 어느 쪽을 남길지 정할 수 없어 수동 정리 대상으로 남긴다
+                log.warn("[ChatTopicDeduplicator] {} 중복 정리 보류 - 경험 그룹이 달린 중복 연결: guide_chat_topic {}",
+                        topicName, redundantGuideLinks);
+                return false;
+            }
+            jdbcTemplate.update("DELETE FROM guide_chat_topic WHERE id IN (:linkIds)",
+                    new MapSqlParameterSource("linkIds", redundantGuideLinks));
+        }
+
+        List<Long> redundantMemberLinks = findRedundantLinks("member_chat_topic", "member_id", params);
+        if (!redundantMemberLinks.isEmpty()) {
+            jdbcTemplate.update("DELETE FROM member_chat_topic WHERE id IN (:linkIds)",
+                    new MapSqlParameterSource("linkIds", redundantMemberLinks));
+        }
+
+        int guideLinks = jdbcTemplate.update(
+                "UPDATE guide_chat_topic SET chat_topic_id = :canonicalId WHERE chat_topic_id IN (:duplicateIds)", params);
+        int memberLinks = jdbcTemplate.update(
+                "UPDATE member_chat_topic SET chat_topic_id = :canonicalId WHERE chat_topic_id IN (:duplicateIds)", params);
+        jdbcTemplate.update("DELETE FROM chat_topic WHERE id IN (:duplicateIds)", params);
+
+        log.info("[ChatTopicDeduplicator] {} 중복 {}개 정리 (canonical id={}, 가이드 연결 {}건, 회원 연결 {}건 이동)",
+                topicName, duplicateIds.size(), canonicalId, guideLinks, memberLinks);
+        return true;
+    }
+
+    /**
+     * 중복 행에 걸린 연결 중 canonical 로 옮기면 같은 소유자의 다른 연결과 겹치는 것.
+     * canonical 에 이미 연결된 소유자의 것, 그리고 중복 행끼리 겹치는 소유자의 것 중 가장 작은 id 를 뺀 나머지.
+     */
+    private List<Long> findRedundantLinks(String table, String ownerColumn, MapSqlParameterSource params) {
+        return jdbcTemplate.queryForList(
+                "SELECT d.id FROM " + table + " d WHERE d.chat_topic_id IN (:duplicateIds) AND EXISTS ("
+                        + "SELECT 1 FROM " + table + " k WHERE k." + ownerColumn + " = d." + ownerColumn
+                        + " AND (k.chat_topic_id = :canonicalId OR (k.chat_topic_id IN (:duplicateIds) AND k.id < d.id)))",
+                params, Long.class);
+    }
+
+    private boolean hasUniqueConstraint() {
+        Boolean exists = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            for (String table : new String[]{"chat_topic", "CHAT_TOPIC"}) {
+                try (ResultSet indexes = metaData.getIndexInfo(connection.getCatalog(), null, table, true, false)) {
+                    while (indexes.next()) {
+                        // H2 는 제약 이름 뒤에 접미사를 붙인 인덱스를 만든다
+                        String indexName = indexes.getString("INDEX_NAME");
+                        if (indexName != null && indexName.toLowerCase().startsWith(UNIQUE_CONSTRAINT)) {
+                            return true;
+                        }
+                    }
+                }
+            }
+            return false;
+        });
+        return Boolean.TRUE.equals(exists);
+    }
+}
@@ -0,0 +1,114 @@
+package coffeandcommit.crema.domain.globalTag.service;
+
+import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * chat_topic 기준 데이터 캐시.
+ * TopicNameType 은 닫힌 enum 이라 chat_topic 은 사실상 정적 데이터이므로, 기동 시 한 번 읽고 없는 주제만 채워 넣는다.
+ * 이후 주제 등록/검색은 DB 조회 없이 이 맵의 엔티티(준영속, 읽기 전용)와 id 를 그대로 쓴다.
+ * 적재 전에 과거 경합으로 남은 중복 행을 합치고 유니크 제약을 보장한다 (ChatTopicDeduplicator).
+ */
+@Slf4j
+@Component
+public class ChatTopicRegistry implements SmartInitializingSingleton {
+
+    private final ChatTopicRepository chatTopicRepository;
+    private final ChatTopicDeduplicator chatTopicDeduplicator;
+    private final TransactionTemplate transactionTemplate;
+
+    private volatile Map<TopicNameType, ChatTopic> topics = Collections.emptyMap();
+
+    public ChatTopicRegistry(ChatTopicRepository chatTopicRepository,
+                             ChatTopicDeduplicator chatTopicDeduplicator,
+                             PlatformTransactionManager transactionManager) {
+        this.chatTopicRepository = chatTopicRepository;
+        this.chatTopicDeduplicator = chatTopicDeduplicator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    // 웹 서버가 요청을 받기 전(싱글톤 생성 직후)에 적재
+    @Override
+    public void afterSingletonsInstantiated() {
+        load();
+    }
+
+    void load() {
+        Boolean merged = transactionTemplate.execute(status -> chatTopicDeduplicator.mergeDuplicates());
+        if (Boolean.TRUE.equals(merged)) {
+            chatTopicDeduplicator.ensureUniqueConstraint();
+        } else {
+            log.warn("[ChatTopicRegistry] 정리하지 못한 중복 주제가 있어 유니크 제약을 추가하지 않습니다");
+        }
+
+        Map<TopicNameType, ChatTopic> loaded;
+        try {
+            loaded = transactionTemplate.execute(status -> seedMissing());
+        } catch (DataIntegrityViolationException e) {
+            // 다른 인스턴스가 동시에 같은 주제를 넣었다 - 커밋된 행을 다시 읽는다
+            log.info("[ChatTopicRegistry] 동시 시드 감지, 재조회: {}", e.getMostSpecificCause().getMessage());
+            loaded = transactionTemplate.execute(status -> readAll());
+        }
+        topics = Collections.unmodifiableMap(loaded);
+        log.info("[ChatTopicRegistry] 주제 {}개 적재", topics.size());
+    }
+
+    public ChatTopic get(TopicNameType topicName) {
+        ChatTopic chatTopic = topics.get(topicName);
+        if (chatTopic == null) {
+            throw new IllegalStateException("chat_topic 이 적재되지 않았습니다: " + topicName);
+        }
+        return chatTopic;
+    }
+
+    public List<Long> idsOf(Collection<TopicNameType> topicNames) {
+        List<Long> ids = new ArrayList<>(topicNames.size());
+        for (TopicNameType topicName : topicNames) {
+            ids.add(get(topicName).getId());
+        }
+        return ids;
+    }
+
+    // 쓰기 트랜잭션 안에서 읽어야 복제본 지연과 무관하게 primary 기준으로 판단한다
+    private Map<TopicNameType, ChatTopic> seedMissing() {
+        Map<TopicNameType, ChatTopic> loaded = readAll();
+
+        List<ChatTopic> missing = new ArrayList<>();
+        for (TopicNameType topicName : TopicNameType.values()) {
+            if (!loaded.containsKey(topicName)) {
+                missing.add(ChatTopic.builder().topicName(topicName).build());
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (ChatTopic saved : chatTopicRepository.saveAllAndFlush(missing)) {
+                loaded.put(saved.getTopicName(), saved);
+            }
+            log.info("[ChatTopicRegistry] 누락 주제 {}개 생성", missing.size());
+        }
+        return loaded;
+    }
+
+    // 정리 보류된 중복 행이 남아 있으면 가장 작은 id 를 쓴다 (인스턴스 간, ChatTopicDeduplicator 와 동일한 선택)
+    private Map<TopicNameType, ChatTopic> readAll() {
+        Map<TopicNameType, ChatTopic> loaded = new EnumMap<>(TopicNameType.class);
+        for (ChatTopic chatTopic : chatTopicRepository.findAll(Sort.by("id"))) {
+            loaded.putIfAbsent(chatTopic.getTopicName(), chatTopic);
+        }
+        return loaded;
+    }
+}
@@ -3,9 +3,11 @@ package coffeandcommit.crema.domain.guide.controller;
 import coffeandcommit.crema.domain.guide.dto.request.*;
 import coffeandcommit.crema.domain.guide.dto.response.*;
 import coffeandcommit.crema.domain.guide.service.GuideMeService;
+import coffeandcommit.crema.domain.guide.service.GuideProfileReplaceService;
 import coffeandcommit.crema.global.auth.service.CustomUserDetails;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import coffeandcommit.crema.global.common.response.Response;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -34,6 +36,7 @@ import java.util.List;
 public class GuideMeController {
 
     private final GuideMeService guideMeService;
+    private final GuideProfileReplaceService guideProfileReplaceService;
 
     @Operation(summary = "가이드 직무 분야 등록", description = "가이드의 직무 분야를 등록합니다.")
     @PostMapping("/job-field")
@@ -85,6 +88,28 @@ public class GuideMeController {
         return ResponseEntity.status(HttpStatus.OK).body(response);
     }
 
+    @Operation(summary = "가이드 채팅 주제 일괄 교체", description = "가이드의 채팅 주제 목록을 요청 목록으로 교체합니다. 빠지는 주제의 경험 목록도 함께 삭제됩니다.")
+    @PutMapping("/chat-topics")
+    public ResponseEntity<Response<List<GuideChatTopicResponseDTO>>> replaceChatTopics(
+            @Valid @RequestBody GuideChatTopicRequestDTO guideChatTopicRequestDTO,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        if(userDetails == null){
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        List<GuideChatTopicResponseDTO> result = guideProfileReplaceService.replaceChatTopics(loginMemberId, guideChatTopicRequestDTO);
+
+        Response<List<GuideChatTopicResponseDTO>> response = Response.<List<GuideChatTopicResponseDTO>>builder()
+                .message("채팅 주제 교체 완료")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Operation(summary = "가이드 채팅 주제 삭제", description = "가이드의 채팅 주제를 삭제합니다.")
     @DeleteMapping("/chat-topics/{topicId}")
     public ResponseEntity<Response<List<GuideChatTopicResponseDTO>>> deleteChatTopic(
@@ -130,6 +155,28 @@ public class GuideMeController {
 
     }
 
+    @Operation(summary = "가이드 해시태그 일괄 교체", description = "가이드의 해시태그 목록을 요청 목록으로 교체합니다. 최대 5개까지 가능합니다.")
+    @PutMapping("/hashtags")
+    public ResponseEntity<Response<List<GuideHashTagResponseDTO>>> replaceGuideHashTags(
+            @Valid @RequestBody List<GuideHashTagRequestDTO> guideHashTagRequestDTOs,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        if(userDetails == null){
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        List<GuideHashTagResponseDTO> result = guideProfileReplaceService.replaceGuideHashTags(loginMemberId, guideHashTagRequestDTOs);
+
+        Response<List<GuideHashTagResponseDTO>> response = Response.<List<GuideHashTagResponseDTO>>builder()
+                .message("가이드 해시태그 교체 완료")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Operation(summary = "가이드 해시태그 삭제", description = "가이드의 해시태그를 삭제합니다.")
     @DeleteMapping("/hashtags/{hashTagId}")
     public ResponseEntity<Response<List<GuideHashTagResponseDTO>>> deleteGuideHashTag(
@@ -176,6 +223,28 @@ public class GuideMeController {
 
     }
 
+    @Operation(summary = "가이드 스케줄 일괄 교체", description = "가이드의 스케줄을 요청 스케줄로 교체합니다. 요청에 없는 요일은 삭제됩니다.")
+    @PutMapping("/schedules")
+    public ResponseEntity<Response<GuideScheduleResponseDTO>> replaceGuideSchedules(
+            @Valid @RequestBody GuideScheduleRequestDTO guideScheduleRequestDTO,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        if(userDetails == null){
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        GuideScheduleResponseDTO result = guideProfileReplaceService.replaceGuideSchedules(loginMemberId, guideScheduleRequestDTO);
+
+        Response<GuideScheduleResponseDTO> response = Response.<GuideScheduleResponseDTO>builder()
+                .message("가이드 스케줄 교체 완료")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Operation(summary = "가이드 스케줄 삭제", description = "가이드의 스케줄을 삭제합니다.")
     @DeleteMapping("/schedules/{timeSlotId}")
     public ResponseEntity<Response<GuideScheduleResponseDTO>> deleteGuideSchedule(
@@ -267,6 +336,28 @@ public class GuideMeController {
 
     }
 
+    @Operation(summary = "가이드 경험 목록 일괄 교체", description = "가이드의 경험 목록을 요청 목록으로 교체합니다. 요청에 없는 주제의 경험은 삭제됩니다.")
+    @PutMapping("/experiences")
+    public ResponseEntity<Response<GuideExperienceResponseDTO>> replaceGuideExperiences(
+            @Valid @RequestBody GuideExperienceRequestDTO guideExperienceRequestDTO,
+            @AuthenticationPrincipal CustomUserDetails userDetails){
+
+        if(userDetails == null){
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        GuideExperienceResponseDTO result = guideProfileReplaceService.replaceGuideExperiences(loginMemberId, guideExperienceRequestDTO);
+
+        Response<GuideExperienceResponseDTO> response = Response.<GuideExperienceResponseDTO>builder()
+                .message("가이드 경험 목록 교체 완료")
+                .data(result)
+                .build();
+
+        return ResponseEntity.status(HttpStatus.OK).body(response);
+    }
+
     @Operation(summary = "가이드 경험 목록 삭제", description = "가이드의 경험 목록을 삭제합니다.")
     @DeleteMapping("/experiences/{experienceId}")
     public ResponseEntity<Response<GuideExperienceResponseDTO>> deleteGuideExperience(
@@ -312,10 +403,12 @@ public class GuideMeController {
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "가이드 대기중 커피챗 조회", description = "가이드 본인의 가이드 대기중 커피챗 목록을 조회합니다.")
+    @Operation(summary = "가이드 대기중 커피챗 조회", description = "가이드 본인의 가이드 대기중 커피챗 목록을 신청일 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @GetMapping("/reservations/pending")
-    public ResponseEntity<Response<List<GuidePendingReservationResponseDTO>>> getPendingReservations(
-            @AuthenticationPrincipal CustomUserDetails userDetails) {
+    public ResponseEntity<Response<CursorPageResponse<GuidePendingReservationResponseDTO>>> getPendingReservations(
+            @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size) {
 
         if (userDetails == null) {
             throw new BaseException(ErrorStatus.UNAUTHORIZED);
@@ -323,9 +416,9 @@ public class GuideMeController {
 
         String loginMemberId = userDetails.getMemberId();
 
-        List<GuidePendingReservationResponseDTO> result = guideMeService.getPendingReservations(loginMemberId);
+        CursorPageResponse<GuidePendingReservationResponseDTO> result = guideMeService.getPendingReservations(loginMemberId, cursor, size);
 
-        Response<List<GuidePendingReservationResponseDTO>> response = Response.<List<GuidePendingReservationResponseDTO>>builder()
+        Response<CursorPageResponse<GuidePendingReservationResponseDTO>> response = Response.<CursorPageResponse<GuidePendingReservationResponseDTO>>builder()
                 .message("가이드 대기중 커피챗 조회 성공")
                 .data(result)
                 .build();
@@ -1,5 +1,6 @@
 package coffeandcommit.crema.domain.guide.dto.response;
 
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -39,4 +40,19 @@ public class GuidePendingReservationResponseDTO {
                 .status(status)
                 .build();
     }
+
+    public static GuidePendingReservationResponseDTO from(ReservationSummaryDTO summary) {
+        return GuidePendingReservationResponseDTO.builder()
+                .reservationId(summary.getReservationId())
+                .member(MemberInfo.builder()
+                        .nickname(summary.getCounterpartNickname())
+                        .profileImageUrl(summary.getCounterpartProfileImageUrl())
+                        .build())
+                .createdAt(summary.getCreatedAt() != null ? summary.getCreatedAt().toString() : null)
+                .preferredDateOnly(summary.getPreferredDateOnly())
+                .preferredDayOfWeek(summary.getPreferredDayOfWeek())
+                .preferredTimeRange(summary.getPreferredTimeRange())
+                .status(summary.getStatus())
+                .build();
+    }
 }
@@ -1,6 +1,7 @@
 package coffeandcommit.crema.domain.guide.entity;
 
 import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -13,7 +14,7 @@ import lombok.*;
 public class ExperienceGroup extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
@@ -29,4 +30,9 @@ public class ExperienceGroup extends BaseEntity{
 
     @Column(nullable = false)
     private String experienceContent;
+
+    public void updateExperience(String experienceTitle, String experienceContent) {
+        this.experienceTitle = experienceTitle;
+        this.experienceContent = experienceContent;
+    }
 }
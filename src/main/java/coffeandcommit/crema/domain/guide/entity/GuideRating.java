@@ -0,0 +1,42 @@
+package coffeandcommit.crema.domain.guide.entity;
+
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 가이드별 리뷰 집계 (리뷰 수 / 별점 합 / 따봉 수).
+ * 리뷰 작성 시 증분으로만 갱신하며, 행이 없는 가이드는 첫 리뷰 때 기존 리뷰로부터 채운다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(name = "guide_rating")
+public class GuideRating extends BaseEntity {
+
+    @Id
+    @Column(name = "guide_id")
+    private Long guideId; // 가이드 ID (guide 와 1:1, 연관 로딩 없이 id 만 보관)
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount; // 리뷰 수
+
+    @Column(name = "star_sum", precision = 12, scale = 1, nullable = false)
+    private BigDecimal starSum; // 별점 합
+
+    @Column(name = "thumbs_up_count", nullable = false)
+    private long thumbsUpCount; // 따봉 수
+
+    // 소수점 첫째 자리 반올림 평균 (리뷰가 없으면 0.0)
+    public double getAverageStar() {
+        if (reviewCount == 0) {
+            return 0.0;
+        }
+        return starSum.divide(BigDecimal.valueOf(reviewCount), 1, RoundingMode.HALF_UP).doubleValue();
+    }
+}
@@ -1,6 +1,7 @@
 package coffeandcommit.crema.domain.guide.entity;
 
 import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -23,7 +24,7 @@ import lombok.*;
 public class HashTag extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
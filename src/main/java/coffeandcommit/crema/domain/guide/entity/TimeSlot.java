@@ -1,6 +1,7 @@
 package coffeandcommit.crema.domain.guide.entity;
 
 import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -26,7 +27,7 @@ import java.time.LocalTime;
 public class TimeSlot extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
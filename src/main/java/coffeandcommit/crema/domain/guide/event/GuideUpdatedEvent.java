@@ -0,0 +1,14 @@
+package coffeandcommit.crema.domain.guide.event;
+
+import coffeandcommit.crema.global.common.outbox.OutboxPayload;
+
+/**
+ * 가이드 공개 프로필(직무 분야 / 커피챗 소개 / 공개 여부) 변경 이벤트 (아웃박스)
+ */
+public record GuideUpdatedEvent(Long guideId) implements OutboxPayload {
+
+    @Override
+    public Long aggregateId() {
+        return guideId;
+    }
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -18,4 +19,7 @@ public interface ExperienceGroupRepository extends JpaRepository<ExperienceGroup
     List<ExperienceGroup> findByGuide(Guide guide);
 
     Optional<ExperienceGroup> findByGuideChatTopic(GuideChatTopic guideChatTopic);
+
+    // 리뷰 작성 시 평가 대상 경험을 한 번에 조회 (다른 가이드의 경험 id 는 걸러진다)
+    List<ExperienceGroup> findAllByIdInAndGuide_Id(Collection<Long> ids, Long guideId);
 }
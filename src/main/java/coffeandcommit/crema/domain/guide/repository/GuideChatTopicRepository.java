@@ -16,9 +16,11 @@ public interface GuideChatTopicRepository extends JpaRepository<GuideChatTopic,
     java.util.Optional<GuideChatTopic> findByGuideAndChatTopic(Guide guide, ChatTopic chatTopic);
 
 
+    // experienceGroup 은 일대일 역방향이라 지연 로딩이 안 되므로 함께 가져와 행마다 추가 조회되지 않게 한다
     @Query("SELECT gct FROM GuideChatTopic gct " +
             "JOIN FETCH gct.chatTopic ct " +
             "JOIN FETCH gct.guide g " +
+            "LEFT JOIN FETCH gct.experienceGroup eg " +
             "WHERE g = :guide")
     List<GuideChatTopic> findAllByGuideWithJoin(@Param("guide") Guide guide);
 
@@ -0,0 +1,53 @@
+package coffeandcommit.crema.domain.guide.repository;
+
+import coffeandcommit.crema.domain.guide.entity.GuideRating;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface GuideRatingRepository extends JpaRepository<GuideRating, Long> {
+
+    // 읽고-쓰기 없이 DB 에서 바로 더해 동시 리뷰 간 갱신 유실을 막는다 (0 이면 집계 행 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE GuideRating gr
+            SET gr.reviewCount = gr.reviewCount + 1,
+                gr.starSum = gr.starSum + :starReview,
+                gr.thumbsUpCount = gr.thumbsUpCount + :thumbsUpCount,
+                gr.modifiedAt = :now
+            WHERE gr.guideId = :guideId
+    """)
+    int increment(@Param("guideId") Long guideId,
+                  @Param("starReview") BigDecimal starReview,
+                  @Param("thumbsUpCount") long thumbsUpCount,
+                  @Param("now") LocalDateTime now);
+
+    /*
+     * 집계 행이 없을 때 리뷰 트랜잭션 안에서 만든다 (MySQL 전용 upsert).
+     * 행이 없으면 seed 값(이번 리뷰 포함)으로 넣고, 그사이 다른 리뷰가 먼저 만들었으면 이번 리뷰만 더한다.
+     * 예외 없이 한 문장으로 끝나므로 호출한 트랜잭션을 롤백 전용으로 만들지 않는다.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO guide_rating (guide_id, review_count, star_sum, thumbs_up_count, created_at, modified_at)
+            VALUES (:guideId, :reviewCount, :starSum, :thumbsUpSum, :now, :now)
+            ON DUPLICATE KEY UPDATE
+                review_count = review_count + 1,
+                star_sum = star_sum + :starReview,
+                thumbs_up_count = thumbs_up_count + :thumbsUpCount,
+                modified_at = :now
+    """, nativeQuery = true)
+    int seedOrIncrement(@Param("guideId") Long guideId,
+                        @Param("reviewCount") long reviewCount,
+                        @Param("starSum") BigDecimal starSum,
+                        @Param("thumbsUpSum") long thumbsUpSum,
+                        @Param("starReview") BigDecimal starReview,
+                        @Param("thumbsUpCount") long thumbsUpCount,
+                        @Param("now") LocalDateTime now);
+}
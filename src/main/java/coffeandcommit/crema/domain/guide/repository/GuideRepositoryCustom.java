@@ -1,7 +1,6 @@
 package coffeandcommit.crema.domain.guide.repository;
 
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
-import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
 import coffeandcommit.crema.domain.guide.entity.Guide;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -12,7 +11,7 @@ public interface GuideRepositoryCustom {
 
     Page<Guide> findBySearchConditions(
             List<JobNameType> jobNames,
-            List<TopicNameType> chatTopicNames,
+            List<Long> chatTopicIds,
             String keyword,
             Pageable pageable
     );
@@ -7,13 +7,11 @@ import com.querydsl.core.types.dsl.ComparableExpressionBase;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
-import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
 import coffeandcommit.crema.domain.guide.entity.Guide;
 import coffeandcommit.crema.domain.guide.entity.QGuide;
 import coffeandcommit.crema.domain.guide.entity.QGuideJobField;
 import coffeandcommit.crema.domain.guide.entity.QHashTag;
 import coffeandcommit.crema.domain.guide.entity.QGuideChatTopic;
-import coffeandcommit.crema.domain.globalTag.entity.QChatTopic;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -33,12 +31,11 @@ public class GuideRepositoryImpl implements GuideRepositoryCustom {
     }
 
     @Override
-    public Page<Guide> findBySearchConditions(List<JobNameType> jobNames, List<TopicNameType> chatTopicNames, String keyword, Pageable pageable) {
+    public Page<Guide> findBySearchConditions(List<JobNameType> jobNames, List<Long> chatTopicIds, String keyword, Pageable pageable) {
         QGuide g = QGuide.guide;
         QGuideJobField gjf = QGuideJobField.guideJobField;
         QHashTag ht = QHashTag.hashTag;
         QGuideChatTopic gct = QGuideChatTopic.guideChatTopic;
-        QChatTopic ct = QChatTopic.chatTopic;
 
         BooleanBuilder where = new BooleanBuilder();
         where.and(g.isOpened.isTrue());
@@ -54,14 +51,13 @@ public class GuideRepositoryImpl implements GuideRepositoryCustom {
             );
         }
 
-        // 주제 필터: EXISTS로 행 증식 방지
-        if (chatTopicNames != null && !chatTopicNames.isEmpty()) {
+        // 주제 필터: EXISTS로 행 증식 방지, 주제명 → id 변환은 ChatTopicRegistry 가 해서 chat_topic 조인 없음
+        if (chatTopicIds != null && !chatTopicIds.isEmpty()) {
             where.and(
                     JPAExpressions.selectOne()
                             .from(gct)
-                            .join(gct.chatTopic, ct)
                             .where(gct.guide.eq(g)
-                                    .and(ct.topicName.in(chatTopicNames)))
+                                    .and(gct.chatTopic.id.in(chatTopicIds)))
                             .exists()
             );
         }
@@ -2,8 +2,16 @@ package coffeandcommit.crema.domain.guide.repository;
 
 import coffeandcommit.crema.domain.guide.entity.TimeSlot;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface TimeSlotRepository extends JpaRepository<TimeSlot, Long> {
+
+    // 예약 후보(candidate.time_id)가 참조하는 시간대가 있는지
+    @Query("SELECT COUNT(c) > 0 FROM Candidate c WHERE c.timeSlot IN :timeSlots")
+    boolean existsCandidateByTimeSlotIn(@Param("timeSlots") Collection<TimeSlot> timeSlots);
 }
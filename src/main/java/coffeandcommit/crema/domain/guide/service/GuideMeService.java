@@ -3,13 +3,16 @@ package coffeandcommit.crema.domain.guide.service;
 import coffeandcommit.crema.domain.globalTag.dto.TopicDTO;
 import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
-import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.guide.dto.request.*;
 import coffeandcommit.crema.domain.guide.dto.response.*;
+import coffeandcommit.crema.domain.guide.event.GuideUpdatedEvent;
 import coffeandcommit.crema.domain.guide.entity.*;
 import coffeandcommit.crema.domain.guide.enums.DayType;
 import coffeandcommit.crema.domain.guide.enums.TimeType;
 import coffeandcommit.crema.domain.guide.repository.*;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.entity.Survey;
 import coffeandcommit.crema.domain.reservation.enums.Status;
@@ -19,11 +22,14 @@ import coffeandcommit.crema.domain.review.repository.ReviewRepository;
 import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotEmpty;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,6 +40,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -44,7 +51,7 @@ public class GuideMeService {
 
     private final GuideRepository guideRepository;
     private final GuideJobFieldRepository guideJobFieldRepository;
-    private final ChatTopicRepository chatTopicRepository;
+    private final ChatTopicRegistry chatTopicRegistry;
     private final GuideChatTopicRepository guideChatTopicRepository;
     private final HashTagRepository hashTagRepository;
     private final GuideScheduleRepository guideScheduleRepository;
@@ -54,6 +61,7 @@ public class GuideMeService {
     private final ReviewRepository reviewRepository;
     private final ReviewExperienceRepository reviewExperienceRepository;
     private final ReservationRepository reservationRepository;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     /* 가이드 직무 분야 등록 */
     @Transactional
@@ -84,6 +92,7 @@ public class GuideMeService {
 
         // 4. GuideJobField 저장
         GuideJobField savedGuideJobField = guideJobFieldRepository.save(guideJobField);
+        outboxEventPublisher.append(new GuideUpdatedEvent(guide.getId()));
 
         // 5. DTO 변환 및 반환
         return GuideJobFieldResponseDTO.from(savedGuideJobField);
@@ -143,12 +152,8 @@ public class GuideMeService {
                 throw new BaseException(ErrorStatus.INVALID_TOPIC);
             }
 
-            // 1) Enum 값 유효성은 역직렬화 단계에서 보장되지만, null 가드 추가
-            // 2) 마스터 테이블(chat_topic)에 없으면 생성하여 정합성 보장
-            ChatTopic chatTopic = chatTopicRepository.findByTopicName(topicDTO.getTopicName())
-                    .orElseGet(() -> chatTopicRepository.save(
-                            ChatTopic.builder().topicName(topicDTO.getTopicName()).build()
-                    ));
+            // Enum 값 유효성은 역직렬화 단계에서 보장되고, 마스터 행(chat_topic)은 레지스트리가 기동 시 보장
+            ChatTopic chatTopic = chatTopicRegistry.get(topicDTO.getTopicName());
 
             // 이미 등록된 주제인지 확인
             boolean exists = guideChatTopicRepository.existsByGuideAndChatTopic(guide, chatTopic);
@@ -412,12 +417,10 @@ public class GuideMeService {
             if (groupReq.getTopicName() == null) {
                 return Boolean.TRUE; // 후단에서 INVALID_TOPIC 처리되지만, 보수적으로 새 추가로 간주
             }
-            // ChatTopic이 없을 수 있으므로, 존재 여부만 조회
-            return chatTopicRepository.findByTopicName(groupReq.getTopicName())
-                    .map(chatTopic -> guideChatTopicRepository.findByGuideAndChatTopic(guide, chatTopic)
-                            .flatMap(existGct -> experienceGroupRepository.findByGuideChatTopic(existGct)
-                                    .map(eg -> Boolean.FALSE))
-                            .orElse(Boolean.TRUE))
+            ChatTopic chatTopic = chatTopicRegistry.get(groupReq.getTopicName());
+            return guideChatTopicRepository.findByGuideAndChatTopic(guide, chatTopic)
+                    .flatMap(existGct -> experienceGroupRepository.findByGuideChatTopic(existGct)
+                            .map(eg -> Boolean.FALSE))
                     .orElse(Boolean.TRUE);
         }).filter(Boolean::booleanValue).count();
 
@@ -434,11 +437,7 @@ public class GuideMeService {
                     }
 
                     // 1) enum 유효성: TopicNameType JsonCreator가 영어/한글 매핑을 처리
-                    //    DB에 ChatTopic이 없을 수도 있으므로, 없으면 생성
-                    ChatTopic chatTopic = chatTopicRepository.findByTopicName(groupReq.getTopicName())
-                            .orElseGet(() -> chatTopicRepository.save(
-                                    ChatTopic.builder().topicName(groupReq.getTopicName()).build()
-                            ));
+                    ChatTopic chatTopic = chatTopicRegistry.get(groupReq.getTopicName());
 
                     // 2) 가이드에 주제가 없으면 GuideChatTopic를 추가, 있으면 그대로 사용
                     GuideChatTopic guideChatTopic = guideChatTopicRepository
@@ -520,6 +519,7 @@ public class GuideMeService {
                 .build();
 
         guideRepository.save(updatedGuide);
+        outboxEventPublisher.append(new GuideUpdatedEvent(updatedGuide.getId()));
 
         // 4. 태그 조회 (GuideHashTagResponseDTO 리스트 변환)
         List<GuideHashTagResponseDTO> tags = hashTagRepository.findByGuide(updatedGuide).stream()
@@ -555,56 +555,17 @@ public class GuideMeService {
         );
     }
 
-    /* 가이드 대기중인 예약 조회 */
+    /* 가이드 대기중인 예약 조회 (키셋 페이지, 신청일 최신순) */
     @Transactional(readOnly = true)
-    public List<GuidePendingReservationResponseDTO> getPendingReservations(String loginMemberId) {
+    public CursorPageResponse<GuidePendingReservationResponseDTO> getPendingReservations(String loginMemberId, String cursor, int size) {
 
         Guide guide = guideRepository.findByMember_Id(loginMemberId)
                 .orElseThrow(() -> new BaseException(ErrorStatus.GUIDE_NOT_FOUND));
 
-        List<Reservation> pendingReservations = reservationRepository.findByGuideAndStatus(guide, Status.PENDING);
-
-        return pendingReservations.stream()
-                .map(reservation -> {
-                    String createdAt = reservation.getCreatedAt() != null
-                            ? reservation.getCreatedAt().toString()
-                            : null;
-
-                    // survey, timeUnit null 안전하게 처리
-                    Survey survey = reservation.getSurvey();
-                    LocalDateTime preferredDateTime = (survey != null) ? survey.getPreferredDate() : null;
-
-                    TimeUnit timeUnit = reservation.getTimeUnit();
-                    TimeType timeType = (timeUnit != null) ? timeUnit.getTimeType() : null;
-
-                    String preferredDateOnly = null;
-                    String preferredTimeRange = null;
-                    String preferredDayOfWeek = null;
-
-                    if (preferredDateTime != null) {
-                        preferredDateOnly = preferredDateTime.toLocalDate().toString();
+        List<ReservationSummaryDTO> rows = reservationRepository.findSummariesByGuide(
+                guide.getId(), Status.PENDING, ReservationCursor.decode(cursor), size + 1);
 
-                        DayType dayType = convertToDayType(preferredDateTime.getDayOfWeek());
-                        preferredDayOfWeek = dayType.getDescription();
-
-                        if (timeType != null) {
-                            LocalDateTime endDateTime = preferredDateTime.plusMinutes(timeType.getMinutes());
-                            preferredTimeRange = preferredDateTime.toLocalTime().toString()
-                                    + "~" + endDateTime.toLocalTime().toString();
-                        }
-                    }
-
-                    return GuidePendingReservationResponseDTO.builder()
-                            .reservationId(reservation.getId())
-                            .member(MemberInfo.from(reservation.getMember()))
-                            .createdAt(createdAt)
-                            .preferredDateOnly(preferredDateOnly)
-                            .preferredDayOfWeek(preferredDayOfWeek)
-                            .preferredTimeRange(preferredTimeRange)
-                            .status(reservation.getStatus())
-                            .build();
-                })
-                .toList();
+        return CursorPageResponse.of(rows, size, GuidePendingReservationResponseDTO::from, row -> row.toCursor().encode());
     }
 
     private DayType convertToDayType(DayOfWeek dayOfWeek) {
@@ -629,6 +590,7 @@ public class GuideMeService {
         guide.updateVisibility(guideVisibilityRequestDTO.isOpened());
         // 즉시 DB 반영 필요시 명시적 flush
         guideRepository.saveAndFlush(guide);
+        outboxEventPublisher.append(new GuideUpdatedEvent(guide.getId()));
 
     }
 
@@ -639,47 +601,64 @@ public class GuideMeService {
         Guide guide = guideRepository.findByMember_Id(loginMemberId)
                 .orElseThrow(() -> new BaseException(ErrorStatus.GUIDE_NOT_FOUND));
 
-        Page<Reservation> reservations = reservationRepository.findByGuide(guide, pageable);
+        // 1단계: ID만 정렬/페이징 (fetch join + 페이징을 함께 쓰면 메모리 페이징이 되므로 분리)
+        Page<Long> idPage = reservationRepository.findIdsByGuide(guide, pageable);
+        if (idPage.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, idPage.getTotalElements());
+        }
+
+        // 2단계: 해당 ID의 예약을 연관 엔티티와 함께 한 번에 로딩
+        Map<Long, Reservation> reservationMap = reservationRepository.findAllWithMenteeByIdIn(idPage.getContent()).stream()
+                .collect(Collectors.toMap(Reservation::getId, r -> r));
 
-        return reservations.map(reservation -> {
-            String createdAt = (reservation.getCreatedAt() != null)
-                    ? reservation.getCreatedAt().toString()
-                    : null;
+        // 1단계 정렬 순서 유지
+        List<GuidePendingReservationResponseDTO> content = idPage.getContent().stream()
+                .map(reservationMap::get)
+                .filter(Objects::nonNull)
+                .map(this::toGuideReservationResponse)
+                .toList();
+
+        return new PageImpl<>(content, pageable, idPage.getTotalElements());
+    }
 
-            // survey, timeUnit null 안전 처리
-            Survey survey = reservation.getSurvey();
-            LocalDateTime preferredDateTime = (survey != null) ? survey.getPreferredDate() : null;
+    private GuidePendingReservationResponseDTO toGuideReservationResponse(Reservation reservation) {
+        String createdAt = (reservation.getCreatedAt() != null)
+                ? reservation.getCreatedAt().toString()
+                : null;
 
-            TimeUnit timeUnit = reservation.getTimeUnit();
-            TimeType timeType = (timeUnit != null) ? timeUnit.getTimeType() : null;
+        // survey, timeUnit null 안전 처리
+        Survey survey = reservation.getSurvey();
+        LocalDateTime preferredDateTime = (survey != null) ? survey.getPreferredDate() : null;
 
-            String preferredDateOnly = null;
-            String preferredTimeRange = null;
-            String preferredDayOfWeek = null;
+        TimeUnit timeUnit = reservation.getTimeUnit();
+        TimeType timeType = (timeUnit != null) ? timeUnit.getTimeType() : null;
 
-            if (preferredDateTime != null) {
-                preferredDateOnly = preferredDateTime.toLocalDate().toString();
+        String preferredDateOnly = null;
+        String preferredTimeRange = null;
+        String preferredDayOfWeek = null;
 
-                DayType dayType = convertToDayType(preferredDateTime.getDayOfWeek());
-                preferredDayOfWeek = dayType.getDescription();
+        if (preferredDateTime != null) {
+            preferredDateOnly = preferredDateTime.toLocalDate().toString();
 
-                if (timeType != null) {
-                    LocalDateTime endDateTime = preferredDateTime.plusMinutes(timeType.getMinutes());
-                    preferredTimeRange = preferredDateTime.toLocalTime().toString()
-                            + "~" + endDateTime.toLocalTime().toString();
-                }
+            DayType dayType = convertToDayType(preferredDateTime.getDayOfWeek());
+            preferredDayOfWeek = dayType.getDescription();
+
+            if (timeType != null) {
+                LocalDateTime endDateTime = preferredDateTime.plusMinutes(timeType.getMinutes());
+                preferredTimeRange = preferredDateTime.toLocalTime().toString()
+                        + "~" + endDateTime.toLocalTime().toString();
             }
+        }
 
-            return GuidePendingReservationResponseDTO.builder()
-                    .reservationId(reservation.getId())
-                    .member(MemberInfo.from(reservation.getMember()))
-                    .createdAt(createdAt)
-                    .preferredDateOnly(preferredDateOnly)
-                    .preferredDayOfWeek(preferredDayOfWeek)
-                    .preferredTimeRange(preferredTimeRange)
-                    .status(reservation.getStatus())
-                    .build();
-        });
+        return GuidePendingReservationResponseDTO.builder()
+                .reservationId(reservation.getId())
+                .member(MemberInfo.from(reservation.getMember()))
+                .createdAt(createdAt)
+                .preferredDateOnly(preferredDateOnly)
+                .preferredDayOfWeek(preferredDayOfWeek)
+                .preferredTimeRange(preferredTimeRange)
+                .status(reservation.getStatus())
+                .build();
     }
 
     /* 내(가이드 본인) 리뷰 목록 조회 */
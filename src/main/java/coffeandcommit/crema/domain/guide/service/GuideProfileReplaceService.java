@@ -0,0 +1,369 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.globalTag.dto.TopicDTO;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
+import coffeandcommit.crema.domain.guide.dto.request.GroupRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideChatTopicRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideExperienceRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideHashTagRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideScheduleRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.ScheduleRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.TimeSlotRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideChatTopicResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideExperienceResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideHashTagResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideScheduleResponseDTO;
+import coffeandcommit.crema.domain.guide.entity.ExperienceGroup;
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.GuideChatTopic;
+import coffeandcommit.crema.domain.guide.entity.GuideSchedule;
+import coffeandcommit.crema.domain.guide.entity.HashTag;
+import coffeandcommit.crema.domain.guide.entity.TimeSlot;
+import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.guide.repository.ExperienceGroupRepository;
+import coffeandcommit.crema.domain.guide.repository.GuideChatTopicRepository;
+import coffeandcommit.crema.domain.guide.repository.GuideRepository;
+import coffeandcommit.crema.domain.guide.repository.GuideScheduleRepository;
+import coffeandcommit.crema.domain.guide.repository.HashTagRepository;
+import coffeandcommit.crema.domain.guide.repository.TimeSlotRepository;
+import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 가이드 프로필 하위 목록(주제 / 해시태그 / 스케줄 / 경험) 일괄 교체.
+ * 현재 행을 한 번 읽어 요청과 메모리에서 비교한 뒤, 테이블마다 삭제 1회(deleteAllInBatch) + 배치 INSERT 1회로 반영하고
+ * 남은 행과 새 행으로 응답을 만든다 (반영 후 재조회 없음).
+ * 벌크 삭제한 엔티티는 영속성 컨텍스트에 남아 있으므로 관리 중인 컬렉션은 건드리지 않고 응답용 목록을 따로 만든다.
+ * 후기(review_experience)나 예약 후보(candidate)가 참조하는 경험 그룹 / 시간대는 지우기 전에 확인해 409 로 거절한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuideProfileReplaceService {
+
+    private static final int MAX_CHAT_TOPICS = 5;
+    private static final int MAX_HASHTAGS = 5;
+    private static final int MAX_EXPERIENCES = 6;
+
+    private final GuideRepository guideRepository;
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final GuideChatTopicRepository guideChatTopicRepository;
+    private final HashTagRepository hashTagRepository;
+    private final GuideScheduleRepository guideScheduleRepository;
+    private final TimeSlotRepository timeSlotRepository;
+    private final ExperienceGroupRepository experienceGroupRepository;
+    private final ReviewExperienceRepository reviewExperienceRepository;
+
+    /* 가이드 채팅 주제 일괄 교체 - 빠지는 주제에 딸린 경험 그룹도 함께 삭제 */
+    @Transactional
+    public List<GuideChatTopicResponseDTO> replaceChatTopics(String loginMemberId, GuideChatTopicRequestDTO requestDTO) {
+
+        Guide guide = findGuide(loginMemberId);
+
+        Set<TopicNameType> desired = new LinkedHashSet<>();
+        for (TopicDTO topicDTO : requestDTO.getTopics()) {
+            if (topicDTO == null || topicDTO.getTopicName() == null) {
+                throw new BaseException(ErrorStatus.INVALID_TOPIC);
+            }
+            desired.add(topicDTO.getTopicName());
+        }
+        if (desired.size() > MAX_CHAT_TOPICS) {
+            throw new BaseException(ErrorStatus.MAX_TOPIC_EXCEEDED);
+        }
+
+        Map<TopicNameType, GuideChatTopic> result = new EnumMap<>(TopicNameType.class);
+        List<GuideChatTopic> removed = new ArrayList<>();
+        List<ExperienceGroup> removedGroups = new ArrayList<>();
+        for (GuideChatTopic current : guideChatTopicRepository.findAllByGuideWithJoin(guide)) {
+            TopicNameType topicName = current.getChatTopic().getTopicName();
+            if (desired.contains(topicName) && !result.containsKey(topicName)) {
+                result.put(topicName, current);
+                continue;
+            }
+            removed.add(current);
+            if (current.getExperienceGroup() != null) {
+                removedGroups.add(current.getExperienceGroup());
+            }
+        }
+
+        List<GuideChatTopic> added = new ArrayList<>();
+        for (TopicNameType topicName : desired) {
+            if (!result.containsKey(topicName)) {
+                GuideChatTopic guideChatTopic = newGuideChatTopic(guide, topicName);
+                added.add(guideChatTopic);
+                result.put(topicName, guideChatTopic);
+            }
+        }
+
+        // 경험 그룹이 주제를 FK 로 참조하므로 먼저 삭제
+        checkExperienceGroupsDeletable(removedGroups);
+        deleteInBatch(experienceGroupRepository, removedGroups);
+        deleteInBatch(guideChatTopicRepository, removed);
+        guideChatTopicRepository.saveAll(added);
+
+        log.debug("[GuideProfileReplace] chat-topics guide={} kept={} added={} removed={}",
+                guide.getId(), desired.size() - added.size(), added.size(), removed.size());
+
+        return desired.stream()
+                .map(result::get)
+                .map(GuideChatTopicResponseDTO::from)
+                .toList();
+    }
+
+    /* 가이드 해시태그 일괄 교체 - 같은 이름은 하나로 취급 */
+    @Transactional
+    public List<GuideHashTagResponseDTO> replaceGuideHashTags(String loginMemberId, List<GuideHashTagRequestDTO> requestDTOs) {
+
+        Guide guide = findGuide(loginMemberId);
+
+        Set<String> desired = new LinkedHashSet<>();
+        for (GuideHashTagRequestDTO dto : requestDTOs) {
+            desired.add(dto.getHashTagName());
+        }
+        if (desired.size() > MAX_HASHTAGS) {
+            throw new BaseException(ErrorStatus.MAX_HASHTAG_EXCEEDED);
+        }
+
+        Map<String, HashTag> result = new LinkedHashMap<>();
+        List<HashTag> removed = new ArrayList<>();
+        for (HashTag current : hashTagRepository.findByGuide(guide)) {
+            if (desired.contains(current.getHashTagName()) && !result.containsKey(current.getHashTagName())) {
+                result.put(current.getHashTagName(), current);
+            } else {
+                removed.add(current);
+            }
+        }
+
+        List<HashTag> added = new ArrayList<>();
+        for (String hashTagName : desired) {
+            if (!result.containsKey(hashTagName)) {
+                HashTag hashTag = HashTag.builder()
+                        .guide(guide)
+                        .hashTagName(hashTagName)
+                        .build();
+                added.add(hashTag);
+                result.put(hashTagName, hashTag);
+            }
+        }
+
+        deleteInBatch(hashTagRepository, removed);
+        hashTagRepository.saveAll(added);
+
+        return desired.stream()
+                .map(result::get)
+                .map(hashTag -> GuideHashTagResponseDTO.from(hashTag, guide.getId()))
+                .toList();
+    }
+
+    /* 가이드 스케줄 일괄 교체 - 요일별 시간대 단위로 비교, 요청에 없는 요일은 스케줄째 삭제 */
+    @Transactional
+    public GuideScheduleResponseDTO replaceGuideSchedules(String loginMemberId, GuideScheduleRequestDTO requestDTO) {
+
+        Guide guide = findGuide(loginMemberId);
+        Map<DayType, List<TimeSlot>> desired = desiredTimeSlots(requestDTO);
+
+        // 요일당 스케줄 1개를 기준으로 삼고, 과거 등록으로 같은 요일에 여러 개 있으면 나머지는 기준 스케줄로 합친다
+        Map<DayType, GuideSchedule> kept = new EnumMap<>(DayType.class);
+        List<GuideSchedule> removedSchedules = new ArrayList<>();
+        List<TimeSlot> removedSlots = new ArrayList<>();
+        for (GuideSchedule current : guideScheduleRepository.findByGuide(guide)) {
+            if (desired.containsKey(current.getDayOfWeek()) && !kept.containsKey(current.getDayOfWeek())) {
+                kept.put(current.getDayOfWeek(), current);
+            } else {
+                removedSchedules.add(current);
+                removedSlots.addAll(current.getTimeSlots());
+            }
+        }
+
+        List<GuideSchedule> addedSchedules = new ArrayList<>();
+        List<TimeSlot> addedSlots = new ArrayList<>();
+        List<GuideSchedule> result = new ArrayList<>();
+        for (Map.Entry<DayType, List<TimeSlot>> entry : desired.entrySet()) {
+            GuideSchedule schedule = kept.get(entry.getKey());
+
+            if (schedule == null) {
+                GuideSchedule newSchedule = GuideSchedule.builder()
+                        .guide(guide)
+                        .dayOfWeek(entry.getKey())
+                        .build();
+                entry.getValue().forEach(newSchedule::addTimeSlot);
+                addedSchedules.add(newSchedule);
+                result.add(newSchedule);
+                continue;
+            }
+
+            List<TimeSlot> slots = new ArrayList<>();
+            List<TimeSlot> pending = new ArrayList<>(entry.getValue());
+            for (TimeSlot current : schedule.getTimeSlots()) {
+                TimeSlot match = findSameRange(pending, current);
+                if (match != null) {
+                    pending.remove(match);
+                    slots.add(current);
+                } else {
+                    removedSlots.add(current);
+                }
+            }
+            for (TimeSlot slot : pending) {
+                slot.setSchedule(schedule);
+                addedSlots.add(slot);
+                slots.add(slot);
+            }
+
+            // 응답용 사본 - 관리 중인 timeSlots 를 바꾸면 orphanRemoval 이 벌크 삭제한 행을 다시 지우려 한다
+            result.add(schedule.toBuilder().timeSlots(slots).build());
+        }
+
+        checkTimeSlotsDeletable(removedSlots);
+        deleteInBatch(timeSlotRepository, removedSlots);
+        deleteInBatch(guideScheduleRepository, removedSchedules);
+        guideScheduleRepository.saveAll(addedSchedules);
+        timeSlotRepository.saveAll(addedSlots);
+
+        return GuideScheduleResponseDTO.from(guide, result);
+    }
+
+    /* 가이드 경험 목록 일괄 교체 - 주제당 1개, 가이드에 없는 주제는 함께 등록 */
+    @Transactional
+    public GuideExperienceResponseDTO replaceGuideExperiences(String loginMemberId, GuideExperienceRequestDTO requestDTO) {
+
+        Guide guide = findGuide(loginMemberId);
+
+        // 같은 주제가 여러 번 오면 마지막 값으로 본다
+        Map<TopicNameType, GroupRequestDTO> desired = new LinkedHashMap<>();
+        for (GroupRequestDTO groupReq : requestDTO.getGroups()) {
+            if (groupReq.getTopicName() == null) {
+                throw new BaseException(ErrorStatus.INVALID_TOPIC);
+            }
+            desired.put(groupReq.getTopicName(), groupReq);
+        }
+        if (desired.size() > MAX_EXPERIENCES) {
+            throw new BaseException(ErrorStatus.EXPERIENCE_LIMIT_EXCEEDED);
+        }
+
+        // 주제 목록 조회 한 번으로 주제와 연결된 경험 그룹을 함께 가져온다
+        Map<TopicNameType, GuideChatTopic> topics = new EnumMap<>(TopicNameType.class);
+        List<ExperienceGroup> removed = new ArrayList<>();
+        for (GuideChatTopic current : guideChatTopicRepository.findAllByGuideWithJoin(guide)) {
+            TopicNameType topicName = current.getChatTopic().getTopicName();
+            topics.put(topicName, current);
+            if (current.getExperienceGroup() != null && !desired.containsKey(topicName)) {
+                removed.add(current.getExperienceGroup());
+            }
+        }
+
+        List<GuideChatTopic> addedTopics = new ArrayList<>();
+        List<ExperienceGroup> addedGroups = new ArrayList<>();
+        List<ExperienceGroup> result = new ArrayList<>();
+        for (Map.Entry<TopicNameType, GroupRequestDTO> entry : desired.entrySet()) {
+            GroupRequestDTO groupReq = entry.getValue();
+            GuideChatTopic guideChatTopic = topics.get(entry.getKey());
+            if (guideChatTopic == null) {
+                guideChatTopic = newGuideChatTopic(guide, entry.getKey());
+                addedTopics.add(guideChatTopic);
+            }
+
+            ExperienceGroup group = guideChatTopic.getExperienceGroup();
+            if (group != null) {
+                group.updateExperience(groupReq.getExperienceTitle(), groupReq.getExperienceContent());
+            } else {
+                group = ExperienceGroup.builder()
+                        .guide(guide)
+                        .guideChatTopic(guideChatTopic)
+                        .experienceTitle(groupReq.getExperienceTitle())
+                        .experienceContent(groupReq.getExperienceContent())
+                        .build();
+                addedGroups.add(group);
+            }
+            result.add(group);
+        }
+
+        checkExperienceGroupsDeletable(removed);
+        deleteInBatch(experienceGroupRepository, removed);
+        guideChatTopicRepository.saveAll(addedTopics);
+        experienceGroupRepository.saveAll(addedGroups);
+
+        return GuideExperienceResponseDTO.from(result);
+    }
+
+    private Guide findGuide(String loginMemberId) {
+        return guideRepository.findByMember_Id(loginMemberId)
+                .orElseThrow(() -> new BaseException(ErrorStatus.GUIDE_NOT_FOUND));
+    }
+
+    private GuideChatTopic newGuideChatTopic(Guide guide, TopicNameType topicName) {
+        return GuideChatTopic.builder()
+                .guide(guide)
+                .chatTopic(chatTopicRegistry.get(topicName))
+                .build();
+    }
+
+    /* 요청 스케줄을 요일별 시간대로 정리 (같은 요일이 여러 번 오면 합쳐서 겹침 검증) */
+    private Map<DayType, List<TimeSlot>> desiredTimeSlots(GuideScheduleRequestDTO requestDTO) {
+        Map<DayType, List<TimeSlot>> desired = new EnumMap<>(DayType.class);
+        for (ScheduleRequestDTO scheduleReq : requestDTO.getSchedules()) {
+            List<TimeSlot> slots = desired.computeIfAbsent(scheduleReq.getDayOfWeek(), day -> new ArrayList<>());
+            for (TimeSlotRequestDTO slotReq : scheduleReq.getTimeSlots()) {
+                LocalTime start = slotReq.getStartTime();
+                LocalTime end = slotReq.getEndTime();
+                if (!start.isBefore(end)) {
+                    throw new BaseException(ErrorStatus.INVALID_TIME_RANGE);
+                }
+                for (TimeSlot slot : slots) {
+                    boolean isOverlapping = !(end.isBefore(slot.getStartTimeOption()) || start.isAfter(slot.getEndTimeOption()));
+                    if (isOverlapping) {
+                        throw new BaseException(ErrorStatus.DUPLICATE_TIME_SLOT);
+                    }
+                }
+                slots.add(TimeSlot.builder()
+                        .startTimeOption(start)
+                        .endTimeOption(end)
+                        .build());
+            }
+        }
+        return desired;
+    }
+
+    private static TimeSlot findSameRange(List<TimeSlot> candidates, TimeSlot target) {
+        for (TimeSlot candidate : candidates) {
+            if (candidate.getStartTimeOption().equals(target.getStartTimeOption())
+                    && candidate.getEndTimeOption().equals(target.getEndTimeOption())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private void checkExperienceGroupsDeletable(List<ExperienceGroup> groups) {
+        if (!groups.isEmpty() && reviewExperienceRepository.existsByExperienceGroupIn(groups)) {
+            throw new BaseException(ErrorStatus.EXPERIENCE_IN_REVIEW);
+        }
+    }
+
+    private void checkTimeSlotsDeletable(List<TimeSlot> slots) {
+        if (!slots.isEmpty() && timeSlotRepository.existsCandidateByTimeSlotIn(slots)) {
+            throw new BaseException(ErrorStatus.TIME_SLOT_IN_RESERVATION);
+        }
+    }
+
+    private static <T> void deleteInBatch(JpaRepository<T, Long> repository, List<T> entities) {
+        if (!entities.isEmpty()) {
+            repository.deleteAllInBatch(entities);
+        }
+    }
+}
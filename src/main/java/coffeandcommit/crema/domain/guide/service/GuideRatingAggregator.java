@@ -0,0 +1,37 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.guide.repository.GuideRatingRepository;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리뷰 작성 이벤트를 받아 가이드 평점 집계에 증분으로 더한다.
+ * 리뷰와 같은 트랜잭션(커밋 직전)에서 반영하므로 리뷰가 롤백되면 집계도 함께 롤백된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class GuideRatingAggregator {
+
+    private final GuideRatingRepository guideRatingRepository;
+    private final GuideRatingService guideRatingService;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onReviewCreated(ReviewCreatedEvent event) {
+        // 첫 리뷰면 기존 리뷰(이번 리뷰 포함)로 행을 만든다 - 동시에 만들어졌으면 이번 리뷰만 더해진다
+        if (!guideRatingRepository.existsById(event.guideId())) {
+            guideRatingService.initialize(event);
+            return;
+        }
+
+        int updated = guideRatingRepository.increment(
+                event.guideId(), event.starReview(), event.thumbsUpCount(), LocalDateTime.now());
+        if (updated == 0) {
+            throw new IllegalStateException("guide_rating 행이 없습니다: guideId=" + event.guideId());
+        }
+    }
+}
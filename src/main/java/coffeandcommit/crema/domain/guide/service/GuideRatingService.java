@@ -0,0 +1,42 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.guide.repository.GuideRatingRepository;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
+import coffeandcommit.crema.domain.review.repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class GuideRatingService {
+
+    private final GuideRatingRepository guideRatingRepository;
+    private final ReviewRepository reviewRepository;
+    private final ReviewExperienceRepository reviewExperienceRepository;
+
+    /*
+     * 집계 행이 없는 가이드의 행을 리뷰 트랜잭션 안에서 만든다 (커넥션을 하나 더 잡지 않는다).
+     * 같은 트랜잭션이라 집계 쿼리가 이번 리뷰까지 포함해 센다.
+     * 그사이 다른 리뷰가 행을 먼저 만들었으면 upsert 가 seed 대신 이번 리뷰만 더한다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void initialize(ReviewCreatedEvent event) {
+        Long guideId = event.guideId();
+        long reviewCount = reviewRepository.countByGuideId(guideId);
+        BigDecimal starSum = reviewRepository.sumStarByGuideId(guideId);
+        long thumbsUpSum = reviewExperienceRepository.countThumbsUpByGuideId(guideId);
+
+        guideRatingRepository.seedOrIncrement(guideId, reviewCount, starSum, thumbsUpSum,
+                event.starReview(), event.thumbsUpCount(), LocalDateTime.now());
+
+        log.info("[GuideRating] 집계 행 생성: guideId={}, reviewCount={}", guideId, reviewCount);
+    }
+}
@@ -2,6 +2,7 @@ package coffeandcommit.crema.domain.guide.service;
 
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
 import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.guide.dto.response.*;
 import coffeandcommit.crema.domain.guide.entity.*;
 import coffeandcommit.crema.domain.guide.repository.*;
@@ -11,8 +12,12 @@ import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.domain.review.entity.Review;
 import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
 import coffeandcommit.crema.domain.review.repository.ReviewRepository;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.*;
@@ -43,6 +48,8 @@ public class GuideService {
     private final ReviewRepository reviewRepository;
     private final ReservationRepository reservationRepository;
     private final ReviewExperienceRepository reviewExperienceRepository;
+    private final ChatTopicRegistry chatTopicRegistry;
+    private final CremaMetrics metrics;
 
     private void validateAccess(Guide targetGuide, String loginMemberId) {
         if (!targetGuide.isOpened()) {
@@ -261,6 +268,7 @@ public class GuideService {
 
     /* 가이드 커피챗 통계 조회 (가이드 본인만) */
     @Transactional(readOnly = true)
+    @Workload(WorkloadType.REPORTING)
     public CoffeeChatStatsResponseDTO getCoffeeChatStats(Long guideId, String loginMemberId) {
 
         // 1. 조회 대상 가이드 조회
@@ -387,16 +395,43 @@ public class GuideService {
             String sort
     ) {
 
+        Timer.Sample sample = metrics.start();
+        String outcome = CremaMetrics.SUCCESS;
+        try {
+            return searchGuides(jobNames, chatTopicNames, keyword, pageable, sort);
+        } catch (RuntimeException e) {
+            outcome = CremaMetrics.FAILURE;
+            throw e;
+        } finally {
+            // 필터 사용 여부 조합(shape)별 지연 - 필터 값은 카디널리티 때문에 태그로 쓰지 않음
+            metrics.stopGuideSearch(sample, outcome,
+                    jobNames != null && !jobNames.isEmpty(),
+                    chatTopicNames != null && !chatTopicNames.isEmpty(),
+                    keyword != null && !keyword.isBlank(),
+                    "popular".equalsIgnoreCase(sort) ? "popular" : "latest");
+        }
+    }
+
+    private Page<GuideListResponseDTO> searchGuides(
+            List<JobNameType> jobNames,
+            List<TopicNameType> chatTopicNames,
+            String keyword,
+            Pageable pageable,
+            String sort
+    ) {
+
         boolean isPopular = "popular".equalsIgnoreCase(sort);
 
         // 빈 리스트 방어: JPA IN () 오류 방지용
         jobNames = (jobNames != null && jobNames.isEmpty()) ? null : jobNames;
-        chatTopicNames = (chatTopicNames != null && chatTopicNames.isEmpty()) ? null : chatTopicNames;
+        List<Long> chatTopicIds = (chatTopicNames == null || chatTopicNames.isEmpty())
+                ? null
+                : chatTopicRegistry.idsOf(chatTopicNames);
 
         // 1. popular는 전체 데이터 조회 (unpaged), latest는 DB에서 페이징
         Page<Guide> guides = isPopular
-                ? guideRepository.findBySearchConditions(jobNames, chatTopicNames, keyword, Pageable.unpaged())
-                : guideRepository.findBySearchConditions(jobNames, chatTopicNames, keyword, pageable);
+                ? guideRepository.findBySearchConditions(jobNames, chatTopicIds, keyword, Pageable.unpaged())
+                : guideRepository.findBySearchConditions(jobNames, chatTopicIds, keyword, pageable);
 
         // 2. DTO 변환
         List<GuideListResponseDTO> dtoList = guides.stream()
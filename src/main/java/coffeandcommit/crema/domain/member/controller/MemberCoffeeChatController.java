@@ -4,14 +4,18 @@ import coffeandcommit.crema.domain.member.dto.request.MemberChatTopicRequest;
 import coffeandcommit.crema.domain.member.dto.request.MemberJobFieldRequest;
 import coffeandcommit.crema.domain.member.dto.response.MemberChatTopicResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberJobFieldResponse;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatDashboardResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatResponse;
 import coffeandcommit.crema.domain.member.service.MemberCoffeeChatService;
 import coffeandcommit.crema.global.common.exception.response.ApiResponse;
 import coffeandcommit.crema.global.common.exception.code.SuccessStatus;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -135,15 +139,31 @@ public class MemberCoffeeChatController {
         return ApiResponse.onSuccess(SuccessStatus.OK, result);
     }
 
-    @Operation(summary = "전체 커피챗 조회", description = "멤버의 모든 상태 커피챗을 조회합니다.")
+    @Operation(summary = "전체 커피챗 조회", description = "멤버의 모든 상태 커피챗을 신청일 최신순으로 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
     @SecurityRequirement(name = "JWT")
     @GetMapping("/reservations/all")
-    public ApiResponse<List<MemberCoffeeChatResponse>> getAllReservations(
+    public ApiResponse<CursorPageResponse<MemberCoffeeChatResponse>> getAllReservations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
             @AuthenticationPrincipal UserDetails userDetails) {
 
         String memberId = userDetails.getUsername();
-        List<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations(memberId);
+        CursorPageResponse<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations(memberId, cursor, size);
 
         return ApiResponse.onSuccess(SuccessStatus.OK, result);
     }
-}
\ No newline at end of file
+
+    @Operation(summary = "커피챗 대시보드 조회", description = "멤버의 상태별 커피챗 개수와 상태별 예약 목록(페이지)을 한 번에 조회합니다.")
+    @SecurityRequirement(name = "JWT")
+    @GetMapping("/reservations/dashboard")
+    public ApiResponse<MemberCoffeeChatDashboardResponse> getDashboard(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "10") @Min(1) @Max(50) int size,
+            @AuthenticationPrincipal UserDetails userDetails) {
+
+        String memberId = userDetails.getUsername();
+        MemberCoffeeChatDashboardResponse result = memberCoffeeChatService.getDashboard(memberId, page, size);
+
+        return ApiResponse.onSuccess(SuccessStatus.OK, result);
+    }
+}
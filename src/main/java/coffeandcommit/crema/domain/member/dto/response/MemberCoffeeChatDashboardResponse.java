@@ -0,0 +1,36 @@
+package coffeandcommit.crema.domain.member.dto.response;
+
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "멤버 커피챗 대시보드 응답 (상태별 요약 + 상태별 예약 페이지)")
+public class MemberCoffeeChatDashboardResponse {
+
+    @Schema(description = "대기중(PENDING) 예약 수", example = "2")
+    private long pendingCount;
+
+    @Schema(description = "확정된(CONFIRMED) 예약 수", example = "1")
+    private long confirmedCount;
+
+    @Schema(description = "완료된(COMPLETED) 예약 수", example = "5")
+    private long completedCount;
+
+    @Schema(description = "취소된(CANCELLED) 예약 수", example = "0")
+    private long cancelledCount;
+
+    @Schema(description = "전체 예약 수", example = "8")
+    private long totalCount;
+
+    @Schema(description = "상태별 예약 페이지")
+    private Map<Status, MemberCoffeeChatSliceResponse> reservations;
+}
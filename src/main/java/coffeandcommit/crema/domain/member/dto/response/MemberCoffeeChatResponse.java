@@ -1,6 +1,7 @@
 package coffeandcommit.crema.domain.member.dto.response;
 
 import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.review.dto.response.GuideInfo;
@@ -99,6 +100,25 @@ public class MemberCoffeeChatResponse {
                 .build();
     }
 
+    /**
+     * 목록 프로젝션 기반 변환 (연관 엔티티 로딩 없음)
+     */
+    public static MemberCoffeeChatResponse from(ReservationSummaryDTO summary) {
+        return MemberCoffeeChatResponse.builder()
+                .reservationId(summary.getReservationId())
+                .guide(GuideInfo.builder()
+                        .nickname(summary.getCounterpartNickname())
+                        .profileImageUrl(summary.getCounterpartProfileImageUrl())
+                        .build())
+                .createdAt(summary.getCreatedAt() != null ? summary.getCreatedAt().toString() : null)
+                .preferredDateOnly(summary.getPreferredDateOnly())
+                .preferredDayOfWeek(summary.getPreferredDayOfWeek())
+                .preferredTimeRange(summary.getPreferredTimeRange())
+                .status(summary.getStatus())
+                .timeType(summary.getTimeType() != null ? summary.getTimeType().name() : null)
+                .build();
+    }
+
     /**
      * DayOfWeek를 DayType enum으로 변환 (가이드 쪽 로직과 동일)
      */
@@ -0,0 +1,42 @@
+package coffeandcommit.crema.domain.member.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "상태별 커피챗 예약 페이지")
+public class MemberCoffeeChatSliceResponse {
+
+    @Schema(description = "예약 목록 (신청일 최신순)")
+    private List<MemberCoffeeChatResponse> content;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    private int page;
+
+    @Schema(description = "페이지 크기", example = "10")
+    private int size;
+
+    @Schema(description = "해당 상태의 전체 예약 수", example = "12")
+    private long totalElements;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    public static MemberCoffeeChatSliceResponse of(List<MemberCoffeeChatResponse> content, int page, int size, long totalElements) {
+        return MemberCoffeeChatSliceResponse.builder()
+                .content(content)
+                .page(page)
+                .size(size)
+                .totalElements(totalElements)
+                .hasNext((long) (page + 1) * size < totalElements)
+                .build();
+    }
+}
@@ -43,7 +43,9 @@ public class Member extends BaseEntity {
     @Column(nullable = true, length = 320) // 이메일 표준 최대 길이
     private String email;
 
-    @Column(nullable = false)
+    // 잔액은 포인트 원장의 원자적 UPDATE(MemberRepository.increasePoint / decreasePointIfSufficient)로만 바꾼다.
+    // 엔티티 저장 UPDATE 에서 빼 두어야, 오래된 Member 를 저장해도 그사이 적립된 잔액을 덮어쓰지 않는다.
+    @Column(nullable = false, updatable = false)
     @Builder.Default
     private Integer point = 0;
 
@@ -89,33 +91,6 @@ public class Member extends BaseEntity {
         }
     }
 
-    // 포인트 추가
-    public void addPoint (int point) {
-        if (point < 0) {
-            throw new IllegalArgumentException("추가할 포인트는 0 이상이어야 합니다.");
-        }
-        this.point += point;
-    }
-
-    // 포인트 차감
-    public void decreasePoint (int point) {
-        if (point < 0) {
-            throw new IllegalArgumentException("차감할 포인트는 0 이상이어야 합니다.");
-        }
-        if (this.point < point) {
-            throw new IllegalArgumentException("포인트가 부족합니다. 현재 포인트: " + this.point);
-        }
-        this.point -= point;
-    }
-
-    // 포인트 설정 (초기화 등에 사용)
-    public void setPoint (int point) {
-        if (point < 0) {
-            throw new IllegalArgumentException("포인트는 0 이상이어야 합니다.");
-        }
-        this.point = point;
-    }
-
     // 소프트 삭제 메서드
     public void softDelete() {
         this.isDeleted = true;
@@ -1,18 +1,15 @@
 package coffeandcommit.crema.domain.member.repository;
 
 import coffeandcommit.crema.domain.member.entity.Member;
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
 
-public interface MemberRepository extends JpaRepository<Member, String> {
+public interface MemberRepository extends JpaRepository<Member, String>, MemberRepositoryCustom {
 
     @Query("SELECT m FROM Member m WHERE m.id = :id AND m.isDeleted = false")
     Optional<Member> findByIdAndIsDeletedFalse(@Param("id") String id);
@@ -30,8 +27,16 @@ public interface MemberRepository extends JpaRepository<Member, String> {
     @Query("SELECT m FROM Member m WHERE m.provider = 'test'")
     List<Member> findTestAccounts();
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
-    @Query("SELECT m FROM Member m WHERE m.id = :id")
-    Optional<Member> findByIdForUpdate(@Param("id") String id);
+    // 잔액이 충분할 때만 원자적으로 차감 (단일 행 UPDATE, 반환값 0이면 잔액 부족)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.point = m.point - :amount WHERE m.id = :id AND m.point >= :amount")
+    int decreasePointIfSufficient(@Param("id") String id, @Param("amount") int amount);
+
+    // 원자적 적립 (단일 행 UPDATE)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Member m SET m.point = m.point + :amount WHERE m.id = :id")
+    int increasePoint(@Param("id") String id, @Param("amount") int amount);
+
+    @Query("SELECT m.point FROM Member m WHERE m.id = :id")
+    Optional<Integer> findPointById(@Param("id") String id);
 }
\ No newline at end of file
@@ -0,0 +1,15 @@
+package coffeandcommit.crema.domain.member.repository;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MemberRepositoryCustom {
+
+    /**
+     * 신규 회원 INSERT (persist).
+     * ID 를 직접 지정하는 엔티티라 save() 는 merge 로 동작해, ID 가 겹치면 기존 회원 행을 덮어쓴다.
+     * 여기서는 항상 INSERT 하므로 ID 가 겹치면 DataIntegrityViolationException 으로 드러난다.
+     */
+    @Transactional
+    Member insert(Member member);
+}
@@ -0,0 +1,20 @@
+package coffeandcommit.crema.domain.member.repository;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import jakarta.persistence.EntityManager;
+
+public class MemberRepositoryImpl implements MemberRepositoryCustom {
+
+    private final EntityManager em;
+
+    public MemberRepositoryImpl(EntityManager em) {
+        this.em = em;
+    }
+
+    @Override
+    public Member insert(Member member) {
+        em.persist(member);
+        em.flush();
+        return member;
+    }
+}
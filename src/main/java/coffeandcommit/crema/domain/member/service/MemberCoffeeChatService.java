@@ -3,28 +3,36 @@ package coffeandcommit.crema.domain.member.service;
 import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
 import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
-import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.member.dto.request.MemberChatTopicRequest;
 import coffeandcommit.crema.domain.member.dto.request.MemberJobFieldRequest;
 import coffeandcommit.crema.domain.member.dto.response.MemberChatTopicResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberJobFieldResponse;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatDashboardResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatResponse;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatSliceResponse;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.domain.member.entity.MemberChatTopic;
 import coffeandcommit.crema.domain.member.entity.MemberJobField;
 import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -34,7 +42,7 @@ import java.util.stream.Collectors;
 public class MemberCoffeeChatService {
 
     private final MemberRepository memberRepository;
-    private final ChatTopicRepository chatTopicRepository;
+    private final ChatTopicRegistry chatTopicRegistry;
     private final ReservationRepository reservationRepository;
 
     // === 관심 주제 관리 ===
@@ -55,7 +63,7 @@ public class MemberCoffeeChatService {
 
         List<MemberChatTopic> newChatTopics = new ArrayList<>();
         for (TopicNameType topicName : topicNames) {
-            ChatTopic chatTopic = findOrCreateChatTopic(topicName);
+            ChatTopic chatTopic = chatTopicRegistry.get(topicName);
 
             MemberChatTopic memberChatTopic = MemberChatTopic.builder()
                     .member(member)
@@ -149,14 +157,58 @@ public class MemberCoffeeChatService {
         return getReservationsByStatusWithFetchJoin(memberId, Status.CANCELLED);
     }
 
-    public List<MemberCoffeeChatResponse> getAllReservations(String memberId) {
+    /**
+     * 전체 커피챗 조회 (키셋 페이지, 신청일 최신순)
+     */
+    public CursorPageResponse<MemberCoffeeChatResponse> getAllReservations(String memberId, String cursor, int size) {
         findActiveMemberById(memberId); // 멤버 존재 확인
 
-        List<Reservation> reservations = reservationRepository.findByMemberIdWithFetchJoin(memberId);
+        List<ReservationSummaryDTO> rows = reservationRepository.findSummariesByMember(
+                memberId, null, ReservationCursor.decode(cursor), size + 1);
 
-        return reservations.stream()
-                .map(MemberCoffeeChatResponse::from)
-                .collect(Collectors.toList());
+        return CursorPageResponse.of(rows, size, MemberCoffeeChatResponse::from, row -> row.toCursor().encode());
+    }
+
+    /**
+     * 커피챗 대시보드 조회
+     * 상태별 개수는 GROUP BY 한 번, 상태별 페이지는 ID 조회 한 번 + fetch join 조회 한 번으로 가져온다.
+     */
+    public MemberCoffeeChatDashboardResponse getDashboard(String memberId, int page, int size) {
+        findActiveMemberById(memberId); // 멤버 존재 확인
+
+        Map<Status, Long> counts = reservationRepository.countByMemberGroupByStatus(memberId);
+        long totalCount = counts.values().stream().mapToLong(Long::longValue).sum();
+
+        // 상태별 페이지 ID 조회 후 연관 엔티티와 함께 한 번에 로딩
+        List<Reservation> reservations = List.of();
+        if (totalCount > 0) {
+            List<Long> ids = reservationRepository.findSliceIdsPerStatusByMember(memberId, page * size, size);
+            if (!ids.isEmpty()) {
+                reservations = reservationRepository.findAllByIdInWithFetchJoin(ids);
+            }
+        }
+
+        Map<Status, List<MemberCoffeeChatResponse>> grouped = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            grouped.put(status, new ArrayList<>());
+        }
+        reservations.stream()
+                .sorted(Comparator.comparing(Reservation::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()))
+                        .thenComparing(Reservation::getId, Comparator.reverseOrder()))
+                .forEach(reservation -> grouped.get(reservation.getStatus()).add(MemberCoffeeChatResponse.from(reservation)));
+
+        Map<Status, MemberCoffeeChatSliceResponse> slices = new EnumMap<>(Status.class);
+        grouped.forEach((status, content) ->
+                slices.put(status, MemberCoffeeChatSliceResponse.of(content, page, size, counts.getOrDefault(status, 0L))));
+
+        return MemberCoffeeChatDashboardResponse.builder()
+                .pendingCount(counts.getOrDefault(Status.PENDING, 0L))
+                .confirmedCount(counts.getOrDefault(Status.CONFIRMED, 0L))
+                .completedCount(counts.getOrDefault(Status.COMPLETED, 0L))
+                .cancelledCount(counts.getOrDefault(Status.CANCELLED, 0L))
+                .totalCount(totalCount)
+                .reservations(slices)
+                .build();
     }
 
     // === Private Helper Methods ===
@@ -166,16 +218,6 @@ public class MemberCoffeeChatService {
                 .orElseThrow(() -> new BaseException(ErrorStatus.MEMBER_NOT_FOUND));
     }
 
-    private ChatTopic findOrCreateChatTopic(TopicNameType topicName) {
-        return chatTopicRepository.findByTopicName(topicName)
-                .orElseGet(() -> {
-                    ChatTopic newChatTopic = ChatTopic.builder()
-                            .topicName(topicName)
-                            .build();
-                    return chatTopicRepository.save(newChatTopic);
-                });
-    }
-
     /**
      * 상태별 예약 조회 (필요한 연관 엔티티들을 fetch join으로 한번에 가져오기)
      */
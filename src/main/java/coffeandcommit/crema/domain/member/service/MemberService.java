@@ -13,6 +13,7 @@ import coffeandcommit.crema.domain.member.repository.MemberRepository;
 import coffeandcommit.crema.global.auth.service.CustomUserDetails;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.id.MemberIdGenerator;
 import coffeandcommit.crema.global.file.FileService;
 import coffeandcommit.crema.global.storage.StorageService;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
@@ -22,6 +23,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -29,8 +31,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.Period;
 import java.time.format.DateTimeFormatter;
-import java.util.UUID;
-import java.util.function.Supplier;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -45,59 +46,45 @@ public class MemberService {
     private final FileValidator fileValidator;
     private final StorageService storageService;
     private final FileService fileService;
+    private final MemberIdGenerator memberIdGenerator;
 
 
     /**
-     * 8글자 UUID 생성 (중복 체크 포함)
+     * 8글자 회원 ID 생성 (노드별 시퀀스 기반이라 중복 체크 조회 없음)
      */
     public String generateId() {
-        String id;
-        int attempts = 0;
-        final int maxAttempts = 10;
-
-        do {
-            id = UUID.randomUUID().toString().replace("-", "").substring(0, 8).toLowerCase();
-            attempts++;
-
-            if (attempts >= maxAttempts) {
-                log.error("Failed to generate unique member ID after {} attempts", maxAttempts);
-                throw new BaseException(ErrorStatus.INTERNAL_SERVER_ERROR);
-            }
-        } while (memberRepository.existsById(id));
-
-        log.debug("Generated unique member ID: {} (attempts: {})", id, attempts);
-        return id;
+        return memberIdGenerator.nextId();
     }
 
     /**
-     * Member 저장 시 ID 충돌을 자동으로 재시도하는 안전한 저장 메서드
+     * 신규 회원 저장 - 새 ID 로 회원을 만들어 INSERT 한다. (merge 가 아니라 기존 회원 행을 덮어쓰지 않는다)
+     * ID 는 노드별 시퀀스라 겹치지 않는 것이 정상이지만, 자동 닉네임(이름_ID)이 사용자가 고른 닉네임과 겹치는 등
+     * 제약 위반이 나면 새 ID(와 그 ID 로 만든 닉네임)로 한 번만 다시 시도한다.
+     * 위반 후에는 트랜잭션을 이어 쓸 수 없으므로 시도마다 별도 트랜잭션으로 저장한다.
+     * @param memberForId 발급한 ID 로 저장할 회원을 만드는 함수
      */
-    @Transactional
-    public Member saveWithRetry(Supplier<Member> memberSupplier) {
-        int attempts = 0;
-        final int maxAttempts = 10;
-
-        while (attempts < maxAttempts) {
-            attempts++;
-
-            try {
-                Member member = memberSupplier.get();
-                Member savedMember = memberRepository.saveAndFlush(member);
-
-                log.debug("Member saved successfully: {} (attempts: {})", member.getId(), attempts);
-                return savedMember;
-
-            } catch (DataIntegrityViolationException e) {
-                log.debug("ID collision detected during save (attempt {}/{})", attempts, maxAttempts);
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Member saveNewMember(Function<String, Member> memberForId) {
+        try {
+            return insertNewMember(memberForId.apply(generateId()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Member insert hit a constraint violation, retrying with a new id: {}",
+                    e.getMostSpecificCause().getMessage());
+        }
 
-                if (attempts >= maxAttempts) {
-                    log.error("Failed to save member after {} attempts due to ID collisions", maxAttempts);
-                    throw new BaseException(ErrorStatus.INTERNAL_SERVER_ERROR);
-                }
-            }
+        try {
+            return insertNewMember(memberForId.apply(generateId()));
+        } catch (DataIntegrityViolationException e) {
+            log.warn("Failed to save member due to constraint violation after retry: {}",
+                    e.getMostSpecificCause().getMessage());
+            throw new BaseException(ErrorStatus.INTERNAL_SERVER_ERROR);
         }
+    }
 
-        throw new BaseException(ErrorStatus.INTERNAL_SERVER_ERROR);
+    private Member insertNewMember(Member member) {
+        Member savedMember = memberRepository.insert(member);
+        log.debug("Member saved successfully: {}", savedMember.getId());
+        return savedMember;
     }
 
     /**
@@ -305,28 +292,6 @@ public class MemberService {
         return member.getPoint();
     }
 
-    /**
-     * 회원 포인트 추가
-     */
-    @Transactional
-    public void addPoints(String id, int point) {
-        Member member = findActiveMemberById(id);
-        member.addPoint(point);
-        memberRepository.save(member);
-        log.info("Points added to member {}: +{}", id, point);
-    }
-
-    /**
-     * 회원 포인트 차감
-     */
-    @Transactional
-    public void decreasePoints(String id, int point) {
-        Member member = findActiveMemberById(id);
-        member.decreasePoint(point);
-        memberRepository.save(member);
-        log.info("Points decreased from member {}: -{}", id, point);
-    }
-
     /**
      * JWT 인증을 위한 UserDetails 생성
      */
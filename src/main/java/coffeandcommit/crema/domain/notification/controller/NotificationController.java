@@ -0,0 +1,71 @@
+package coffeandcommit.crema.domain.notification.controller;
+
+import coffeandcommit.crema.domain.notification.dto.response.NotificationResponseDTO;
+import coffeandcommit.crema.domain.notification.service.NotificationService;
+import coffeandcommit.crema.global.auth.service.CustomUserDetails;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(name = "Notification", description = "알림 API")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Operation(summary = "내 알림 조회", description = "예약 신청/승인/거절/완료, 후기 등록 알림을 최신순으로 조회합니다.")
+    @GetMapping("/me")
+    public ResponseEntity<Response<Page<NotificationResponseDTO>>> getMyNotifications(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        Page<NotificationResponseDTO> result = notificationService.getMyNotifications(loginMemberId, PageRequest.of(page, size));
+
+        Response<Page<NotificationResponseDTO>> response = Response.<Page<NotificationResponseDTO>>builder()
+                .message("내 알림 조회 성공")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "알림 스트림 구독 (SSE)",
+            description = "예약 신청/승인/거절/완료 시 바뀐 예약 한 건만 델타(CREATED / DECIDED / COMPLETED 이벤트)로 받습니다. "
+                    + "연결(재연결) 직후 connected 이벤트를 받으면 목록을 한 번 다시 조회하고, 이후에는 델타만 반영하면 됩니다.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@AuthenticationPrincipal CustomUserDetails userDetails, HttpServletResponse response) {
+
+        if (userDetails == null) {
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        // 리버스 프록시(nginx)가 이벤트를 모아 두지 않고 바로 흘려보내도록
+        response.setHeader("X-Accel-Buffering", "no");
+
+        return notificationService.subscribe(userDetails.getMemberId());
+    }
+}
@@ -0,0 +1,32 @@
+package coffeandcommit.crema.domain.notification.dto.response;
+
+import coffeandcommit.crema.domain.notification.entity.Notification;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class NotificationResponseDTO {
+
+    private Long notificationId;
+    private Long reservationId; // 관련 예약이 없으면 null
+    private String message;
+    private Boolean isRead;
+    private LocalDateTime createdAt;
+
+    public static NotificationResponseDTO from(Notification notification) {
+        return NotificationResponseDTO.builder()
+                .notificationId(notification.getId())
+                .reservationId(notification.getReservation() != null ? notification.getReservation().getId() : null)
+                .message(notification.getMessage())
+                .isRead(notification.isRead())
+                .createdAt(notification.getCreatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,44 @@
+package coffeandcommit.crema.domain.notification.entity;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 회원 알림 - 예약/리뷰 이벤트를 아웃박스에서 받아 기록한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(
+    name = "notification",
+    indexes = {
+        @Index(name = "idx_notification_member", columnList = "member_id, id")
+    }
+)
+public class Notification extends BaseEntity {
+
+    @Id
+    @TimeSortedId
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false)
+    private Member member; // FK, 알림 받는 회원
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id")
+    private Reservation reservation; // FK, 관련 예약
+
+    @Column(nullable = false, length = 255)
+    private String message;
+
+    @Column(name = "is_read", nullable = false)
+    @Builder.Default
+    private boolean isRead = false;
+}
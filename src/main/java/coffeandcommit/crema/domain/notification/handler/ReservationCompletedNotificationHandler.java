@@ -0,0 +1,25 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.service.NotificationService;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 커피챗 완료 → 멘티에게 후기 작성 안내
+@Component
+@RequiredArgsConstructor
+public class ReservationCompletedNotificationHandler implements OutboxEventHandler<ReservationCompletedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ReservationCompletedEvent> payloadType() {
+        return ReservationCompletedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationCompletedEvent event) {
+        notificationService.notify(event.menteeId(), event.reservationId(), "커피챗이 완료되었습니다. 후기를 남겨주세요.");
+    }
+}
@@ -0,0 +1,28 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamPublisher;
+import coffeandcommit.crema.domain.notification.stream.ReservationChange;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 커피챗 완료 → 가이드/멘티 SSE 스트림에 델타 전송
+@Component
+@RequiredArgsConstructor
+public class ReservationCompletedStreamHandler implements OutboxEventHandler<ReservationCompletedEvent> {
+
+    private final NotificationStreamPublisher notificationStreamPublisher;
+
+    @Override
+    public Class<ReservationCompletedEvent> payloadType() {
+        return ReservationCompletedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationCompletedEvent event) {
+        notificationStreamPublisher.publishReservation(ReservationChange.COMPLETED, event.reservationId(), event.guideId(),
+                Status.COMPLETED, event.guideMemberId(), event.menteeId());
+    }
+}
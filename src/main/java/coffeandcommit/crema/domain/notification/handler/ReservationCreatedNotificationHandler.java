@@ -0,0 +1,25 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.service.NotificationService;
+import coffeandcommit.crema.domain.reservation.event.ReservationCreatedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 예약 신청 → 가이드에게 알림
+@Component
+@RequiredArgsConstructor
+public class ReservationCreatedNotificationHandler implements OutboxEventHandler<ReservationCreatedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ReservationCreatedEvent> payloadType() {
+        return ReservationCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationCreatedEvent event) {
+        notificationService.notify(event.guideMemberId(), event.reservationId(), "새로운 커피챗 예약 신청이 도착했습니다.");
+    }
+}
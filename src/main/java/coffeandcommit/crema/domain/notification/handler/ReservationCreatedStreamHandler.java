@@ -0,0 +1,28 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamPublisher;
+import coffeandcommit.crema.domain.notification.stream.ReservationChange;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.event.ReservationCreatedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 예약 신청 → 가이드/멘티 SSE 스트림에 델타 전송
+@Component
+@RequiredArgsConstructor
+public class ReservationCreatedStreamHandler implements OutboxEventHandler<ReservationCreatedEvent> {
+
+    private final NotificationStreamPublisher notificationStreamPublisher;
+
+    @Override
+    public Class<ReservationCreatedEvent> payloadType() {
+        return ReservationCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationCreatedEvent event) {
+        notificationStreamPublisher.publishReservation(ReservationChange.CREATED, event.reservationId(), event.guideId(),
+                Status.PENDING, event.guideMemberId(), event.menteeId());
+    }
+}
@@ -0,0 +1,29 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.service.NotificationService;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.event.ReservationDecidedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 예약 승인/거절 → 멘티에게 알림
+@Component
+@RequiredArgsConstructor
+public class ReservationDecidedNotificationHandler implements OutboxEventHandler<ReservationDecidedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ReservationDecidedEvent> payloadType() {
+        return ReservationDecidedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationDecidedEvent event) {
+        String message = event.status() == Status.CONFIRMED
+                ? "예약이 확정되었습니다."
+                : "예약이 거절되었습니다.";
+        notificationService.notify(event.menteeId(), event.reservationId(), message);
+    }
+}
@@ -0,0 +1,27 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamPublisher;
+import coffeandcommit.crema.domain.notification.stream.ReservationChange;
+import coffeandcommit.crema.domain.reservation.event.ReservationDecidedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 예약 승인/거절 → 가이드/멘티 SSE 스트림에 델타 전송
+@Component
+@RequiredArgsConstructor
+public class ReservationDecidedStreamHandler implements OutboxEventHandler<ReservationDecidedEvent> {
+
+    private final NotificationStreamPublisher notificationStreamPublisher;
+
+    @Override
+    public Class<ReservationDecidedEvent> payloadType() {
+        return ReservationDecidedEvent.class;
+    }
+
+    @Override
+    public void handle(ReservationDecidedEvent event) {
+        notificationStreamPublisher.publishReservation(ReservationChange.DECIDED, event.reservationId(), event.guideId(),
+                event.status(), event.guideMemberId(), event.menteeId());
+    }
+}
@@ -0,0 +1,25 @@
+package coffeandcommit.crema.domain.notification.handler;
+
+import coffeandcommit.crema.domain.notification.service.NotificationService;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import coffeandcommit.crema.global.common.outbox.OutboxEventHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+// 후기 등록 → 가이드에게 알림
+@Component
+@RequiredArgsConstructor
+public class ReviewCreatedNotificationHandler implements OutboxEventHandler<ReviewCreatedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ReviewCreatedEvent> payloadType() {
+        return ReviewCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(ReviewCreatedEvent event) {
+        notificationService.notify(event.guideMemberId(), event.reservationId(), "새로운 후기가 등록되었습니다.");
+    }
+}
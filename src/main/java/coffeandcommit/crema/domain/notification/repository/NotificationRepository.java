@@ -0,0 +1,13 @@
+package coffeandcommit.crema.domain.notification.repository;
+
+import coffeandcommit.crema.domain.notification.entity.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    Page<Notification> findByMember_IdOrderByIdDesc(String memberId, Pageable pageable);
+}
@@ -0,0 +1,48 @@
+package coffeandcommit.crema.domain.notification.service;
+
+import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.notification.dto.response.NotificationResponseDTO;
+import coffeandcommit.crema.domain.notification.entity.Notification;
+import coffeandcommit.crema.domain.notification.repository.NotificationRepository;
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamRegistry;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationService {
+
+    private final NotificationRepository notificationRepository;
+    private final MemberRepository memberRepository;
+    private final ReservationRepository reservationRepository;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+
+    /* 알림 기록 (아웃박스 소비자가 호출 - 회원/예약은 조회 없이 참조만 건다) */
+    @Transactional
+    public void notify(String memberId, Long reservationId, String message) {
+        notificationRepository.save(Notification.builder()
+                .member(memberRepository.getReferenceById(memberId))
+                .reservation(reservationRepository.getReferenceById(reservationId))
+                .message(message)
+                .build());
+    }
+
+    /* 내 알림 조회 (최신순) */
+    @Transactional(readOnly = true)
+    public Page<NotificationResponseDTO> getMyNotifications(String loginMemberId, Pageable pageable) {
+        return notificationRepository.findByMember_IdOrderByIdDesc(loginMemberId, pageable)
+                .map(NotificationResponseDTO::from);
+    }
+
+    /* 예약 변경 델타 스트림 구독 (SSE) */
+    public SseEmitter subscribe(String loginMemberId) {
+        return notificationStreamRegistry.connect(loginMemberId);
+    }
+}
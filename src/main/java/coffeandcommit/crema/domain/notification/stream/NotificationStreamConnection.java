@@ -0,0 +1,96 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 1개.
+ * 전송은 고정 크기 대기열에 넣고 executor 에서 순서대로 쓰므로, 발행 쪽(Redis 리스너 스레드)은 소켓 쓰기를 기다리지 않는다.
+ * 대기열이 가득 차면(클라이언트가 못 따라오면) offer 가 false 를 반환하고 호출부가 연결을 닫는다.
+ */
+final class NotificationStreamConnection {
+
+    private final String memberId;
+    private final SseEmitter emitter;
+    private final BlockingQueue<Set<ResponseBodyEmitter.DataWithMediaType>> buffer;
+    private final Executor executor;
+    private final Consumer<NotificationStreamConnection> onClose;
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    NotificationStreamConnection(String memberId, SseEmitter emitter, int bufferSize, Executor executor,
+                                 Consumer<NotificationStreamConnection> onClose) {
+        this.memberId = memberId;
+        this.emitter = emitter;
+        this.buffer = new ArrayBlockingQueue<>(bufferSize);
+        this.executor = executor;
+        this.onClose = onClose;
+    }
+
+    String memberId() {
+        return memberId;
+    }
+
+    SseEmitter emitter() {
+        return emitter;
+    }
+
+    boolean isClosed() {
+        return closed.get();
+    }
+
+    /* 전송 예약 - 닫혔거나 대기열이 가득 차면 false */
+    boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (closed.get() || !buffer.offer(event)) {
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    void close() {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        buffer.clear();
+        onClose.accept(this);
+        try {
+            emitter.complete();
+        } catch (Exception ignored) {
+            // 이미 끊긴 응답
+        }
+    }
+
+    private void scheduleDrain() {
+        if (draining.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            Set<ResponseBodyEmitter.DataWithMediaType> event;
+            while (!closed.get() && (event = buffer.poll()) != null) {
+                emitter.send(event);
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 끊겼거나 이미 완료된 연결
+            close();
+        } finally {
+            draining.set(false);
+        }
+
+        // 마지막 poll 이후 draining 을 풀기 전에 들어온 이벤트
+        if (!closed.get() && !buffer.isEmpty()) {
+            scheduleDrain();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+/**
+ * 노드 간 Redis pub/sub 로 주고받는 메시지 - 받는 회원과 보낼 델타
+ */
+public record NotificationStreamMessage(String memberId, ReservationDelta delta) {
+}
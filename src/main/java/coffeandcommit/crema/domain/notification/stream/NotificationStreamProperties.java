@@ -0,0 +1,29 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 알림 SSE 스트림 설정 (crema.notification.stream.*).
+ * 하트비트 주기는 @Scheduled 에서 crema.notification.stream.heartbeat-ms 로 읽는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.notification.stream")
+public class NotificationStreamProperties {
+
+    /* 노드 간 델타를 주고받는 Redis 채널 */
+    private String channel = "crema:notification:stream";
+
+    /* 연결 유지 시간 - 지나면 서버가 닫고 클라이언트(EventSource)가 다시 연결한다 */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /* 연결별 전송 대기열 크기 - 가득 차면(느린 클라이언트) 연결을 닫는다 */
+    private int sendBufferSize = 32;
+
+    /* 회원당 동시 연결 수 (탭/기기) - 넘으면 가장 오래된 연결을 닫는다 */
+    private int maxConnectionsPerMember = 5;
+}
@@ -0,0 +1,41 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 예약 변경 델타를 Redis 채널로 발행한다. 모든 노드의 NotificationStreamSubscriber 가 받아
+ * 자기 노드에 연결된 회원에게만 전달하므로, 회원이 어느 노드에 붙어 있는지 알 필요가 없다.
+ * 발행이 실패하면 예외를 그대로 올려 아웃박스가 재전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final NotificationStreamProperties properties;
+
+    /* 예약 당사자(가이드 / 멘티) 각각에게 자기 목록 기준의 델타 발행 */
+    public void publishReservation(ReservationChange change, Long reservationId, Long guideId, Status status,
+                                   String guideMemberId, String menteeId) {
+        publish(guideMemberId, new ReservationDelta(change, ReservationDelta.Role.GUIDE, reservationId, guideId, status));
+        publish(menteeId, new ReservationDelta(change, ReservationDelta.Role.MENTEE, reservationId, guideId, status));
+    }
+
+    private void publish(String memberId, ReservationDelta delta) {
+        redisTemplate.convertAndSend(properties.getChannel(), serialize(new NotificationStreamMessage(memberId, delta)));
+    }
+
+    private String serialize(NotificationStreamMessage message) {
+        try {
+            return objectMapper.writeValueAsString(message);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 스트림 메시지 직렬화 실패: reservationId=" + message.delta().reservationId(), e);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 이 노드에 붙은 회원별 SSE 연결.
+ * 다른 노드에서 발생한 변경도 NotificationStreamSubscriber 가 Redis 채널에서 받아 send 로 넘겨준다.
+ * - 연결별 전송 대기열이 가득 차면 연결을 닫는다. (클라이언트는 재연결 후 목록을 한 번 다시 조회)
+ * - 주기적인 하트비트로 프록시 유휴 타임아웃을 막고, 끊긴 연결을 정리한다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry {
+
+    static final String EVENT_CONNECTED = "connected";
+    static final String OUTCOME_CONNECTED = "connected";
+    static final String OUTCOME_EVICTED = "evicted";
+    static final String OUTCOME_OVERFLOW = "overflow";
+
+    private final NotificationStreamProperties properties;
+    private final ObjectMapper objectMapper;
+    private final CremaMetrics metrics;
+    private final Executor executor;
+    private final Map<String, Deque<NotificationStreamConnection>> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+
+    @Autowired
+    public NotificationStreamRegistry(NotificationStreamProperties properties, ObjectMapper objectMapper,
+                                      CremaMetrics metrics) {
+        this(properties, objectMapper, metrics, Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    NotificationStreamRegistry(NotificationStreamProperties properties, ObjectMapper objectMapper,
+                               CremaMetrics metrics, Executor executor) {
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.metrics = metrics;
+        this.executor = executor;
+        metrics.registerNotificationStreamConnections(connectionCount::get);
+    }
+
+    /* 새 연결 - 연결 직후 connected 이벤트를 보내 클라이언트가 목록을 한 번 동기화하게 한다 */
+    public SseEmitter connect(String memberId) {
+        return register(memberId, new SseEmitter(properties.getTimeout().toMillis()));
+    }
+
+    SseEmitter register(String memberId, SseEmitter emitter) {
+        NotificationStreamConnection connection = new NotificationStreamConnection(
+                memberId, emitter, properties.getSendBufferSize(), executor, this::remove);
+        emitter.onCompletion(connection::close);
+        emitter.onTimeout(connection::close);
+        emitter.onError(e -> connection.close());
+
+        Deque<NotificationStreamConnection> memberConnections =
+                connections.computeIfAbsent(memberId, id -> new ConcurrentLinkedDeque<>());
+        memberConnections.addLast(connection);
+        connectionCount.incrementAndGet();
+        metrics.countNotificationStream(OUTCOME_CONNECTED);
+
+        // 동시 연결 한도를 넘으면 가장 오래된 연결부터 닫는다
+        while (memberConnections.size() > properties.getMaxConnectionsPerMember()) {
+            NotificationStreamConnection oldest = memberConnections.peekFirst();
+            if (oldest == null || oldest == connection) {
+                break;
+            }
+            oldest.close();
+            metrics.countNotificationStream(OUTCOME_EVICTED);
+        }
+
+        connection.offer(SseEmitter.event().name(EVENT_CONNECTED).data(EVENT_CONNECTED).build());
+        return emitter;
+    }
+
+    /* 이 노드에 연결된 회원에게 델타 전송 (연결이 없으면 무시) */
+    public void send(String memberId, ReservationDelta delta) {
+        Deque<NotificationStreamConnection> memberConnections = connections.get(memberId);
+        if (memberConnections == null) {
+            return;
+        }
+
+        // 연결마다 직렬화하지 않도록 JSON 으로 한 번 만들어 모든 연결이 공유한다
+        Set<ResponseBodyEmitter.DataWithMediaType> event = SseEmitter.event()
+                .name(delta.change().name())
+                .data(serialize(delta), MediaType.APPLICATION_JSON)
+                .build();
+        for (NotificationStreamConnection connection : memberConnections) {
+            offerOrClose(connection, event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${crema.notification.stream.heartbeat-ms:25000}")
+    public void heartbeat() {
+        Set<ResponseBodyEmitter.DataWithMediaType> ping = SseEmitter.event().comment("heartbeat").build();
+        for (Deque<NotificationStreamConnection> memberConnections : connections.values()) {
+            for (NotificationStreamConnection connection : memberConnections) {
+                offerOrClose(connection, ping);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        List<NotificationStreamConnection> all = new ArrayList<>();
+        connections.values().forEach(all::addAll);
+        all.forEach(NotificationStreamConnection::close);
+    }
+
+    int connectionCount() {
+        return connectionCount.get();
+    }
+
+    int connectionCount(String memberId) {
+        Deque<NotificationStreamConnection> memberConnections = connections.get(memberId);
+        return memberConnections == null ? 0 : memberConnections.size();
+    }
+
+    private void offerOrClose(NotificationStreamConnection connection, Set<ResponseBodyEmitter.DataWithMediaType> event) {
+        if (connection.offer(event) || connection.isClosed()) {
+            return;
+        }
+        log.warn("[SSE] 전송 대기열 초과로 연결 종료: memberId={}", connection.memberId());
+        metrics.countNotificationStream(OUTCOME_OVERFLOW);
+        connection.close();
+    }
+
+    private String serialize(ReservationDelta delta) {
+        try {
+            return objectMapper.writeValueAsString(delta);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("알림 델타 직렬화 실패: reservationId=" + delta.reservationId(), e);
+        }
+    }
+
+    private void remove(NotificationStreamConnection connection) {
+        connections.computeIfPresent(connection.memberId(), (memberId, memberConnections) -> {
+            if (memberConnections.remove(connection)) {
+                connectionCount.decrementAndGet();
+            }
+            return memberConnections.isEmpty() ? null : memberConnections;
+        });
+    }
+}
@@ -0,0 +1,34 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Redis 채널에서 받은 델타를 이 노드의 연결로 넘긴다. (연결이 없는 회원의 메시지는 버린다)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamSubscriber implements MessageListener {
+
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        NotificationStreamMessage streamMessage;
+        try {
+            streamMessage = objectMapper.readValue(message.getBody(), NotificationStreamMessage.class);
+        } catch (IOException e) {
+            log.warn("[SSE] 알림 스트림 메시지 해석 실패: error={}", e.getMessage());
+            return;
+        }
+        notificationStreamRegistry.send(streamMessage.memberId(), streamMessage.delta());
+    }
+}
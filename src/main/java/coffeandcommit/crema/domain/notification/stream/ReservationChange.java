@@ -0,0 +1,9 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+// 예약 상태 변경 종류 (델타 이벤트 이름으로도 쓰인다)
+public enum ReservationChange {
+
+    CREATED,
+    DECIDED,
+    COMPLETED
+}
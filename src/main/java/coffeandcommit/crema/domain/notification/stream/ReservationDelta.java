@@ -0,0 +1,16 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import coffeandcommit.crema.domain.reservation.enums.Status;
+
+/**
+ * 클라이언트로 보내는 예약 변경 델타.
+ * role 은 받는 회원 입장(GUIDE: 받은 신청 목록, MENTEE: 내 커피챗 목록)으로, 클라이언트는 해당 목록에서
+ * reservationId 행만 status 로 갱신/추가/제거한다. 같은 델타가 두 번 와도 결과가 같다. (최소 한 번 전달)
+ */
+public record ReservationDelta(ReservationChange change, Role role, Long reservationId, Long guideId, Status status) {
+
+    public enum Role {
+        GUIDE,
+        MENTEE
+    }
+}
@@ -0,0 +1,51 @@
+package coffeandcommit.crema.domain.point.controller;
+
+import coffeandcommit.crema.domain.point.dto.response.PointAuditResponseDTO;
+import coffeandcommit.crema.domain.point.service.PointLedgerService;
+import coffeandcommit.crema.global.auth.service.CustomUserDetails;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.response.Response;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/points")
+@RequiredArgsConstructor
+@Tag(name = "Point", description = "포인트 API")
+public class PointController {
+
+    private final PointLedgerService pointLedgerService;
+
+    @Operation(summary = "나의 포인트 원장 조회", description = "현재 잔액, 원장 합계, 반영 대기 금액과 포인트 원장 내역을 조회합니다.")
+    @GetMapping("/me/ledger")
+    public ResponseEntity<Response<PointAuditResponseDTO>> getMyPointLedger(
+            @RequestParam(defaultValue = "0") @Min(0) int page,
+            @RequestParam(defaultValue = "20") @Min(1) @Max(100) int size,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        if (userDetails == null) {
+            throw new BaseException(ErrorStatus.UNAUTHORIZED);
+        }
+
+        String loginMemberId = userDetails.getMemberId();
+
+        PointAuditResponseDTO result = pointLedgerService.getAudit(loginMemberId, PageRequest.of(page, size));
+
+        Response<PointAuditResponseDTO> response = Response.<PointAuditResponseDTO>builder()
+                .message("포인트 원장 조회 성공")
+                .data(result)
+                .build();
+
+        return ResponseEntity.ok(response);
+    }
+}
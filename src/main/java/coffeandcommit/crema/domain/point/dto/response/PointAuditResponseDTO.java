@@ -0,0 +1,19 @@
+package coffeandcommit.crema.domain.point.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PointAuditResponseDTO {
+
+    private Integer balance;        // 현재 회원 잔액 (member.point)
+    private Long ledgerBalance;     // 반영 완료 원장 합계 (기초 잔액 생성 전이면 null)
+    private Long pendingAmount;     // 반영 대기 중인 금액
+    private Page<PointLedgerResponseDTO> entries;
+}
@@ -0,0 +1,36 @@
+package coffeandcommit.crema.domain.point.dto.response;
+
+import coffeandcommit.crema.domain.point.entity.PointLedger;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PointLedgerResponseDTO {
+
+    private Long ledgerId;
+    private String type;        // Enum → String
+    private Integer amount;     // 부호 있는 변동액
+    private Long reservationId; // 기초 잔액은 null
+    private Boolean applied;    // 잔액 반영 여부
+    private LocalDateTime createdAt;
+    private LocalDateTime appliedAt;
+
+    public static PointLedgerResponseDTO from(PointLedger ledger) {
+        return PointLedgerResponseDTO.builder()
+                .ledgerId(ledger.getId())
+                .type(ledger.getType().name())
+                .amount(ledger.getAmount())
+                .reservationId(ledger.getReservation() != null ? ledger.getReservation().getId() : null)
+                .applied(ledger.getApplied())
+                .createdAt(ledger.getCreatedAt())
+                .appliedAt(ledger.getAppliedAt())
+                .build();
+    }
+}
@@ -0,0 +1,61 @@
+package coffeandcommit.crema.domain.point.entity;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 (append-only).
+ * 금액 변경은 행 추가로만 기록하고, 회원 잔액(member.point)은 원장 반영 결과로만 갱신한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(
+    name = "point_ledger",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_point_ledger_idempotency_key", columnNames = {"idempotency_key"})
+    },
+    indexes = {
+        @Index(name = "idx_point_ledger_member", columnList = "member_id, id"),
+        @Index(name = "idx_point_ledger_applied", columnList = "applied, id")
+    }
+)
+public class PointLedger extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "member_id", nullable = false, updatable = false)
+    private Member member; // FK, 잔액이 변동되는 회원
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "reservation_id", updatable = false)
+    private Reservation reservation; // FK, 원인 예약 (기초 잔액은 null)
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30, updatable = false)
+    private PointLedgerType type;
+
+    @Column(nullable = false, updatable = false)
+    private Integer amount; // 부호 있는 변동액 (차감은 음수)
+
+    @Column(name = "idempotency_key", nullable = false, length = 100, updatable = false)
+    private String idempotencyKey; // 예약 단위 중복 반영 방지 키
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean applied = false; // member.point 반영 여부
+
+    private LocalDateTime appliedAt;
+
+}
@@ -0,0 +1,18 @@
+package coffeandcommit.crema.domain.point.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+@Getter
+@AllArgsConstructor
+@ToString
+public enum PointLedgerType {
+
+    OPENING_BALANCE("기초 잔액"),       // 원장 도입 이전 잔액 스냅샷
+    RESERVATION_PAYMENT("커피챗 결제"), // 멘티 포인트 차감
+    RESERVATION_INCOME("커피챗 수익");  // 가이드 포인트 적립
+
+    private final String description;
+
+}
@@ -0,0 +1,7 @@
+package coffeandcommit.crema.domain.point.event;
+
+/**
+ * 잔액 미반영 원장이 기록되었음을 알리는 이벤트 (커밋 이후 비동기 반영 트리거)
+ */
+public record PointLedgerRecordedEvent(Long ledgerId) {
+}
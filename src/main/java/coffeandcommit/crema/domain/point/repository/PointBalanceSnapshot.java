@@ -0,0 +1,11 @@
+package coffeandcommit.crema.domain.point.repository;
+
+/**
+ * 한 문장(같은 스냅샷)으로 읽은 회원 잔액과 반영 완료 원장 합계
+ */
+public record PointBalanceSnapshot(Integer point, Long appliedSum) {
+
+    public long drift() {
+        return point - appliedSum;
+    }
+}
@@ -0,0 +1,55 @@
+package coffeandcommit.crema.domain.point.repository;
+
+import coffeandcommit.crema.domain.point.entity.PointLedger;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface PointLedgerRepository extends JpaRepository<PointLedger, Long> {
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    boolean existsByMember_IdAndType(String memberId, PointLedgerType type);
+
+    Page<PointLedger> findByMember_IdOrderByIdDesc(String memberId, Pageable pageable);
+
+    // 잔액 미반영 원장 (오래된 순)
+    @Query("SELECT l.id FROM PointLedger l WHERE l.applied = false AND l.createdAt <= :before ORDER BY l.id ASC")
+    List<Long> findPendingIds(@Param("before") LocalDateTime before, Pageable pageable);
+
+    // 반영 완료 원장 합계
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedger l WHERE l.member.id = :memberId AND l.applied = true")
+    long sumAppliedAmount(@Param("memberId") String memberId);
+
+    // 회원 잔액과 반영 완료 원장 합계를 한 문장으로 조회 - 두 번 나눠 읽으면 사이에 반영된 원장이 불일치로 보인다
+    @Query("""
+            SELECT new coffeandcommit.crema.domain.point.repository.PointBalanceSnapshot(
+                m.point,
+                (SELECT COALESCE(SUM(l.amount), 0L) FROM PointLedger l WHERE l.member.id = m.id AND l.applied = true))
+            FROM Member m
+            WHERE m.id = :memberId
+    """)
+    Optional<PointBalanceSnapshot> findBalanceSnapshot(@Param("memberId") String memberId);
+
+    // 반영 대기 원장 합계
+    @Query("SELECT COALESCE(SUM(l.amount), 0) FROM PointLedger l WHERE l.member.id = :memberId AND l.applied = false")
+    long sumPendingAmount(@Param("memberId") String memberId);
+
+    @Query("SELECT DISTINCT l.member.id FROM PointLedger l WHERE l.member.id > :afterMemberId ORDER BY l.member.id ASC")
+    List<String> findMemberIdsAfter(@Param("afterMemberId") String afterMemberId, Pageable pageable);
+
+    // 반영 상태 선점 - 동시에 여러 반영기가 돌아도 한 번만 성공
+    @Modifying
+    @Query("UPDATE PointLedger l SET l.applied = true, l.appliedAt = :appliedAt WHERE l.id = :id AND l.applied = false")
+    int markApplied(@Param("id") Long id, @Param("appliedAt") LocalDateTime appliedAt);
+}
@@ -0,0 +1,71 @@
+package coffeandcommit.crema.domain.point.service;
+
+import coffeandcommit.crema.domain.point.event.PointLedgerRecordedEvent;
+import coffeandcommit.crema.domain.point.repository.PointLedgerRepository;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 미반영 원장을 회원 잔액에 비동기로 반영한다.
+ * 커밋 직후 이벤트로 즉시 반영하고, 유실된 건은 주기적 스윕으로 다시 반영한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.BACKGROUND)
+@RequiredArgsConstructor
+public class PointBalanceMaterializer {
+
+    private final PointLedgerService pointLedgerService;
+    private final PointLedgerRepository pointLedgerRepository;
+
+    @Value("${point.ledger.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    @Value("${point.ledger.sweep-grace-seconds:30}")
+    private long sweepGraceSeconds;
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onLedgerRecorded(PointLedgerRecordedEvent event) {
+        try {
+            pointLedgerService.applyPending(event.ledgerId());
+        } catch (Exception e) {
+            // 스윕에서 재시도
+            log.warn("포인트 원장 반영 실패 (스윕에서 재시도): ledgerId={}, error={}", event.ledgerId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${point.ledger.sweep-delay-ms:60000}")
+    public void sweepPending() {
+        List<Long> pendingIds = pointLedgerRepository.findPendingIds(
+                LocalDateTime.now().minusSeconds(sweepGraceSeconds),
+                PageRequest.of(0, sweepBatchSize));
+
+        int applied = 0;
+        for (Long ledgerId : pendingIds) {
+            try {
+                if (pointLedgerService.applyPending(ledgerId)) {
+                    applied++;
+                }
+            } catch (Exception e) {
+                log.warn("포인트 원장 스윕 반영 실패: ledgerId={}, error={}", ledgerId, e.getMessage());
+            }
+        }
+
+        if (applied > 0) {
+            log.info("포인트 원장 스윕 반영 완료: {}/{}건", applied, pendingIds.size());
+        }
+    }
+}
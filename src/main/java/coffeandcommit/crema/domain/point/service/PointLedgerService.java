@@ -0,0 +1,150 @@
+package coffeandcommit.crema.domain.point.service;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.point.dto.response.PointAuditResponseDTO;
+import coffeandcommit.crema.domain.point.dto.response.PointLedgerResponseDTO;
+import coffeandcommit.crema.domain.point.entity.PointLedger;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import coffeandcommit.crema.domain.point.event.PointLedgerRecordedEvent;
+import coffeandcommit.crema.domain.point.repository.PointBalanceSnapshot;
+import coffeandcommit.crema.domain.point.repository.PointLedgerRepository;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 포인트 원장 기록 및 잔액 반영.
+ * 멘티 차감은 조건부 단일 행 UPDATE로 즉시 반영하고, 가이드 적립은 원장에만 기록한 뒤
+ * 커밋 이후 비동기로 반영하여 한 트랜잭션이 여러 회원 행을 동시에 잠그지 않도록 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PointLedgerService {
+
+    private final PointLedgerRepository pointLedgerRepository;
+    private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /* 예약 확정에 따른 포인트 이체 기록 (예약 단위 멱등) */
+    @Transactional
+    public void transferForReservation(Reservation reservation, int price) {
+        if (price < 0) {
+            throw new BaseException(ErrorStatus.INVALID_POINT_AMOUNT);
+        }
+
+        String paymentKey = idempotencyKey(reservation, PointLedgerType.RESERVATION_PAYMENT);
+        if (pointLedgerRepository.existsByIdempotencyKey(paymentKey)) {
+            log.info("이미 기록된 예약 포인트 이체: reservationId={}", reservation.getId());
+            return;
+        }
+
+        Member mentee = reservation.getMember();
+        Member guideMember = reservation.getGuide().getMember();
+
+        // 1. 멘티 차감 - 잔액이 충분할 때만 성공하는 원자적 UPDATE
+        if (memberRepository.decreasePointIfSufficient(mentee.getId(), price) == 0) {
+            throw new BaseException(ErrorStatus.INSUFFICIENT_POINTS);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        pointLedgerRepository.save(PointLedger.builder()
+                .member(mentee)
+                .reservation(reservation)
+                .type(PointLedgerType.RESERVATION_PAYMENT)
+                .amount(-price)
+                .idempotencyKey(paymentKey)
+                .applied(true)
+                .appliedAt(now)
+                .build());
+
+        // 2. 가이드 적립 - 원장에만 기록, 잔액 반영은 커밋 이후 비동기 처리
+        PointLedger income = pointLedgerRepository.save(PointLedger.builder()
+                .member(guideMember)
+                .reservation(reservation)
+                .type(PointLedgerType.RESERVATION_INCOME)
+                .amount(price)
+                .idempotencyKey(idempotencyKey(reservation, PointLedgerType.RESERVATION_INCOME))
+                .build());
+
+        eventPublisher.publishEvent(new PointLedgerRecordedEvent(income.getId()));
+    }
+
+    /* 미반영 원장 1건을 회원 잔액에 반영 (중복 호출 시 한 번만 반영) */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean applyPending(Long ledgerId) {
+        PointLedger ledger = pointLedgerRepository.findById(ledgerId).orElse(null);
+        if (ledger == null || Boolean.TRUE.equals(ledger.getApplied())) {
+            return false;
+        }
+
+        if (pointLedgerRepository.markApplied(ledgerId, LocalDateTime.now()) == 0) {
+            return false; // 다른 반영기가 먼저 처리
+        }
+
+        memberRepository.increasePoint(ledger.getMember().getId(), ledger.getAmount());
+        return true;
+    }
+
+    /* 회원 잔액과 원장 합계 대사 - 불일치 금액 반환 (기초 잔액이 없으면 현재 잔액으로 기초 잔액 생성)
+     * 잔액과 합계는 한 문장으로 읽어 동시에 반영 중인 원장이 불일치로 잡히지 않게 한다 */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reconcile(String memberId) {
+        PointBalanceSnapshot snapshot = pointLedgerRepository.findBalanceSnapshot(memberId).orElse(null);
+        if (snapshot == null) {
+            return 0L;
+        }
+
+        if (!pointLedgerRepository.existsByMember_IdAndType(memberId, PointLedgerType.OPENING_BALANCE)) {
+            // 원장 도입 이전 잔액을 기초 잔액으로 채택
+            pointLedgerRepository.save(PointLedger.builder()
+                    .member(memberRepository.getReferenceById(memberId))
+                    .type(PointLedgerType.OPENING_BALANCE)
+                    .amount(Math.toIntExact(snapshot.drift()))
+                    .idempotencyKey("member:" + memberId + ":opening")
+                    .applied(true)
+                    .appliedAt(LocalDateTime.now())
+                    .build());
+            return 0L;
+        }
+
+        return snapshot.drift();
+    }
+
+    /* 포인트 감사 조회 (잔액, 원장 합계, 반영 대기 금액, 원장 내역) */
+    @Transactional(readOnly = true)
+    public PointAuditResponseDTO getAudit(String memberId, Pageable pageable) {
+        Integer point = memberRepository.findPointById(memberId)
+                .orElseThrow(() -> new BaseException(ErrorStatus.MEMBER_NOT_FOUND));
+
+        long appliedSum = pointLedgerRepository.sumAppliedAmount(memberId);
+        long pendingSum = pointLedgerRepository.sumPendingAmount(memberId);
+        boolean hasOpening = pointLedgerRepository.existsByMember_IdAndType(memberId, PointLedgerType.OPENING_BALANCE);
+
+        Page<PointLedgerResponseDTO> entries = pointLedgerRepository
+                .findByMember_IdOrderByIdDesc(memberId, pageable)
+                .map(PointLedgerResponseDTO::from);
+
+        return PointAuditResponseDTO.builder()
+                .balance(point)
+                .ledgerBalance(hasOpening ? appliedSum : null)
+                .pendingAmount(pendingSum)
+                .entries(entries)
+                .build();
+    }
+
+    private String idempotencyKey(Reservation reservation, PointLedgerType type) {
+        return "reservation:" + reservation.getId() + ":" + type.name();
+    }
+}
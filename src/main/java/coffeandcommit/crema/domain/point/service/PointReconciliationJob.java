@@ -0,0 +1,60 @@
+package coffeandcommit.crema.domain.point.service;
+
+import coffeandcommit.crema.domain.point.repository.PointLedgerRepository;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 회원 잔액(member.point)과 원장 합계를 주기적으로 대사한다.
+ * 불일치는 자동 보정하지 않고 경고 로그로 남겨 감사 API로 확인하도록 한다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.BACKGROUND)
+@RequiredArgsConstructor
+public class PointReconciliationJob {
+
+    private final PointLedgerService pointLedgerService;
+    private final PointLedgerRepository pointLedgerRepository;
+
+    @Value("${point.ledger.reconcile-batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(cron = "${point.ledger.reconcile-cron:0 30 4 * * *}")
+    public void reconcileAll() {
+        String cursor = "";
+        int checked = 0;
+        int mismatched = 0;
+
+        while (true) {
+            List<String> memberIds = pointLedgerRepository.findMemberIdsAfter(cursor, PageRequest.of(0, batchSize));
+            if (memberIds.isEmpty()) {
+                break;
+            }
+
+            for (String memberId : memberIds) {
+                try {
+                    long drift = pointLedgerService.reconcile(memberId);
+                    if (drift != 0) {
+                        mismatched++;
+                        log.warn("포인트 잔액 불일치: memberId={}, drift={}", memberId, drift);
+                    }
+                } catch (Exception e) {
+                    log.warn("포인트 대사 실패: memberId={}, error={}", memberId, e.getMessage());
+                }
+                checked++;
+            }
+            cursor = memberIds.get(memberIds.size() - 1);
+        }
+
+        log.info("포인트 대사 완료: 대상={}명, 불일치={}명", checked, mismatched);
+    }
+}
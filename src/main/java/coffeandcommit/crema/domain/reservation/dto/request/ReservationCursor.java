@@ -0,0 +1,43 @@
+package coffeandcommit.crema.domain.reservation.dto.request;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 예약 목록 키셋 페이지 커서 (createdAt DESC, id DESC 기준 마지막 행).
+ * 클라이언트에는 Base64 URL-safe 문자열로 전달한다.
+ */
+public record ReservationCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String DELIMITER = "_";
+
+    public String encode() {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /* 커서 문자열 해석 (없으면 첫 페이지) */
+    public static ReservationCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.lastIndexOf(DELIMITER);
+            if (idx <= 0) {
+                throw new BaseException(ErrorStatus.INVALID_CURSOR);
+            }
+            return new ReservationCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Long.parseLong(raw.substring(idx + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BaseException(ErrorStatus.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package coffeandcommit.crema.domain.reservation.dto.response;
+
+import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 예약 목록 조회용 프로젝션 (엔티티 그래프 대신 필요한 컬럼만 조회).
+ * counterpart는 멘티 목록에서는 가이드, 가이드 목록에서는 멘티.
+ */
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationSummaryDTO {
+
+    private Long reservationId;
+    private Status status;
+    private LocalDateTime createdAt;
+    private LocalDateTime preferredDate;
+    private TimeType timeType;
+    private String counterpartNickname;
+    private String counterpartProfileImageUrl;
+
+    public ReservationCursor toCursor() {
+        return new ReservationCursor(createdAt, reservationId);
+    }
+
+    /* 희망 날짜 (yyyy-MM-dd) */
+    public String getPreferredDateOnly() {
+        return preferredDate != null ? preferredDate.toLocalDate().toString() : null;
+    }
+
+    /* 희망 요일 (월, 화, ...) */
+    public String getPreferredDayOfWeek() {
+        return preferredDate != null
+                ? DayType.values()[preferredDate.getDayOfWeek().getValue() - 1].getDescription()
+                : null;
+    }
+
+    /* 희망 시간 범위 (HH:mm~HH:mm) */
+    public String getPreferredTimeRange() {
+        if (preferredDate == null || timeType == null) {
+            return null;
+        }
+        LocalDateTime end = preferredDate.plusMinutes(timeType.getMinutes());
+        return preferredDate.toLocalTime().toString() + "~" + end.toLocalTime().toString();
+    }
+}
@@ -10,6 +10,7 @@ import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.Objects;
@@ -20,7 +21,14 @@ import java.util.Objects;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder(toBuilder = true)
-@Table(name = "reservation")
+@Table(
+    name = "reservation",
+    indexes = {
+        @Index(name = "idx_reservation_member_status_created", columnList = "member_id, status, created_at"),
+        @Index(name = "idx_reservation_guide_status_created", columnList = "guide_id, status, created_at"),
+        @Index(name = "idx_reservation_status_matching_time", columnList = "status, matching_time")
+    }
+)
 public class Reservation extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -46,6 +54,10 @@ public class Reservation extends BaseEntity{
 
     private LocalDateTime reservedAt;
 
+    @Version
+    @ColumnDefault("0")
+    private Long version; // 낙관적 락 버전 (동시 승인/거절 충돌 감지)
+
     @OneToOne(mappedBy = "reservation", cascade = CascadeType.ALL, orphanRemoval = true)
     private TimeUnit timeUnit;
 
@@ -84,10 +96,19 @@ public class Reservation extends BaseEntity{
     this.status = Status.COMPLETED;
     }
 
+    public void assignMatchingTime(LocalDateTime matchingTime) {
+        this.matchingTime = matchingTime;
+    }
+
+    public void assignVideoSession(VideoSession videoSession) {
+        this.videoSession = videoSession;
+    }
+
     public void confirmReservation() {
         this.status = Status.CONFIRMED;
     }
 
+    // 확정(CONFIRMED) 예약을 취소할 때는 같은 트랜잭션에서 ReservationSlotService.release 로 슬롯도 해제한다
     public void cancelReservation(String reason) {
         this.status = Status.CANCELLED;
     }
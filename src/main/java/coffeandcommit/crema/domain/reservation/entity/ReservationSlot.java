@@ -0,0 +1,44 @@
+package coffeandcommit.crema.domain.reservation.entity;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 가이드의 30분 단위 시간 슬롯 점유 기록.
+ * (guide_id, slot_start) 유니크 제약으로 행 잠금 없이 이중 예약을 차단한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(
+    name = "reservation_slot",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reservation_slot_guide_slot_start", columnNames = {"guide_id", "slot_start"})
+    },
+    indexes = {
+        @Index(name = "idx_reservation_slot_reservation", columnList = "reservation_id")
+    }
+)
+public class ReservationSlot extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "guide_id", nullable = false)
+    private Guide guide; // FK, 가이드 ID
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "reservation_id", nullable = false)
+    private Reservation reservation; // FK, 슬롯을 점유한 예약 ID
+
+    @Column(name = "slot_start", nullable = false)
+    private LocalDateTime slotStart; // 슬롯 시작 시각 (30분 단위로 정렬)
+}
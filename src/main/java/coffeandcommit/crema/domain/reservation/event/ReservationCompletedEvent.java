@@ -0,0 +1,24 @@
+package coffeandcommit.crema.domain.reservation.event;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.outbox.OutboxPayload;
+
+/**
+ * 커피챗 완료 이벤트 (아웃박스) - 세션 종료 또는 세션 정리기가 예약을 COMPLETED 로 바꿀 때 기록
+ */
+public record ReservationCompletedEvent(Long reservationId, Long guideId, String guideMemberId, String menteeId)
+        implements OutboxPayload {
+
+    public static ReservationCompletedEvent from(Reservation reservation) {
+        return new ReservationCompletedEvent(
+                reservation.getId(),
+                reservation.getGuide().getId(),
+                reservation.getGuide().getMember().getId(),
+                reservation.getMember().getId());
+    }
+
+    @Override
+    public Long aggregateId() {
+        return reservationId;
+    }
+}
@@ -0,0 +1,24 @@
+package coffeandcommit.crema.domain.reservation.event;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.outbox.OutboxPayload;
+
+/**
+ * 커피챗 예약 신청 이벤트 (아웃박스)
+ */
+public record ReservationCreatedEvent(Long reservationId, Long guideId, String guideMemberId, String menteeId)
+        implements OutboxPayload {
+
+    public static ReservationCreatedEvent from(Reservation reservation) {
+        return new ReservationCreatedEvent(
+                reservation.getId(),
+                reservation.getGuide().getId(),
+                reservation.getGuide().getMember().getId(),
+                reservation.getMember().getId());
+    }
+
+    @Override
+    public Long aggregateId() {
+        return reservationId;
+    }
+}
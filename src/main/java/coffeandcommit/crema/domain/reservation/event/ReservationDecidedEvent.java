@@ -0,0 +1,26 @@
+package coffeandcommit.crema.domain.reservation.event;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.global.common.outbox.OutboxPayload;
+
+/**
+ * 커피챗 예약 승인/거절 이벤트 (아웃박스) - status 는 CONFIRMED 또는 CANCELLED
+ */
+public record ReservationDecidedEvent(Long reservationId, Long guideId, String guideMemberId, String menteeId,
+                                      Status status) implements OutboxPayload {
+
+    public static ReservationDecidedEvent from(Reservation reservation) {
+        return new ReservationDecidedEvent(
+                reservation.getId(),
+                reservation.getGuide().getId(),
+                reservation.getGuide().getMember().getId(),
+                reservation.getMember().getId(),
+                reservation.getStatus());
+    }
+
+    @Override
+    public Long aggregateId() {
+        return reservationId;
+    }
+}
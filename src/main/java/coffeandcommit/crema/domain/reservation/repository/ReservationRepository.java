@@ -3,23 +3,20 @@ package coffeandcommit.crema.domain.reservation.repository;
 import coffeandcommit.crema.domain.guide.entity.Guide;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
-
-import jakarta.persistence.LockModeType;
-import jakarta.persistence.QueryHint;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 @Repository
 public interface ReservationRepository extends JpaRepository<Reservation, Long>, ReservationRepositoryCustom {
@@ -28,14 +25,6 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
     @EntityGraph(attributePaths = {"guide", "guide.member", "timeUnit"})
     Page<Reservation> findByMember_IdAndStatus(String memberId, Status status, Pageable pageable);
 
-    // 멤버의 모든 예약 조회
-    @EntityGraph(attributePaths = {"guide", "guide.member", "timeUnit"})
-    List<Reservation> findByMember_Id(String memberId);
-
-    // 기존 메서드는 Page를 반환하므로 List 버전도 추가
-    @EntityGraph(attributePaths = {"guide", "guide.member", "timeUnit"})
-    List<Reservation> findByMember_IdAndStatus(String memberId, Status status);
-
     // WRITTEN → 리뷰가 존재하는 예약
     @EntityGraph(attributePaths = {"guide", "guide.member", "timeUnit"})
     @Query("""
@@ -62,32 +51,11 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
             @Param("status") Status status,
             Pageable pageable);
 
-    @EntityGraph(attributePaths = {"member", "survey", "timeUnit"})
-    List<Reservation> findByGuideAndStatus(Guide guide, Status status);
-
     @EntityGraph(attributePaths = {"member", "timeUnit", "timeUnit.timeType"})
     Page<Reservation> findByGuideAndMatchingTimeBetweenAndStatusIn(Guide guide, LocalDateTime matchingTimeAfter, LocalDateTime matchingTimeBefore, Collection<Status> statuses, Pageable pageable);
 
     Long countByGuideAndStatus(Guide guide, Status status);
 
-    /**
-     * 멤버의 모든 예약 조회 (필요한 연관 엔티티들 fetch join)
-     * MemberCoffeeChatResponse에서 사용하는 모든 연관관계 포함
-     */
-    @EntityGraph(attributePaths = {
-            "guide",
-            "guide.member",           // 가이드 프로필 이미지용
-            "survey",                 // 희망 날짜/시간용
-            "timeUnit",               // 시간 타입용
-            "videoSession"            // 화상채팅 세션용 (optional)
-    })
-    @Query("""
-    SELECT r FROM Reservation r
-    WHERE r.member.id = :memberId
-    ORDER BY r.createdAt DESC
-""")
-    List<Reservation> findByMemberIdWithFetchJoin(@Param("memberId") String memberId);
-
     /**
      * 멤버의 상태별 예약 조회 (필요한 연관 엔티티들 fetch join)
      */
@@ -109,26 +77,62 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>,
             @Param("status") Status status
     );
 
-    Page<Reservation> findByGuide(Guide guide, Pageable pageable);
-
     /**
-     * 가이드의 모든 예약 조회 (연관 엔티티 fetch join)
+     * ID 목록으로 예약 일괄 조회 (MemberCoffeeChatResponse용 연관 엔티티 fetch join)
+     * Guide의 mappedBy OneToOne(guideJobField, experienceDetail)은 지연 로딩되지 않아 가이드마다 추가 쿼리가 나가므로 함께 조회
      */
     @EntityGraph(attributePaths = {
-            "member",
+            "guide",
+            "guide.member",
+            "guide.guideJobField",
+            "guide.experienceDetail",
             "survey",
             "timeUnit",
             "videoSession"
     })
-    @Query("""
-    SELECT r FROM Reservation r
-    WHERE r.guide = :guide
-    ORDER BY r.createdAt DESC
-    """)
-    List<Reservation> findByGuideWithFetchJoin(@Param("guide") Guide guide);
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids")
+    List<Reservation> findAllByIdInWithFetchJoin(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 가이드 예약 ID 페이지 조회 (2단계 페이징 1단계 - 연관 엔티티 없이 ID만 정렬/페이징)
+     */
+    @Query(value = "SELECT r.id FROM Reservation r WHERE r.guide = :guide",
+            countQuery = "SELECT COUNT(r) FROM Reservation r WHERE r.guide = :guide")
+    Page<Long> findIdsByGuide(@Param("guide") Guide guide, Pageable pageable);
+
+    /**
+     * ID 목록으로 예약 일괄 조회 (2단계 페이징 2단계 - 멘티 목록 응답용 연관 엔티티 fetch join)
+     * TimeUnit은 mappedBy OneToOne이라 지연 로딩되지 않으므로 반드시 함께 조회
+     */
+    @EntityGraph(attributePaths = {
+            "member",
+            "survey",
+            "timeUnit"
+    })
+    @Query("SELECT r FROM Reservation r WHERE r.id IN :ids")
+    List<Reservation> findAllWithMenteeByIdIn(@Param("ids") Collection<Long> ids);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
-    @Query("SELECT r FROM Reservation r WHERE r.id = :id")
-    Optional<Reservation> findByIdForUpdate(@Param("id") Long id);
+    /**
+     * 예약에 화상 세션 연결 (이미 연결된 예약은 건드리지 않음)
+     * 입장 경로는 트랜잭션 밖에서 실행되므로 자체 트랜잭션으로 갱신한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Reservation r SET r.videoSession = :videoSession WHERE r.id = :id AND r.videoSession IS NULL")
+    int linkVideoSession(@Param("id") Long id, @Param("videoSession") VideoSession videoSession);
+
+    /**
+     * 매칭 시간이 [from, to) 인 예약 중 화상 세션이 아직 연결되지 않은 예약 ID (세션 사전 생성 대상)
+     */
+    @Query("""
+            SELECT r.id FROM Reservation r
+            WHERE r.status = :status
+              AND r.videoSession IS NULL
+              AND r.matchingTime >= :from AND r.matchingTime < :to
+            ORDER BY r.matchingTime
+            """)
+    List<Long> findIdsWithoutVideoSessionBetween(@Param("status") Status status,
+                                                 @Param("from") LocalDateTime from,
+                                                 @Param("to") LocalDateTime to,
+                                                 Pageable pageable);
 }
@@ -1,12 +1,28 @@
 package coffeandcommit.crema.domain.reservation.repository;
 
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.review.dto.response.MyReviewResponseDTO;
 import coffeandcommit.crema.domain.review.enums.ReviewWriteFilter;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+import java.util.Map;
+
 public interface ReservationRepositoryCustom {
     Page<MyReviewResponseDTO> findMyReviews(String memberId, Status status, ReviewWriteFilter filter, Pageable pageable);
-}
 
+    // 멤버의 상태별 예약 수 (단일 GROUP BY 쿼리)
+    Map<Status, Long> countByMemberGroupByStatus(String memberId);
+
+    // 멤버의 상태별 최신순 예약 ID 슬라이스 (상태마다 offset 이후 limit건, 단일 쿼리)
+    List<Long> findSliceIdsPerStatusByMember(String memberId, int offset, int limit);
+
+    // 멤버 예약 목록 키셋 조회 (status null이면 전체 상태, cursor null이면 첫 페이지)
+    List<ReservationSummaryDTO> findSummariesByMember(String memberId, Status status, ReservationCursor cursor, int limit);
+
+    // 가이드 예약 목록 키셋 조회 (status null이면 전체 상태, cursor null이면 첫 페이지)
+    List<ReservationSummaryDTO> findSummariesByGuide(Long guideId, Status status, ReservationCursor cursor, int limit);
+}
@@ -1,6 +1,9 @@
 package coffeandcommit.crema.domain.reservation.repository;
 
 import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.member.entity.QMember;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.review.dto.response.GuideInfo;
@@ -13,6 +16,7 @@ import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -24,11 +28,14 @@ import jakarta.persistence.EntityManager;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
 import static coffeandcommit.crema.domain.guide.entity.QTimeUnit.timeUnit;
 import static coffeandcommit.crema.domain.member.entity.QMember.member;
 import static coffeandcommit.crema.domain.reservation.entity.QReservation.reservation;
+import static coffeandcommit.crema.domain.reservation.entity.QSurvey.survey;
 import static coffeandcommit.crema.domain.review.entity.QReview.review;
 import static coffeandcommit.crema.domain.guide.entity.QGuide.guide;
 
@@ -129,6 +136,119 @@ public class ReservationRepositoryImpl implements ReservationRepositoryCustom {
         return new PageImpl<>(content, pageable, totalCount);
     }
 
+    @Override
+    public Map<Status, Long> countByMemberGroupByStatus(String memberId) {
+        List<Tuple> rows = queryFactory
+                .select(reservation.status, reservation.count())
+                .from(reservation)
+                .where(reservation.member.id.eq(memberId))
+                .groupBy(reservation.status)
+                .fetch();
+
+        Map<Status, Long> counts = new EnumMap<>(Status.class);
+        for (Status status : Status.values()) {
+            counts.put(status, 0L);
+        }
+        for (Tuple t : rows) {
+            Status status = t.get(reservation.status);
+            Long count = t.get(reservation.count());
+            if (status != null) {
+                counts.put(status, count != null ? count : 0L);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public List<Long> findSliceIdsPerStatusByMember(String memberId, int offset, int limit) {
+        // QueryDSL JPA는 윈도우 함수를 지원하지 않으므로 HQL 파생 테이블 + row_number() 사용
+        return em.createQuery("""
+                select x.id from (
+                    select r.id as id,
+                           row_number() over (partition by r.status order by r.createdAt desc, r.id desc) as rn
+                    from Reservation r
+                    where r.member.id = :memberId
+                ) x
+                where x.rn > :offset and x.rn <= :end
+                """, Long.class)
+                .setParameter("memberId", memberId)
+                .setParameter("offset", (long) offset)
+                .setParameter("end", (long) offset + limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<ReservationSummaryDTO> findSummariesByMember(String memberId, Status status, ReservationCursor cursor, int limit) {
+        // 멘티 목록 - 상대방은 가이드
+        QMember counterpart = new QMember("counterpart");
+
+        JPAQuery<Tuple> query = selectSummaries(counterpart)
+                .join(reservation.guide, guide)
+                .join(guide.member, counterpart)
+                .where(reservation.member.id.eq(memberId));
+
+        return fetchSummaries(query, status, cursor, limit, counterpart);
+    }
+
+    @Override
+    public List<ReservationSummaryDTO> findSummariesByGuide(Long guideId, Status status, ReservationCursor cursor, int limit) {
+        // 가이드 목록 - 상대방은 멘티
+        QMember counterpart = new QMember("counterpart");
+
+        JPAQuery<Tuple> query = selectSummaries(counterpart)
+                .join(reservation.member, counterpart)
+                .where(reservation.guide.id.eq(guideId));
+
+        return fetchSummaries(query, status, cursor, limit, counterpart);
+    }
+
+    private JPAQuery<Tuple> selectSummaries(QMember counterpart) {
+        return queryFactory
+                .select(
+                        reservation.id,
+                        reservation.status,
+                        reservation.createdAt,
+                        survey.preferredDate,
+                        timeUnit.timeType,
+                        counterpart.nickname,
+                        counterpart.profileImageUrl
+                )
+                .from(reservation)
+                .join(reservation.survey, survey)
+                .leftJoin(reservation.timeUnit, timeUnit);
+    }
+
+    private List<ReservationSummaryDTO> fetchSummaries(JPAQuery<Tuple> query, Status status, ReservationCursor cursor,
+                                                       int limit, QMember counterpart) {
+        if (status != null) {
+            query.where(reservation.status.eq(status));
+        }
+        if (cursor != null) {
+            // (createdAt, id) < (cursor.createdAt, cursor.id)
+            query.where(reservation.createdAt.lt(cursor.createdAt())
+                    .or(reservation.createdAt.eq(cursor.createdAt()).and(reservation.id.lt(cursor.id()))));
+        }
+
+        List<Tuple> rows = query
+                .orderBy(reservation.createdAt.desc(), reservation.id.desc())
+                .limit(limit)
+                .fetch();
+
+        List<ReservationSummaryDTO> content = new ArrayList<>(rows.size());
+        for (Tuple t : rows) {
+            content.add(ReservationSummaryDTO.builder()
+                    .reservationId(t.get(reservation.id))
+                    .status(t.get(reservation.status))
+                    .createdAt(t.get(reservation.createdAt))
+                    .preferredDate(t.get(survey.preferredDate))
+                    .timeType(t.get(timeUnit.timeType))
+                    .counterpartNickname(t.get(counterpart.nickname))
+                    .counterpartProfileImageUrl(t.get(counterpart.profileImageUrl))
+                    .build());
+        }
+        return content;
+    }
+
     private OrderSpecifier<?>[] getOrderSpecifiers(Sort sort) {
         if (sort == null || sort.isUnsorted()) {
             return new OrderSpecifier[]{reservation.id.desc()};
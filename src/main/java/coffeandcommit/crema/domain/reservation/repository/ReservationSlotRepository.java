@@ -0,0 +1,24 @@
+package coffeandcommit.crema.domain.reservation.repository;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.ReservationSlot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+
+@Repository
+public interface ReservationSlotRepository extends JpaRepository<ReservationSlot, Long> {
+
+    boolean existsByGuideAndSlotStartIn(Guide guide, Collection<LocalDateTime> slotStarts);
+
+    // 예약이 점유한 슬롯 일괄 해제
+    @Modifying
+    @Query("DELETE FROM ReservationSlot s WHERE s.reservation = :reservation")
+    int deleteByReservation(@Param("reservation") Reservation reservation);
+}
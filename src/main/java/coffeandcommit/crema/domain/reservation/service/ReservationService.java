@@ -7,16 +7,20 @@ import coffeandcommit.crema.domain.guide.enums.TimeType;
 import coffeandcommit.crema.domain.guide.repository.GuideRepository;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.point.service.PointLedgerService;
 import coffeandcommit.crema.domain.reservation.dto.request.ReservationDecisionRequestDTO;
 import coffeandcommit.crema.domain.reservation.dto.request.ReservationRequestDTO;
 import coffeandcommit.crema.domain.reservation.dto.response.*;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.entity.Survey;
 import coffeandcommit.crema.domain.reservation.entity.SurveyFile;
+import coffeandcommit.crema.domain.reservation.event.ReservationCreatedEvent;
+import coffeandcommit.crema.domain.reservation.event.ReservationDecidedEvent;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
 import coffeandcommit.crema.global.file.FileService;
 import coffeandcommit.crema.global.storage.StorageService;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
@@ -31,6 +35,7 @@ import org.springframework.web.multipart.MultipartFile;
 import java.time.DayOfWeek;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 @Slf4j
 @Service
@@ -42,6 +47,9 @@ public class ReservationService {
     private final GuideRepository guideRepository;
     private final FileService fileService;
     private final StorageService storageService;
+    private final ReservationSlotService reservationSlotService;
+    private final PointLedgerService pointLedgerService;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     /* 예약 존재 여부 확인 */
     @Transactional(readOnly = true)
@@ -93,6 +101,11 @@ public class ReservationService {
             // 적절한에러코드로교체필요: 예) ErrorStatus.INVALID_SURVEY
             throw new BaseException(ErrorStatus.INVALID_SURVEY);
         }
+
+        // 3-0. 이미 확정된 예약이 점유한 시간대면 신청 불가 (최종 판정은 승인 시 슬롯 점유로 수행)
+        if (reservationSlotService.isSlotTaken(guide, surveyReq.getPreferredDate(), requestTimeType)) {
+            throw new BaseException(ErrorStatus.SLOT_ALREADY_RESERVED);
+        }
         Survey survey = Survey.builder()
                 .fileUploadURL("")
                 .messageToGuide(surveyReq.getMessageToGuide())
@@ -143,6 +156,9 @@ public class ReservationService {
         saved.setTimeUnit(timeUnit);
         Reservation savedWithTimeUnit = reservationRepository.save(saved);
 
+        // 6. 후처리(알림 등)는 아웃박스로 커밋 이후 전달
+        outboxEventPublisher.append(ReservationCreatedEvent.from(savedWithTimeUnit));
+
         return ReservationResponseDTO.from(savedWithTimeUnit, storageService);
     }
 
@@ -173,26 +189,15 @@ public class ReservationService {
 
             int price = reservation.getTimeUnit().getTimeType().getPrice();
 
-            // 멘티 포인트 차감 (락 적용)
-            Member mentee = memberRepository.findByIdForUpdate(reservation.getMember().getId())
-                    .orElseThrow(() -> new BaseException(ErrorStatus.MEMBER_NOT_FOUND));
+            // 가이드 시간 슬롯 점유 (유니크 제약으로 이중 예약 차단, 행 잠금 없음)
+            reservationSlotService.claim(reservation);
 
-            // 포인트 차감
-            try {
-                mentee.decreasePoint(price);
-            } catch (IllegalArgumentException e) {
-                throw new BaseException(ErrorStatus.INSUFFICIENT_POINTS);
-            }
-
-            // 가이드도 락 모드로 조회
-            Member guideMember = memberRepository.findByIdForUpdate(reservation.getGuide().getMember().getId())
-                    .orElseThrow(() -> new BaseException(ErrorStatus.MEMBER_NOT_FOUND));
-
-            // 포인트 적립
-            guideMember.addPoint(price);
+            // 포인트 이체 - 원장 기록 + 멘티 조건부 차감, 가이드 적립은 커밋 이후 비동기 반영
+            pointLedgerService.transferForReservation(reservation, price);
 
             // 모든 로직 성공 후 상태 변경
             reservation.setStatus(Status.CONFIRMED);
+            reservation.assignMatchingTime(reservation.getSurvey().getPreferredDate());
 
         } else if (newStatus == Status.CANCELLED) {
             reservation.setStatus(Status.CANCELLED);
@@ -202,6 +207,9 @@ public class ReservationService {
             throw new BaseException(ErrorStatus.INVALID_STATUS);
         }
 
+        // 5. 후처리(알림 등)는 아웃박스로 커밋 이후 전달
+        outboxEventPublisher.append(ReservationDecidedEvent.from(reservation));
+
         return ReservationDecisionResponseDTO.from(reservation);
     }
 
@@ -267,11 +275,13 @@ public class ReservationService {
     @Transactional(readOnly = true)
     public CoffeeChatSummaryResponseDTO getMyCoffeeChatSummary(String loginMemberId) {
 
-        int pendingCount = reservationRepository.countByMember_IdAndStatus(loginMemberId, Status.PENDING);
-        int confirmedCount = reservationRepository.countByMember_IdAndStatus(loginMemberId, Status.CONFIRMED);
-        int completedCount = reservationRepository.countByMember_IdAndStatus(loginMemberId, Status.COMPLETED);
+        // 상태별 개수를 GROUP BY 한 번으로 조회
+        Map<Status, Long> counts = reservationRepository.countByMemberGroupByStatus(loginMemberId);
 
-        return CoffeeChatSummaryResponseDTO.of(pendingCount, confirmedCount, completedCount);
+        return CoffeeChatSummaryResponseDTO.of(
+                counts.getOrDefault(Status.PENDING, 0L).intValue(),
+                counts.getOrDefault(Status.CONFIRMED, 0L).intValue(),
+                counts.getOrDefault(Status.COMPLETED, 0L).intValue());
     }
 
     /* 커피챗 신청 완료 정보 조회 */
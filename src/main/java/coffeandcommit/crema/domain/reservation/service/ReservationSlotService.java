@@ -0,0 +1,86 @@
+package coffeandcommit.crema.domain.reservation.service;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.ReservationSlot;
+import coffeandcommit.crema.domain.reservation.repository.ReservationSlotRepository;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 가이드 시간 슬롯 점유 관리.
+ * 예약 확정 시 30분 단위 슬롯 행을 삽입하고, 유니크 제약 위반을 이중 예약으로 판단한다.
+ * 예약이 완료되면 슬롯을 해제하므로 테이블에는 다가올 확정 예약의 슬롯만 남는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReservationSlotService {
+
+    static final int SLOT_MINUTES = 30;
+
+    private final ReservationSlotRepository reservationSlotRepository;
+
+    /* 해당 시간대가 이미 확정된 예약으로 점유되었는지 확인 (잠금 없는 사전 검사) */
+    @Transactional(readOnly = true)
+    public boolean isSlotTaken(Guide guide, LocalDateTime start, TimeType timeType) {
+        return reservationSlotRepository.existsByGuideAndSlotStartIn(guide, toSlotStarts(start, timeType));
+    }
+
+    /* 예약이 차지하는 슬롯 점유 - 이미 점유된 슬롯이 있으면 SLOT_ALREADY_RESERVED */
+    @Transactional
+    public void claim(Reservation reservation) {
+        LocalDateTime start = reservation.getSurvey().getPreferredDate();
+        TimeType timeType = reservation.getTimeUnit().getTimeType();
+
+        List<ReservationSlot> slots = toSlotStarts(start, timeType).stream()
+                .map(slotStart -> ReservationSlot.builder()
+                        .guide(reservation.getGuide())
+                        .reservation(reservation)
+                        .slotStart(slotStart)
+                        .build())
+                .toList();
+
+        try {
+            reservationSlotRepository.saveAllAndFlush(slots);
+        } catch (DataIntegrityViolationException e) {
+            log.info("슬롯 점유 충돌: reservationId={}, start={}", reservation.getId(), start);
+            throw new BaseException(ErrorStatus.SLOT_ALREADY_RESERVED);
+        }
+    }
+
+    /* 예약이 점유한 슬롯 해제 - 확정 예약이 완료/취소되는 트랜잭션에서 함께 호출 */
+    @Transactional
+    public void release(Reservation reservation) {
+        reservationSlotRepository.deleteByReservation(reservation);
+    }
+
+    /* 시작 시각과 시간 단위를 30분 단위 슬롯 시작 시각 목록으로 변환 */
+    public static List<LocalDateTime> toSlotStarts(LocalDateTime start, TimeType timeType) {
+        if (start == null || timeType == null) {
+            throw new BaseException(ErrorStatus.INVALID_TIME_UNIT);
+        }
+
+        LocalDateTime end = start.plusMinutes(timeType.getMinutes());
+        LocalDateTime slot = start.truncatedTo(ChronoUnit.HOURS)
+                .plusMinutes((start.getMinute() / SLOT_MINUTES) * SLOT_MINUTES);
+
+        List<LocalDateTime> slotStarts = new ArrayList<>();
+        while (slot.isBefore(end)) {
+            slotStarts.add(slot);
+            slot = slot.plusMinutes(SLOT_MINUTES);
+        }
+        return slotStarts;
+    }
+}
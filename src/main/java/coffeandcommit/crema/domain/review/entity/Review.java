@@ -2,6 +2,7 @@ package coffeandcommit.crema.domain.review.entity;
 
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
 import jakarta.persistence.*;
 import lombok.*;
 
@@ -24,7 +25,7 @@ import java.util.List;
 public class Review extends BaseEntity{
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TimeSortedId
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY, optional = false)
@@ -0,0 +1,18 @@
+package coffeandcommit.crema.domain.review.event;
+
+import coffeandcommit.crema.global.common.outbox.OutboxPayload;
+
+import java.math.BigDecimal;
+
+/**
+ * 리뷰가 작성되었음을 알리는 이벤트.
+ * 같은 트랜잭션에서 가이드 평점 집계에 증분 반영되고(커밋 직전), 아웃박스로도 기록되어 커밋 이후 소비자에게 전달된다.
+ */
+public record ReviewCreatedEvent(Long reviewId, Long reservationId, Long guideId, String guideMemberId,
+                                 BigDecimal starReview, long thumbsUpCount) implements OutboxPayload {
+
+    @Override
+    public Long aggregateId() {
+        return reviewId;
+    }
+}
@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+
 @Repository
 public interface ReviewExperienceRepository extends JpaRepository<ReviewExperience, Long> {
     @Query("""
@@ -18,7 +20,17 @@ public interface ReviewExperienceRepository extends JpaRepository<ReviewExperien
     """)
     Long countThumbsUpByGuide(@Param("guide") Guide guide);
 
+    @Query("""
+            SELECT COUNT(re)
+            FROM ReviewExperience re
+            WHERE re.experienceGroup.guide.id = :guideId
+              AND re.isThumbsUp = true
+    """)
+    Long countThumbsUpByGuideId(@Param("guideId") Long guideId);
+
     Long countByExperienceGroup(ExperienceGroup experienceGroup);
 
     Long countByExperienceGroupAndIsThumbsUpTrue(ExperienceGroup experienceGroup);
+
+    boolean existsByExperienceGroupIn(Collection<ExperienceGroup> experienceGroups);
 }
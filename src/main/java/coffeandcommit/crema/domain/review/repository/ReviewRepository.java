@@ -41,6 +41,9 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     """)
     Long countByGuideId(@Param("guideId") Long guideId);
 
+    @Query("SELECT COALESCE(SUM(r.starReview), 0) FROM Review r WHERE r.reservation.guide.id = :guideId")
+    BigDecimal sumStarByGuideId(@Param("guideId") Long guideId);
+
 
     @Query("""
             SELECT COUNT(r)
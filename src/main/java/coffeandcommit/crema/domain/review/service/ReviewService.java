@@ -6,23 +6,32 @@ import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.domain.reservation.service.ReservationService;
+import coffeandcommit.crema.domain.review.dto.request.ExperienceEvaluationRequestDTO;
 import coffeandcommit.crema.domain.review.dto.request.ReviewRequestDTO;
 import coffeandcommit.crema.domain.review.dto.response.MyReviewResponseDTO;
 import coffeandcommit.crema.domain.review.dto.response.ReviewResponseDTO;
 import coffeandcommit.crema.domain.review.entity.Review;
 import coffeandcommit.crema.domain.review.entity.ReviewExperience;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
 import coffeandcommit.crema.domain.review.repository.ReviewRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -33,6 +42,8 @@ public class ReviewService {
     private final ReservationRepository reservationRepository;
     private final ReviewRepository reviewRepository;
     private final ExperienceGroupRepository experienceGroupRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     /* 리뷰 생성 */
     @Transactional
@@ -74,35 +85,42 @@ public class ReviewService {
             throw new BaseException(ErrorStatus.DUPLICATE_REVIEW);
         }
 
-        // 4. Review 생성
+        // 4. 평가 대상 경험 일괄 조회 (예약한 가이드의 경험만)
+        Map<Long, ExperienceGroup> experienceGroups = findEvaluatedExperienceGroups(
+                reservation.getGuide().getId(), reviewRequestDTO.getExperienceEvaluations());
+
+        // 5. Review 생성 + 경험 평가 매핑
         Review review = Review.builder()
                 .reservation(reservation)
                 .starReview(reviewRequestDTO.getStarReview())
                 .comment(reviewRequestDTO.getComment())
                 .build();
 
-        // 5. 경험 평가 매핑
-        reviewRequestDTO.getExperienceEvaluations().forEach(e -> {
-            ExperienceGroup experienceGroup = experienceGroupRepository.findById(e.getExperienceGroupId())
-                    .orElseThrow(() -> new BaseException(ErrorStatus.EXPERIENCE_NOT_FOUND));
-
+        long thumbsUpCount = 0;
+        for (ExperienceEvaluationRequestDTO e : reviewRequestDTO.getExperienceEvaluations()) {
             ReviewExperience reviewExperience = ReviewExperience.builder()
-                    .experienceGroup(experienceGroup)
+                    .experienceGroup(experienceGroups.get(e.getExperienceGroupId()))
                     .isThumbsUp(e.getIsThumbsUp())
                     .build();
 
             review.addExperienceEvaluation(reviewExperience); // FK 양방향 관계 세팅
-        });
+            if (reviewExperience.isThumbsUp()) {
+                thumbsUpCount++;
+            }
+        }
 
-        // 7. 저장
+        // 6. 저장 (경험 평가는 cascade 로 배치 INSERT)
         Review saved = reviewRepository.save(review);
 
-        // 8. fetch join 으로 다시 조회 (experienceGroup 포함)
-        Review fullyLoaded = reviewRepository.findByIdWithExperiences(saved.getId())
-                .orElseThrow(() -> new BaseException(ErrorStatus.REVIEW_NOT_FOUND));
+        // 7. 가이드 평점 집계 증분 반영 (커밋 직전, 같은 트랜잭션) + 후처리는 아웃박스로 커밋 이후 전달
+        ReviewCreatedEvent reviewCreatedEvent = new ReviewCreatedEvent(
+                saved.getId(), reservation.getId(), reservation.getGuide().getId(),
+                reservation.getGuide().getMember().getId(), saved.getStarReview(), thumbsUpCount);
+        eventPublisher.publishEvent(reviewCreatedEvent);
+        outboxEventPublisher.append(reviewCreatedEvent);
 
-        // 9. DTO 변환
-        return ReviewResponseDTO.from(fullyLoaded);
+        // 8. DTO 변환 - 조회한 경험/예약을 그대로 쓰므로 재조회하지 않는다
+        return ReviewResponseDTO.from(saved);
     }
 
     /* 내 리뷰 조회 */
@@ -118,4 +136,24 @@ public class ReviewService {
 
         return page;
     }
+
+    // 요청의 경험 id 를 한 번에 조회하고, 중복이거나 예약한 가이드의 경험이 아니면 실패
+    private Map<Long, ExperienceGroup> findEvaluatedExperienceGroups(Long guideId,
+                                                                     List<ExperienceEvaluationRequestDTO> evaluations) {
+        Set<Long> experienceGroupIds = new HashSet<>();
+        for (ExperienceEvaluationRequestDTO e : evaluations) {
+            if (!experienceGroupIds.add(e.getExperienceGroupId())) {
+                throw new BaseException(ErrorStatus.DUPLICATE_EXPERIENCE_EVALUATION);
+            }
+        }
+
+        Map<Long, ExperienceGroup> experienceGroups = new HashMap<>();
+        for (ExperienceGroup experienceGroup : experienceGroupRepository.findAllByIdInAndGuide_Id(experienceGroupIds, guideId)) {
+            experienceGroups.put(experienceGroup.getId(), experienceGroup);
+        }
+        if (experienceGroups.size() != experienceGroupIds.size()) {
+            throw new BaseException(ErrorStatus.EXPERIENCE_NOT_FOUND);
+        }
+        return experienceGroups;
+    }
 }
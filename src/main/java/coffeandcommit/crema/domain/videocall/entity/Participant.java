@@ -7,7 +7,9 @@ import lombok.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "participants")
+@Table(name = "participants", indexes = {
+        @Index(name = "idx_participant_session_connected", columnList = "video_session_id, is_connected")
+})
 @Getter
 @Builder
 @AllArgsConstructor
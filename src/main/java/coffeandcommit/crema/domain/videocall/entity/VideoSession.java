@@ -42,6 +42,13 @@ public class VideoSession extends BaseEntity {
     @JoinColumn(name = "reservation_id")
     private Reservation reservation;
 
+    /**
+     * 예약과 연결 (미리 만든 세션 / quickJoin 으로 만든 세션)
+     */
+    public void assignReservation(Reservation reservation) {
+        this.reservation = reservation;
+    }
+
     public void addParticipant(Participant participant) {
         this.participants.add(participant);
         participant.setVideoSession(this);
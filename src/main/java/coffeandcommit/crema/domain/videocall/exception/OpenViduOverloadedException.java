@@ -0,0 +1,14 @@
+package coffeandcommit.crema.domain.videocall.exception;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+public class OpenViduOverloadedException extends BaseException {
+    public OpenViduOverloadedException() {
+        super(ErrorStatus.OPENVIDU_OVERLOADED);
+    }
+
+    public OpenViduOverloadedException(String detailMessage) {
+        super(ErrorStatus.OPENVIDU_OVERLOADED, detailMessage);
+    }
+}
@@ -0,0 +1,14 @@
+package coffeandcommit.crema.domain.videocall.exception;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+public class ScreenShareInUseException extends BaseException {
+    public ScreenShareInUseException() {
+        super(ErrorStatus.SCREEN_SHARE_IN_USE);
+    }
+
+    public ScreenShareInUseException(String detailMessage) {
+        super(ErrorStatus.SCREEN_SHARE_IN_USE, detailMessage);
+    }
+}
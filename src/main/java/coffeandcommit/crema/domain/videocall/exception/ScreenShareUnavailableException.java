@@ -0,0 +1,14 @@
+package coffeandcommit.crema.domain.videocall.exception;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+public class ScreenShareUnavailableException extends BaseException {
+    public ScreenShareUnavailableException() {
+        super(ErrorStatus.SCREEN_SHARE_UNAVAILABLE);
+    }
+
+    public ScreenShareUnavailableException(String detailMessage) {
+        super(ErrorStatus.SCREEN_SHARE_UNAVAILABLE, detailMessage);
+    }
+}
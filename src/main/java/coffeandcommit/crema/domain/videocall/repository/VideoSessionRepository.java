@@ -1,15 +1,22 @@
 package coffeandcommit.crema.domain.videocall.repository;
 
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.QueryHints;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -29,10 +36,57 @@ public interface VideoSessionRepository extends JpaRepository<VideoSession, Long
     @Query("select vs from VideoSession vs where vs.sessionId = :sessionId")
     Optional<VideoSession> findBySessionIdForUpdate(@Param("sessionId") String sessionId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "5000"))
-    @Query("select vs from VideoSession vs where vs.sessionName = :sessionName")
-    Optional<VideoSession> findBySessionNameForUpdate(@Param("sessionName") String sessionName);
-
     Optional<VideoSession> findBySessionName(String sessionName);
+
+    /**
+     * 세션에 예약 연결 (이미 연결된 세션은 건드리지 않음)
+     * 사전 생성 경로는 트랜잭션 밖에서 실행되므로 자체 트랜잭션으로 갱신한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE VideoSession vs SET vs.reservation = :reservation WHERE vs.id = :id AND vs.reservation IS NULL")
+    int linkReservation(@Param("id") Long id, @Param("reservation") Reservation reservation);
+
+    /**
+     * 참가자가 한 번도 없었던 예약 세션 중 예약이 취소됐거나 매칭 시간이 noShowBefore 이전(노쇼)인 활성 세션 ID
+     */
+    @Query("""
+            SELECT vs.id FROM VideoSession vs JOIN vs.reservation r
+            WHERE vs.isActive = true
+              AND vs.participants IS EMPTY
+              AND (r.status = :cancelled OR r.matchingTime < :noShowBefore)
+            """)
+    List<Long> findIdleReservationSessionIds(@Param("cancelled") Status cancelled,
+                                             @Param("noShowBefore") LocalDateTime noShowBefore,
+                                             Pageable pageable);
+
+    /**
+     * 참가자가 한 번도 없었던 활성 세션 (유휴 세션 정리 직전 재확인)
+     */
+    @Query("SELECT vs FROM VideoSession vs WHERE vs.id = :id AND vs.isActive = true AND vs.participants IS EMPTY")
+    Optional<VideoSession> findIdleById(@Param("id") Long id);
+
+    /**
+     * 참가자가 한 번도 없었던 활성 세션 비활성화 (그 사이 참가자가 생겼으면 건드리지 않음)
+     * 유휴 세션 정리는 트랜잭션 밖에서 OpenVidu 세션을 닫은 뒤 호출하므로 자체 트랜잭션으로 갱신한다.
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE VideoSession vs SET vs.isActive = false, vs.endedAt = :endedAt
+            WHERE vs.id = :id AND vs.isActive = true AND vs.participants IS EMPTY
+            """)
+    int deactivateIfIdle(@Param("id") Long id, @Param("endedAt") LocalDateTime endedAt);
+
+    /**
+     * 참가자가 한 번이라도 있었던 활성 세션 ID (세션 정리기 대상, afterId 이후 키셋 페이지)
+     */
+    @Query("""
+            SELECT vs.id FROM VideoSession vs
+            WHERE vs.isActive = true
+              AND vs.participants IS NOT EMPTY
+              AND vs.id > :afterId
+            ORDER BY vs.id
+            """)
+    List<Long> findActiveJoinedSessionIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
 }
@@ -16,11 +16,15 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -34,8 +38,10 @@ public class ChatService {
     private final VideoSessionRepository videoSessionRepository;
     private final ReservationRepository reservationRepository;
     private final ObjectMapper objectMapper;
+    private final CremaMetrics metrics;
 
     @Transactional
+    @Workload(WorkloadType.BACKGROUND)
     public void saveChatHistory(String sessionId, ChatHistorySaveRequest request, String username) {
         try {
             // 권한 검증
@@ -45,6 +51,7 @@ public class ChatService {
                     .orElseThrow(() -> new SessionNotFoundException("채팅 저장용 세션 ID: " + sessionId + "를 찾을 수 없습니다"));
 
             String chatMessagesJson = objectMapper.writeValueAsString(request.getMessages());
+            long payloadBytes = chatMessagesJson.getBytes(StandardCharsets.UTF_8).length;
 
             // 멱등성 체크 - 동일한 내용이면 건너뛰기
             SessionChatLog existingChatLog = sessionChatLogRepository.findBySessionId(sessionId)
@@ -58,6 +65,7 @@ public class ChatService {
                     existingChatLog.getChatMessages().length() == chatMessagesJson.length()) {
                     log.info("채팅 기록 중복 저장 방지: sessionId={}, messageCount={}",
                             sessionId, request.getMessages().size());
+                    metrics.recordChatSavePayload("skip", payloadBytes);
                     return; // 멱등성 - 동일한 내용은 재저장하지 않음
                 }
 
@@ -68,6 +76,7 @@ public class ChatService {
                     username
                 );
                 sessionChatLogRepository.save(existingChatLog);
+                metrics.recordChatSavePayload("update", payloadBytes);
                 log.info("채팅 기록 업데이트 완료: sessionId={}, messageCount={}, savedBy={}",
                         sessionId, request.getMessages().size(), username);
             } else {
@@ -82,6 +91,7 @@ public class ChatService {
                         .build();
 
                 sessionChatLogRepository.save(chatLog);
+                metrics.recordChatSavePayload("create", payloadBytes);
                 log.info("채팅 기록 저장 완료: sessionId={}, messageCount={}, savedBy={}",
                         sessionId, request.getMessages().size(), username);
             }
@@ -4,7 +4,9 @@ import coffeandcommit.crema.domain.guide.entity.Guide;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.domain.member.repository.MemberRepository;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.reservation.service.ReservationSlotService;
 import coffeandcommit.crema.domain.videocall.dto.response.ParticipantInfoResponse;
 import coffeandcommit.crema.domain.videocall.dto.response.QuickJoinResponse;
 import coffeandcommit.crema.domain.videocall.dto.response.SessionConfigResponse;
@@ -16,6 +18,8 @@ import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.videocall.dto.request.ChatHistorySaveRequest;
 import coffeandcommit.crema.domain.videocall.repository.ParticipantRepository;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import coffeandcommit.crema.global.common.resilience.CircuitOpenException;
 
 import io.openvidu.java.client.*;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +27,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
@@ -57,22 +62,28 @@ public class VideoCallService {
     
     private final ParticipantRepository participantRepository;
 
+    private final ReservationSlotService reservationSlotService;
+
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    /*
+     * 행 잠금 없이 입장 - 세션 생성과 토큰 발급(OpenVidu 원격 호출)이 다른 참가자의 입장을 막지 않도록
+     * 트랜잭션 밖에서 실행하고, 세션 생성의 중복은 sessionName 유니크 제약으로 정리한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public QuickJoinResponse quickJoin(Long reservationId, UserDetails userDetails) {
         try {
-            // 1. 예약을 먼저 락으로 잡음 (동시 접근 차단)
-            Reservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+            // 1. 예약 조회 (잠금 없음)
+            Reservation reservation = reservationRepository.findById(reservationId)
                     .orElseThrow(() -> new SessionNotFoundException("예약 ID: " + reservationId + "를 찾을 수 없습니다"));
 
             // 2. 세션명 고정 생성
             String sessionName = "reservation_" + reservation.getId();
 
-            // 3. 세션 조회 (락 사용) 및 없으면 생성
+            // 3. 세션 조회 및 없으면 생성
             VideoSession session = videoSessionRepository
-                    .findBySessionNameForUpdate(sessionName)
-                    .orElseGet(() -> {
-                        log.info("[SESSION-QUICKJOIN] 세션이 없어 새로 생성: {}", sessionName);
-                        return basicVideoCallService.createVideoSession(sessionName);
-                    });
+                    .findBySessionName(sessionName)
+                    .orElseGet(() -> createReservationSession(reservation, sessionName));
             
             String token = basicVideoCallService.joinSession(session.getSessionId(), userDetails.getUsername());
             Member member = memberRepository.findByIdAndIsDeletedFalse(userDetails.getUsername()).orElseThrow(ParticipantNotFound::new);
@@ -94,6 +105,17 @@ public class VideoCallService {
         }
     }
 
+    /*
+     * 동시에 입장한 참가자가 같은 세션을 만들면 먼저 저장한 쪽만 남고, 나머지는 저장된 세션을 돌려받는다. (VideoSessionWriter)
+     * OpenVidu 세션은 customSessionId 가 같아 양쪽 모두 같은 세션을 가리킨다.
+     */
+    private VideoSession createReservationSession(Reservation reservation, String sessionName) {
+        log.info("[SESSION-QUICKJOIN] 세션이 없어 새로 생성: {}", sessionName);
+        VideoSession created = basicVideoCallService.createVideoSession(sessionName, reservation);
+        reservationRepository.linkVideoSession(reservation.getId(), created);
+        return created;
+    }
+
     public QuickJoinResponse testQuickJoinAuth(String inputSessionName, UserDetails userDetails) {
         try {
 
@@ -229,10 +251,12 @@ public class VideoCallService {
         }
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<Session> getOpenViduStatus() {
         try {
             return basicVideoCallService.getOpenViduActiveSessions();
+        } catch (OpenViduOverloadedException | CircuitOpenException e) {
+            throw e;
         } catch (Exception e) {
             log.error("OpenVidu 상태 확인 실패: {}", e.getMessage());
             throw new OpenViduConnectionException("OpenVidu 서버 상태 확인 실패: " + e.getMessage());
@@ -322,6 +346,8 @@ public class VideoCallService {
                     Reservation reservation = videoSession.getReservation();
                     if (reservation.getStatus() != Status.COMPLETED) {
                         reservation.completeReservation();
+                        reservationSlotService.release(reservation);
+                        outboxEventPublisher.append(ReservationCompletedEvent.from(reservation));
                         log.info("예약 상태를 COMPLETED로 변경: reservationId={}", reservation.getId());
                     } else {
                         log.debug("예약이 이미 완료 상태입니다: reservationId={}", reservation.getId());
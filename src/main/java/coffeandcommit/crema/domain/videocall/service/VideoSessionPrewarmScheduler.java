@@ -0,0 +1,108 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import coffeandcommit.crema.global.common.resilience.ExternalCallGuards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시작이 임박한 확정 예약의 세션을 미리 만들고, 참가자 없이 남은 세션을 주기적으로 정리한다.
+ * OpenVidu 서킷이 열려 있으면 이번 주기는 건너뛴다. (입장 시 quickJoin 이 세션을 만든다)
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.BACKGROUND)
+@RequiredArgsConstructor
+public class VideoSessionPrewarmScheduler {
+
+    private static final String OPERATION_PREWARM = "prewarm";
+    private static final String OPERATION_COLLECT = "collect";
+    private static final String OUTCOME_FAILURE = "failure";
+
+    private final VideoSessionPrewarmService prewarmService;
+    private final ReservationRepository reservationRepository;
+    private final VideoSessionRepository videoSessionRepository;
+    private final ExternalCallGuards externalCallGuards;
+    private final CremaMetrics metrics;
+
+    @Value("${videocall.prewarm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${videocall.prewarm.lead-minutes:10}")
+    private long leadMinutes;
+
+    @Value("${videocall.prewarm.no-show-grace-minutes:60}")
+    private long noShowGraceMinutes;
+
+    @Value("${videocall.prewarm.batch-size:50}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${videocall.prewarm.delay-ms:60000}")
+    public void prewarmUpcoming() {
+        if (!enabled || externalCallGuards.isOpen(ExternalCallGuards.OPENVIDU)) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> reservationIds = reservationRepository.findIdsWithoutVideoSessionBetween(
+                Status.CONFIRMED, now, now.plusMinutes(leadMinutes), PageRequest.of(0, batchSize));
+
+        int created = 0;
+        for (Long reservationId : reservationIds) {
+            try {
+                String outcome = prewarmService.prewarm(reservationId);
+                metrics.countSessionPrewarm(OPERATION_PREWARM, outcome);
+                if (VideoSessionPrewarmService.OUTCOME_CREATED.equals(outcome)) {
+                    created++;
+                }
+            } catch (Exception e) {
+                metrics.countSessionPrewarm(OPERATION_PREWARM, OUTCOME_FAILURE);
+                log.warn("세션 사전 생성 실패 (입장 시 생성): reservationId={}, error={}", reservationId, e.getMessage());
+            }
+        }
+
+        if (created > 0) {
+            log.info("세션 사전 생성 완료: {}/{}건", created, reservationIds.size());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${videocall.prewarm.collect-delay-ms:300000}")
+    public void collectIdle() {
+        if (!enabled || externalCallGuards.isOpen(ExternalCallGuards.OPENVIDU)) {
+            return;
+        }
+
+        List<Long> sessionIds = videoSessionRepository.findIdleReservationSessionIds(
+                Status.CANCELLED, LocalDateTime.now().minusMinutes(noShowGraceMinutes), PageRequest.of(0, batchSize));
+
+        int closed = 0;
+        for (Long sessionId : sessionIds) {
+            try {
+                String outcome = prewarmService.collect(sessionId);
+                metrics.countSessionPrewarm(OPERATION_COLLECT, outcome);
+                if (VideoSessionPrewarmService.OUTCOME_CLOSED.equals(outcome)) {
+                    closed++;
+                }
+            } catch (Exception e) {
+                metrics.countSessionPrewarm(OPERATION_COLLECT, OUTCOME_FAILURE);
+                log.warn("유휴 세션 정리 실패: videoSessionId={}, error={}", sessionId, e.getMessage());
+            }
+        }
+
+        if (closed > 0) {
+            log.info("유휴 세션 정리 완료: {}/{}건", closed, sessionIds.size());
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * 확정 예약의 화상 세션 사전 생성 / 유휴 세션 정리.
+ * 입장(quickJoin) 시점에는 토큰 발급만 남도록 시작 몇 분 전에 세션을 만들어 예약과 연결하고,
+ * 아무도 들어오지 않은 채 취소·노쇼가 된 세션은 닫는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class VideoSessionPrewarmService {
+
+    public static final String OUTCOME_CREATED = "created";
+    public static final String OUTCOME_LINKED = "linked";
+    public static final String OUTCOME_SKIPPED = "skipped";
+    public static final String OUTCOME_CLOSED = "closed";
+    public static final String OUTCOME_CLOSE_FAILED = "close_failed";
+
+    static final String SESSION_NAME_PREFIX = "reservation_";
+    static final String CLAIM_KEY_PREFIX = "videocall:prewarm:";
+
+    private final ReservationRepository reservationRepository;
+    private final VideoSessionRepository videoSessionRepository;
+    private final BasicVideoCallService basicVideoCallService;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${videocall.prewarm.claim-ttl-seconds:300}")
+    private long claimTtlSeconds;
+
+    /**
+     * 예약 1건의 세션을 미리 만들어 연결한다.
+     * 이미 연결됐거나 확정 상태가 아니거나 다른 인스턴스가 처리 중이면 건너뛴다.
+     * OpenVidu 세션 생성은 트랜잭션 밖에서 하고 행 저장과 연결은 각각 짧은 트랜잭션으로 커밋한다.
+     * (바깥 트랜잭션 커밋이 실패해 OpenVidu 세션만 남는 일이 없도록)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String prewarm(Long reservationId) {
+        Reservation reservation = reservationRepository.findById(reservationId).orElse(null);
+        if (reservation == null
+                || reservation.getStatus() != Status.CONFIRMED
+                || reservation.getVideoSession() != null) {
+            return OUTCOME_SKIPPED;
+        }
+
+        if (!claim(reservationId)) {
+            return OUTCOME_SKIPPED;
+        }
+
+        try {
+            String sessionName = SESSION_NAME_PREFIX + reservationId;
+
+            // quickJoin 이 먼저 만들었지만 연결되지 않은 세션은 새로 만들지 않고 연결만 한다
+            VideoSession session = videoSessionRepository.findBySessionName(sessionName).orElse(null);
+            String outcome = OUTCOME_LINKED;
+            if (session == null) {
+                session = basicVideoCallService.createVideoSession(sessionName, reservation);
+                outcome = OUTCOME_CREATED;
+            }
+
+            // 양쪽 모두 비어 있을 때만 채우므로 quickJoin 과 겹쳐도 같은 값으로 수렴한다
+            videoSessionRepository.linkReservation(session.getId(), reservation);
+            reservationRepository.linkVideoSession(reservationId, session);
+
+            log.info("[SESSION-PREWARM] 세션 사전 생성: reservationId={}, sessionId={}, outcome={}",
+                    reservationId, session.getSessionId(), outcome);
+            return outcome;
+
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 시도할 수 있도록 선점 해제
+            release(reservationId);
+            throw e;
+        }
+    }
+
+    /**
+     * 참가자 없이 남은 세션의 OpenVidu 세션을 닫고 비활성화한다.
+     * OpenVidu 호출은 트랜잭션 밖에서 하고, 닫았거나 OpenVidu 에 이미 없는 세션만 짧은 트랜잭션으로 비활성화한다.
+     * 닫지 못한 세션은 활성으로 남겨 다음 주기에 다시 시도한다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public String collect(Long videoSessionId) {
+        VideoSession session = videoSessionRepository.findIdleById(videoSessionId).orElse(null);
+        if (session == null) {
+            return OUTCOME_SKIPPED;
+        }
+
+        if (!basicVideoCallService.endSession(session.getSessionId())) {
+            log.warn("[SESSION-PREWARM] 유휴 세션 닫기 실패 (다음 주기 재시도): sessionId={}", session.getSessionId());
+            return OUTCOME_CLOSE_FAILED;
+        }
+
+        if (videoSessionRepository.deactivateIfIdle(videoSessionId, LocalDateTime.now()) == 0) {
+            // 닫는 사이 참가자가 생긴 경우 - 상태는 세션 정리기가 OpenVidu 기준으로 맞춘다
+            log.info("[SESSION-PREWARM] 유휴 세션 비활성화 건너뜀: sessionId={}", session.getSessionId());
+            return OUTCOME_SKIPPED;
+        }
+
+        log.info("[SESSION-PREWARM] 유휴 세션 정리: sessionId={}", session.getSessionId());
+        return OUTCOME_CLOSED;
+    }
+
+    /* Redis 선점 - 여러 인스턴스가 같은 예약의 세션을 동시에 만들지 않도록 한다. Redis 장애 시 이번 주기는 건너뛴다 */
+    private boolean claim(Long reservationId) {
+        try {
+            Boolean claimed = redisTemplate.opsForValue()
+                    .setIfAbsent(CLAIM_KEY_PREFIX + reservationId, "1", Duration.ofSeconds(claimTtlSeconds));
+            return Boolean.TRUE.equals(claimed);
+        } catch (Exception e) {
+            log.warn("[SESSION-PREWARM] 선점 실패로 건너뜀: reservationId={}, error={}", reservationId, e.getMessage());
+            return false;
+        }
+    }
+
+    private void release(Long reservationId) {
+        try {
+            redisTemplate.delete(CLAIM_KEY_PREFIX + reservationId);
+        } catch (Exception e) {
+            log.debug("[SESSION-PREWARM] 선점 해제 실패: reservationId={}, error={}", reservationId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import coffeandcommit.crema.global.common.lock.DistributedLock;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import coffeandcommit.crema.global.common.resilience.ExternalCallGuards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 세션 정리기 스케줄러.
+ * 분산 잠금을 잡은 인스턴스 하나만 실행하며, OpenVidu 스냅샷을 한 번 떠서 활성 세션을 배치 단위로 대사한다.
+ * 서버 상태를 확인할 수 없으면(서킷 열림 / 조회 실패) 세션을 잘못 닫지 않도록 이번 주기를 건너뛴다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.BACKGROUND)
+@RequiredArgsConstructor
+public class VideoSessionReaper {
+
+    static final String LOCK_NAME = "videocall:reaper";
+    private static final String OUTCOME_FAILURE = "failure";
+    private static final Set<String> CLOSING_OUTCOMES = Set.of(
+            VideoSessionReaperService.OUTCOME_CLOSED,
+            VideoSessionReaperService.OUTCOME_COMPLETED,
+            VideoSessionReaperService.OUTCOME_FLAGGED);
+
+    private final VideoSessionReaperService reaperService;
+    private final VideoSessionRepository videoSessionRepository;
+    private final BasicVideoCallService basicVideoCallService;
+    private final DistributedLock distributedLock;
+    private final ExternalCallGuards externalCallGuards;
+    private final CremaMetrics metrics;
+
+    @Value("${videocall.reaper.enabled:true}")
+    private boolean enabled;
+
+    @Value("${videocall.reaper.batch-size:100}")
+    private int batchSize;
+
+    @Value("${videocall.reaper.max-batches:20}")
+    private int maxBatches;
+
+    @Value("${videocall.reaper.lock-ttl-seconds:300}")
+    private long lockTtlSeconds;
+
+    @Scheduled(fixedDelayString = "${videocall.reaper.delay-ms:120000}")
+    public void reapStaleSessions() {
+        if (!enabled || externalCallGuards.isOpen(ExternalCallGuards.OPENVIDU)) {
+            return;
+        }
+
+        String token = distributedLock.tryLock(LOCK_NAME, Duration.ofSeconds(lockTtlSeconds));
+        if (token == null) {
+            return; // 다른 인스턴스가 실행 중
+        }
+
+        try {
+            LocalDateTime snapshotAt = LocalDateTime.now();
+            Map<String, Set<String>> liveConnections;
+            try {
+                liveConnections = basicVideoCallService.fetchActiveConnectionIds();
+            } catch (Exception e) {
+                log.warn("세션 정리 건너뜀 (OpenVidu 상태 조회 실패): error={}", e.getMessage());
+                return;
+            }
+
+            int closed = 0;
+            int scanned = 0;
+            long afterId = 0L;
+            for (int batch = 0; batch < maxBatches; batch++) {
+                List<Long> sessionIds = videoSessionRepository.findActiveJoinedSessionIdsAfter(
+                        afterId, PageRequest.of(0, batchSize));
+
+                for (Long sessionId : sessionIds) {
+                    try {
+                        String outcome = reaperService.reap(sessionId, liveConnections, snapshotAt);
+                        metrics.countSessionReap(outcome);
+                        if (CLOSING_OUTCOMES.contains(outcome)) {
+                            closed++;
+                        }
+                    } catch (Exception e) {
+                        metrics.countSessionReap(OUTCOME_FAILURE);
+                        log.warn("세션 정리 실패: videoSessionId={}, error={}", sessionId, e.getMessage());
+                    }
+                }
+
+                scanned += sessionIds.size();
+                if (sessionIds.size() < batchSize) {
+                    break;
+                }
+                afterId = sessionIds.get(sessionIds.size() - 1);
+            }
+
+            if (closed > 0) {
+                log.info("세션 정리 완료: {}/{}건 종료", closed, scanned);
+            }
+        } finally {
+            distributedLock.unlock(LOCK_NAME, token);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
+import coffeandcommit.crema.domain.reservation.service.ReservationSlotService;
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.domain.videocall.util.ScreenShareRegistry;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 버려진 화상 세션 정리 - DB 상태를 OpenVidu 서버 상태와 대사한다.
+ * 1) OpenVidu 에 연결이 없는 참가자는 연결 종료로 기록
+ * 2) 예약 시간(matchingTime + 예약 단위)이 끝났고 연결된 참가자가 없으며 OpenVidu 세션이 사라졌거나 유휴 시간이 지난 세션은 닫는다
+ *    예약 시간 중에 모두 나간 세션은 재입장할 수 있도록 참가자 연결 종료만 기록하고 남겨 둔다
+ * 3) 닫은 세션의 확정 예약은 완료 처리하고, 완료할 수 없는 상태면 로그로 남긴다
+ * 참가자가 한 번도 없었던 세션(사전 생성 세션)은 VideoSessionPrewarmService 가 정리한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class VideoSessionReaperService {
+
+    public static final String OUTCOME_KEPT = "kept";
+    public static final String OUTCOME_DISCONNECTED = "disconnected";
+    public static final String OUTCOME_CLOSED = "closed";
+    public static final String OUTCOME_COMPLETED = "completed";
+    public static final String OUTCOME_FLAGGED = "flagged";
+    public static final String OUTCOME_SKIPPED = "skipped";
+
+    private final VideoSessionRepository videoSessionRepository;
+    private final BasicVideoCallService basicVideoCallService;
+    private final ScreenShareRegistry screenShareRegistry;
+    private final ReservationSlotService reservationSlotService;
+    private final OutboxEventPublisher outboxEventPublisher;
+
+    @Value("${videocall.reaper.join-grace-seconds:120}")
+    private long joinGraceSeconds;
+
+    @Value("${videocall.reaper.idle-timeout-minutes:10}")
+    private long idleTimeoutMinutes;
+
+    /**
+     * 세션 1건 대사
+     * @param liveConnections OpenVidu 활성 세션별 연결 ID 스냅샷
+     * @param snapshotAt      스냅샷을 뜨기 직전 시각 - 이후 입장한 참가자는 대사하지 않는다
+     */
+    public String reap(Long videoSessionId, Map<String, Set<String>> liveConnections, LocalDateTime snapshotAt) {
+        VideoSession session = videoSessionRepository.findById(videoSessionId).orElse(null);
+        if (session == null || !Boolean.TRUE.equals(session.getIsActive())) {
+            return OUTCOME_SKIPPED;
+        }
+
+        Set<String> live = liveConnections.get(session.getSessionId());
+        List<Participant> participants = session.getParticipants();
+
+        int disconnected = 0;
+        LocalDateTime joinedBefore = snapshotAt.minusSeconds(joinGraceSeconds);
+        for (Participant participant : participants) {
+            if (Boolean.TRUE.equals(participant.getIsConnected())
+                    && participant.getJoinedAt().isBefore(joinedBefore)
+                    && (live == null || !live.contains(participant.getConnectionId()))) {
+                participant.leaveSession();
+                screenShareRegistry.release(session.getSessionId(), participant.getConnectionId());
+                disconnected++;
+            }
+        }
+
+        String kept = disconnected > 0 ? OUTCOME_DISCONNECTED : OUTCOME_KEPT;
+        if (participants.stream().anyMatch(p -> Boolean.TRUE.equals(p.getIsConnected()))) {
+            return kept;
+        }
+
+        // 예약 시간이 끝나기 전에는 일찍 들어왔다 나간 경우라도 닫거나 완료 처리하지 않는다
+        LocalDateTime scheduledEnd = scheduledEnd(session.getReservation());
+        if (scheduledEnd != null && snapshotAt.isBefore(scheduledEnd)) {
+            return kept;
+        }
+
+        // OpenVidu 세션이 남아 있으면 재접속을 기다렸다가 유휴 시간이 지난 뒤에 닫는다
+        if (live != null && lastActivity(participants).isAfter(snapshotAt.minusMinutes(idleTimeoutMinutes))) {
+            return kept;
+        }
+
+        // 닫지 못한 세션은 활성으로 남겨 다음 주기에 다시 시도한다
+        if (live != null && !basicVideoCallService.endSession(session.getSessionId())) {
+            return kept;
+        }
+        session.endSession();
+
+        log.info("[SESSION-REAPER] 버려진 세션 종료: sessionId={}, openViduAlive={}, disconnected={}",
+                session.getSessionId(), live != null, disconnected);
+        return settleReservation(session);
+    }
+
+    private String settleReservation(VideoSession session) {
+        Reservation reservation = session.getReservation();
+        if (reservation == null || reservation.getStatus() == Status.COMPLETED) {
+            return OUTCOME_CLOSED;
+        }
+
+        if (reservation.getStatus() == Status.CONFIRMED) {
+            reservation.completeReservation();
+            reservationSlotService.release(reservation);
+            outboxEventPublisher.append(ReservationCompletedEvent.from(reservation));
+            log.info("[SESSION-REAPER] 예약 완료 처리: reservationId={}", reservation.getId());
+            return OUTCOME_COMPLETED;
+        }
+
+        // 확정되지 않은 예약에서 통화가 이뤄진 경우 - 자동으로 상태를 바꾸지 않고 확인이 필요하다고 남긴다
+        log.warn("[SESSION-REAPER] 예약 상태 확인 필요: reservationId={}, status={}, sessionId={}",
+                reservation.getId(), reservation.getStatus(), session.getSessionId());
+        return OUTCOME_FLAGGED;
+    }
+
+    /* 예약 종료 시각 - 예약이 없거나 시간 정보가 없으면 null (유휴 기준으로만 닫는다) */
+    private static LocalDateTime scheduledEnd(Reservation reservation) {
+        if (reservation == null
+                || reservation.getMatchingTime() == null
+                || reservation.getTimeUnit() == null
+                || reservation.getTimeUnit().getTimeType() == null) {
+            return null;
+        }
+        return reservation.getMatchingTime().plusMinutes(reservation.getTimeUnit().getTimeType().getMinutes());
+    }
+
+    private static LocalDateTime lastActivity(List<Participant> participants) {
+        return participants.stream()
+                .map(p -> p.getLeftAt() != null ? p.getLeftAt() : p.getJoinedAt())
+                .filter(Objects::nonNull)
+                .max(LocalDateTime::compareTo)
+                .orElse(LocalDateTime.MIN);
+    }
+}
@@ -0,0 +1,60 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.ParticipantRepository;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 화상 세션 / 참가자 행 저장.
+ * OpenVidu 원격 호출(재시도 대기, 토큰 발급 포함)과 분리해 DB 커넥션은 삽입하는 짧은 트랜잭션 동안만 잡는다.
+ * 같은 sessionName 을 동시에 저장하면 유니크 제약으로 한 행만 남고, 진 쪽은 먼저 저장된 행을 다시 읽어 돌려준다.
+ */
+@Slf4j
+@Service
+public class VideoSessionWriter {
+
+    private final VideoSessionRepository videoSessionRepository;
+    private final ParticipantRepository participantRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public VideoSessionWriter(VideoSessionRepository videoSessionRepository,
+                              ParticipantRepository participantRepository,
+                              PlatformTransactionManager transactionManager) {
+        this.videoSessionRepository = videoSessionRepository;
+        this.participantRepository = participantRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 세션 행을 저장하고, 같은 이름의 행이 이미 있으면 그 행을 돌려준다.
+     * 호출자는 저장 전에 이미 조회했으므로 여기서는 먼저 삽입하고 유니크 제약 위반일 때만 다시 읽는다.
+     */
+    public VideoSession insertIfAbsent(String sessionId, String sessionName, Reservation reservation) {
+        try {
+            return transactionTemplate.execute(status -> videoSessionRepository.saveAndFlush(VideoSession.builder()
+                    .sessionId(sessionId)
+                    .sessionName(sessionName)
+                    .reservation(reservation)
+                    .build()));
+        } catch (DataIntegrityViolationException e) {
+            log.info("[SESSION-CREATE] 동시 생성된 세션 재사용: {}", sessionName);
+            return videoSessionRepository.findBySessionName(sessionName).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * 토큰 발급이 끝난 참가자 행을 저장한다.
+     */
+    public Participant insertParticipant(Participant participant) {
+        return transactionTemplate.execute(status -> participantRepository.save(participant));
+    }
+}
@@ -0,0 +1,63 @@
+package coffeandcommit.crema.domain.videocall.util;
+
+import coffeandcommit.crema.domain.videocall.exception.OpenViduOverloadedException;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OpenVidu 서버 동시 호출 수 제한 (벌크헤드).
+ * 한도를 넘으면 maxWaitMs 만큼만 기다린 뒤 429 (OPENVIDU_OVERLOADED) 로 즉시 거절해
+ * 느린 OpenVidu 호출 뒤에 요청 스레드와 DB 커넥션이 쌓이지 않게 한다.
+ */
+@Slf4j
+@Component
+public class OpenViduBulkhead {
+
+    private final Semaphore permits;
+    private final int maxConcurrentCalls;
+    private final long maxWaitMs;
+    private final CremaMetrics metrics;
+
+    public OpenViduBulkhead(@Value("${openvidu.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
+                            @Value("${openvidu.bulkhead.max-wait-ms:100}") long maxWaitMs,
+                            CremaMetrics metrics) {
+        this.permits = new Semaphore(maxConcurrentCalls, true);
+        this.maxConcurrentCalls = maxConcurrentCalls;
+        this.maxWaitMs = maxWaitMs;
+        this.metrics = metrics;
+    }
+
+    /* 호출 전 허가를 얻는다. 성공하면 반드시 release() 를 호출해야 한다 */
+    public void acquire(String operation) {
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+
+        if (!acquired) {
+            metrics.countBulkheadRejection(operation);
+            log.atWarn()
+                    .setMessage("[BULKHEAD] OpenVidu 동시 호출 한도 초과 - 요청 거절")
+                    .addKeyValue("operation", operation)
+                    .addKeyValue("maxConcurrentCalls", maxConcurrentCalls)
+                    .log();
+            throw new OpenViduOverloadedException("operation: " + operation);
+        }
+    }
+
+    public void release() {
+        permits.release();
+    }
+
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+}
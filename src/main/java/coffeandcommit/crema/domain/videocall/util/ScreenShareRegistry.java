@@ -0,0 +1,45 @@
+package coffeandcommit.crema.domain.videocall.util;
+
+import coffeandcommit.crema.global.common.lock.DistributedLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 세션별 화면 공유 권한 (세션당 한 연결만 보유).
+ * Redis 잠금 값에 보유 연결 ID 를 기록해 인스턴스 간에 원자적으로 선점하고,
+ * 보유 연결일 때만 해제한다. 연결이 나가거나 세션이 끝나면 해제하며, 놓친 해제는 TTL 로 풀린다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScreenShareRegistry {
+
+    static final String LOCK_PREFIX = "videocall:screenshare:";
+
+    private final DistributedLock distributedLock;
+
+    @Value("${videocall.screen-share.ttl-minutes:120}")
+    private long ttlMinutes;
+
+    /* 화면 공유 권한 획득 - 같은 연결이 이미 보유 중이면 그대로 성공. Redis 장애는 예외로 올린다 */
+    public boolean acquire(String sessionId, String connectionId) {
+        return distributedLock.tryLock(LOCK_PREFIX + sessionId, connectionId, Duration.ofMinutes(ttlMinutes));
+    }
+
+    /* 보유 연결일 때만 해제 */
+    public boolean release(String sessionId, String connectionId) {
+        return distributedLock.unlock(LOCK_PREFIX + sessionId, connectionId);
+    }
+
+    /* 세션 종료 시 보유자와 관계없이 해제 */
+    public void releaseAll(String sessionId) {
+        distributedLock.forceUnlock(LOCK_PREFIX + sessionId);
+    }
+
+    /* 현재 화면 공유 중인 연결 ID (없으면 null) */
+    public String currentOwner(String sessionId) {
+        return distributedLock.getOwner(LOCK_PREFIX + sessionId);
+    }
+}
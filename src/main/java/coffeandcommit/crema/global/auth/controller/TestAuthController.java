@@ -27,7 +27,6 @@ import java.time.LocalDate;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @RestController
@@ -46,8 +45,8 @@ public class TestAuthController {
     @Operation(summary = "루키 테스트 계정 생성", description = "로컬 개발용 루키 테스트 계정을 생성합니다.")
     @PostMapping("/create-rookie")
     public ApiResponse<Map<String, String>> createRookieAccount() {
-        String nickname = generateNickname("rookie");
-        Member member = createTestMember(nickname, MemberRole.ROOKIE);
+        Member member = createTestMember("rookie", MemberRole.ROOKIE);
+        String nickname = member.getNickname();
 
         Map<String, String> response = new LinkedHashMap<>();
         response.put("memberId", member.getId());
@@ -62,8 +61,8 @@ public class TestAuthController {
     @Operation(summary = "가이드 테스트 계정 생성", description = "로컬 개발용 가이드 테스트 계정을 생성합니다.")
     @PostMapping("/create-guide")
     public ApiResponse<Map<String, String>> createGuideAccount() {
-        String nickname = generateNickname("guide");
-        Member member = createTestMember(nickname, MemberRole.GUIDE);
+        Member member = createTestMember("guide", MemberRole.GUIDE);
+        String nickname = member.getNickname();
 
         Map<String, String> response = new LinkedHashMap<>();
         response.put("memberId", member.getId());
@@ -132,16 +131,16 @@ public class TestAuthController {
     /**
      * 테스트 계정 생성 (GUIDE 역할이면 Guide 엔티티도 함께 생성)
      */
-    private Member createTestMember(String nickname, MemberRole role) {
-        // saveWithRetry를 사용하여 저장 시점 ID 충돌 처리
-        Member member = memberService.saveWithRetry(() ->
+    private Member createTestMember(String rolePrefix, MemberRole role) {
+        // 발급한 회원 ID 를 닉네임 접미사로 사용 (중복 조회 없음, 충돌 시 새 ID 로 한 번 재시도)
+        Member member = memberService.saveNewMember(memberId ->
                 Member.builder()
-                        .id(memberService.generateId()) // 매번 새로운 ID 생성
-                        .nickname(nickname)
+                        .id(memberId)
+                        .nickname(rolePrefix + "_" + memberId)
                         .role(role)
                         .point(0)
                         .provider("test")
-                        .providerId(nickname)
+                        .providerId(rolePrefix + "_" + memberId)
                         .build()
         );
 
@@ -178,20 +177,4 @@ public class TestAuthController {
 
         guideJobFieldRepository.save(guideJobField);
     }
-
-    /**
-     * 고유한 닉네임 생성
-     */
-    private String generateNickname(String rolePrefix) {
-        for (int i = 0; i < 5; i++) {
-            String uuid = UUID.randomUUID().toString().substring(0, 8);
-            String nickname = rolePrefix + "_" + uuid;
-
-            if (!memberRepository.existsByNicknameAndIsDeletedFalse(nickname)) {
-                return nickname;
-            }
-        }
-
-        throw new BaseException(ErrorStatus.INTERNAL_SERVER_ERROR);
-    }
-}
\ No newline at end of file
+}
@@ -76,22 +76,38 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                     if (!tokenBlacklistService.isTokenBlacklisted(token)) {
                         log.debug("Token is not blacklisted, setting authentication");
                         setAuthentication(token, request);
-                        log.info("JWT authentication successful for URI: {} with member: {}",
-                                requestURI, jwtTokenProvider.getMemberId(token));
+                        // 매 요청 성공 로그는 DEBUG (memberId는 setAuthentication의 DEBUG 로그에 포함)
+                        log.atDebug()
+                                .setMessage("JWT authentication successful")
+                                .addKeyValue("uri", requestURI)
+                                .log();
                     } else {
-                        log.warn("Blacklisted token used for URI: {}", requestURI);
+                        log.atWarn()
+                                .setMessage("Blacklisted token used")
+                                .addKeyValue("uri", requestURI)
+                                .log();
                         SecurityContextHolder.clearContext();
                     }
                 } else {
-                    log.warn("Invalid JWT token for URI: {}, attempting auto refresh", requestURI);
+                    // 만료된 Access Token은 정상 흐름이므로 DEBUG
+                    log.atDebug()
+                            .setMessage("Invalid JWT token, attempting auto refresh")
+                            .addKeyValue("uri", requestURI)
+                            .log();
                     // Access Token이 유효하지 않을 때 자동 재발급 시도
                     String newToken = authService.attemptAutoRefresh(request, response);
                     if (StringUtils.hasText(newToken)) {
-                        log.info("Token auto-refresh successful for URI: {}", requestURI);
+                        log.atDebug()
+                                .setMessage("Token auto-refresh successful")
+                                .addKeyValue("uri", requestURI)
+                                .log();
                         // 재발급된 새 토큰으로 바로 인증 설정
                         setAuthentication(newToken, request);
                     } else {
-                        log.warn("Token auto-refresh failed for URI: {}", requestURI);
+                        log.atInfo()
+                                .setMessage("Token auto-refresh failed")
+                                .addKeyValue("uri", requestURI)
+                                .log();
                         SecurityContextHolder.clearContext();
                     }
                 }
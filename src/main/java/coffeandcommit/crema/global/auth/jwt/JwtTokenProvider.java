@@ -2,9 +2,12 @@ package coffeandcommit.crema.global.auth.jwt;
 
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Timer;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -24,10 +27,14 @@ public class JwtTokenProvider {
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
+    @Getter(AccessLevel.NONE)
+    private final CremaMetrics metrics;
+
     public JwtTokenProvider(
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-expiration}") long accessTokenExpiration,
-            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration) {
+            @Value("${jwt.refresh-token-expiration}") long refreshTokenExpiration,
+            CremaMetrics metrics) {
 
         if (!StringUtils.hasText(secret)) {
             throw new IllegalArgumentException("JWT secret key cannot be null or empty");
@@ -52,6 +59,7 @@ public class JwtTokenProvider {
 
         this.accessTokenValidityInMilliseconds = accessTokenExpiration;
         this.refreshTokenValidityInMilliseconds = refreshTokenExpiration;
+        this.metrics = metrics;
 
         log.info("JWT Token Provider initialized - Access token validity: {}ms, Refresh token validity: {}ms",
                 accessTokenExpiration, refreshTokenExpiration);
@@ -178,22 +186,31 @@ public class JwtTokenProvider {
             return false;
         }
 
+        Timer.Sample sample = metrics.start();
+        String outcome = "error";
         try {
             Jwts.parserBuilder()
                     .setSigningKey(key)
                     .build()
                     .parseClaimsJws(token);
+            outcome = "valid";
             return true;
         } catch (SecurityException | MalformedJwtException e) {
+            outcome = "invalid";
             log.debug("Invalid JWT signature or malformed token: {}", e.getMessage());
         } catch (ExpiredJwtException e) {
+            outcome = "expired";
             log.debug("Expired JWT token: {}", e.getMessage());
         } catch (UnsupportedJwtException e) {
+            outcome = "invalid";
             log.debug("Unsupported JWT token: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
+            outcome = "invalid";
             log.debug("JWT token compact of handler are invalid: {}", e.getMessage());
         } catch (Exception e) {
             log.error("Unexpected error during JWT validation: {}", e.getMessage());
+        } finally {
+            metrics.stopJwtValidation(sample, outcome);
         }
         return false;
     }
@@ -4,6 +4,8 @@ import coffeandcommit.crema.global.auth.jwt.JwtTokenProvider;
 import coffeandcommit.crema.global.auth.util.CookieUtil;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -19,6 +21,7 @@ public class AuthService {
     private final JwtTokenProvider jwtTokenProvider;
     private final TokenBlacklistService tokenBlacklistService;
     private final CookieUtil cookieUtil;
+    private final CremaMetrics metrics;
 
     /**
      * JWT 토큰을 생성하고 쿠키에 설정
@@ -57,6 +60,20 @@ public class AuthService {
      * Refresh Token을 이용한 토큰 갱신 (수동 재발급 - 컨트롤러용)
      */
     public void refreshToken(HttpServletRequest request, HttpServletResponse response) {
+        Timer.Sample sample = metrics.start();
+        String outcome = "error";
+        try {
+            refreshTokenInternal(request, response);
+            outcome = CremaMetrics.SUCCESS;
+        } catch (BaseException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            metrics.stopTokenRefresh(sample, "manual", outcome);
+        }
+    }
+
+    private void refreshTokenInternal(HttpServletRequest request, HttpServletResponse response) {
         String refreshTokenValue = CookieUtil.getCookie(request, CookieUtil.REFRESH_TOKEN_COOKIE_NAME);
 
         if (!StringUtils.hasText(refreshTokenValue)) {
@@ -98,55 +115,64 @@ public class AuthService {
      * 자동 토큰 재발급
      */
     public String attemptAutoRefresh(HttpServletRequest request, HttpServletResponse response) {
+        Timer.Sample sample = metrics.start();
+        String outcome = "error";
         try {
-            String refreshTokenValue = CookieUtil.getCookie(request, CookieUtil.REFRESH_TOKEN_COOKIE_NAME);
+            String newAccessToken = attemptAutoRefreshInternal(request, response);
+            outcome = newAccessToken != null ? CremaMetrics.SUCCESS : "rejected";
+            return newAccessToken;
+        } catch (Exception e) {
+            log.error("Auto-refresh failed: {}", e.getMessage(), e);
+            return null;
+        } finally {
+            metrics.stopTokenRefresh(sample, "auto", outcome);
+        }
+    }
 
-            if (!StringUtils.hasText(refreshTokenValue)) {
-                log.debug("No refresh token found for auto-refresh");
-                return null;
-            }
+    private String attemptAutoRefreshInternal(HttpServletRequest request, HttpServletResponse response) {
+        String refreshTokenValue = CookieUtil.getCookie(request, CookieUtil.REFRESH_TOKEN_COOKIE_NAME);
 
-            if (!jwtTokenProvider.validateToken(refreshTokenValue)) {
-                log.debug("Refresh token is invalid");
-                return null;
-            }
+        if (!StringUtils.hasText(refreshTokenValue)) {
+            log.debug("No refresh token found for auto-refresh");
+            return null;
+        }
 
-            if (!jwtTokenProvider.isRefreshToken(refreshTokenValue)) {
-                log.debug("Token is not a refresh token");
-                return null;
-            }
+        if (!jwtTokenProvider.validateToken(refreshTokenValue)) {
+            log.debug("Refresh token is invalid");
+            return null;
+        }
 
-            if (tokenBlacklistService.isTokenBlacklisted(refreshTokenValue)) {
-                log.debug("Refresh token is blacklisted");
-                return null;
-            }
+        if (!jwtTokenProvider.isRefreshToken(refreshTokenValue)) {
+            log.debug("Token is not a refresh token");
+            return null;
+        }
 
-            // 기존 토큰들을 블랙리스트에 추가
-            String oldAccessToken = extractAccessToken(request);
-            tokenBlacklistService.blacklistUserTokens(oldAccessToken, refreshTokenValue);
+        if (tokenBlacklistService.isTokenBlacklisted(refreshTokenValue)) {
+            log.debug("Refresh token is blacklisted");
+            return null;
+        }
 
-            // 새로운 토큰 생성
-            String memberId = jwtTokenProvider.getMemberId(refreshTokenValue);
-            String newAccessToken = jwtTokenProvider.createAccessToken(memberId);
-            String newRefreshToken = jwtTokenProvider.createRefreshToken(memberId);
+        // 기존 토큰들을 블랙리스트에 추가
+        String oldAccessToken = extractAccessToken(request);
+        tokenBlacklistService.blacklistUserTokens(oldAccessToken, refreshTokenValue);
 
-            int accessTokenMaxAge = (int) (jwtTokenProvider.getAccessTokenValidityInMilliseconds() / 1000);
-            int refreshTokenMaxAge = (int) (jwtTokenProvider.getRefreshTokenValidityInMilliseconds() / 1000);
+        // 새로운 토큰 생성
+        String memberId = jwtTokenProvider.getMemberId(refreshTokenValue);
+        String newAccessToken = jwtTokenProvider.createAccessToken(memberId);
+        String newRefreshToken = jwtTokenProvider.createRefreshToken(memberId);
 
-            // 새로운 토큰을 쿠키에 설정
-            cookieUtil.addCookie(response, CookieUtil.ACCESS_TOKEN_COOKIE_NAME, newAccessToken, accessTokenMaxAge);
-            cookieUtil.addCookie(response, CookieUtil.REFRESH_TOKEN_COOKIE_NAME, newRefreshToken, refreshTokenMaxAge);
+        int accessTokenMaxAge = (int) (jwtTokenProvider.getAccessTokenValidityInMilliseconds() / 1000);
+        int refreshTokenMaxAge = (int) (jwtTokenProvider.getRefreshTokenValidityInMilliseconds() / 1000);
 
-            // 프론트엔드에게 토큰이 재발급되었음을 알리는 헤더 추가
-            response.setHeader("X-Token-Refreshed", "true");
+        // 새로운 토큰을 쿠키에 설정
+        cookieUtil.addCookie(response, CookieUtil.ACCESS_TOKEN_COOKIE_NAME, newAccessToken, accessTokenMaxAge);
+        cookieUtil.addCookie(response, CookieUtil.REFRESH_TOKEN_COOKIE_NAME, newRefreshToken, refreshTokenMaxAge);
 
-            log.info("Token auto-refresh successful for member: {}", memberId);
-            return newAccessToken; // 새로운 Access Token 반환
+        // 프론트엔드에게 토큰이 재발급되었음을 알리는 헤더 추가
+        response.setHeader("X-Token-Refreshed", "true");
 
-        } catch (Exception e) {
-            log.error("Auto-refresh failed: {}", e.getMessage(), e);
-            return null;
-        }
+        log.info("Token auto-refresh successful for member: {}", memberId);
+        return newAccessToken; // 새로운 Access Token 반환
     }
 
     /**
@@ -20,7 +20,6 @@ import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.Map;
-import java.util.UUID;
 
 @Slf4j
 @Service
@@ -92,13 +91,11 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             throw new OAuth2AuthenticationException("사용자 생성에 필요한 정보가 부족합니다.");
         }
 
-        String uniqueNickname = generateUniqueNickname(userInfo.getName());
-
-        // saveWithRetry를 사용하여 저장 시점 ID 충돌 처리
-        Member member = memberService.saveWithRetry(() ->
+        // 발급한 ID 를 닉네임 접미사로 써서 중복 조회 없이 닉네임을 만든다 (충돌 시 새 ID 로 한 번 재시도)
+        Member member = memberService.saveNewMember(memberId ->
                 Member.builder()
-                        .id(memberService.generateId()) // 매번 새로운 ID 생성
-                        .nickname(uniqueNickname)
+                        .id(memberId)
+                        .nickname(generateUniqueNickname(userInfo.getName(), memberId))
                         .role(MemberRole.ROOKIE)
                         .point(0)
                         .profileImageUrl(null)
@@ -108,12 +105,12 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
         );
 
         log.info("Creating new member with provider: {}, providerId: {}, memberId: {}, nickname: {}",
-                provider, userInfo.getId(), member.getId(), uniqueNickname);
+                provider, userInfo.getId(), member.getId(), member.getNickname());
 
         return member;
     }
 
-    private String generateUniqueNickname(String baseName) {
+    private String generateUniqueNickname(String baseName, String memberId) {
         if (!StringUtils.hasText(baseName)) {
             baseName = "사용자";
         }
@@ -123,17 +120,8 @@ public class CustomOAuth2UserService extends DefaultOAuth2UserService {
             cleanedBaseName = cleanedBaseName.substring(0, 20);
         }
 
-        // 항상 UUID 추가
-        String randomSuffix = UUID.randomUUID().toString().substring(0, 6);
-        String nickname = cleanedBaseName + "_" + randomSuffix;
-
-        // uuid가 1/1500만의 확률로 중복되면 타임 스탬프로 닉네임 생성 (활성 회원만 체크)
-        while (memberRepository.existsByNicknameAndIsDeletedFalse(nickname)) {
-            randomSuffix = UUID.randomUUID().toString().substring(0, 6);
-            nickname = cleanedBaseName + "_" + randomSuffix;
-        }
-
-        return nickname;
+        // 회원 ID(8자리)를 접미사로 사용 - 기존 UUID 6자리 접미사와 길이가 달라 겹치지 않는다
+        return cleanedBaseName + "_" + memberId;
     }
 
     private String cleanName(String name) {
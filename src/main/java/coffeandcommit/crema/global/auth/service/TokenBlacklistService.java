@@ -1,6 +1,8 @@
 package coffeandcommit.crema.global.auth.service;
 
 import coffeandcommit.crema.global.auth.jwt.JwtTokenProvider;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -15,6 +17,7 @@ public class TokenBlacklistService {
 
     private final RedisTemplate<String, String> redisTemplate;
     private final JwtTokenProvider jwtTokenProvider;
+    private final CremaMetrics metrics;
 
     private static final String BLACKLIST_PREFIX = "blacklist:token:";
 
@@ -50,11 +53,14 @@ public class TokenBlacklistService {
             return false;
         }
 
+        Timer.Sample sample = metrics.start();
         try {
             String key = BLACKLIST_PREFIX + token;
-            Boolean exists = redisTemplate.hasKey(key);
-            return Boolean.TRUE.equals(exists);
+            boolean blacklisted = Boolean.TRUE.equals(redisTemplate.hasKey(key));
+            metrics.stopBlacklistLookup(sample, blacklisted ? "hit" : "miss");
+            return blacklisted;
         } catch (Exception e) {
+            metrics.stopBlacklistLookup(sample, "error");
             log.error("토큰 블랙리스트 확인에 실패했습니다: {}", e.getMessage());
             // Redis 오류 시 보안상 false 반환 (토큰 검증은 JWT 자체 검증으로)
             return false;
@@ -0,0 +1,12 @@
+package coffeandcommit.crema.global.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// 커밋 이후 비동기 후처리(@Async)와 주기 작업(@Scheduled) 활성화 (스케줄러 스레드 수: spring.task.scheduling.pool.size)
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
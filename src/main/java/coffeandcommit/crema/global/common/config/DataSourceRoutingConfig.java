@@ -0,0 +1,161 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.common.datasource.DataSourceType;
+import coffeandcommit.crema.global.common.datasource.ReadYourWritesTracker;
+import coffeandcommit.crema.global.common.datasource.ReplicaDataSourceProperties;
+import coffeandcommit.crema.global.common.datasource.ReplicaLagMonitor;
+import coffeandcommit.crema.global.common.datasource.ReplicationRoutingDataSource;
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadInterceptor;
+import coffeandcommit.crema.global.common.datasource.WorkloadRoutingDataSource;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * DataSource 라우팅 - 아래 두 기능 중 하나라도 켜면 기본 DataSource 자동 설정을 대신한다.
+ * - crema.datasource.workload.enabled: primary 를 워크로드별 풀(interactive / background / reporting)로 분리
+ * - crema.datasource.replica.enabled: readOnly 트랜잭션을 복제본 풀로 라우팅
+ * 구성: LazyConnectionDataSourceProxy → (복제본 라우팅) → primary(워크로드 라우팅 또는 단일 풀)
+ */
+@Configuration
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+@ConditionalOnExpression("${crema.datasource.replica.enabled:false} or ${crema.datasource.workload.enabled:false}")
+public class DataSourceRoutingConfig {
+
+    static final String WORKLOAD_POOLS_PREFIX = "crema.datasource.workload.pools.";
+
+    @Bean
+    public DataSource primaryDataSource(DataSourceProperties properties, Environment environment,
+                                        MeterRegistry meterRegistry, CremaMetrics metrics) {
+        Binder binder = Binder.get(environment);
+        if (!binder.bind("crema.datasource.workload.enabled", Boolean.class).orElse(false)) {
+            return pool(properties, binder, null);
+        }
+
+        // 풀마다 spring.datasource.hikari 공통값 위에 crema.datasource.workload.pools.<이름> 을 덮어쓴다
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            HikariDataSource pool = pool(properties, binder, workload.poolName());
+            pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+            pools.put(workload, pool);
+        }
+        return new WorkloadRoutingDataSource(pools, metrics);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ObjectProvider<ReplicationRoutingDataSource> replicationRoutingDataSource) {
+        // 트랜잭션의 readOnly / 워크로드가 정해진 뒤(첫 SQL 시점)에 실제 커넥션을 얻도록 지연 프록시로 감싼다
+        DataSource target = replicationRoutingDataSource.getIfAvailable();
+        return new LazyConnectionDataSourceProxy(target != null ? target : primaryDataSource);
+    }
+
+    // open-in-view 세션이 첫 트랜잭션의 커넥션(복제본/다른 풀일 수 있음)을 요청 끝까지 쥐고 있지 않도록 트랜잭션마다 반납
+    @Bean
+    public HibernatePropertiesCustomizer connectionReleaseCustomizer() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+
+    // @Workload 빈/메서드 실행 동안 워크로드 바인딩
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    @ConditionalOnProperty(prefix = "crema.datasource.workload", name = "enabled", havingValue = "true")
+    public static Advisor workloadAdvisor() {
+        ComposablePointcut pointcut = new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                .union(AnnotationMatchingPointcut.forMethodAnnotation(Workload.class));
+        return new DefaultPointcutAdvisor(pointcut, new WorkloadInterceptor());
+    }
+
+    private static HikariDataSource pool(DataSourceProperties properties, Binder binder, String poolName) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        if (poolName != null) {
+            binder.bind(WORKLOAD_POOLS_PREFIX + poolName, Bindable.ofInstance(pool));
+            pool.setPoolName(poolName);
+        }
+        return pool;
+    }
+
+    @Configuration
+    @ConditionalOnProperty(prefix = "crema.datasource.replica", name = "enabled", havingValue = "true")
+    static class ReplicaRoutingConfig {
+
+        @Bean
+        @ConfigurationProperties("crema.datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(ReplicaDataSourceProperties properties) {
+            return DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(properties.getUrl())
+                    .username(properties.getUsername())
+                    .password(properties.getPassword())
+                    .build();
+        }
+
+        @Bean
+        public ReplicaLagMonitor replicaLagMonitor(@Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                                   ReplicaDataSourceProperties properties,
+                                                   CremaMetrics metrics) {
+            ReplicaLagMonitor monitor = new ReplicaLagMonitor(replicaDataSource, properties.getMaxLag(),
+                    Duration.ofMillis(properties.getLagCheckDelayMs()));
+            metrics.registerReplicaLag(monitor::getLagSeconds);
+            return monitor;
+        }
+
+        @Bean
+        public ReadYourWritesTracker readYourWritesTracker(RedisTemplate<String, String> redisTemplate,
+                                                           ReplicaDataSourceProperties properties) {
+            return new ReadYourWritesTracker(redisTemplate, properties.getStickyWindow());
+        }
+
+        @Bean
+        public ReplicationRoutingDataSource replicationRoutingDataSource(
+                @Qualifier("primaryDataSource") DataSource primaryDataSource,
+                @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                ReplicaLagMonitor replicaLagMonitor,
+                ReadYourWritesTracker readYourWritesTracker,
+                CremaMetrics metrics) {
+            ReplicationRoutingDataSource routing =
+                    new ReplicationRoutingDataSource(replicaLagMonitor, readYourWritesTracker, metrics);
+            routing.setTargetDataSources(Map.of(
+                    DataSourceType.PRIMARY, primaryDataSource,
+                    DataSourceType.REPLICA, replicaDataSource));
+            routing.setDefaultTargetDataSource(primaryDataSource);
+            return routing;
+        }
+    }
+}
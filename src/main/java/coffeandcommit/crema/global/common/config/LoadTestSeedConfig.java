@@ -0,0 +1,13 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.loadtest.LoadTestSeedProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+// 부하 테스트 데이터 시드 설정 바인딩 (seed 프로필 전용)
+@Configuration
+@Profile("seed")
+@EnableConfigurationProperties(LoadTestSeedProperties.class)
+public class LoadTestSeedConfig {
+}
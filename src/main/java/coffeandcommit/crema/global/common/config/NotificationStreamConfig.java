@@ -0,0 +1,26 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamProperties;
+import coffeandcommit.crema.domain.notification.stream.NotificationStreamSubscriber;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+// 알림 SSE 스트림 설정 바인딩 + 노드 간 델타 팬아웃용 Redis 채널 구독
+@Configuration
+@EnableConfigurationProperties(NotificationStreamProperties.class)
+public class NotificationStreamConfig {
+
+    @Bean
+    public RedisMessageListenerContainer notificationStreamListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                             NotificationStreamSubscriber subscriber,
+                                                                             NotificationStreamProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(subscriber, new ChannelTopic(properties.getChannel()));
+        return container;
+    }
+}
@@ -0,0 +1,11 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.common.outbox.OutboxProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 트랜잭션 아웃박스 릴레이 설정 바인딩
+@Configuration
+@EnableConfigurationProperties(OutboxProperties.class)
+public class OutboxConfig {
+}
@@ -0,0 +1,11 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.common.query.QueryBudgetProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 요청당 쿼리 예산 설정 바인딩 (StatementInspector / 세션 리스너 등록은 application.yml)
+@Configuration
+@EnableConfigurationProperties(QueryBudgetProperties.class)
+public class QueryBudgetConfig {
+}
@@ -0,0 +1,23 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.common.ratelimit.RateLimitInterceptor;
+import coffeandcommit.crema.global.common.ratelimit.RateLimitProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// 엔드포인트별 요청 제한 (crema.rate-limit.*) - 핸들러가 결정된 뒤 적용하도록 인터셉터로 등록
+@Configuration
+@RequiredArgsConstructor
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private final RateLimitInterceptor rateLimitInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(rateLimitInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,11 @@
+package coffeandcommit.crema.global.common.config;
+
+import coffeandcommit.crema.global.common.resilience.ResilienceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+// 외부 호출(OpenVidu, GCS) 서킷 브레이커 / 적응형 타임아웃 설정 바인딩
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+}
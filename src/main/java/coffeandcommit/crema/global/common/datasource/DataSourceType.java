@@ -0,0 +1,9 @@
+package coffeandcommit.crema.global.common.datasource;
+
+/**
+ * 라우팅 대상 - 쓰기/일반 트랜잭션은 PRIMARY, readOnly 트랜잭션은 REPLICA.
+ */
+public enum DataSourceType {
+    PRIMARY,
+    REPLICA
+}
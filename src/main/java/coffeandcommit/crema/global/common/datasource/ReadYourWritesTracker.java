@@ -0,0 +1,83 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import coffeandcommit.crema.global.auth.service.CustomUserDetails;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 고정 - 회원이 쓰기를 커밋하면 sticky-window 동안 그 회원의 읽기를 primary 로 보낸다.
+ * 인스턴스가 여러 대여도 적용되도록 Redis 에 기록하고, 요청당 한 번만 조회해 요청 속성에 캐시한다.
+ * Redis 장애 시에는 안전하게 primary 로 보낸다.
+ */
+@Slf4j
+public class ReadYourWritesTracker {
+
+    static final String KEY_PREFIX = "db:recent-write:";
+    static final String REQUEST_ATTRIBUTE = ReadYourWritesTracker.class.getName() + ".sticky";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration stickyWindow;
+
+    public ReadYourWritesTracker(RedisTemplate<String, String> redisTemplate, Duration stickyWindow) {
+        this.redisTemplate = redisTemplate;
+        this.stickyWindow = stickyWindow;
+    }
+
+    public void markWrite(String memberId) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + memberId, "1", stickyWindow);
+        } catch (Exception e) {
+            log.warn("[REPLICA] 최근 쓰기 기록 실패: memberId={}, error={}", memberId, e.getMessage());
+        }
+
+        // 같은 요청 안의 이후 읽기도 primary 로
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, Boolean.TRUE, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    public boolean isSticky() {
+        String memberId = currentMemberId();
+        if (memberId == null) {
+            return false;
+        }
+
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof Boolean sticky) {
+                return sticky;
+            }
+        }
+
+        boolean sticky = lookup(memberId);
+        if (attributes != null) {
+            attributes.setAttribute(REQUEST_ATTRIBUTE, sticky, RequestAttributes.SCOPE_REQUEST);
+        }
+        return sticky;
+    }
+
+    public String currentMemberId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof CustomUserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return null;
+    }
+
+    private boolean lookup(String memberId) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.hasKey(KEY_PREFIX + memberId));
+        } catch (Exception e) {
+            log.warn("[REPLICA] 최근 쓰기 조회 실패 - primary 사용: memberId={}, error={}", memberId, e.getMessage());
+            return true;
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 복제본(replica) 설정 (crema.datasource.replica.*).
+ * enabled 가 false 이면 기존처럼 spring.datasource 하나만 쓴다.
+ * 커넥션 풀 설정은 crema.datasource.replica.hikari.* 로 따로 둔다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.datasource.replica")
+public class ReplicaDataSourceProperties {
+
+    private boolean enabled = false;
+
+    private String url;
+    private String username;
+    private String password;
+
+    /* 복제 지연이 이 값을 넘거나 확인할 수 없으면 읽기도 primary 로 보낸다 */
+    private Duration maxLag = Duration.ofSeconds(3);
+
+    /* 복제 지연 확인 주기 (ms) */
+    private long lagCheckDelayMs = 5000;
+
+    /* 회원이 쓰기를 커밋한 뒤 그 회원의 읽기를 primary 로 고정하는 시간 (read-your-writes) */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+}
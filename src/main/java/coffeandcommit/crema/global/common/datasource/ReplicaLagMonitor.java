@@ -0,0 +1,83 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 복제 지연 감시 - 주기적으로 복제본의 SHOW REPLICA STATUS 를 읽어 사용 가능 여부를 갱신한다.
+ * 지연이 허용치를 넘거나, 복제가 멈췄거나(Seconds_Behind_Source = NULL), 조회에 실패하면 사용하지 않는다.
+ * 복제 상태 행이 없으면(복제본이 아닌 단일 DB 를 가리키는 로컬 환경 등) 지연 0 으로 본다.
+ * 스케줄러가 밀려 확인이 멈추면 마지막 값이 계속 남으므로, 마지막 확인이 확인 주기의 2배보다 오래되면 사용하지 않는다.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    static final long UNKNOWN_LAG = -1L;
+    static final int STALE_CHECK_MULTIPLIER = 2;
+
+    private final DataSource replicaDataSource;
+    private final Duration maxLag;
+    private final long staleAfterNanos;
+    private final LongSupplier nanoClock;
+
+    private volatile long lagSeconds = UNKNOWN_LAG;
+    private volatile boolean replicaUsable = false;
+    private volatile long checkedAt;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkDelay) {
+        this(replicaDataSource, maxLag, checkDelay, System::nanoTime);
+    }
+
+    ReplicaLagMonitor(DataSource replicaDataSource, Duration maxLag, Duration checkDelay, LongSupplier nanoClock) {
+        this.replicaDataSource = replicaDataSource;
+        this.maxLag = maxLag;
+        this.staleAfterNanos = checkDelay.multipliedBy(STALE_CHECK_MULTIPLIER).toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    @Scheduled(fixedDelayString = "${crema.datasource.replica.lag-check-delay-ms:5000}")
+    public void check() {
+        long lag = readLagSeconds();
+        boolean usable = lag != UNKNOWN_LAG && lag <= maxLag.toSeconds();
+
+        if (usable != replicaUsable) {
+            log.warn("[REPLICA] 복제본 사용 여부 변경: usable={}, lagSeconds={}", usable, lag);
+        }
+        lagSeconds = lag;
+        checkedAt = nanoClock.getAsLong();
+        replicaUsable = usable;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable && nanoClock.getAsLong() - checkedAt <= staleAfterNanos;
+    }
+
+    public long getLagSeconds() {
+        return lagSeconds;
+    }
+
+    private long readLagSeconds() {
+        try (Connection connection = replicaDataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SHOW REPLICA STATUS")) {
+
+            if (!resultSet.next()) {
+                return 0L;
+            }
+            long lag = resultSet.getLong("Seconds_Behind_Source");
+            return resultSet.wasNull() ? UNKNOWN_LAG : lag;
+
+        } catch (SQLException e) {
+            log.warn("[REPLICA] 복제 지연 확인 실패: {}", e.getMessage());
+            return UNKNOWN_LAG;
+        }
+    }
+}
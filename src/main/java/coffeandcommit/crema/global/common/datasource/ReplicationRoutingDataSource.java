@@ -0,0 +1,67 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * readOnly 트랜잭션을 복제본으로 보내는 라우팅 DataSource.
+ * LazyConnectionDataSourceProxy 로 감싸 실제 커넥션을 첫 SQL 시점에 얻어야
+ * 트랜잭션의 readOnly 여부가 결정된 뒤 라우팅된다.
+ *
+ * 복제본을 쓰지 않는 경우 (reason 태그):
+ * - write: 쓰기 트랜잭션 또는 트랜잭션 밖 - 커밋 후 해당 회원을 read-your-writes 대상으로 기록
+ * - sticky: 최근 쓰기를 커밋한 회원의 읽기
+ * - lag: 복제 지연이 허용치를 넘었거나 확인 불가
+ */
+@RequiredArgsConstructor
+public class ReplicationRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String REASON_READ_ONLY = "read_only";
+    static final String REASON_WRITE = "write";
+    static final String REASON_STICKY = "sticky";
+    static final String REASON_LAG = "lag";
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final CremaMetrics metrics;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWriteMarker();
+            return route(DataSourceType.PRIMARY, REASON_WRITE);
+        }
+        if (readYourWritesTracker.isSticky()) {
+            return route(DataSourceType.PRIMARY, REASON_STICKY);
+        }
+        if (!lagMonitor.isReplicaUsable()) {
+            return route(DataSourceType.PRIMARY, REASON_LAG);
+        }
+        return route(DataSourceType.REPLICA, REASON_READ_ONLY);
+    }
+
+    /* 쓰기 트랜잭션이 커밋되면 현재 회원을 read-your-writes 대상으로 기록 (회원 정보는 요청 스레드에서 미리 읽는다) */
+    private void registerWriteMarker() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        String memberId = readYourWritesTracker.currentMemberId();
+        if (memberId == null) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWrite(memberId);
+            }
+        });
+    }
+
+    private DataSourceType route(DataSourceType target, String reason) {
+        metrics.countDataSourceRoute(target.name().toLowerCase(), reason);
+        return target;
+    }
+}
@@ -0,0 +1,19 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 빈(클래스) 또는 메서드를 커넥션 풀에 묶는다. 메서드 지정이 클래스 지정보다 우선한다.
+ * 실행 중 같은 스레드에서 처음 얻는 커넥션이 지정한 풀에서 나온다. (crema.datasource.workload.enabled=true 일 때)
+ */
+@Target({ElementType.TYPE, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Workload {
+
+    WorkloadType value();
+}
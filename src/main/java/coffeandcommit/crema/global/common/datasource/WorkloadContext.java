@@ -0,0 +1,53 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 현재 스레드의 워크로드. 지정이 없으면 INTERACTIVE.
+ * 어노테이션을 쓰기 어려운 람다/일부 구간은 run / call 로 직접 묶는다.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<WorkloadType> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static WorkloadType current() {
+        WorkloadType workload = CURRENT.get();
+        return workload != null ? workload : WorkloadType.INTERACTIVE;
+    }
+
+    public static void run(WorkloadType workload, Runnable action) {
+        WorkloadType previous = bind(workload);
+        try {
+            action.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static <T> T call(WorkloadType workload, Supplier<T> action) {
+        WorkloadType previous = bind(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /* 바인딩 후 이전 값을 돌려준다 - 호출부가 finally 에서 restore 해야 한다 */
+    static WorkloadType bind(WorkloadType workload) {
+        WorkloadType previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    static void restore(WorkloadType previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
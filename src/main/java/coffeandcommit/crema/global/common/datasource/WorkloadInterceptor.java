@@ -0,0 +1,39 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * @Workload 가 붙은 빈/메서드 실행 동안 WorkloadContext 를 바인딩한다.
+ */
+public class WorkloadInterceptor implements MethodInterceptor {
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Workload workload = resolve(invocation);
+        if (workload == null) {
+            return invocation.proceed();
+        }
+
+        WorkloadType previous = WorkloadContext.bind(workload.value());
+        try {
+            return invocation.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+
+    private Workload resolve(MethodInvocation invocation) {
+        Class<?> targetClass = invocation.getThis() != null
+                ? AopUtils.getTargetClass(invocation.getThis())
+                : invocation.getMethod().getDeclaringClass();
+        Method method = AopUtils.getMostSpecificMethod(invocation.getMethod(), targetClass);
+
+        Workload workload = AnnotatedElementUtils.findMergedAnnotation(method, Workload.class);
+        return workload != null ? workload : AnnotatedElementUtils.findMergedAnnotation(targetClass, Workload.class);
+    }
+}
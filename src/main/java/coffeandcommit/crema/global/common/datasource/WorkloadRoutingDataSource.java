@@ -0,0 +1,55 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 워크로드별 커넥션 풀 라우팅 - 한 워크로드의 풀이 포화돼도 다른 워크로드의 커넥션 대기에 번지지 않는다.
+ * 풀별 커넥션 대기 시간을 crema.db.pool.wait (pool, outcome) 로 기록한다.
+ */
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    static final String OUTCOME_TIMEOUT = "timeout";
+
+    private final Map<WorkloadType, HikariDataSource> pools;
+    private final CremaMetrics metrics;
+
+    public WorkloadRoutingDataSource(Map<WorkloadType, HikariDataSource> pools, CremaMetrics metrics) {
+        this.pools = new EnumMap<>(pools);
+        this.metrics = metrics;
+        setTargetDataSources(Map.copyOf(pools));
+        setDefaultTargetDataSource(pools.get(WorkloadType.INTERACTIVE));
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        String pool = WorkloadContext.current().poolName();
+        Timer.Sample sample = metrics.start();
+        String outcome = CremaMetrics.SUCCESS;
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            outcome = OUTCOME_TIMEOUT;
+            throw e;
+        } finally {
+            metrics.stopPoolWait(sample, pool, outcome);
+        }
+    }
+
+    @Override
+    public void close() {
+        pools.values().forEach(HikariDataSource::close);
+    }
+}
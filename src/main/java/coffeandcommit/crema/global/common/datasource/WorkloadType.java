@@ -0,0 +1,17 @@
+package coffeandcommit.crema.global.common.datasource;
+
+/**
+ * 커넥션 풀 분리 단위.
+ * - INTERACTIVE: 사용자 요청 (기본값)
+ * - BACKGROUND: 스케줄 작업, 비동기 후처리, 채팅 기록 저장 등 지연을 견딜 수 있는 쓰기/정리 작업
+ * - REPORTING: 집계/통계처럼 한 번에 많이 읽는 조회
+ */
+public enum WorkloadType {
+    INTERACTIVE,
+    BACKGROUND,
+    REPORTING;
+
+    public String poolName() {
+        return name().toLowerCase();
+    }
+}
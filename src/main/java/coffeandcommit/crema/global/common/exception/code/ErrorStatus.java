@@ -75,6 +75,9 @@ public enum ErrorStatus implements BaseCode {
     TOKEN_REFRESH_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "토큰 갱신에 실패했습니다."),
     AUTO_RECONNECT_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "자동 재연결에 실패했습니다."),
     OPENVIDU_CONNECTION_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "OpenVidu 서버에 연결할 수 없습니다."),
+    OPENVIDU_OVERLOADED(HttpStatus.TOO_MANY_REQUESTS, "화상통화 요청이 많습니다. 잠시 후 다시 시도해주세요."),
+    SCREEN_SHARE_IN_USE(HttpStatus.CONFLICT, "다른 참가자가 이미 화면공유 중입니다."),
+    SCREEN_SHARE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "화면공유 상태를 확인할 수 없습니다. 잠시 후 다시 시도해주세요."),
 
     // Chat
     CHAT_NOT_FOUND(HttpStatus.NOT_FOUND, "채팅 기록을 찾을 수 없습니다."),
@@ -93,12 +96,15 @@ public enum ErrorStatus implements BaseCode {
     EXPERIENCE_LIMIT_EXCEEDED(HttpStatus.BAD_REQUEST, "경험 대주제는 최대 6개까지만 등록할 수 있습니다."),
     INVALID_GUIDE_CHAT_TOPIC(HttpStatus.BAD_REQUEST, "잘못된 가이드 커피챗 주제 요청입니다."),
     EXPERIENCE_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 가이드 경험 대주제를 찾을 수 없습니다."),
+    EXPERIENCE_IN_REVIEW(HttpStatus.CONFLICT, "후기에서 평가된 경험 대주제는 삭제할 수 없습니다."),
+    TIME_SLOT_IN_RESERVATION(HttpStatus.CONFLICT, "예약 후보로 선택된 시간대는 삭제할 수 없습니다."),
 
     // Review Domain
     RESERVATION_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 예약을 찾을 수 없습니다."),
     DUPLICATE_REVIEW(HttpStatus.CONFLICT, "이미 해당 예약에 대한 리뷰가 존재합니다."),
     REVIEW_NOT_ALLOWED_YET(HttpStatus.CONFLICT, "커피챗 종료 이후에만 리뷰를 작성할 수 있습니다."),
     REVIEW_NOT_FOUND(HttpStatus.NOT_FOUND, "해당 리뷰를 찾을 수 없습니다."),
+    DUPLICATE_EXPERIENCE_EVALUATION(HttpStatus.BAD_REQUEST, "같은 경험 대주제를 중복해서 평가할 수 없습니다."),
     INVALID_RESERVATION_ID(HttpStatus.BAD_REQUEST, "예약 ID는 null일 수 없습니다."),
 
     // Reservation Domain
@@ -106,7 +112,20 @@ public enum ErrorStatus implements BaseCode {
     ALREADY_DECIDED(HttpStatus.CONFLICT,"이미 처리된 예약입니다."),
     INVALID_TIME_UNIT(HttpStatus.BAD_REQUEST, "유효하지 않은 시간 단위입니다."),
     INVALID_SURVEY(HttpStatus.BAD_REQUEST, "유효하지 않은 사전 정보입니다."),
-    SURVEY_NOT_FOUND(HttpStatus.NOT_FOUND, "등록된 사전 정보가 없습니다.");
+    SURVEY_NOT_FOUND(HttpStatus.NOT_FOUND, "등록된 사전 정보가 없습니다."),
+    SLOT_ALREADY_RESERVED(HttpStatus.CONFLICT, "이미 예약이 확정된 시간대입니다."),
+    CONCURRENT_RESERVATION_UPDATE(HttpStatus.CONFLICT, "다른 요청에 의해 예약이 변경되었습니다. 다시 시도해주세요."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "유효하지 않은 페이지 커서입니다."),
+
+    // Query Budget
+    QUERY_BUDGET_EXCEEDED(HttpStatus.INTERNAL_SERVER_ERROR, "요청당 허용된 쿼리 수를 초과했습니다."),
+
+    // Rate Limit
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, "요청이 너무 많습니다. 잠시 후 다시 시도해주세요."),
+
+    // External Service
+    EXTERNAL_SERVICE_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, "외부 서비스가 일시적으로 불안정합니다. 잠시 후 다시 시도해주세요."),
+    EXTERNAL_CALL_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "외부 서비스 응답 시간이 초과되었습니다.");
 
     public static final String PREFIX = "[ERROR]";
 
@@ -8,6 +8,7 @@ import coffeandcommit.crema.global.common.exception.response.ApiResponse;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -69,6 +70,16 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return createErrorResponse(errorStatus, null);
     }
 
+    /**
+     * 낙관적 락 충돌(동시 수정)을 처리합니다.
+     */
+    @ExceptionHandler(ObjectOptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResponse<Void>> handleOptimisticLockingFailure(ObjectOptimisticLockingFailureException e) {
+        log.warn("Optimistic locking failure: {}", e.getMessage());
+        BaseCode errorStatus = ErrorStatus.CONCURRENT_RESERVATION_UPDATE;
+        return createErrorResponse(errorStatus, null);
+    }
+
     /**
      * 위에서 처리되지 않은 모든 예외를 최종적으로 처리합니다.
      */
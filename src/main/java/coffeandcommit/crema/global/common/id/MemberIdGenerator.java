@@ -0,0 +1,114 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.function.LongConsumer;
+import java.util.function.LongSupplier;
+
+/**
+ * 회원 ID 생성기 - 기존과 같은 8자리 소문자 문자열을 DB 중복 조회 없이 만든다.
+ * [29비트 초 타임스탬프 | 6비트 노드 | 5비트 시퀀스] = 40비트 값을 base36 으로 인코딩한다.
+ * 노드가 다르면 값이 겹치지 않고, 같은 노드 안에서는 단조 증가하므로 구성상 충돌이 없다.
+ * 첫 글자가 항상 g~u 가 되도록 오프셋을 더해, 기존 UUID(16진수) 기반 ID 와도 겹치지 않는다.
+ * 노드당 초당 32개, 넘치면 다음 초를 빌려 쓴다 (2042년까지 사용 가능).
+ * 상태가 메모리에만 있으므로 재시작 전후가 겹치지 않도록, 빌려 쓰는 범위를 현재 시각 + MAX_BORROW_SECONDS 로 제한하고
+ * (넘으면 시계가 따라올 때까지 대기) 새 생성기는 기동 시각 + MAX_BORROW_SECONDS 이후 초부터 시작한다.
+ */
+@Component
+public class MemberIdGenerator {
+
+    public static final int ID_LENGTH = 8;
+
+    static final long EPOCH_SECONDS = Instant.parse("2025-01-01T00:00:00Z").getEpochSecond();
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 5;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    static final long MAX_TIMESTAMP = (1L << 29) - 1;
+    static final long MAX_BORROW_SECONDS = 5;
+
+    // base36 "g0000000" - 16진수 문자(0~f)로 시작하는 기존 ID 범위를 건너뛴다
+    static final long OFFSET = 16L * pow36(ID_LENGTH - 1);
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private final LongConsumer sleeper;
+    private long lastTimestamp;
+    private long sequence;
+
+    @Autowired
+    public MemberIdGenerator(@Value("${crema.id.node-id:}") String configuredNodeId,
+                             @Value("${crema.id.require-node-id:true}") boolean requireNodeId) {
+        this(TimeSortedIdFactory.resolveNodeId(configuredNodeId, requireNodeId),
+                () -> System.currentTimeMillis() / 1000);
+    }
+
+    MemberIdGenerator(int nodeId, LongSupplier epochSecondsClock) {
+        this(nodeId, epochSecondsClock, MemberIdGenerator::sleep);
+    }
+
+    MemberIdGenerator(int nodeId, LongSupplier epochSecondsClock, LongConsumer sleeper) {
+        if (nodeId < 0 || nodeId > TimeSortedIdFactory.MAX_NODE_ID) {
+            throw new IllegalArgumentException(
+                    "노드 번호는 0~" + TimeSortedIdFactory.MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = epochSecondsClock;
+        this.sleeper = sleeper;
+        // 이전 프로세스가 빌려 쓴 초(최대 기동 시각 + MAX_BORROW_SECONDS)를 건너뛰고 그 다음 초의 시퀀스 0 부터 시작한다
+        this.lastTimestamp = currentTimestamp() + MAX_BORROW_SECONDS;
+        this.sequence = SEQUENCE_MASK;
+    }
+
+    public synchronized String nextId() {
+        long timestamp = Math.max(currentTimestamp(), lastTimestamp);
+        long nextSequence = 0;
+        if (timestamp == lastTimestamp) {
+            nextSequence = (sequence + 1) & SEQUENCE_MASK;
+            if (nextSequence == 0) {
+                timestamp++;
+            }
+        }
+        if (timestamp > MAX_TIMESTAMP) {
+            throw new IllegalStateException("회원 ID 타임스탬프 범위를 초과했습니다: " + timestamp);
+        }
+        // 현재 시각보다 MAX_BORROW_SECONDS 넘게 앞서 빌리지 않는다 (재시작 후 겹침 방지)
+        while (timestamp - currentTimestamp() > MAX_BORROW_SECONDS) {
+            sleeper.accept(1000 - System.currentTimeMillis() % 1000);
+        }
+        lastTimestamp = timestamp;
+        sequence = nextSequence;
+
+        long value = (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | nextSequence;
+        return Long.toString(OFFSET + value, 36);
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    private long currentTimestamp() {
+        return clock.getAsLong() - EPOCH_SECONDS;
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("회원 ID 생성 대기 중 인터럽트", e);
+        }
+    }
+
+    private static long pow36(int exponent) {
+        long result = 1;
+        for (int i = 0; i < exponent; i++) {
+            result *= 36;
+        }
+        return result;
+    }
+}
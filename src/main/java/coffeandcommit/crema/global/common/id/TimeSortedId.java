@@ -0,0 +1,19 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 시간순 정렬되는 애플리케이션 생성 ID.
+ * IDENTITY 와 달리 INSERT 전에 ID 가 정해지므로 Hibernate JDBC 배치 INSERT 가 가능하다.
+ * 사용: @Id @TimeSortedId private Long id;
+ */
+@IdGeneratorType(TimeSortedIdGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface TimeSortedId {
+}
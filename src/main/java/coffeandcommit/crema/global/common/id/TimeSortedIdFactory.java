@@ -0,0 +1,82 @@
+package coffeandcommit.crema.global.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간순 ID 생성기 (Snowflake 방식).
+ * [41비트 ms 타임스탬프 | 6비트 노드 | 6비트 시퀀스] = 53비트
+ * 프론트엔드(JavaScript Number)에서 정밀도 손실 없이 다룰 수 있도록 2^53 미만으로 제한한다.
+ * 노드당 ms 당 64개, 시퀀스가 넘치거나 시계가 뒤로 가면 직전 ms 다음 값을 빌려 써서 단조 증가를 유지한다.
+ */
+@Slf4j
+public final class TimeSortedIdFactory {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+    static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private static final ConcurrentMap<Integer, TimeSortedIdFactory> FACTORIES = new ConcurrentHashMap<>();
+
+    private final int nodeId;
+    private final LongSupplier clock;
+    private long lastTimestamp = -1L;
+    private long sequence;
+
+    TimeSortedIdFactory(int nodeId, LongSupplier clock) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 번호는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+        this.clock = clock;
+    }
+
+    /* 노드별로 하나의 생성기를 공유한다 (엔티티마다 만들면 같은 ms 에 같은 ID 가 나올 수 있음) */
+    public static TimeSortedIdFactory forNode(int nodeId) {
+        return FACTORIES.computeIfAbsent(nodeId, id -> new TimeSortedIdFactory(id, System::currentTimeMillis));
+    }
+
+    public synchronized long nextId() {
+        long timestamp = Math.max(clock.getAsLong() - EPOCH_MILLIS, lastTimestamp);
+        if (timestamp == lastTimestamp) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                timestamp++;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastTimestamp = timestamp;
+
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) nodeId << SEQUENCE_BITS)
+                | sequence;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 노드 번호 결정 - 설정값(crema.id.node-id)만 쓴다.
+     * HOSTNAME 해시 같은 추측값은 인스턴스끼리 겹쳐 PK 가 중복될 수 있으므로, 미설정이면 기동을 실패시킨다.
+     * 단일 인스턴스로만 뜨는 local / test 프로필은 crema.id.require-node-id=false 로 0 을 쓴다.
+     */
+    static int resolveNodeId(Object configured, Object required) {
+        if (configured != null && !configured.toString().isBlank()) {
+            return Integer.parseInt(configured.toString().trim());
+        }
+        if (required == null || Boolean.parseBoolean(required.toString().trim())) {
+            throw new IllegalStateException("crema.id.node-id (CREMA_ID_NODE_ID) 가 설정되지 않았습니다. "
+                    + "인스턴스마다 서로 다른 0~" + MAX_NODE_ID + " 값을 지정해야 합니다.");
+        }
+        log.warn("crema.id.node-id 미설정 - 단일 인스턴스용 노드 번호 0 사용");
+        return 0;
+    }
+}
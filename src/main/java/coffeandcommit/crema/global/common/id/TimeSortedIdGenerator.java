@@ -0,0 +1,43 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import java.util.Map;
+
+/**
+ * @TimeSortedId 의 Hibernate 생성기 - 영속화 시점(INSERT 전)에 ID 를 채운다.
+ * 노드 번호는 Hibernate 설정 crema.id.node-id / crema.id.require-node-id (spring.jpa.properties) 에서 읽는다.
+ */
+public class TimeSortedIdGenerator implements BeforeExecutionGenerator {
+
+    static final String NODE_ID_SETTING = "crema.id.node-id";
+    static final String REQUIRE_NODE_ID_SETTING = "crema.id.require-node-id";
+
+    private final TimeSortedIdFactory factory;
+
+    public TimeSortedIdGenerator(TimeSortedId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        Map<String, Object> settings = context.getServiceRegistry()
+                .requireService(ConfigurationService.class)
+                .getSettings();
+        this.factory = TimeSortedIdFactory.forNode(TimeSortedIdFactory.resolveNodeId(
+                settings.get(NODE_ID_SETTING), settings.get(REQUIRE_NODE_ID_SETTING)));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return factory.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
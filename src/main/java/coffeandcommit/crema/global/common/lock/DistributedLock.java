@@ -0,0 +1,94 @@
+package coffeandcommit.crema.global.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis SET NX 기반 인스턴스 간 잠금.
+ * 소유 토큰(또는 호출자가 지정한 소유자 식별값)이 일치할 때만 해제하므로, 만료 후 다른 소유자가 잡은 잠금을 지우지 않는다.
+ * 토큰 발급형 획득은 Redis 장애 시 실패로 처리한다. (잠금이 필요한 작업은 건너뛰는 쪽이 안전)
+ * 소유자 지정형 획득은 장애를 예외로 올려 호출자가 점유 중과 장애를 구분하게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DistributedLock {
+
+    static final String KEY_PREFIX = "lock:";
+
+    private static final RedisScript<Long> COMPARE_AND_DELETE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/compare_and_delete.lua"), Long.class);
+    private static final RedisScript<Long> ACQUIRE_OR_EXTEND_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/acquire_or_extend.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    /**
+     * 잠금 획득 시도 (대기하지 않음)
+     * @return 획득하면 소유 토큰, 이미 점유됐거나 Redis 장애면 null
+     */
+    public String tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl))
+                    ? token : null;
+        } catch (Exception e) {
+            log.warn("분산 잠금 획득 실패: name={}, error={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 지정한 소유자로 잠금 획득 시도 - 같은 소유자가 이미 보유 중이면 TTL 을 연장하고 성공으로 본다.
+     * 선점/소유자 확인/연장을 한 스크립트로 실행하므로 확인과 연장 사이에 만료·재점유돼도 남의 잠금을 연장하지 않는다.
+     * @return 획득(또는 재획득)하면 true, 다른 소유자가 점유 중이면 false
+     * @throws org.springframework.dao.DataAccessException Redis 장애 시 (점유 중과 구분)
+     */
+    public boolean tryLock(String name, String owner, Duration ttl) {
+        Long acquired = redisTemplate.execute(ACQUIRE_OR_EXTEND_SCRIPT, List.of(KEY_PREFIX + name),
+                owner, String.valueOf(ttl.toMillis()));
+        return acquired != null && acquired == 1L;
+    }
+
+    /* 현재 소유자 (없거나 Redis 장애면 null) */
+    public String getOwner(String name) {
+        try {
+            return redisTemplate.opsForValue().get(KEY_PREFIX + name);
+        } catch (Exception e) {
+            log.warn("분산 잠금 조회 실패: name={}, error={}", name, e.getMessage());
+            return null;
+        }
+    }
+
+    /* 소유 토큰이 일치할 때만 해제 */
+    public boolean unlock(String name, String token) {
+        if (token == null) {
+            return false;
+        }
+        try {
+            Long released = redisTemplate.execute(COMPARE_AND_DELETE_SCRIPT, List.of(KEY_PREFIX + name), token);
+            return released != null && released == 1L;
+        } catch (Exception e) {
+            // 해제하지 못해도 TTL 이 지나면 풀린다
+            log.warn("분산 잠금 해제 실패: name={}, error={}", name, e.getMessage());
+            return false;
+        }
+    }
+
+    /* 소유자와 관계없이 해제 (잠금 대상 자체가 사라진 경우) */
+    public void forceUnlock(String name) {
+        try {
+            redisTemplate.delete(KEY_PREFIX + name);
+        } catch (Exception e) {
+            log.warn("분산 잠금 강제 해제 실패: name={}, error={}", name, e.getMessage());
+        }
+    }
+}
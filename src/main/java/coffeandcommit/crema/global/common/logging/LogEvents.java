@@ -0,0 +1,25 @@
+package coffeandcommit.crema.global.common.logging;
+
+import org.slf4j.spi.LoggingEventBuilder;
+
+/**
+ * 구조화 로그 이벤트 공통 필드 헬퍼.
+ */
+public final class LogEvents {
+
+    private LogEvents() {
+    }
+
+    /* 예외 타입/메시지와 근본 원인을 key-value로 추가 (스택트레이스는 호출부에서 필요할 때만) */
+    public static LoggingEventBuilder withError(LoggingEventBuilder event, Throwable e) {
+        event.addKeyValue("errorType", e.getClass().getSimpleName())
+                .addKeyValue("error", e.getMessage());
+
+        Throwable cause = e.getCause();
+        if (cause != null && cause != e) {
+            event.addKeyValue("causeType", cause.getClass().getSimpleName())
+                    .addKeyValue("cause", cause.getMessage());
+        }
+        return event;
+    }
+}
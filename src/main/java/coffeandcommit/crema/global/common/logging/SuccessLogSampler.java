@@ -0,0 +1,32 @@
+package coffeandcommit.crema.global.common.logging;
+
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 핫패스 성공 로그 샘플러.
+ * 성공 이벤트는 설정한 비율만 INFO로 남기고 나머지는 DEBUG로 내린다.
+ * 실패/경고 이벤트는 샘플링하지 않고 항상 기록한다.
+ */
+@Component
+public class SuccessLogSampler {
+
+    private final double rate;
+
+    public SuccessLogSampler(@Value("${logging.sampling.success-rate:0.01}") double rate) {
+        this.rate = Math.max(0.0, Math.min(1.0, rate));
+    }
+
+    public boolean sample() {
+        return rate >= 1.0 || (rate > 0.0 && ThreadLocalRandom.current().nextDouble() < rate);
+    }
+
+    /* 샘플링되면 INFO, 아니면 DEBUG 이벤트 빌더 (DEBUG 비활성 시 key-value 평가 없이 버려짐) */
+    public LoggingEventBuilder success(Logger logger) {
+        return sample() ? logger.atInfo() : logger.atDebug();
+    }
+}
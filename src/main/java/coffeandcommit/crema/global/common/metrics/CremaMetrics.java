@@ -0,0 +1,285 @@
+package coffeandcommit.crema.global.common.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 도메인 핫패스 메트릭.
+ * 메트릭 이름은 crema.* 로 통일하고, 태그는 operation / outcome 을 공통으로 사용한다.
+ * 모든 Timer / DistributionSummary 는 percentile histogram 을 발행한다.
+ * 호출부는 start() 로 샘플을 시작하고 stopXxx() 로 결과 태그와 함께 기록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CremaMetrics {
+
+    public static final String OPENVIDU_CALLS = "crema.openvidu.calls";
+    public static final String OPENVIDU_RETRY_ATTEMPTS = "crema.openvidu.retry.attempts";
+    public static final String JWT_VALIDATION = "crema.auth.jwt.validation";
+    public static final String TOKEN_REFRESH = "crema.auth.token.refresh";
+    public static final String BLACKLIST_LOOKUP = "crema.auth.blacklist.lookup";
+    public static final String STORAGE_UPLOAD = "crema.storage.upload";
+    public static final String STORAGE_UPLOAD_SIZE = "crema.storage.upload.size";
+    public static final String STORAGE_SIGNED_URL = "crema.storage.signed_url";
+    public static final String CHAT_SAVE_PAYLOAD = "crema.chat.save.payload";
+    public static final String GUIDE_SEARCH = "crema.guide.search";
+    public static final String REQUEST_QUERIES = "crema.db.request.queries";
+    public static final String REQUEST_JDBC_TIME = "crema.db.request.jdbc.time";
+    public static final String RATE_LIMIT = "crema.ratelimit.decisions";
+    public static final String OPENVIDU_BULKHEAD_REJECTIONS = "crema.openvidu.bulkhead.rejections";
+    public static final String CIRCUIT_STATE = "crema.circuit.state";
+    public static final String CIRCUIT_TIMEOUT = "crema.circuit.timeout";
+    public static final String CIRCUIT_TRANSITIONS = "crema.circuit.transitions";
+    public static final String CIRCUIT_REJECTIONS = "crema.circuit.rejections";
+    public static final String VIDEO_CALL_PHASE = "crema.videocall.phase";
+    public static final String VIDEO_SESSION_PREWARM = "crema.videocall.prewarm";
+    public static final String VIDEO_SESSION_REAPER = "crema.videocall.reaper";
+    public static final String DATASOURCE_ROUTE = "crema.db.route";
+    public static final String REPLICA_LAG = "crema.db.replica.lag";
+    public static final String POOL_WAIT = "crema.db.pool.wait";
+    public static final String OUTBOX_DISPATCH = "crema.outbox.dispatch";
+    public static final String NOTIFICATION_STREAM = "crema.notification.stream";
+    public static final String NOTIFICATION_STREAM_CONNECTIONS = "crema.notification.stream.connections";
+
+    public static final String TAG_OPERATION = "operation";
+    public static final String TAG_OUTCOME = "outcome";
+    public static final String TAG_HANDLER = "handler";
+    public static final String TAG_SCOPE = "scope";
+    public static final String TAG_NAME = "name";
+
+    public static final String SUCCESS = "success";
+    public static final String FAILURE = "failure";
+
+    private final MeterRegistry registry;
+
+    public Timer.Sample start() {
+        return Timer.start(registry);
+    }
+
+    /* OpenVidu 서버 호출 1회 (operation: create_session, get_active_session, create_connection ...), 소요 시간(ms) 반환 */
+    public long stopOpenVidu(Timer.Sample sample, String operation, String outcome) {
+        return TimeUnit.NANOSECONDS.toMillis(sample.stop(timer(OPENVIDU_CALLS, "OpenVidu 서버 호출 지연",
+                TAG_OPERATION, operation, TAG_OUTCOME, outcome)));
+    }
+
+    /* 재시도 루프의 시도 1회 (operation: create_session, outcome: success / failure) */
+    public void countRetryAttempt(String operation, String outcome) {
+        Counter.builder(OPENVIDU_RETRY_ATTEMPTS)
+                .description("OpenVidu 재시도 시도 횟수")
+                .tags(TAG_OPERATION, operation, TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /*
+     * 화상 세션 생성/참가의 단계별 지연 (operation: create / join, phase: member / session / participant / db / total), 소요 시간(ms) 반환.
+     * OpenVidu 원격 호출 자체는 crema.openvidu.calls 로 따로 잰다.
+     */
+    public long stopVideoCallPhase(Timer.Sample sample, String operation, String phase, String outcome) {
+        return TimeUnit.NANOSECONDS.toMillis(sample.stop(timer(VIDEO_CALL_PHASE, "화상 세션 단계별 지연",
+                TAG_OPERATION, operation, "phase", phase, TAG_OUTCOME, outcome)));
+    }
+
+    /* JWT 서명/만료 검증 (outcome: valid / expired / invalid / error) */
+    public void stopJwtValidation(Timer.Sample sample, String outcome) {
+        sample.stop(timer(JWT_VALIDATION, "JWT 검증 지연",
+                TAG_OPERATION, "validate", TAG_OUTCOME, outcome));
+    }
+
+    /* 토큰 재발급 (operation: manual / auto, outcome: success / rejected / error) */
+    public void stopTokenRefresh(Timer.Sample sample, String operation, String outcome) {
+        sample.stop(timer(TOKEN_REFRESH, "토큰 재발급 지연",
+                TAG_OPERATION, operation, TAG_OUTCOME, outcome));
+    }
+
+    /* 블랙리스트 조회 (outcome: hit / miss / error) */
+    public void stopBlacklistLookup(Timer.Sample sample, String outcome) {
+        sample.stop(timer(BLACKLIST_LOOKUP, "토큰 블랙리스트 조회 지연",
+                TAG_OPERATION, "lookup", TAG_OUTCOME, outcome));
+    }
+
+    /* 스토리지 업로드 지연과 크기 */
+    public void stopStorageUpload(Timer.Sample sample, long bytes, String outcome) {
+        sample.stop(timer(STORAGE_UPLOAD, "스토리지 업로드 지연",
+                TAG_OPERATION, "upload", TAG_OUTCOME, outcome));
+        summary(STORAGE_UPLOAD_SIZE, "스토리지 업로드 크기", "bytes",
+                TAG_OPERATION, "upload", TAG_OUTCOME, outcome)
+                .record(bytes);
+    }
+
+    /* 서명 URL 생성 */
+    public void stopSignedUrl(Timer.Sample sample, String outcome) {
+        sample.stop(timer(STORAGE_SIGNED_URL, "서명 URL 생성 지연",
+                TAG_OPERATION, "sign", TAG_OUTCOME, outcome));
+    }
+
+    /* 채팅 기록 저장 payload 크기 (operation: create / update / skip) */
+    public void recordChatSavePayload(String operation, long bytes) {
+        summary(CHAT_SAVE_PAYLOAD, "채팅 기록 저장 payload 크기", "bytes",
+                TAG_OPERATION, operation, TAG_OUTCOME, SUCCESS)
+                .record(bytes);
+    }
+
+    /* 가이드 검색 - 필터 조합(사용 여부)별 지연, 값 자체는 태그로 쓰지 않음 (outcome: success / failure) */
+    public void stopGuideSearch(Timer.Sample sample, String outcome, boolean jobFilter, boolean topicFilter,
+                                boolean keywordFilter, String sort) {
+        sample.stop(timer(GUIDE_SEARCH, "가이드 검색 지연",
+                TAG_OPERATION, "search",
+                TAG_OUTCOME, outcome,
+                "job", String.valueOf(jobFilter),
+                "topic", String.valueOf(topicFilter),
+                "keyword", String.valueOf(keywordFilter),
+                "sort", sort));
+    }
+
+    /* 요청 1건의 SQL 문장 수와 JDBC 실행 시간 (handler: 컨트롤러#메서드, outcome: within_budget / over_budget) */
+    public void recordRequestQueries(String handler, int statements, long jdbcNanos, boolean overBudget) {
+        String outcome = overBudget ? "over_budget" : "within_budget";
+        summary(REQUEST_QUERIES, "요청당 SQL 문장 수", "statements",
+                TAG_HANDLER, handler, TAG_OUTCOME, outcome)
+                .record(statements);
+        timer(REQUEST_JDBC_TIME, "요청당 JDBC 실행 시간",
+                TAG_HANDLER, handler, TAG_OUTCOME, outcome)
+                .record(jdbcNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /* 요청 제한 판정 (scope: member / total, outcome: allowed / rejected_local / rejected / redis_error) */
+    public void countRateLimit(String handler, String scope, String outcome) {
+        Counter.builder(RATE_LIMIT)
+                .description("요청 제한 판정 횟수")
+                .tags(TAG_HANDLER, handler, TAG_SCOPE, scope, TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /* OpenVidu 동시 호출 한도 초과로 거절된 호출 */
+    public void countBulkheadRejection(String operation) {
+        Counter.builder(OPENVIDU_BULKHEAD_REJECTIONS)
+                .description("OpenVidu 동시 호출 한도 초과 거절 횟수")
+                .tags(TAG_OPERATION, operation, TAG_OUTCOME, "rejected")
+                .register(registry)
+                .increment();
+    }
+
+    /* 서킷 브레이커 상태(0 CLOSED, 1 HALF_OPEN, 2 OPEN)와 현재 적응형 타임아웃(ms) 게이지 */
+    public void registerCircuitBreaker(String name, Supplier<Number> state, Supplier<Number> timeoutMs) {
+        Gauge.builder(CIRCUIT_STATE, state)
+                .description("서킷 브레이커 상태 (0 CLOSED, 1 HALF_OPEN, 2 OPEN)")
+                .tags(TAG_NAME, name)
+                .register(registry);
+        Gauge.builder(CIRCUIT_TIMEOUT, timeoutMs)
+                .description("외부 호출 적응형 타임아웃")
+                .baseUnit("milliseconds")
+                .tags(TAG_NAME, name)
+                .register(registry);
+    }
+
+    /* 서킷 브레이커 상태 전이 */
+    public void countCircuitTransition(String name, String from, String to) {
+        Counter.builder(CIRCUIT_TRANSITIONS)
+                .description("서킷 브레이커 상태 전이 횟수")
+                .tags(TAG_NAME, name, "from", from, "to", to)
+                .register(registry)
+                .increment();
+    }
+
+    /* 브레이커가 열려 호출하지 않고 거절한 횟수 */
+    public void countCircuitRejection(String name, String operation) {
+        Counter.builder(CIRCUIT_REJECTIONS)
+                .description("서킷 브레이커 거절 횟수")
+                .tags(TAG_NAME, name, TAG_OPERATION, operation, TAG_OUTCOME, "rejected")
+                .register(registry)
+                .increment();
+    }
+
+    /* 세션 정리기 판정 (outcome: kept / disconnected / closed / completed / flagged / skipped / failure) */
+    public void countSessionReap(String outcome) {
+        Counter.builder(VIDEO_SESSION_REAPER)
+                .description("세션 정리기 대사 결과")
+                .tags(TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /* 화상 세션 사전 생성 / 정리 (operation: prewarm / collect, outcome: created / linked / skipped / failure / closed) */
+    public void countSessionPrewarm(String operation, String outcome) {
+        Counter.builder(VIDEO_SESSION_PREWARM)
+                .description("화상 세션 사전 생성 및 정리 횟수")
+                .tags(TAG_OPERATION, operation, TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /* 커넥션 라우팅 결정 (target: primary / replica, reason: read_only / write / sticky / lag) */
+    public void countDataSourceRoute(String target, String reason) {
+        Counter.builder(DATASOURCE_ROUTE)
+                .description("읽기/쓰기 DataSource 라우팅 횟수")
+                .tags("target", target, "reason", reason)
+                .register(registry)
+                .increment();
+    }
+
+    /* 마지막으로 확인한 복제 지연 (확인 불가 시 -1) */
+    public void registerReplicaLag(Supplier<Number> lagSeconds) {
+        Gauge.builder(REPLICA_LAG, lagSeconds)
+                .description("복제본 복제 지연")
+                .baseUnit("seconds")
+                .register(registry);
+    }
+
+    /* 워크로드별 커넥션 풀 대기 (pool: interactive / background / reporting, outcome: success / timeout) */
+    public void stopPoolWait(Timer.Sample sample, String pool, String outcome) {
+        sample.stop(timer(POOL_WAIT, "워크로드별 커넥션 획득 대기",
+                "pool", pool, TAG_OUTCOME, outcome));
+    }
+
+    /* 아웃박스 이벤트 전달 결과 (type: OutboxEventType, outcome: published / retry / failed) */
+    public void countOutboxDispatch(String type, String outcome) {
+        Counter.builder(OUTBOX_DISPATCH)
+                .description("아웃박스 이벤트 전달 결과")
+                .tags("type", type, TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /* 알림 SSE 연결 이벤트 (outcome: connected / evicted / overflow) */
+    public void countNotificationStream(String outcome) {
+        Counter.builder(NOTIFICATION_STREAM)
+                .description("알림 SSE 연결 수립 및 강제 종료 횟수")
+                .tags(TAG_OUTCOME, outcome)
+                .register(registry)
+                .increment();
+    }
+
+    /* 이 노드에 열려 있는 알림 SSE 연결 수 */
+    public void registerNotificationStreamConnections(Supplier<Number> connections) {
+        Gauge.builder(NOTIFICATION_STREAM_CONNECTIONS, connections)
+                .description("열려 있는 알림 SSE 연결 수")
+                .register(registry);
+    }
+
+    private Timer timer(String name, String description, String... tags) {
+        return Timer.builder(name)
+                .description(description)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+
+    private DistributionSummary summary(String name, String description, String baseUnit, String... tags) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .baseUnit(baseUnit)
+                .tags(tags)
+                .publishPercentileHistogram()
+                .register(registry);
+    }
+}
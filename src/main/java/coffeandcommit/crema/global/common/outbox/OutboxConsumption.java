@@ -0,0 +1,33 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 소비자별 처리 기록 - 소비자의 쓰기와 같은 트랜잭션에 저장해, 재전달되어도 한 번만 반영되게 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Table(
+        name = "outbox_consumption",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_outbox_consumption_event_consumer", columnNames = {"event_id", "consumer"})
+        }
+)
+public class OutboxConsumption extends BaseEntity {
+
+    @Id
+    @TimeSortedId
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "consumer", length = 100, nullable = false)
+    private String consumer;
+}
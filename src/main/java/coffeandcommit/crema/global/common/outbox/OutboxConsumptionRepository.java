@@ -0,0 +1,19 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface OutboxConsumptionRepository extends JpaRepository<OutboxConsumption, Long> {
+
+    boolean existsByEventIdAndConsumer(Long eventId, String consumer);
+
+    @Modifying
+    @Query("DELETE FROM OutboxConsumption c WHERE c.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
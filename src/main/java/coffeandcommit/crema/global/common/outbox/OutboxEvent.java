@@ -0,0 +1,58 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import coffeandcommit.crema.global.common.entity.BaseEntity;
+import coffeandcommit.crema.global.common.id.TimeSortedId;
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 트랜잭션 아웃박스 - 요청 트랜잭션과 함께 커밋되고, 커밋 이후 OutboxRelay 가 소비자에게 전달한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Table(
+        name = "outbox_event",
+        indexes = {
+                @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_outbox_event_status_published", columnList = "status, published_at")
+        }
+)
+public class OutboxEvent extends BaseEntity {
+
+    @Id
+    @TimeSortedId
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", length = 50, nullable = false)
+    private OutboxEventType eventType;
+
+    @Column(name = "aggregate_id", nullable = false)
+    private Long aggregateId;
+
+    @Column(name = "payload", length = 2000, nullable = false)
+    private String payload; // 이벤트 본문 JSON
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    @Builder.Default
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    private int attempts = 0; // 전달 시도 횟수
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt; // 이 시각 이후 전달 가능 (선점 시 임대 만료 시각으로 미룬다)
+
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+}
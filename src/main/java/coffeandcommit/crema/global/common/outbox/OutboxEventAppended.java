@@ -0,0 +1,7 @@
+package coffeandcommit.crema.global.common.outbox;
+
+/**
+ * 아웃박스에 이벤트가 기록되었음을 알리는 이벤트 (커밋 직후 즉시 전달 트리거, 유실 시 폴러가 전달)
+ */
+public record OutboxEventAppended(Long eventId) {
+}
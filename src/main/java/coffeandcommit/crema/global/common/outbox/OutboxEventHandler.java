@@ -0,0 +1,20 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * 아웃박스 이벤트 소비자. 빈으로 등록하면 OutboxRelay 가 payloadType 으로 묶어 호출한다.
+ * handle 은 릴레이가 연 트랜잭션 안에서 실행되고 처리 기록과 함께 커밋된다.
+ * 전달은 최소 한 번이므로, 외부 시스템 호출처럼 트랜잭션으로 되돌릴 수 없는 처리는 스스로 멱등해야 한다.
+ */
+public interface OutboxEventHandler<T extends OutboxPayload> {
+
+    Class<T> payloadType();
+
+    void handle(T payload);
+
+    /* 처리 기록 키 - 바꾸면 이미 처리한 이벤트를 다시 처리하므로 고정값으로 유지한다 */
+    default String name() {
+        return ClassUtils.getUserClass(this).getSimpleName();
+    }
+}
@@ -0,0 +1,45 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 도메인 이벤트를 현재 트랜잭션의 아웃박스에 기록한다.
+ * 요청 트랜잭션은 자기 행과 아웃박스 행만 쓰고, 후처리는 커밋 이후 OutboxRelay 가 소비자에게 전달한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 트랜잭션 밖에서 부르면 롤백된 변경의 이벤트가 나갈 수 있으므로 막는다
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(OutboxPayload payload) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEventType.of(payload.getClass()))
+                .aggregateId(payload.aggregateId())
+                .payload(serialize(payload))
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        eventPublisher.publishEvent(new OutboxEventAppended(event.getId()));
+    }
+
+    private String serialize(OutboxPayload payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 직렬화 실패: " + payload.getClass().getSimpleName(), e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    @Query("""
+            SELECT e.id FROM OutboxEvent e
+            WHERE e.status = :status AND e.nextAttemptAt <= :now
+            ORDER BY e.id
+    """)
+    List<Long> findDispatchableIds(@Param("status") OutboxStatus status,
+                                   @Param("now") LocalDateTime now,
+                                   Pageable pageable);
+
+    // 전달 선점 - 임대 만료 전까지 다른 릴레이(인스턴스)가 가져가지 못한다 (0 이면 이미 선점/처리됨)
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e SET e.nextAttemptAt = :leaseUntil
+            WHERE e.id = :id AND e.status = :status AND e.nextAttemptAt <= :now
+    """)
+    int claim(@Param("id") Long id,
+              @Param("status") OutboxStatus status,
+              @Param("now") LocalDateTime now,
+              @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = :status, e.attempts = e.attempts + 1, e.publishedAt = :now, e.lastError = null
+            WHERE e.id = :id
+    """)
+    int markPublished(@Param("id") Long id,
+                      @Param("status") OutboxStatus status,
+                      @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("""
+            UPDATE OutboxEvent e
+            SET e.status = :status, e.attempts = e.attempts + 1, e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError
+            WHERE e.id = :id
+    """)
+    int markAttemptFailed(@Param("id") Long id,
+                          @Param("status") OutboxStatus status,
+                          @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+                          @Param("lastError") String lastError);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.status = :status AND e.publishedAt < :cutoff")
+    int deletePublishedBefore(@Param("status") OutboxStatus status, @Param("cutoff") LocalDateTime cutoff);
+}
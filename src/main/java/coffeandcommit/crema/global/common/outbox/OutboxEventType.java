@@ -0,0 +1,31 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import coffeandcommit.crema.domain.guide.event.GuideUpdatedEvent;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
+import coffeandcommit.crema.domain.reservation.event.ReservationCreatedEvent;
+import coffeandcommit.crema.domain.reservation.event.ReservationDecidedEvent;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 저장된 이름으로 본문 타입을 찾으므로 이름을 바꾸면 미발행 이벤트를 읽지 못한다
+@Getter
+@RequiredArgsConstructor
+public enum OutboxEventType {
+    RESERVATION_CREATED(ReservationCreatedEvent.class),
+    RESERVATION_DECIDED(ReservationDecidedEvent.class),
+    RESERVATION_COMPLETED(ReservationCompletedEvent.class),
+    REVIEW_CREATED(ReviewCreatedEvent.class),
+    GUIDE_UPDATED(GuideUpdatedEvent.class);
+
+    private final Class<? extends OutboxPayload> payloadType;
+
+    public static OutboxEventType of(Class<?> payloadType) {
+        for (OutboxEventType type : values()) {
+            if (type.payloadType == payloadType) {
+                return type;
+            }
+        }
+        throw new IllegalArgumentException("등록되지 않은 아웃박스 이벤트: " + payloadType.getName());
+    }
+}
@@ -0,0 +1,11 @@
+package coffeandcommit.crema.global.common.outbox;
+
+/**
+ * 아웃박스로 내보내는 도메인 이벤트 본문 (JSON 직렬화되어 outbox_event.payload 에 저장된다).
+ * 구현체는 OutboxEventType 에 등록되어 있어야 한다.
+ */
+public interface OutboxPayload {
+
+    /* 이벤트가 가리키는 집합체 ID (예약 / 리뷰 / 가이드) */
+    Long aggregateId();
+}
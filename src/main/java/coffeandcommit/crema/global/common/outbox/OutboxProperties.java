@@ -0,0 +1,33 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 아웃박스 릴레이 설정 (crema.outbox.*).
+ * 폴링 / 정리 주기는 @Scheduled 에서 crema.outbox.poll-delay-ms / cleanup-delay-ms 로 읽는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.outbox")
+public class OutboxProperties {
+
+    /* 폴링 1회에 전달할 최대 이벤트 수 */
+    private int batchSize = 100;
+
+    /* 전달 선점 유지 시간 - 처리 중 인스턴스가 죽으면 이 시간 뒤 다른 인스턴스가 다시 전달한다 */
+    private Duration lease = Duration.ofSeconds(60);
+
+    /* 실패 시 재시도 간격: retryBase x 2^(시도 횟수-1), 최대 retryMax */
+    private Duration retryBase = Duration.ofSeconds(5);
+    private Duration retryMax = Duration.ofMinutes(10);
+
+    /* 이 횟수만큼 실패하면 FAILED 로 두고 더 전달하지 않는다 */
+    private int maxAttempts = 10;
+
+    /* 발행 완료 이벤트와 처리 기록 보관 기간 */
+    private Duration retention = Duration.ofDays(7);
+}
@@ -0,0 +1,186 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import coffeandcommit.crema.global.common.datasource.Workload;
+import coffeandcommit.crema.global.common.datasource.WorkloadType;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 아웃박스 이벤트를 프로세스 내 소비자(OutboxEventHandler)에게 전달한다. (최소 한 번 전달)
+ * - 커밋 직후 비동기로 바로 전달하고, 유실되거나 실패한 건은 폴러가 다시 전달한다.
+ * - 이벤트마다 임대(lease)를 걸어 선점하므로 여러 인스턴스가 같은 이벤트를 동시에 전달하지 않는다.
+ * - 소비자마다 별도 트랜잭션에서 처리 기록과 함께 커밋하므로, 재전달 시 이미 성공한 소비자는 건너뛴다.
+ */
+@Slf4j
+@Component
+@Workload(WorkloadType.BACKGROUND)
+public class OutboxRelay {
+
+    static final String OUTCOME_PUBLISHED = "published";
+    static final String OUTCOME_RETRY = "retry";
+    static final String OUTCOME_FAILED = "failed";
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxConsumptionRepository outboxConsumptionRepository;
+    private final ObjectMapper objectMapper;
+    private final OutboxProperties properties;
+    private final CremaMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxEventType, List<OutboxEventHandler<?>>> handlers = new EnumMap<>(OutboxEventType.class);
+
+    public OutboxRelay(OutboxEventRepository outboxEventRepository,
+                       OutboxConsumptionRepository outboxConsumptionRepository,
+                       ObjectMapper objectMapper,
+                       OutboxProperties properties,
+                       CremaMetrics metrics,
+                       PlatformTransactionManager transactionManager,
+                       List<OutboxEventHandler<?>> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.outboxConsumptionRepository = outboxConsumptionRepository;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (OutboxEventHandler<?> handler : handlers) {
+            this.handlers.computeIfAbsent(OutboxEventType.of(handler.payloadType()), type -> new ArrayList<>())
+                    .add(handler);
+        }
+    }
+
+    @Async
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(OutboxEventAppended appended) {
+        try {
+            dispatch(appended.eventId());
+        } catch (Exception e) {
+            // 폴러에서 재시도
+            log.warn("[OUTBOX] 즉시 전달 실패 (폴러에서 재시도): eventId={}, error={}", appended.eventId(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${crema.outbox.poll-delay-ms:5000}")
+    public void poll() {
+        List<Long> eventIds = transactionTemplate.execute(status -> outboxEventRepository.findDispatchableIds(
+                OutboxStatus.PENDING, LocalDateTime.now(), PageRequest.of(0, properties.getBatchSize())));
+
+        for (Long eventId : eventIds) {
+            try {
+                dispatch(eventId);
+            } catch (Exception e) {
+                log.warn("[OUTBOX] 폴링 전달 실패: eventId={}, error={}", eventId, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${crema.outbox.cleanup-delay-ms:3600000}")
+    public void cleanup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(properties.getRetention());
+        transactionTemplate.executeWithoutResult(status -> {
+            int events = outboxEventRepository.deletePublishedBefore(OutboxStatus.PUBLISHED, cutoff);
+            int consumptions = outboxConsumptionRepository.deleteCreatedBefore(cutoff);
+            if (events > 0 || consumptions > 0) {
+                log.info("[OUTBOX] 보관 기간 지난 기록 정리: events={}, consumptions={}", events, consumptions);
+            }
+        });
+    }
+
+    /* 이벤트 1건 전달 - 선점하지 못했으면(다른 릴레이가 처리 중이거나 완료) false */
+    public boolean dispatch(Long eventId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status -> outboxEventRepository.claim(
+                eventId, OutboxStatus.PENDING, now, now.plus(properties.getLease())));
+        if (claimed == null || claimed == 0) {
+            return false;
+        }
+
+        OutboxEvent event = transactionTemplate.execute(status -> outboxEventRepository.findById(eventId).orElse(null));
+        if (event == null) {
+            return false;
+        }
+
+        try {
+            OutboxPayload payload = objectMapper.readValue(event.getPayload(), event.getEventType().getPayloadType());
+            for (OutboxEventHandler<?> handler : handlers.getOrDefault(event.getEventType(), List.of())) {
+                consume(event, handler, payload);
+            }
+        } catch (Exception e) {
+            markAttemptFailed(event, e);
+            return false;
+        }
+
+        transactionTemplate.executeWithoutResult(status ->
+                outboxEventRepository.markPublished(eventId, OutboxStatus.PUBLISHED, LocalDateTime.now()));
+        metrics.countOutboxDispatch(event.getEventType().name(), OUTCOME_PUBLISHED);
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends OutboxPayload> void consume(OutboxEvent event, OutboxEventHandler<T> handler, OutboxPayload payload) {
+        String consumer = handler.name();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (outboxConsumptionRepository.existsByEventIdAndConsumer(event.getId(), consumer)) {
+                    return; // 이전 전달에서 이미 처리
+                }
+                handler.handle((T) payload);
+                outboxConsumptionRepository.saveAndFlush(OutboxConsumption.builder()
+                        .eventId(event.getId())
+                        .consumer(consumer)
+                        .build());
+            });
+        } catch (DataIntegrityViolationException e) {
+            // 임대가 만료된 뒤 다른 릴레이가 같은 소비자를 먼저 처리했으면 이쪽 처리분은 롤백되고 끝난다
+            if (!outboxConsumptionRepository.existsByEventIdAndConsumer(event.getId(), consumer)) {
+                throw e;
+            }
+        }
+    }
+
+    private void markAttemptFailed(OutboxEvent event, Exception cause) {
+        int attempts = event.getAttempts() + 1;
+        boolean exhausted = attempts >= properties.getMaxAttempts();
+        OutboxStatus status = exhausted ? OutboxStatus.FAILED : OutboxStatus.PENDING;
+        LocalDateTime nextAttemptAt = LocalDateTime.now().plus(backoff(attempts));
+        String error = abbreviate(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+
+        transactionTemplate.executeWithoutResult(tx ->
+                outboxEventRepository.markAttemptFailed(event.getId(), status, nextAttemptAt, error));
+
+        if (exhausted) {
+            log.error("[OUTBOX] 최대 재시도 초과: eventId={}, type={}, attempts={}, error={}",
+                    event.getId(), event.getEventType(), attempts, error);
+        } else {
+            log.warn("[OUTBOX] 전달 실패, 재시도 예정: eventId={}, type={}, attempts={}, nextAttemptAt={}, error={}",
+                    event.getId(), event.getEventType(), attempts, nextAttemptAt, error);
+        }
+        metrics.countOutboxDispatch(event.getEventType().name(), exhausted ? OUTCOME_FAILED : OUTCOME_RETRY);
+    }
+
+    Duration backoff(int attempts) {
+        Duration delay = properties.getRetryBase().multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(properties.getRetryMax()) > 0 ? properties.getRetryMax() : delay;
+    }
+
+    private static String abbreviate(String message) {
+        return message.length() <= 500 ? message : message.substring(0, 500);
+    }
+}
@@ -0,0 +1,7 @@
+package coffeandcommit.crema.global.common.outbox;
+
+public enum OutboxStatus {
+    PENDING,    // 발행 대기 (재시도 포함)
+    PUBLISHED,  // 모든 소비자 처리 완료
+    FAILED      // 최대 재시도 초과 - 수동 확인 필요
+}
@@ -0,0 +1,40 @@
+package coffeandcommit.crema.global.common.query;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * JDBC 문장/배치 실행 시간을 현재 요청의 QueryCountContext 에 누적한다.
+ * 세션마다 새 인스턴스가 만들어지며 (hibernate.session.events.auto), 세션은 단일 스레드에서만 쓰인다.
+ */
+public class JdbcTimeSessionListener implements SessionEventListener {
+
+    private long executeStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(executeStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private void record(long start) {
+        QueryCountContext context = QueryCountContext.current();
+        if (context != null && start > 0) {
+            context.addJdbcNanos(System.nanoTime() - start);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package coffeandcommit.crema.global.common.query;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 문장 수 / JDBC 시간 집계 필터.
+ * 인증 필터의 회원 조회까지 포함하도록 가장 바깥에서 실행하고,
+ * 핸들러별 메트릭을 남긴 뒤 예산 초과 요청을 모드에 따라 로그로 남기거나 실패시킨다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    static final String UNMAPPED_HANDLER = "unmapped";
+
+    private final QueryBudgetProperties properties;
+    private final CremaMetrics metrics;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        QueryBudgetProperties.Mode mode = properties.getMode();
+        if (mode == QueryBudgetProperties.Mode.OFF) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        try (QueryCountContext context = QueryCountContext.open(
+                () -> resolveBudget(request), mode == QueryBudgetProperties.Mode.FAIL)) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                report(request, context);
+            }
+        }
+    }
+
+    private void report(HttpServletRequest request, QueryCountContext context) {
+        String handler = resolveHandler(request);
+        String tag = handler != null ? handler : UNMAPPED_HANDLER;
+        boolean overBudget = context.isOverBudget();
+
+        metrics.recordRequestQueries(tag, context.getStatementCount(), context.getJdbcNanos(), overBudget);
+
+        if (overBudget) {
+            log.atWarn()
+                    .setMessage("요청당 쿼리 예산 초과")
+                    .addKeyValue("handler", tag)
+                    .addKeyValue("method", request.getMethod())
+                    .addKeyValue("uri", request.getRequestURI())
+                    .addKeyValue("statements", context.getStatementCount())
+                    .addKeyValue("budget", context.getBudget())
+                    .addKeyValue("jdbcMs", context.getJdbcNanos() / 1_000_000)
+                    .log();
+        }
+    }
+
+    /* 핸들러가 결정되기 전(인증 필터 등)에는 null - 결정된 뒤 예산을 고정한다 */
+    private Integer resolveBudget(HttpServletRequest request) {
+        String handler = resolveHandler(request);
+        return handler != null ? properties.budgetFor(handler) : null;
+    }
+
+    static String resolveHandler(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (handler instanceof HandlerMethod handlerMethod) {
+            return handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,34 @@
+package coffeandcommit.crema.global.common.query;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 요청당 쿼리 예산 설정 (crema.query-budget.*).
+ * endpoints 키는 "컨트롤러클래스#메서드" 형식이다. (예: GuideController#getGuides)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.query-budget")
+public class QueryBudgetProperties {
+
+    public enum Mode {
+        OFF,    // 집계하지 않음
+        LOG,    // 집계 + 메트릭, 예산 초과 시 WARN 로그
+        FAIL    // LOG + 예산을 넘는 문장 시점에 요청 실패 (개발/테스트용)
+    }
+
+    private Mode mode = Mode.LOG;
+
+    private int defaultBudget = 30;
+
+    private Map<String, Integer> endpoints = new HashMap<>();
+
+    public int budgetFor(String handler) {
+        return endpoints.getOrDefault(handler, defaultBudget);
+    }
+}
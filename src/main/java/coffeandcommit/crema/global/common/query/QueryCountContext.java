@@ -0,0 +1,102 @@
+package coffeandcommit.crema.global.common.query;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+import java.util.function.Supplier;
+
+/**
+ * 스레드(요청) 단위 SQL 실행 집계.
+ * QueryCountInspector 가 문장 수를, JdbcTimeSessionListener 가 JDBC 실행 시간을 누적한다.
+ * 컨텍스트가 열려 있지 않은 스레드(스케줄러, 비동기 작업 등)는 집계하지 않는다.
+ */
+public final class QueryCountContext implements AutoCloseable {
+
+    private static final ThreadLocal<QueryCountContext> CURRENT = new ThreadLocal<>();
+
+    private final QueryCountContext previous;
+    private final Supplier<Integer> budgetResolver;
+    private final boolean failFast;
+
+    private int statementCount;
+    private long jdbcNanos;
+    private Integer budget;
+    private boolean budgetViolated;
+
+    private QueryCountContext(QueryCountContext previous, Supplier<Integer> budgetResolver, boolean failFast) {
+        this.previous = previous;
+        this.budgetResolver = budgetResolver;
+        this.failFast = failFast;
+    }
+
+    /* 예산 없이 집계만 하는 컨텍스트 시작 */
+    public static QueryCountContext open() {
+        return open(() -> null, false);
+    }
+
+    /**
+     * 예산 검사 컨텍스트 시작.
+     * budgetResolver 는 핸들러가 결정되기 전이면 null 을 반환하고, 결정된 뒤의 값은 캐시된다.
+     * failFast 이면 예산을 넘는 문장이 준비되는 시점에 QUERY_BUDGET_EXCEEDED 를 던진다.
+     */
+    public static QueryCountContext open(Supplier<Integer> budgetResolver, boolean failFast) {
+        QueryCountContext context = new QueryCountContext(CURRENT.get(), budgetResolver, failFast);
+        CURRENT.set(context);
+        return context;
+    }
+
+    public static QueryCountContext current() {
+        return CURRENT.get();
+    }
+
+    void onStatement() {
+        // 중첩된 경우 바깥 컨텍스트(요청)에도 함께 집계
+        if (previous != null) {
+            previous.onStatement();
+        }
+        statementCount++;
+
+        if (failFast && !budgetViolated && isOverBudget()) {
+            budgetViolated = true;
+            throw new BaseException(ErrorStatus.QUERY_BUDGET_EXCEEDED,
+                    "statements=" + statementCount + ", budget=" + budget);
+        }
+    }
+
+    void addJdbcNanos(long nanos) {
+        if (previous != null) {
+            previous.addJdbcNanos(nanos);
+        }
+        jdbcNanos += nanos;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getJdbcNanos() {
+        return jdbcNanos;
+    }
+
+    /* 해석된 예산 (핸들러 미결정 시 null) */
+    public Integer getBudget() {
+        if (budget == null) {
+            budget = budgetResolver.get();
+        }
+        return budget;
+    }
+
+    public boolean isOverBudget() {
+        Integer resolved = getBudget();
+        return resolved != null && statementCount > resolved;
+    }
+
+    @Override
+    public void close() {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
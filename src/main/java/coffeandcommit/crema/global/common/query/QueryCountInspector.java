@@ -0,0 +1,19 @@
+package coffeandcommit.crema.global.common.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate 가 준비하는 모든 SQL 문장을 현재 요청의 QueryCountContext 에 집계한다.
+ * hibernate.session_factory.statement_inspector 로 등록한다 (application.yml).
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCountContext context = QueryCountContext.current();
+        if (context != null) {
+            context.onStatement();
+        }
+        return sql;
+    }
+}
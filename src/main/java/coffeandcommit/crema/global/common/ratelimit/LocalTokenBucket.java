@@ -0,0 +1,47 @@
+package coffeandcommit.crema.global.common.ratelimit;
+
+/**
+ * 인스턴스 로컬 토큰 버킷 (Redis 호출 전 빠른 거부용).
+ * 이 인스턴스가 통과시킨 요청만 차감하므로 전역 버킷보다 엄격해지지 않는다.
+ */
+class LocalTokenBucket {
+
+    private final int capacity;
+    private final double refillPerNano;
+    private double tokens;
+    private long refilledAt;
+
+    LocalTokenBucket(int capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerNano = refillPerSecond / 1_000_000_000d;
+        this.tokens = capacity;
+        this.refilledAt = now;
+    }
+
+    /* 허용이면 0, 거부면 다음 토큰까지 남은 ms */
+    synchronized long tryAcquire(long now) {
+        refill(now);
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return Math.max(1, (long) Math.ceil((1 - tokens) / refillPerNano / 1_000_000d));
+    }
+
+    /* 전역 버킷에서 거부된 요청의 토큰을 되돌린다 */
+    synchronized void refund() {
+        tokens = Math.min(capacity, tokens + 1);
+    }
+
+    synchronized boolean isFull(long now) {
+        refill(now);
+        return tokens >= capacity;
+    }
+
+    private void refill(long now) {
+        if (now > refilledAt) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
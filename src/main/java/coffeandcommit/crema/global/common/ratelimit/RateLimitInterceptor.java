@@ -0,0 +1,77 @@
+package coffeandcommit.crema.global.common.ratelimit;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 설정된 엔드포인트에 회원별(member) → 엔드포인트 전체(total) 순서로 토큰 버킷을 적용한다.
+ * 회원 한도에 걸린 요청이 전체 버킷 토큰을 소모하지 않도록 회원 버킷을 먼저 확인하고,
+ * 전체 버킷에서 거부되면 받아 둔 회원 토큰을 되돌려 거부된 요청이 회원 한도를 깎지 않게 한다.
+ * 초과 시 Retry-After 헤더와 함께 429 (TOO_MANY_REQUESTS) 로 응답한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    static final String SCOPE_TOTAL = "total";
+    static final String SCOPE_MEMBER = "member";
+
+    private final RateLimitProperties properties;
+    private final RateLimiter rateLimiter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!properties.isEnabled() || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        String handlerName = handlerMethod.getBeanType().getSimpleName() + "#" + handlerMethod.getMethod().getName();
+        RateLimitProperties.Policy policy = properties.policyFor(handlerName);
+        if (policy == null) {
+            return true;
+        }
+
+        String memberKey = handlerName + ":" + SCOPE_MEMBER + ":" + subject(request);
+        if (policy.getMember() != null) {
+            long retryAfterMs = rateLimiter.tryAcquire(handlerName, SCOPE_MEMBER, memberKey, policy.getMember());
+            if (retryAfterMs > 0) {
+                reject(response, retryAfterMs);
+            }
+        }
+        if (policy.getTotal() != null) {
+            long retryAfterMs = rateLimiter.tryAcquire(handlerName, SCOPE_TOTAL, handlerName + ":" + SCOPE_TOTAL,
+                    policy.getTotal());
+            if (retryAfterMs > 0) {
+                if (policy.getMember() != null) {
+                    rateLimiter.refund(handlerName, SCOPE_MEMBER, memberKey, policy.getMember());
+                }
+                reject(response, retryAfterMs);
+            }
+        }
+        return true;
+    }
+
+    private static void reject(HttpServletResponse response, long retryAfterMs) {
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, (retryAfterMs + 999) / 1000)));
+        throw new BaseException(ErrorStatus.TOO_MANY_REQUESTS);
+    }
+
+    /* 로그인 회원은 회원 ID, 비로그인은 클라이언트 IP (프록시 뒤에서는 server.forward-headers-strategy 로 복원된 주소) */
+    private String subject(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserDetails userDetails) {
+            return userDetails.getUsername();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+}
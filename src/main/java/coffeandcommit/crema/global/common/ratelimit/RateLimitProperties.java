@@ -0,0 +1,47 @@
+package coffeandcommit.crema.global.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 엔드포인트별 요청 제한 설정 (crema.rate-limit.*).
+ * endpoints 키는 쿼리 예산과 같은 "컨트롤러클래스#메서드" 형식이다. (예: ReservationController#createReservation)
+ * member 는 회원(비로그인은 IP)별, total 은 엔드포인트 전체에 적용되는 토큰 버킷이며 둘 다 생략할 수 있다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    /* Redis 오류 시 로컬 버킷 결과만으로 허용 (false 면 거부) */
+    private boolean failOpen = true;
+
+    /* 로컬 버킷 최대 개수 - 넘으면 가득 찬(유휴) 버킷부터 정리 */
+    private int localMaxBuckets = 10_000;
+
+    private Map<String, Policy> endpoints = new HashMap<>();
+
+    public Policy policyFor(String handler) {
+        return endpoints.get(handler);
+    }
+
+    @Getter
+    @Setter
+    public static class Policy {
+        private Bucket member;
+        private Bucket total;
+    }
+
+    @Getter
+    @Setter
+    public static class Bucket {
+        private int capacity;
+        private double refillPerSecond;
+    }
+}
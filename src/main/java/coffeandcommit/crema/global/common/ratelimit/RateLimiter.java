@@ -0,0 +1,132 @@
+package coffeandcommit.crema.global.common.ratelimit;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 토큰 버킷 요청 제한기.
+ * 1) 로컬 버킷이 비어 있으면 Redis 를 부르지 않고 바로 거부한다. (버스트 시 Redis 부하 차단)
+ * 2) 로컬을 통과하면 Redis Lua 스크립트로 전역 버킷을 원자적으로 차감한다.
+ * Redis 장애 시에는 설정에 따라 로컬 결과로 허용(fail-open)하거나 거부한다.
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    static final String KEY_PREFIX = "ratelimit:";
+
+    static final String ALLOWED = "allowed";
+    static final String REJECTED_LOCAL = "rejected_local";
+    static final String REJECTED = "rejected";
+    static final String REDIS_ERROR = "redis_error";
+    static final String REFUNDED = "refunded";
+
+    private static final RedisScript<List> TOKEN_BUCKET_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/token_bucket.lua"), List.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RateLimitProperties properties;
+    private final CremaMetrics metrics;
+    private final Map<String, LocalTokenBucket> localBuckets = new ConcurrentHashMap<>();
+
+    public RateLimiter(RedisTemplate<String, String> redisTemplate, RateLimitProperties properties,
+                       CremaMetrics metrics) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 토큰 1개를 요청한다.
+     * @param handler 메트릭 태그용 핸들러 이름
+     * @param scope   member / total
+     * @param key     버킷 식별자 (핸들러 + 범위 + 주체)
+     * @return 허용이면 0, 거부면 재시도까지 남은 ms
+     */
+    public long tryAcquire(String handler, String scope, String key, RateLimitProperties.Bucket bucket) {
+        long now = System.nanoTime();
+        LocalTokenBucket local = localBucket(key, bucket, now);
+
+        long localRetryAfter = local.tryAcquire(now);
+        if (localRetryAfter > 0) {
+            metrics.countRateLimit(handler, scope, REJECTED_LOCAL);
+            return localRetryAfter;
+        }
+
+        try {
+            List<?> result = redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(bucket.getCapacity()), String.valueOf(bucket.getRefillPerSecond()), "1");
+            if (result != null && ((Number) result.get(0)).longValue() == 0) {
+                local.refund();
+                metrics.countRateLimit(handler, scope, REJECTED);
+                return Math.max(1, ((Number) result.get(1)).longValue());
+            }
+            metrics.countRateLimit(handler, scope, ALLOWED);
+            return 0;
+        } catch (Exception e) {
+            metrics.countRateLimit(handler, scope, REDIS_ERROR);
+            log.atWarn()
+                    .setMessage("요청 제한 Redis 호출 실패")
+                    .addKeyValue("handler", handler)
+                    .addKeyValue("scope", scope)
+                    .addKeyValue("failOpen", properties.isFailOpen())
+                    .addKeyValue("error", e.getMessage())
+                    .log();
+            if (properties.isFailOpen()) {
+                return 0;
+            }
+            local.refund();
+            return 1_000;
+        }
+    }
+
+    /**
+     * tryAcquire 로 받은 토큰 1개를 되돌린다. (뒤이은 다른 범위 버킷에서 거부된 경우)
+     * Redis 반환이 실패하면 버킷이 채워질 때까지 조금 엄격해질 뿐이므로 기록만 하고 넘어간다.
+     */
+    public void refund(String handler, String scope, String key, RateLimitProperties.Bucket bucket) {
+        LocalTokenBucket local = localBuckets.get(key);
+        if (local != null) {
+            local.refund();
+        }
+        try {
+            redisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(KEY_PREFIX + key),
+                    String.valueOf(bucket.getCapacity()), String.valueOf(bucket.getRefillPerSecond()), "-1");
+            metrics.countRateLimit(handler, scope, REFUNDED);
+        } catch (Exception e) {
+            metrics.countRateLimit(handler, scope, REDIS_ERROR);
+            log.atWarn()
+                    .setMessage("요청 제한 토큰 반환 실패")
+                    .addKeyValue("handler", handler)
+                    .addKeyValue("scope", scope)
+                    .addKeyValue("error", e.getMessage())
+                    .log();
+        }
+    }
+
+    private LocalTokenBucket localBucket(String key, RateLimitProperties.Bucket bucket, long now) {
+        LocalTokenBucket local = localBuckets.get(key);
+        if (local != null) {
+            return local;
+        }
+        if (localBuckets.size() >= properties.getLocalMaxBuckets()) {
+            // 가득 찬 버킷은 새로 만든 것과 같으므로 버려도 제한 결과가 달라지지 않는다
+            localBuckets.values().removeIf(b -> b.isFull(now));
+        }
+        return localBuckets.computeIfAbsent(key,
+                k -> new LocalTokenBucket(bucket.getCapacity(), bucket.getRefillPerSecond(), now));
+    }
+
+    int localBucketCount() {
+        return localBuckets.size();
+    }
+}
@@ -0,0 +1,49 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import java.util.Arrays;
+
+/**
+ * 최근 성공 호출 지연으로 계산하는 타임아웃.
+ * 최근 SAMPLE_SIZE 건의 p99 x multiplier 를 minTimeout ~ maxTimeout 으로 제한하고,
+ * 표본이 모이기 전에는 maxTimeout 을 쓴다. 값은 RECOMPUTE_EVERY 건마다 다시 계산한다.
+ */
+class AdaptiveTimeout {
+
+    static final int SAMPLE_SIZE = 200;
+    static final int MIN_SAMPLES = 20;
+    private static final int RECOMPUTE_EVERY = 20;
+
+    private final long minMs;
+    private final long maxMs;
+    private final double multiplier;
+
+    private final long[] samples = new long[SAMPLE_SIZE];
+    private int index;
+    private int count;
+    private int sinceRecompute;
+    private volatile long currentMs;
+
+    AdaptiveTimeout(ResilienceProperties.Settings settings) {
+        this.minMs = settings.getMinTimeout().toMillis();
+        this.maxMs = settings.getMaxTimeout().toMillis();
+        this.multiplier = settings.getTimeoutMultiplier();
+        this.currentMs = maxMs;
+    }
+
+    long currentMs() {
+        return currentMs;
+    }
+
+    synchronized void record(long latencyMs) {
+        samples[index] = latencyMs;
+        index = (index + 1) % SAMPLE_SIZE;
+        count = Math.min(count + 1, SAMPLE_SIZE);
+        if (++sinceRecompute >= RECOMPUTE_EVERY && count >= MIN_SAMPLES) {
+            sinceRecompute = 0;
+            long[] sorted = Arrays.copyOf(samples, count);
+            Arrays.sort(sorted);
+            long p99 = sorted[(int) Math.ceil(count * 0.99) - 1];
+            currentMs = Math.max(minMs, Math.min(maxMs, (long) (p99 * multiplier)));
+        }
+    }
+}
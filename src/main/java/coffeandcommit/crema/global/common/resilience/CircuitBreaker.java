@@ -0,0 +1,174 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 호출 횟수 기반 슬라이딩 윈도우 서킷 브레이커.
+ * CLOSED: 최근 slidingWindowSize 건의 실패율이 임계값 이상이면 OPEN.
+ * OPEN: openDuration 동안 모든 호출을 거절한 뒤 HALF_OPEN.
+ * HALF_OPEN: halfOpenProbes 건만 시험 호출 - 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    @FunctionalInterface
+    public interface TransitionListener {
+        void onTransition(String name, State from, State to);
+    }
+
+    private final String name;
+    private final ResilienceProperties.Settings settings;
+    private final LongSupplier nanoClock;
+    private final List<TransitionListener> listeners = new ArrayList<>();
+
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int probesInFlight;
+    private int probeSuccesses;
+
+    public CircuitBreaker(String name, ResilienceProperties.Settings settings, LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.nanoClock = nanoClock;
+        this.window = new boolean[settings.getSlidingWindowSize()];
+    }
+
+    public void addListener(TransitionListener listener) {
+        listeners.add(listener);
+    }
+
+    /* 호출 허용 여부 - 허용했다면 반드시 onSuccess / onFailure / onIgnored 중 하나를 호출해야 한다 */
+    public boolean tryAcquirePermission() {
+        State from = null;
+        boolean permitted = true;
+        synchronized (this) {
+            if (state == State.OPEN) {
+                if (nanoClock.getAsLong() - openedAt < settings.getOpenDuration().toNanos()) {
+                    return false;
+                }
+                from = transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                permitted = probesInFlight + probeSuccesses < settings.getHalfOpenProbes();
+                if (permitted) {
+                    probesInFlight++;
+                }
+            }
+        }
+        notifyOutside(from, State.HALF_OPEN);
+        return permitted;
+    }
+
+    public void onSuccess() {
+        record(true);
+    }
+
+    public void onFailure() {
+        record(false);
+    }
+
+    /* 결과를 판단할 수 없는 호출 (인터럽트 등) - 시험 호출 자리만 반환 */
+    public synchronized void onIgnored() {
+        if (state == State.HALF_OPEN && probesInFlight > 0) {
+            probesInFlight--;
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /* 현재 창의 실패율(%) - 최소 호출 수 미만이면 -1 */
+    public synchronized float getFailureRate() {
+        return windowCount < settings.getMinimumCalls() ? -1 : windowFailures * 100f / windowCount;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    private void record(boolean success) {
+        State from = null;
+        State to = null;
+        synchronized (this) {
+            switch (state) {
+                case CLOSED -> {
+                    push(success);
+                    if (windowCount >= settings.getMinimumCalls()
+                            && windowFailures * 100 >= settings.getFailureRateThreshold() * windowCount) {
+                        from = transitionTo(State.OPEN);
+                        to = State.OPEN;
+                    }
+                }
+                case HALF_OPEN -> {
+                    if (probesInFlight > 0) {
+                        probesInFlight--;
+                    }
+                    if (!success) {
+                        from = transitionTo(State.OPEN);
+                        to = State.OPEN;
+                    } else if (++probeSuccesses >= settings.getHalfOpenProbes()) {
+                        from = transitionTo(State.CLOSED);
+                        to = State.CLOSED;
+                    }
+                }
+                case OPEN -> {
+                    // OPEN 전에 시작된 호출의 결과는 무시
+                }
+            }
+        }
+        notifyOutside(from, to);
+    }
+
+    private void push(boolean success) {
+        if (windowCount == window.length) {
+            if (!window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = success;
+        if (!success) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    /* 상태 전이 후 이전 상태 반환 (synchronized 안에서 호출) */
+    private State transitionTo(State next) {
+        State previous = state;
+        state = next;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        if (next == State.OPEN) {
+            openedAt = nanoClock.getAsLong();
+        }
+        if (next == State.CLOSED) {
+            windowIndex = 0;
+            windowCount = 0;
+            windowFailures = 0;
+        }
+        return previous;
+    }
+
+    /* 리스너(로그, 진단)는 락 밖에서 호출 */
+    private void notifyOutside(State from, State to) {
+        if (from == null || to == null || from == to) {
+            return;
+        }
+        for (TransitionListener listener : listeners) {
+            listener.onTransition(name, from, to);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 외부 서비스 서킷 브레이커 상태 (/actuator/health 의 circuitBreakers).
+ * 열린 브레이커가 있으면 DEGRADED - 외부 서비스 장애로 인스턴스가 재시작되지 않도록 DOWN 은 쓰지 않는다.
+ */
+@Component("circuitBreakers")
+@RequiredArgsConstructor
+public class CircuitBreakerHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED");
+
+    private final ExternalCallGuards guards;
+
+    @Override
+    public Health health() {
+        boolean degraded = false;
+        Map<String, Object> details = new LinkedHashMap<>();
+        for (ExternalCallGuard guard : guards.all()) {
+            CircuitBreaker breaker = guard.getCircuitBreaker();
+            CircuitBreaker.State state = breaker.getState();
+            degraded |= state != CircuitBreaker.State.CLOSED;
+            details.put(guard.getName(), Map.of(
+                    "state", state.name(),
+                    "failureRate", breaker.getFailureRate(),
+                    "timeoutMs", guard.currentTimeoutMs()));
+        }
+        return Health.status(degraded ? DEGRADED : Status.UP).withDetails(details).build();
+    }
+}
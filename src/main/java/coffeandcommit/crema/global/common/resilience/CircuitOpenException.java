@@ -0,0 +1,10 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+public class CircuitOpenException extends BaseException {
+    public CircuitOpenException(String detailMessage) {
+        super(ErrorStatus.EXTERNAL_SERVICE_UNAVAILABLE, detailMessage);
+    }
+}
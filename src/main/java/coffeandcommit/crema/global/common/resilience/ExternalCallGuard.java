@@ -0,0 +1,107 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Predicate;
+
+/**
+ * 외부 서비스 호출 보호: 서킷 브레이커 + 적응형 타임아웃.
+ * 호출은 가상 스레드에서 실행하고 현재 타임아웃까지만 기다린다.
+ * failurePredicate 에 해당하는 예외와 타임아웃만 실패로 집계한다. (4xx 성격의 오류는 서비스 장애가 아님)
+ */
+@Slf4j
+public class ExternalCallGuard {
+
+    private final String name;
+    private final CircuitBreaker circuitBreaker;
+    private final AdaptiveTimeout timeout;
+    private final Predicate<Throwable> failurePredicate;
+    private final ExecutorService executor;
+    private final CremaMetrics metrics;
+
+    ExternalCallGuard(String name, CircuitBreaker circuitBreaker, AdaptiveTimeout timeout,
+                      Predicate<Throwable> failurePredicate, ExecutorService executor, CremaMetrics metrics) {
+        this.name = name;
+        this.circuitBreaker = circuitBreaker;
+        this.timeout = timeout;
+        this.failurePredicate = failurePredicate;
+        this.executor = executor;
+        this.metrics = metrics;
+    }
+
+    /**
+     * 보호된 호출. 원래 예외는 그대로 다시 던진다.
+     * @throws CircuitOpenException 브레이커가 열려 있어 호출하지 않은 경우 (503)
+     * @throws ExternalCallTimeoutException 현재 타임아웃 안에 응답이 없는 경우 (504)
+     */
+    public <T> T execute(String operation, Callable<T> call) throws Exception {
+        if (!circuitBreaker.tryAcquirePermission()) {
+            metrics.countCircuitRejection(name, operation);
+            throw new CircuitOpenException(name + " / " + operation);
+        }
+
+        long timeoutMs = timeout.currentMs();
+        long started = System.nanoTime();
+        Future<T> future = executor.submit(call);
+        try {
+            T result = future.get(timeoutMs, TimeUnit.MILLISECONDS);
+            timeout.record(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            circuitBreaker.onSuccess();
+            return result;
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            circuitBreaker.onFailure();
+            throw new ExternalCallTimeoutException(name + " / " + operation + " (" + timeoutMs + "ms)");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (failurePredicate.test(cause)) {
+                circuitBreaker.onFailure();
+            } else {
+                circuitBreaker.onSuccess();
+            }
+            if (cause instanceof Exception exception) {
+                throw exception;
+            }
+            throw (Error) cause;
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            circuitBreaker.onIgnored();
+            Thread.currentThread().interrupt();
+            throw e;
+        }
+    }
+
+    /* 예외 변환 없이 쓰기 위한 버전 - 검사 예외는 RuntimeException 으로 감싼다 */
+    public <T> T executeUnchecked(String operation, Callable<T> call) {
+        try {
+            return execute(operation, call);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(name + " 호출 실패: " + operation, e);
+        }
+    }
+
+    public boolean isOpen() {
+        return circuitBreaker.getState() == CircuitBreaker.State.OPEN;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    public long currentTimeoutMs() {
+        return timeout.currentMs();
+    }
+}
@@ -0,0 +1,79 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Predicate;
+
+/**
+ * 외부 서비스별 ExternalCallGuard 레지스트리.
+ * 서비스가 생성 시점에 이름과 실패 판정 기준으로 가드를 등록하고,
+ * 상태 전이 로그 / 메트릭 / 헬스 체크는 여기서 한 번에 연결한다.
+ */
+@Slf4j
+@Component
+public class ExternalCallGuards {
+
+    public static final String OPENVIDU = "openvidu";
+    public static final String GCS = "gcs";
+
+    private final ResilienceProperties properties;
+    private final CremaMetrics metrics;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final Map<String, ExternalCallGuard> guards = new ConcurrentHashMap<>();
+
+    public ExternalCallGuards(ResilienceProperties properties, CremaMetrics metrics) {
+        this.properties = properties;
+        this.metrics = metrics;
+    }
+
+    /* 이름별 가드 (처음 요청 시 생성, 이후 같은 인스턴스) */
+    public ExternalCallGuard register(String name, Predicate<Throwable> failurePredicate) {
+        return guards.computeIfAbsent(name, n -> create(n, failurePredicate));
+    }
+
+    /* 등록된 가드의 브레이커가 열려 있는지 (미등록이면 false) */
+    public boolean isOpen(String name) {
+        ExternalCallGuard guard = guards.get(name);
+        return guard != null && guard.isOpen();
+    }
+
+    public Collection<ExternalCallGuard> all() {
+        return guards.values();
+    }
+
+    private ExternalCallGuard create(String name, Predicate<Throwable> failurePredicate) {
+        ResilienceProperties.Settings settings = properties.settingsFor(name);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(name, settings, System::nanoTime);
+        AdaptiveTimeout timeout = new AdaptiveTimeout(settings);
+
+        circuitBreaker.addListener((breaker, from, to) -> {
+            metrics.countCircuitTransition(breaker, from.name(), to.name());
+            log.atWarn()
+                    .setMessage("[CIRCUIT] 서킷 브레이커 상태 전이")
+                    .addKeyValue("name", breaker)
+                    .addKeyValue("from", from)
+                    .addKeyValue("to", to)
+                    .addKeyValue("failureRate", circuitBreaker.getFailureRate())
+                    .addKeyValue("timeoutMs", timeout.currentMs())
+                    .log();
+        });
+        metrics.registerCircuitBreaker(name,
+                () -> circuitBreaker.getState().ordinal(),
+                timeout::currentMs);
+
+        return new ExternalCallGuard(name, circuitBreaker, timeout, failurePredicate, executor, metrics);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,10 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+
+public class ExternalCallTimeoutException extends BaseException {
+    public ExternalCallTimeoutException(String detailMessage) {
+        super(ErrorStatus.EXTERNAL_CALL_TIMEOUT, detailMessage);
+    }
+}
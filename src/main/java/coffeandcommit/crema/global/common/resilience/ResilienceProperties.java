@@ -0,0 +1,44 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 외부 호출 보호 설정 (crema.resilience.*).
+ * services 키는 보호 대상 이름이다. (openvidu, gcs) 설정이 없으면 기본값을 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.resilience")
+public class ResilienceProperties {
+
+    private Map<String, Settings> services = new HashMap<>();
+
+    public Settings settingsFor(String name) {
+        return services.getOrDefault(name, new Settings());
+    }
+
+    @Getter
+    @Setter
+    public static class Settings {
+        /* 최근 호출 창 크기와, 실패율을 판단하기 위한 최소 호출 수 */
+        private int slidingWindowSize = 20;
+        private int minimumCalls = 10;
+        /* 창 안의 실패율(%)이 이 값 이상이면 OPEN */
+        private int failureRateThreshold = 50;
+        /* OPEN 유지 시간 - 지나면 HALF_OPEN 으로 시험 호출 허용 */
+        private Duration openDuration = Duration.ofSeconds(30);
+        /* HALF_OPEN 에서 허용할 시험 호출 수 (모두 성공하면 CLOSED) */
+        private int halfOpenProbes = 3;
+
+        /* 적응형 타임아웃: 최근 성공 지연 p99 x multiplier 를 min ~ max 로 제한 */
+        private Duration minTimeout = Duration.ofSeconds(1);
+        private Duration maxTimeout = Duration.ofSeconds(10);
+        private double timeoutMultiplier = 3.0;
+    }
+}
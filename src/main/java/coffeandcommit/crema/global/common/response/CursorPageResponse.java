@@ -0,0 +1,38 @@
+package coffeandcommit.crema.global.common.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 키셋(커서) 기반 페이지 응답.
+ * 다음 페이지는 nextCursor를 그대로 다시 전달해 조회한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CursorPageResponse<T> {
+
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /* size + 1건을 조회한 결과로 다음 페이지 여부 판단 */
+    public static <R, T> CursorPageResponse<T> of(List<R> rows, int size, Function<R, T> mapper, Function<R, String> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<R> page = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorPageResponse.<T>builder()
+                .content(page.stream().map(mapper).toList())
+                .size(size)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+                .build();
+    }
+}
@@ -0,0 +1,426 @@
+package coffeandcommit.crema.global.loadtest;
+
+import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.service.ReservationSlotService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+/**
+ * 부하 테스트용 대량 데이터 생성기 (MySQL / H2 공용 JDBC 배치 INSERT).
+ * JPA 를 거치지 않고 테이블에 직접 쓰며, 기존 데이터 뒤에 이어서 id 를 부여하므로 init.sql 데이터와 공존한다.
+ * 회원은 provider=test 로 만들어 /api/test/auth/login 으로 로그인할 수 있다. (닉네임: lt_rookie_000001, lt_guide_000001)
+ * 앱이 지키는 불변식도 함께 채운다 - 회원 잔액은 기초 잔액(OPENING_BALANCE) 원장과 일치하고,
+ * 확정 예약은 reservation_slot 을 점유한다. (완료 예약은 슬롯을 해제하므로 행이 없다)
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class LoadTestDataGenerator {
+
+    static final String MEMBER_ID_FORMAT = "lt%06d";
+    static final String ROOKIE_NICKNAME_PREFIX = "lt_rookie_";
+    static final String GUIDE_NICKNAME_PREFIX = "lt_guide_";
+
+    private static final String[] KEYWORDS = {"스프링", "자바", "리액트", "백엔드", "프론트엔드", "면접", "이력서", "포트폴리오", "이직", "커리어"};
+    private static final String[] COMPANIES = {"크레마랩스", "커피앤커밋", "데이터웍스", "클라우드원", "핀테크원"};
+    private static final TimeType[] TIME_TYPES = TimeType.values();
+    private static final String[] AUTO_ID_TABLES = {
+            "chat_topic", "guide", "guide_job_field", "guide_chat_topic", "hash_tag", "guide_schedule", "time_slot",
+            "survey", "reservation", "time_unit", "review", "participants", "point_ledger", "reservation_slot"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public LoadTestSeedResult seed(LoadTestSeedProperties properties) {
+        validate(properties);
+        if (alreadySeeded()) {
+            throw new IllegalStateException("부하 테스트 데이터가 이미 존재합니다. (member id=" + memberId(1) + ")");
+        }
+
+        long started = System.currentTimeMillis();
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed());
+        LocalDateTime now = LocalDateTime.now().withNano(0);
+
+        Map<TopicNameType, Long> chatTopicIds = ensureChatTopics();
+        insertMembers(properties, random, now);
+        long firstGuideId = insertGuides(properties, random, now, chatTopicIds);
+        ReservationSeed reservationSeed = insertReservations(properties, random, now, firstGuideId);
+        List<LoadTestSeedResult.SeededSession> sessions = insertVideoSessions(reservationSeed.confirmed(), now);
+        restartIdentitiesIfH2();
+
+        LoadTestSeedResult result = new LoadTestSeedResult(
+                properties.getMembers(), properties.getGuides(), firstGuideId, properties.getReservations(), reservationSeed.reviews(),
+                ROOKIE_NICKNAME_PREFIX, GUIDE_NICKNAME_PREFIX, sessions, System.currentTimeMillis() - started);
+        log.info("부하 테스트 데이터 생성 완료: members={}, guides={}, reservations={}, reviews={}, videoSessions={}, elapsedMs={}",
+                result.members(), result.guides(), result.reservations(), result.reviews(), sessions.size(), result.elapsedMs());
+        return result;
+    }
+
+    private void validate(LoadTestSeedProperties properties) {
+        if (properties.getGuides() <= 0 || properties.getGuides() >= properties.getMembers()) {
+            throw new IllegalArgumentException("guides 는 1 이상, members 미만이어야 합니다.");
+        }
+        if (properties.getMembers() > 999_999) {
+            throw new IllegalArgumentException("members 는 999,999 명까지 생성할 수 있습니다.");
+        }
+        if (properties.getBatchSize() <= 0) {
+            throw new IllegalArgumentException("batchSize 는 1 이상이어야 합니다.");
+        }
+    }
+
+    private boolean alreadySeeded() {
+        Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member WHERE id = ?", Integer.class, memberId(1));
+        return count != null && count > 0;
+    }
+
+    /* 보통 ChatTopicRegistry 가 기동 시 채워 두지만, 비어 있는 DB 에 직접 돌릴 때를 위해 없는 주제만 채운다 */
+    private Map<TopicNameType, Long> ensureChatTopics() {
+        Map<TopicNameType, Long> ids = new EnumMap<>(TopicNameType.class);
+        jdbcTemplate.query("SELECT id, topic_name FROM chat_topic", rs -> {
+            ids.putIfAbsent(TopicNameType.valueOf(rs.getString("topic_name")), rs.getLong("id"));
+        });
+
+        long nextId = nextId("chat_topic");
+        for (TopicNameType topic : TopicNameType.values()) {
+            if (topic != TopicNameType.UNDEFINED && !ids.containsKey(topic)) {
+                jdbcTemplate.update("INSERT INTO chat_topic (id, topic_name, created_at) VALUES (?, ?, ?)",
+                        nextId, topic.name(), LocalDateTime.now());
+                ids.put(topic, nextId++);
+            }
+        }
+        return ids;
+    }
+
+    private void insertMembers(LoadTestSeedProperties properties, SplittableRandom random, LocalDateTime now) {
+        long ledgerId = nextId("point_ledger");
+
+        ChunkedInsert chunk = new ChunkedInsert(properties.getBatchSize());
+        BatchWriter members = chunk.writer("INSERT INTO member (id, nickname, role, point, profile_image_url, description, "
+                + "provider, provider_id, is_deleted, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter ledgers = chunk.writer("INSERT INTO point_ledger (id, member_id, type, amount, idempotency_key, applied, "
+                + "applied_at, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)");
+
+        for (int i = 1; i <= properties.getMembers(); i++) {
+            boolean guide = i <= properties.getGuides();
+            String nickname = nickname(i, guide);
+            LocalDateTime createdAt = now.minusDays(random.nextInt(720)).minusMinutes(random.nextInt(1440));
+            int point = random.nextInt(50_000);
+            members.add(memberId(i), nickname, (guide ? MemberRole.GUIDE : MemberRole.ROOKIE).name(), point,
+                    "https://storage.googleapis.com/crema-load-test/profile/" + (i % 100) + ".png",
+                    guide ? "현직 " + KEYWORDS[i % KEYWORDS.length] + " 개발자입니다." : null,
+                    "test", nickname, false, createdAt, createdAt);
+            // 잔액 = 원장 합계가 되도록 기초 잔액 원장 (PointLedgerService.reconcile 과 같은 키)
+            ledgers.add(ledgerId++, memberId(i), PointLedgerType.OPENING_BALANCE.name(), point,
+                    "member:" + memberId(i) + ":opening", true, createdAt, createdAt, createdAt);
+            chunk.rowCompleted();
+        }
+        chunk.flush();
+        log.info("회원 생성 완료: {}명", properties.getMembers());
+    }
+
+    /* 가이드 i 번은 회원 i 번 - 첫 가이드 id 를 반환한다 */
+    private long insertGuides(LoadTestSeedProperties properties, SplittableRandom random, LocalDateTime now,
+                              Map<TopicNameType, Long> chatTopicIds) {
+        JobNameType[] jobNames = Arrays.stream(JobNameType.values())
+                .filter(jobName -> jobName != JobNameType.UNDEFINED)
+                .toArray(JobNameType[]::new);
+        Long[] topicIds = chatTopicIds.values().toArray(Long[]::new);
+        DayType[] days = DayType.values();
+
+        long guideId = nextId("guide");
+        long jobFieldId = nextId("guide_job_field");
+        long chatTopicId = nextId("guide_chat_topic");
+        long hashTagId = nextId("hash_tag");
+        long scheduleId = nextId("guide_schedule");
+        long timeSlotId = nextId("time_slot");
+
+        ChunkedInsert chunk = new ChunkedInsert(properties.getBatchSize());
+        BatchWriter guides = chunk.writer("INSERT INTO guide (id, member_id, chat_description, is_opened, title, approved_date, "
+                + "working_start, working_period, company_name, is_company_name_public, job_position, is_current, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter jobFields = chunk.writer("INSERT INTO guide_job_field (id, guide_id, job_name, created_at) VALUES (?, ?, ?, ?)");
+        BatchWriter guideChatTopics = chunk.writer("INSERT INTO guide_chat_topic (id, guide_id, chat_topic_id, created_at) VALUES (?, ?, ?, ?)");
+        BatchWriter hashTags = chunk.writer("INSERT INTO hash_tag (id, guide_id, hash_tag_name, created_at) VALUES (?, ?, ?, ?)");
+        BatchWriter schedules = chunk.writer("INSERT INTO guide_schedule (id, guide_id, day_of_week, created_at) VALUES (?, ?, ?, ?)");
+        BatchWriter timeSlots = chunk.writer("INSERT INTO time_slot (id, schedule_id, start_time_option, end_time_option, created_at) "
+                + "VALUES (?, ?, ?, ?, ?)");
+
+        long firstGuideId = guideId;
+        for (int i = 1; i <= properties.getGuides(); i++, guideId++) {
+            JobNameType jobName = jobNames[random.nextInt(jobNames.length)];
+            int careerMonths = 6 + random.nextInt(180);
+            LocalDateTime approvedDate = now.minusDays(random.nextInt(365));
+
+            guides.add(guideId, memberId(i), jobName.getDescription() + " 분야 커피챗을 진행합니다.",
+                    random.nextInt(10) != 0, // 10%는 비공개
+                    KEYWORDS[random.nextInt(KEYWORDS.length)] + " " + jobName.getDescription() + " 커피챗 " + i,
+                    approvedDate, now.toLocalDate().minusMonths(careerMonths),
+                    (careerMonths / 12) + "년 " + (careerMonths % 12) + "개월",
+                    COMPANIES[random.nextInt(COMPANIES.length)], random.nextBoolean(),
+                    KEYWORDS[random.nextInt(KEYWORDS.length)] + " 개발자", true, approvedDate, approvedDate);
+            jobFields.add(jobFieldId++, guideId, jobName.name(), approvedDate);
+
+            int topicOffset = random.nextInt(topicIds.length);
+            int topicCount = 1 + random.nextInt(3);
+            for (int t = 0; t < topicCount; t++) {
+                guideChatTopics.add(chatTopicId++, guideId, topicIds[(topicOffset + t) % topicIds.length], approvedDate);
+            }
+
+            int keywordOffset = random.nextInt(KEYWORDS.length);
+            int hashTagCount = 2 + random.nextInt(3);
+            for (int t = 0; t < hashTagCount; t++) {
+                hashTags.add(hashTagId++, guideId, KEYWORDS[(keywordOffset + t) % KEYWORDS.length], approvedDate);
+            }
+
+            int dayOffset = random.nextInt(days.length);
+            for (int d = 0; d < 2; d++) {
+                schedules.add(scheduleId, guideId, days[(dayOffset + d * 3) % days.length].name(), approvedDate);
+                timeSlots.add(timeSlotId++, scheduleId++, LocalTime.of(19, 0), LocalTime.of(22, 0), approvedDate);
+            }
+            chunk.rowCompleted();
+        }
+        chunk.flush();
+        log.info("가이드 생성 완료: {}명", properties.getGuides());
+        return firstGuideId;
+    }
+
+    private ReservationSeed insertReservations(LoadTestSeedProperties properties, SplittableRandom random, LocalDateTime now,
+                                               long firstGuideId) {
+        long surveyId = nextId("survey");
+        long reservationId = nextId("reservation");
+        long timeUnitId = nextId("time_unit");
+        long reviewId = nextId("review");
+        long slotId = nextId("reservation_slot");
+        int rookies = properties.getMembers() - properties.getGuides();
+        Set<String> claimedSlots = new HashSet<>();
+
+        ChunkedInsert chunk = new ChunkedInsert(properties.getBatchSize());
+        BatchWriter surveys = chunk.writer("INSERT INTO survey (id, file_upload_url, message_to_guide, preferred_date, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        BatchWriter reservations = chunk.writer("INSERT INTO reservation (id, guide_id, member_id, survey_id, matching_time, status, "
+                + "reserved_at, version, created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)");
+        BatchWriter timeUnits = chunk.writer("INSERT INTO time_unit (id, reservation_id, time_type, created_at) VALUES (?, ?, ?, ?)");
+        BatchWriter slots = chunk.writer("INSERT INTO reservation_slot (id, guide_id, reservation_id, slot_start, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+        BatchWriter reviews = chunk.writer("INSERT INTO review (id, reservation_id, comment, star_review, created_at, modified_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)");
+
+        List<ConfirmedReservation> confirmed = new ArrayList<>();
+        int reviewCount = 0;
+        for (int r = 0; r < properties.getReservations(); r++, surveyId++, reservationId++) {
+            // 인기 가이드 쏠림: 앞쪽 가이드일수록 예약이 많다
+            int guideIndex = (int) (properties.getGuides() * Math.pow(random.nextDouble(), 2));
+            int menteeIndex = properties.getGuides() + 1 + random.nextInt(rookies);
+            Status status = pickStatus(random);
+            long guideId = firstGuideId + guideIndex;
+
+            LocalDateTime createdAt = now.minusDays(random.nextInt(365)).minusMinutes(random.nextInt(1440));
+            LocalDateTime preferredDate = (status == Status.COMPLETED ? createdAt.plusDays(3 + random.nextInt(14))
+                    : now.plusDays(1 + random.nextInt(30))).withHour(19 + random.nextInt(3)).withMinute(0).withSecond(0);
+            TimeType timeType = TIME_TYPES[random.nextInt(TIME_TYPES.length)];
+
+            // 확정 예약은 슬롯을 점유한다 - 같은 가이드의 슬롯이 이미 찼으면 확정할 수 없으므로 대기 상태로 남긴다
+            List<LocalDateTime> slotStarts = List.of();
+            if (status == Status.CONFIRMED) {
+                slotStarts = ReservationSlotService.toSlotStarts(preferredDate, timeType);
+                if (slotStarts.stream().anyMatch(slotStart -> claimedSlots.contains(guideId + "@" + slotStart))) {
+                    status = Status.PENDING;
+                    slotStarts = List.of();
+                } else {
+                    slotStarts.forEach(slotStart -> claimedSlots.add(guideId + "@" + slotStart));
+                }
+            }
+            LocalDateTime decidedAt = status == Status.PENDING ? null : createdAt.plusHours(1 + random.nextInt(48));
+
+            surveys.add(surveyId, "", "커피챗 사전 메시지 " + r, preferredDate, createdAt, createdAt);
+            reservations.add(reservationId, guideId, memberId(menteeIndex), surveyId,
+                    status == Status.CONFIRMED || status == Status.COMPLETED ? preferredDate : null,
+                    status.name(), decidedAt, 0L, createdAt, decidedAt != null ? decidedAt : createdAt);
+            timeUnits.add(timeUnitId++, reservationId, timeType.name(), createdAt);
+            for (LocalDateTime slotStart : slotStarts) {
+                slots.add(slotId++, guideId, reservationId, slotStart, decidedAt, decidedAt);
+            }
+
+            if (status == Status.COMPLETED && random.nextDouble() < properties.getReviewRatio()) {
+                LocalDateTime reviewedAt = preferredDate.plusHours(2);
+                reviews.add(reviewId++, reservationId, "도움이 많이 되었습니다. " + r,
+                        BigDecimal.valueOf(30 + 5 * random.nextInt(5), 1), // 3.0 ~ 5.0
+                        reviewedAt, reviewedAt);
+                reviewCount++;
+            }
+            if (status == Status.CONFIRMED && confirmed.size() < properties.getVideoSessions()) {
+                confirmed.add(new ConfirmedReservation(reservationId, guideIndex + 1, menteeIndex));
+            }
+
+            chunk.rowCompleted();
+            if ((r + 1) % 100_000 == 0) {
+                log.info("예약 생성 진행: {}/{}", r + 1, properties.getReservations());
+            }
+        }
+        chunk.flush();
+        log.info("예약 생성 완료: reservations={}, reviews={}", properties.getReservations(), reviewCount);
+        return new ReservationSeed(confirmed, reviewCount);
+    }
+
+    /* PENDING 20%, CONFIRMED 15%, COMPLETED 55%, CANCELLED 10% */
+    private Status pickStatus(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 20) {
+            return Status.PENDING;
+        }
+        if (roll < 35) {
+            return Status.CONFIRMED;
+        }
+        return roll < 90 ? Status.COMPLETED : Status.CANCELLED;
+    }
+
+    private List<LoadTestSeedResult.SeededSession> insertVideoSessions(List<ConfirmedReservation> confirmed, LocalDateTime now) {
+        List<LoadTestSeedResult.SeededSession> sessions = new ArrayList<>(confirmed.size());
+        if (confirmed.isEmpty()) {
+            return sessions;
+        }
+
+        long videoSessionId = nextId("video_session", "video_session_id");
+        long participantId = nextId("participants");
+        List<Object[]> videoSessions = new ArrayList<>();
+        List<Object[]> participants = new ArrayList<>();
+        List<Object[]> links = new ArrayList<>();
+
+        for (ConfirmedReservation reservation : confirmed) {
+            String sessionId = "lt_session_" + reservation.reservationId();
+            videoSessions.add(new Object[]{videoSessionId, sessionId, sessionId, true, reservation.reservationId(), now, now});
+            participants.add(new Object[]{participantId++, "lt_con_g_" + reservation.reservationId(), "lt-token",
+                    memberId(reservation.guideIndex()), now, true, videoSessionId, memberId(reservation.guideIndex())});
+            participants.add(new Object[]{participantId++, "lt_con_m_" + reservation.reservationId(), "lt-token",
+                    memberId(reservation.menteeIndex()), now, true, videoSessionId, memberId(reservation.menteeIndex())});
+            links.add(new Object[]{videoSessionId, reservation.reservationId()});
+
+            sessions.add(new LoadTestSeedResult.SeededSession(sessionId, reservation.reservationId(),
+                    nickname(reservation.guideIndex(), true), nickname(reservation.menteeIndex(), false)));
+            videoSessionId++;
+        }
+
+        jdbcTemplate.batchUpdate("INSERT INTO video_session (video_session_id, session_id, session_name, is_active, reservation_id, "
+                + "created_at, modified_at) VALUES (?, ?, ?, ?, ?, ?, ?)", videoSessions);
+        jdbcTemplate.batchUpdate("INSERT INTO participants (id, connection_id, token, username, joined_at, is_connected, "
+                + "video_session_id, member_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?)", participants);
+        jdbcTemplate.batchUpdate("UPDATE reservation SET video_session_id = ? WHERE id = ?", links);
+        log.info("화상 세션 생성 완료: {}개", sessions.size());
+        return sessions;
+    }
+
+    /* H2 는 명시 id INSERT 후 identity 시퀀스가 따라오지 않으므로 이후 앱 INSERT 충돌을 막기 위해 재시작 (MySQL 은 자동) */
+    private void restartIdentitiesIfH2() {
+        String product = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+        if (!"H2".equalsIgnoreCase(product)) {
+            return;
+        }
+        for (String table : AUTO_ID_TABLES) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId(table));
+        }
+        jdbcTemplate.execute("ALTER TABLE video_session ALTER COLUMN video_session_id RESTART WITH "
+                + nextId("video_session", "video_session_id"));
+    }
+
+    private long nextId(String table) {
+        return nextId(table, "id");
+    }
+
+    private long nextId(String table, String idColumn) {
+        Long max = jdbcTemplate.queryForObject("SELECT MAX(" + idColumn + ") FROM " + table, Long.class);
+        return max == null ? 1 : max + 1;
+    }
+
+    static String memberId(int index) {
+        return String.format(MEMBER_ID_FORMAT, index);
+    }
+
+    static String nickname(int index, boolean guide) {
+        return (guide ? GUIDE_NICKNAME_PREFIX : ROOKIE_NICKNAME_PREFIX) + String.format("%06d", index);
+    }
+
+    private record ConfirmedReservation(Long reservationId, int guideIndex, int menteeIndex) {
+    }
+
+    private record ReservationSeed(List<ConfirmedReservation> confirmed, int reviews) {
+    }
+
+    /**
+     * 여러 테이블의 배치를 같은 시점에 FK 순서대로 내보낸다.
+     * (자식 테이블 배치가 부모 테이블 배치보다 먼저 실행되지 않도록 writer 등록 순서 = 부모 → 자식)
+     */
+    private final class ChunkedInsert {
+
+        private final int batchSize;
+        private final List<BatchWriter> writers = new ArrayList<>();
+        private int rows;
+
+        private ChunkedInsert(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        private BatchWriter writer(String sql) {
+            BatchWriter writer = new BatchWriter(sql);
+            writers.add(writer);
+            return writer;
+        }
+
+        private void rowCompleted() {
+            if (++rows >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() {
+            for (BatchWriter writer : writers) {
+                writer.flush();
+            }
+            rows = 0;
+        }
+    }
+
+    private final class BatchWriter {
+
+        private final String sql;
+        private final List<Object[]> pending = new ArrayList<>();
+
+        private BatchWriter(String sql) {
+            this.sql = sql;
+        }
+
+        private void add(Object... row) {
+            pending.add(row);
+        }
+
+        private void flush() {
+            if (!pending.isEmpty()) {
+                jdbcTemplate.batchUpdate(sql, pending);
+                pending.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package coffeandcommit.crema.global.loadtest;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 부하 테스트 데이터 시드 설정 (crema.load-test.seed.*, seed 프로필에서만 사용).
+ * 기본값은 운영 규모 추정치 - 로컬 H2 에서는 값을 줄여 실행한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "crema.load-test.seed")
+public class LoadTestSeedProperties {
+
+    private int members = 100_000;          // 가이드 포함 전체 회원 수
+
+    private int guides = 10_000;            // 앞쪽 회원부터 가이드로 승격
+
+    private int reservations = 2_000_000;
+
+    private double reviewRatio = 0.9;       // COMPLETED 예약 중 리뷰 작성 비율
+
+    private int videoSessions = 1_000;      // 참여자를 포함한 화상 세션을 만들 CONFIRMED 예약 수 (chat-save 시나리오용)
+
+    private int batchSize = 1_000;
+
+    private long randomSeed = 20250910L;    // 같은 시드 = 같은 데이터 분포
+
+    private String manifestPath = "build/load-test/seed-manifest.json";
+
+    private boolean exitOnComplete = true;
+}
@@ -0,0 +1,23 @@
+package coffeandcommit.crema.global.loadtest;
+
+import java.util.List;
+
+/**
+ * 시드 결과 요약 - k6 시나리오가 읽는 매니페스트(seed-manifest.json)로도 저장된다.
+ */
+public record LoadTestSeedResult(
+        int members,
+        int guides,
+        long firstGuideId,          // 가이드 id 범위: firstGuideId ~ firstGuideId + guides - 1
+        int reservations,
+        int reviews,
+        String rookieNicknamePrefix,
+        String guideNicknamePrefix,
+        List<SeededSession> sessions,
+        long elapsedMs
+) {
+
+    /* chat-save 시나리오 대상 화상 세션 */
+    public record SeededSession(String sessionId, Long reservationId, String guideNickname, String menteeNickname) {
+    }
+}
@@ -0,0 +1,47 @@
+package coffeandcommit.crema.global.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * seed 프로필 실행 시 부하 테스트 데이터를 생성하고 k6 시나리오용 매니페스트를 남긴다.
+ * 예) SPRING_PROFILES_ACTIVE=local,seed ./gradlew bootRun --args='--crema.load-test.seed.reservations=200000'
+ */
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+public class LoadTestSeedRunner implements ApplicationRunner {
+
+    private final LoadTestDataGenerator generator;
+    private final LoadTestSeedProperties properties;
+    private final ObjectMapper objectMapper;
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public void run(ApplicationArguments args) throws IOException {
+        LoadTestSeedResult result = generator.seed(properties);
+
+        Path manifest = Path.of(properties.getManifestPath());
+        if (manifest.getParent() != null) {
+            Files.createDirectories(manifest.getParent());
+        }
+        objectMapper.writerWithDefaultPrettyPrinter().writeValue(manifest.toFile(), result);
+        log.info("시드 매니페스트 저장: {}", manifest.toAbsolutePath());
+
+        if (properties.isExitOnComplete()) {
+            System.exit(SpringApplication.exit(applicationContext, () -> 0));
+        }
+    }
+}
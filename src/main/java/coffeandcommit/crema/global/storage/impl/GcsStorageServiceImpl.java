@@ -1,11 +1,16 @@
 package coffeandcommit.crema.global.storage.impl;
 
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import coffeandcommit.crema.global.common.resilience.ExternalCallGuard;
+import coffeandcommit.crema.global.common.resilience.ExternalCallGuards;
 import coffeandcommit.crema.global.storage.StorageService;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
 import coffeandcommit.crema.global.validation.ValidatedFile;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.StorageException;
+import io.micrometer.core.instrument.Timer;
 import java.io.IOException;
 import java.net.URL;
 import java.util.concurrent.TimeUnit;
@@ -17,12 +22,24 @@ public class GcsStorageServiceImpl implements StorageService {
 
     private final Storage storage;
     private final String bucketName;
+    private final CremaMetrics metrics;
+    private final ExternalCallGuard guard;
 
     public GcsStorageServiceImpl(
             Storage storage,
-            @Value("${spring.cloud.gcp.storage.bucket-name}") String bucketName) {
+            @Value("${spring.cloud.gcp.storage.bucket-name}") String bucketName,
+            CremaMetrics metrics,
+            ExternalCallGuards guards) {
         this.storage = storage;
         this.bucketName = bucketName;
+        this.metrics = metrics;
+        this.guard = guards.register(ExternalCallGuards.GCS, GcsStorageServiceImpl::isServiceFailure);
+    }
+
+    /* 4xx (권한, 없는 객체 등) 는 GCS 장애로 보지 않는다 */
+    static boolean isServiceFailure(Throwable e) {
+        return !(e instanceof StorageException storageException
+                && storageException.getCode() >= 400 && storageException.getCode() < 500);
     }
 
     private String getFileKey(String folder, String userId, String fileName) {
@@ -38,8 +55,12 @@ public class GcsStorageServiceImpl implements StorageService {
                 .setContentType(file.getContentType())
                 .build();
 
+        Timer.Sample sample = metrics.start();
+        long size = file.getSize();
         try {
-            storage.create(blobInfo, file.getBytes());
+            byte[] content = file.getBytes();
+            guard.executeUnchecked("upload", () -> storage.create(blobInfo, content));
+            metrics.stopStorageUpload(sample, size, CremaMetrics.SUCCESS);
 
             String fileUrl = "https://storage.googleapis.com/" + bucketName + "/" + fileKey;
 
@@ -48,22 +69,33 @@ public class GcsStorageServiceImpl implements StorageService {
                     .fileUrl(fileUrl)
                     .build();
         } catch (IOException e) {
+            metrics.stopStorageUpload(sample, size, CremaMetrics.FAILURE);
             throw new RuntimeException("파일 업로드 실패", e);
+        } catch (RuntimeException e) {
+            metrics.stopStorageUpload(sample, size, CremaMetrics.FAILURE);
+            throw e;
         }
     }
 
     @Override
     public String generateViewUrl(String fileKey) {
-        URL url = storage.signUrl(
-                BlobInfo.newBuilder(bucketName, fileKey).build(),
-                10, TimeUnit.MINUTES,
-                Storage.SignUrlOption.withV4Signature());
-        return url.toString();
+        Timer.Sample sample = metrics.start();
+        try {
+            URL url = storage.signUrl(
+                    BlobInfo.newBuilder(bucketName, fileKey).build(),
+                    10, TimeUnit.MINUTES,
+                    Storage.SignUrlOption.withV4Signature());
+            metrics.stopSignedUrl(sample, CremaMetrics.SUCCESS);
+            return url.toString();
+        } catch (RuntimeException e) {
+            metrics.stopSignedUrl(sample, CremaMetrics.FAILURE);
+            throw e;
+        }
     }
 
 
     @Override
     public void deleteFile(String fileKey) {
-        storage.delete(BlobId.of(bucketName, fileKey));
+        guard.executeUnchecked("delete", () -> storage.delete(BlobId.of(bucketName, fileKey)));
     }
 }
\ No newline at end of file
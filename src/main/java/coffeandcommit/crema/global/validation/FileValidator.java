@@ -107,7 +107,8 @@ public class FileValidator {
         }
     }
 
-    private boolean isValidImageHeader(byte[] header) {
+    // 패키지 접근: 시그니처 판별 벤치마크(src/jmh)에서 직접 호출
+    boolean isValidImageHeader(byte[] header) {
         if (header == null || header.length < 3) {
             return false;
         }
@@ -0,0 +1,11 @@
+-- 소유자 지정 잠금 획득 (DistributedLock)
+-- KEYS[1]: 잠금 키 / ARGV[1]: 소유자 / ARGV[2]: TTL(ms)
+-- 반환: 비어 있어 선점했거나 같은 소유자라 TTL 을 연장했으면 1, 다른 소유자가 점유 중이면 0
+if redis.call('set', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[2]) then
+    return 1
+end
+if redis.call('get', KEYS[1]) == ARGV[1] then
+    redis.call('pexpire', KEYS[1], ARGV[2])
+    return 1
+end
+return 0
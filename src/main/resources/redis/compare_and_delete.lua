@@ -0,0 +1,7 @@
+-- 소유자 확인 후 잠금 해제 (DistributedLock)
+-- KEYS[1]: 잠금 키 / ARGV[1]: 획득 시 발급한 소유 토큰
+-- 반환: 해제되면 1, 다른 소유자이거나 만료됐으면 0
+if redis.call('get', KEYS[1]) == ARGV[1] then
+    return redis.call('del', KEYS[1])
+end
+return 0
@@ -0,0 +1,35 @@
+-- 토큰 버킷 원자적 차감 (RedisTokenBucket)
+-- KEYS[1]: 버킷 키 / ARGV[1]: 용량 / ARGV[2]: 초당 충전 토큰 수 / ARGV[3]: 요청 토큰 수 (음수면 그만큼 되돌림)
+-- 반환: { 허용 여부(1/0), 재시도까지 남은 ms }
+local capacity = tonumber(ARGV[1])
+local rate = tonumber(ARGV[2])
+local requested = tonumber(ARGV[3])
+
+-- 서버 간 시계 차이를 피하려고 Redis 시간을 사용
+local time = redis.call('TIME')
+local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+
+local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+local tokens = tonumber(bucket[1])
+local ts = tonumber(bucket[2])
+if tokens == nil or ts == nil then
+    tokens = capacity
+    ts = now
+end
+
+tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+
+local allowed = 0
+local retryAfter = 0
+if tokens >= requested then
+    tokens = math.min(capacity, tokens - requested)
+    allowed = 1
+else
+    retryAfter = math.ceil((requested - tokens) * 1000 / rate)
+end
+
+redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+-- 가득 찰 때까지 걸리는 시간이 지나면 기본 상태와 같으므로 만료
+redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+
+return { allowed, retryAfter }
@@ -0,0 +1,194 @@
+package coffeandcommit.crema.domain.globalTag.service;
+
+import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.guide.entity.ExperienceGroup;
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.GuideChatTopic;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.entity.MemberChatTopic;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * chat_topic 중복 정리 - 유니크 제약이 없던 시절의 중복 행을 만들어 두고,
+ * 연결 행이 canonical id 로 옮겨지고 중복 행이 지워진 뒤 제약이 다시 걸리는지 확인한다.
+ * DDL 이 섞이므로 테스트 트랜잭션 없이 실제로 커밋한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, ChatTopicDeduplicator.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ChatTopicDeduplicatorTest {
+
+    @Autowired
+    private ChatTopicDeduplicator chatTopicDeduplicator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        jdbcTemplate.execute("ALTER TABLE chat_topic DROP CONSTRAINT " + ChatTopicDeduplicator.UNIQUE_CONSTRAINT);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM experience_group");
+            jdbcTemplate.update("DELETE FROM guide_chat_topic");
+            jdbcTemplate.update("DELETE FROM member_chat_topic");
+            jdbcTemplate.update("DELETE FROM guide");
+            jdbcTemplate.update("DELETE FROM member");
+            jdbcTemplate.update("DELETE FROM chat_topic");
+        });
+        chatTopicDeduplicator.ensureUniqueConstraint();
+    }
+
+    @Test
+    @DisplayName("연결 행을 가장 작은 id 로 옮기고 중복 행을 지운 뒤 유니크 제약을 추가한다")
+    void mergesDuplicatesAndAddsConstraint() {
+        Long[] ids = tx.execute(status -> {
+            ChatTopic canonical = persistTopic(TopicNameType.INTERVIEW);
+            ChatTopic duplicate = persistTopic(TopicNameType.INTERVIEW);
+            Guide onlyDuplicate = persistGuide("dedup-guide-1");
+            Guide both = persistGuide("dedup-guide-2");
+            linkGuide(onlyDuplicate, duplicate);
+            linkGuide(both, canonical);
+            linkGuide(both, duplicate);
+            linkMember(persistMember("dedup-rookie"), duplicate);
+            return new Long[]{canonical.getId(), duplicate.getId()};
+        });
+
+        boolean merged = tx.execute(status -> chatTopicDeduplicator.mergeDuplicates());
+        chatTopicDeduplicator.ensureUniqueConstraint();
+
+        assertThat(merged).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_topic", Long.class)).containsExactly(ids[0]);
+        assertThat(jdbcTemplate.queryForList("SELECT chat_topic_id FROM guide_chat_topic", Long.class))
+                .containsExactly(ids[0], ids[0]);
+        assertThat(jdbcTemplate.queryForList("SELECT chat_topic_id FROM member_chat_topic", Long.class))
+                .containsExactly(ids[0]);
+        assertThatThrownBy(() -> jdbcTemplate.update("INSERT INTO chat_topic (topic_name) VALUES ('INTERVIEW')"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("canonical 에는 없고 중복 행 두 개에만 연결된 가이드/회원은 가장 작은 연결 하나만 남긴다")
+    void collapsesLinksAmongDuplicates() {
+        Long[] ids = tx.execute(status -> {
+            ChatTopic canonical = persistTopic(TopicNameType.INTERVIEW);
+            ChatTopic first = persistTopic(TopicNameType.INTERVIEW);
+            ChatTopic second = persistTopic(TopicNameType.INTERVIEW);
+            Guide guide = persistGuide("dedup-guide-3");
+            linkGuide(guide, first);
+            linkGuide(guide, second);
+            Member member = persistMember("dedup-rookie-2");
+            linkMember(member, first);
+            linkMember(member, second);
+            return new Long[]{canonical.getId()};
+        });
+
+        boolean merged = tx.execute(status -> chatTopicDeduplicator.mergeDuplicates());
+        chatTopicDeduplicator.ensureUniqueConstraint();
+
+        assertThat(merged).isTrue();
+        assertThat(jdbcTemplate.queryForList("SELECT id FROM chat_topic", Long.class)).containsExactly(ids[0]);
+        assertThat(jdbcTemplate.queryForList("SELECT chat_topic_id FROM guide_chat_topic", Long.class))
+                .containsExactly(ids[0]);
+        assertThat(jdbcTemplate.queryForList("SELECT chat_topic_id FROM member_chat_topic", Long.class))
+                .containsExactly(ids[0]);
+    }
+
+    @Test
+    @DisplayName("중복 행끼리 겹치는 연결에 경험 그룹이 달려 있으면 정리를 보류한다")
+    void keepsDuplicatesWhenCollapsedLinkHasExperience() {
+        tx.executeWithoutResult(status -> {
+            persistTopic(TopicNameType.INTERVIEW);
+            ChatTopic first = persistTopic(TopicNameType.INTERVIEW);
+            ChatTopic second = persistTopic(TopicNameType.INTERVIEW);
+            Guide guide = persistGuide("dedup-guide-4");
+            linkGuide(guide, first);
+            GuideChatTopic later = GuideChatTopic.builder().guide(guide).chatTopic(second).build();
+            em.persist(later);
+            em.persist(ExperienceGroup.builder().guide(guide).guideChatTopic(later).experienceTitle("t").experienceContent("c").build());
+            em.flush();
+        });
+
+        boolean merged = tx.execute(status -> chatTopicDeduplicator.mergeDuplicates());
+
+        assertThat(merged).isFalse();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_topic", Integer.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM guide_chat_topic", Integer.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("중복이 없으면 아무것도 바꾸지 않는다")
+    void noDuplicatesIsNoOp() {
+        tx.executeWithoutResult(status -> {
+            persistTopic(TopicNameType.INTERVIEW);
+            persistTopic(TopicNameType.RESUME);
+        });
+
+        boolean merged = tx.execute(status -> chatTopicDeduplicator.mergeDuplicates());
+
+        assertThat(merged).isTrue();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM chat_topic", Integer.class)).isEqualTo(2);
+    }
+
+    private ChatTopic persistTopic(TopicNameType topicName) {
+        ChatTopic chatTopic = ChatTopic.builder().topicName(topicName).build();
+        em.persist(chatTopic);
+        em.flush();
+        return chatTopic;
+    }
+
+    private Member persistMember(String id) {
+        Member member = Member.builder().id(id).nickname(id).role(MemberRole.ROOKIE).build();
+        em.persist(member);
+        return member;
+    }
+
+    private Guide persistGuide(String memberId) {
+        Guide guide = Guide.builder().member(persistMember(memberId)).title(memberId).isOpened(true).build();
+        em.persist(guide);
+        return guide;
+    }
+
+    private void linkGuide(Guide guide, ChatTopic chatTopic) {
+        em.persist(GuideChatTopic.builder().guide(guide).chatTopic(chatTopic).build());
+        em.flush();
+    }
+
+    private void linkMember(Member member, ChatTopic chatTopic) {
+        em.persist(MemberChatTopic.builder().member(member).chatTopic(chatTopic).build());
+        em.flush();
+    }
+}
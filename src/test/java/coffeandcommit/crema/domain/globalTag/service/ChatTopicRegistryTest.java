@@ -0,0 +1,139 @@
+package coffeandcommit.crema.domain.globalTag.service;
+
+import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatTopicRegistryTest {
+
+    @Mock
+    private ChatTopicRepository chatTopicRepository;
+
+    @Mock
+    private ChatTopicDeduplicator chatTopicDeduplicator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ChatTopicRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        lenient().when(chatTopicDeduplicator.mergeDuplicates()).thenReturn(true);
+        registry = new ChatTopicRegistry(chatTopicRepository, chatTopicDeduplicator, transactionManager);
+    }
+
+    @Test
+    @DisplayName("모든 주제가 이미 있으면 추가 저장 없이 적재한다")
+    void loadsExistingTopicsWithoutSeeding() {
+        given(chatTopicRepository.findAll(any(Sort.class))).willReturn(allTopics(1L));
+
+        registry.load();
+
+        assertThat(registry.get(TopicNameType.RESUME).getId()).isEqualTo(1L + TopicNameType.RESUME.ordinal());
+        verify(chatTopicRepository, never()).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    @DisplayName("없는 주제만 생성해 채운다")
+    @SuppressWarnings("unchecked")
+    void seedsOnlyMissingTopics() {
+        List<ChatTopic> existing = new ArrayList<>(allTopics(1L));
+        existing.removeIf(topic -> topic.getTopicName() == TopicNameType.JOB_CHANGE);
+        given(chatTopicRepository.findAll(any(Sort.class))).willReturn(existing);
+        given(chatTopicRepository.saveAllAndFlush(anyList())).willAnswer(invocation -> {
+            List<ChatTopic> saved = new ArrayList<>();
+            for (ChatTopic topic : (List<ChatTopic>) invocation.getArgument(0)) {
+                saved.add(topic.toBuilder().id(100L).build());
+            }
+            return saved;
+        });
+
+        registry.load();
+
+        ArgumentCaptor<List<ChatTopic>> captor = ArgumentCaptor.forClass(List.class);
+        verify(chatTopicRepository).saveAllAndFlush(captor.capture());
+        assertThat(captor.getValue()).extracting(ChatTopic::getTopicName).containsExactly(TopicNameType.JOB_CHANGE);
+        assertThat(registry.get(TopicNameType.JOB_CHANGE).getId()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("중복 행이 있으면 가장 작은 id 를 쓰고, 주제명 목록을 id 목록으로 바꾼다")
+    void prefersSmallestIdForDuplicates() {
+        List<ChatTopic> rows = new ArrayList<>(allTopics(10L));
+        rows.add(ChatTopic.builder().id(99L).topicName(TopicNameType.INTERVIEW).build());
+        given(chatTopicRepository.findAll(any(Sort.class))).willReturn(rows);
+
+        registry.load();
+
+        assertThat(registry.idsOf(List.of(TopicNameType.INTERVIEW, TopicNameType.UNDEFINED)))
+                .containsExactly(10L + TopicNameType.INTERVIEW.ordinal(), 10L);
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스와 동시에 시드해 유니크 제약에 걸리면 커밋된 행을 다시 읽는다")
+    void reloadsAfterConcurrentSeed() {
+        given(chatTopicRepository.findAll(any(Sort.class)))
+                .willReturn(List.of())
+                .willReturn(allTopics(1L));
+        given(chatTopicRepository.saveAllAndFlush(anyList()))
+                .willThrow(new DataIntegrityViolationException("Duplicate entry for key 'uk_chat_topic_topic_name'"));
+
+        registry.load();
+
+        assertThat(registry.get(TopicNameType.PORTFOLIO).getId()).isEqualTo(1L + TopicNameType.PORTFOLIO.ordinal());
+    }
+
+    @Test
+    @DisplayName("중복을 모두 합쳤을 때만 유니크 제약을 추가한다")
+    void addsConstraintOnlyAfterFullMerge() {
+        given(chatTopicRepository.findAll(any(Sort.class))).willReturn(allTopics(1L));
+
+        registry.load();
+        verify(chatTopicDeduplicator).ensureUniqueConstraint();
+
+        given(chatTopicDeduplicator.mergeDuplicates()).willReturn(false);
+        registry.load();
+        verify(chatTopicDeduplicator, times(1)).ensureUniqueConstraint();
+    }
+
+    @Test
+    @DisplayName("적재 전 조회는 실패한다")
+    void failsBeforeLoad() {
+        assertThatThrownBy(() -> registry.get(TopicNameType.RESUME))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<ChatTopic> allTopics(long firstId) {
+        return Arrays.stream(TopicNameType.values())
+                .map(topic -> ChatTopic.builder().id(firstId + topic.ordinal()).topicName(topic).build())
+                .toList();
+    }
+}
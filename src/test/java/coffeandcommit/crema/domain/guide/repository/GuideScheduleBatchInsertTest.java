@@ -0,0 +1,103 @@
+package coffeandcommit.crema.domain.guide.repository;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.GuideSchedule;
+import coffeandcommit.crema.domain.guide.entity.TimeSlot;
+import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static coffeandcommit.crema.global.common.query.QueryCountAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * @TimeSortedId 엔티티의 다건 저장이 JDBC 배치로 묶이는지 검증한다.
+ * (IDENTITY 였을 때는 스케줄 3건 + 시간대 12건 = INSERT 15회)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class GuideScheduleBatchInsertTest {
+
+    private static final int SCHEDULE_COUNT = 3;
+    private static final int SLOTS_PER_SCHEDULE = 4;
+
+    @Autowired
+    private GuideScheduleRepository guideScheduleRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Guide guide;
+
+    @BeforeEach
+    void setUp() {
+        Member guideMember = Member.builder().id("batch-guide").nickname("batch-guide").role(MemberRole.GUIDE).build();
+        em.persist(guideMember);
+        guide = Guide.builder().member(guideMember).title("batch guide").isOpened(true).build();
+        em.persist(guide);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("스케줄과 시간대 저장은 행 수와 무관하게 테이블당 배치 INSERT 1회로 끝난다")
+    void saveAll_batchesInsertsPerTable() {
+        List<GuideSchedule> schedules = schedules();
+
+        int statements = countStatements(() -> {
+            guideScheduleRepository.saveAll(schedules);
+            em.flush();
+        });
+
+        assertThat(statements).isEqualTo(2);
+
+        em.clear();
+        List<GuideSchedule> saved = guideScheduleRepository.findAll();
+        assertThat(saved).hasSize(SCHEDULE_COUNT);
+        assertThat(saved).allSatisfy(schedule -> assertThat(schedule.getTimeSlots()).hasSize(SLOTS_PER_SCHEDULE));
+    }
+
+    @Test
+    @DisplayName("영속화 시점에 ID 가 채워지고 생성 순서대로 증가한다")
+    void idsAssignedOnPersistInOrder() {
+        List<GuideSchedule> schedules = schedules();
+
+        guideScheduleRepository.saveAll(schedules);
+
+        List<Long> ids = schedules.stream().map(GuideSchedule::getId).toList();
+        assertThat(ids).doesNotContainNull().isSorted().doesNotHaveDuplicates();
+        assertThat(schedules.get(0).getTimeSlots()).allSatisfy(slot -> assertThat(slot.getId()).isNotNull());
+    }
+
+    private List<GuideSchedule> schedules() {
+        List<GuideSchedule> schedules = new ArrayList<>();
+        for (int d = 0; d < SCHEDULE_COUNT; d++) {
+            GuideSchedule schedule = GuideSchedule.builder()
+                    .guide(guide)
+                    .dayOfWeek(DayType.values()[d])
+                    .build();
+            for (int h = 0; h < SLOTS_PER_SCHEDULE; h++) {
+                schedule.getTimeSlots().add(TimeSlot.builder()
+                        .schedule(schedule)
+                        .startTimeOption(LocalTime.of(9 + h * 2, 0))
+                        .endTimeOption(LocalTime.of(10 + h * 2, 0))
+                        .build());
+            }
+            schedules.add(schedule);
+        }
+        return schedules;
+    }
+}
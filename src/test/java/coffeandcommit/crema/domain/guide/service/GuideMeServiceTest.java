@@ -4,7 +4,7 @@ import coffeandcommit.crema.domain.globalTag.dto.TopicDTO;
 import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
 import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
-import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.guide.dto.request.GuideChatTopicRequestDTO;
 import coffeandcommit.crema.domain.guide.dto.request.GuideCoffeeChatRequestDTO;
 import coffeandcommit.crema.domain.guide.dto.request.GuideExperienceDetailRequestDTO;
@@ -36,6 +36,8 @@ import coffeandcommit.crema.domain.guide.repository.GuideRepository;
 import coffeandcommit.crema.domain.guide.repository.GuideScheduleRepository;
 import coffeandcommit.crema.domain.guide.repository.HashTagRepository;
 import coffeandcommit.crema.domain.guide.repository.TimeSlotRepository;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.entity.Survey;
 import coffeandcommit.crema.domain.reservation.enums.Status;
@@ -45,10 +47,13 @@ import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -79,7 +84,7 @@ public class GuideMeServiceTest {
     private GuideJobFieldRepository guideJobFieldRepository;
 
     @Mock
-    private ChatTopicRepository chatTopicRepository;
+    private ChatTopicRegistry chatTopicRegistry;
 
     @Mock
     private GuideChatTopicRepository guideChatTopicRepository;
@@ -108,6 +113,9 @@ public class GuideMeServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
     @InjectMocks
     private GuideMeService guideMeService;
 
@@ -313,10 +321,8 @@ public class GuideMeServiceTest {
 
         // Mock 설정
         when(guideRepository.findByMember_Id(memberId)).thenReturn(Optional.of(guide));
-        when(chatTopicRepository.findByTopicName(TopicNameType.CAREER_CHANGE))
-                .thenReturn(Optional.of(chatTopic1));
-        when(chatTopicRepository.findByTopicName(TopicNameType.JOB_CHANGE))
-                .thenReturn(Optional.of(chatTopic2));
+        when(chatTopicRegistry.get(TopicNameType.CAREER_CHANGE)).thenReturn(chatTopic1);
+        when(chatTopicRegistry.get(TopicNameType.JOB_CHANGE)).thenReturn(chatTopic2);
 
         // 현재 주제 개수 설정
         when(guideChatTopicRepository.countByGuide(guide)).thenReturn(0L);
@@ -361,8 +367,8 @@ public class GuideMeServiceTest {
 
         // 메서드 호출 검증
         verify(guideRepository).findByMember_Id(memberId);
-        verify(chatTopicRepository).findByTopicName(TopicNameType.CAREER_CHANGE);
-        verify(chatTopicRepository).findByTopicName(TopicNameType.JOB_CHANGE);
+        verify(chatTopicRegistry).get(TopicNameType.CAREER_CHANGE);
+        verify(chatTopicRegistry).get(TopicNameType.JOB_CHANGE);
         verify(guideChatTopicRepository).existsByGuideAndChatTopic(guide, chatTopic1);
         verify(guideChatTopicRepository).existsByGuideAndChatTopic(guide, chatTopic2);
         verify(guideChatTopicRepository).save(any(GuideChatTopic.class));
@@ -391,7 +397,7 @@ public class GuideMeServiceTest {
 
         assertEquals(ErrorStatus.GUIDE_NOT_FOUND, exception.getErrorCode());
         verify(guideRepository).findByMember_Id(memberId);
-        verify(chatTopicRepository, never()).findByTopicName(any());
+        verify(chatTopicRegistry, never()).get(any());
         verify(guideChatTopicRepository, never()).existsByGuideAndChatTopic(any(), any());
         verify(guideChatTopicRepository, never()).save(any());
         verify(guideChatTopicRepository, never()).findAllByGuideWithJoin(any());
@@ -424,7 +430,7 @@ public class GuideMeServiceTest {
         assertEquals(ErrorStatus.MAX_TOPIC_EXCEEDED, exception.getErrorCode());
         verify(guideRepository).findByMember_Id(memberId);
         verify(guideChatTopicRepository).countByGuide(guide);
-        verify(chatTopicRepository, never()).findByTopicName(any());
+        verify(chatTopicRegistry, never()).get(any());
         verify(guideChatTopicRepository, never()).existsByGuideAndChatTopic(any(), any());
         verify(guideChatTopicRepository, never()).save(any());
         verify(guideChatTopicRepository, never()).findAllByGuideWithJoin(any());
@@ -454,8 +460,8 @@ public class GuideMeServiceTest {
         assertEquals(ErrorStatus.INVALID_TOPIC, exception.getErrorCode());
         verify(guideRepository).findByMember_Id(memberId);
         verify(guideChatTopicRepository).countByGuide(guide);
-        // chatTopicRepository는 호출되지 않아야 함
-        verify(chatTopicRepository, never()).findByTopicName(any());
+        // chatTopicRegistry는 호출되지 않아야 함
+        verify(chatTopicRegistry, never()).get(any());
         verify(guideChatTopicRepository, never()).existsByGuideAndChatTopic(any(), any());
         verify(guideChatTopicRepository, never()).save(any());
         verify(guideChatTopicRepository, never()).findAllByGuideWithJoin(any());
@@ -1587,10 +1593,10 @@ public class GuideMeServiceTest {
         when(guideRepository.findByMember_Id(memberId)).thenReturn(Optional.of(guide));
         when(experienceGroupRepository.countByGuide(guide)).thenReturn(0L);
 
-        when(chatTopicRepository.findByTopicName(groupRequestDTO1.getTopicName()))
-                .thenReturn(Optional.of(guideChatTopic.getChatTopic()));
-        when(chatTopicRepository.findByTopicName(groupRequestDTO2.getTopicName()))
-                .thenReturn(Optional.of(guideChatTopic.getChatTopic()));
+        when(chatTopicRegistry.get(groupRequestDTO1.getTopicName()))
+                .thenReturn(guideChatTopic.getChatTopic());
+        when(chatTopicRegistry.get(groupRequestDTO2.getTopicName()))
+                .thenReturn(guideChatTopic.getChatTopic());
 
         when(guideChatTopicRepository.findByGuideAndChatTopic(eq(guide), any(ChatTopic.class)))
                 .thenReturn(Optional.of(guideChatTopic));
@@ -1695,8 +1701,8 @@ public class GuideMeServiceTest {
     }
 
     @Test
-    @DisplayName("registerGuideExperience 새로운 주제 자동 생성 테스트")
-    void registerGuideExperience_NewTopicAutoCreated() {
+    @DisplayName("registerGuideExperience 가이드에 없는 주제는 레지스트리 주제로 GuideChatTopic 생성 테스트")
+    void registerGuideExperience_NewGuideChatTopicCreated() {
         GroupRequestDTO groupRequestDTO = GroupRequestDTO.builder()
                 .topicName(TopicNameType.INTERVIEW)
                 .experienceTitle("경험 제목")
@@ -1709,14 +1715,16 @@ public class GuideMeServiceTest {
 
         when(guideRepository.findByMember_Id(memberId)).thenReturn(Optional.of(guide));
         when(experienceGroupRepository.countByGuide(guide)).thenReturn(0L);
-        when(chatTopicRepository.findByTopicName(TopicNameType.INTERVIEW)).thenReturn(Optional.empty());
-        when(chatTopicRepository.save(any())).thenReturn(new ChatTopic(1L, TopicNameType.INTERVIEW));
+        ChatTopic interview = new ChatTopic(1L, TopicNameType.INTERVIEW);
+        when(chatTopicRegistry.get(TopicNameType.INTERVIEW)).thenReturn(interview);
 
         // 실행
         guideMeService.registerGuideExperience(memberId, requestDTO);
 
-        // 검증: 새로운 ChatTopic이 생성되었는지 확인
-        verify(chatTopicRepository).save(any(ChatTopic.class));
+        // 검증: chat_topic 조회/생성 없이 레지스트리 주제로 GuideChatTopic이 생성되었는지 확인
+        ArgumentCaptor<GuideChatTopic> captor = ArgumentCaptor.forClass(GuideChatTopic.class);
+        verify(guideChatTopicRepository).save(captor.capture());
+        assertSame(interview, captor.getValue().getChatTopic());
         verify(experienceGroupRepository).saveAll(any());
     }
 
@@ -1861,63 +1869,66 @@ public class GuideMeServiceTest {
     void getPendingReservations_Success() {
         // Given
         String loginMemberId = memberId;
+        LocalDateTime preferredDate = LocalDateTime.of(2030, 1, 7, 19, 0); // 월요일
+        LocalDateTime createdAt = LocalDateTime.of(2029, 12, 31, 10, 0);
 
-        // Create test survey
-        Survey survey = Survey.builder()
-                .id(1L)
-                .messageToGuide("I would like to discuss career opportunities")
-                .preferredDate(LocalDateTime.now().plusDays(7))
-                .build();
-
-        // Create test time unit
-        TimeUnit timeUnit = TimeUnit.builder()
-                .id(1L)
+        ReservationSummaryDTO newer = ReservationSummaryDTO.builder()
+                .reservationId(2L)
+                .status(Status.PENDING)
+                .createdAt(createdAt.plusMinutes(1))
+                .preferredDate(preferredDate)
                 .timeType(TimeType.MINUTE_30)
+                .counterpartNickname(member.getNickname())
                 .build();
-
-        // Create test reservation
-        Reservation reservation = Reservation.builder()
-                .id(1L)
-                .guide(guide)
-                .member(member)
+        ReservationSummaryDTO older = ReservationSummaryDTO.builder()
+                .reservationId(1L)
                 .status(Status.PENDING)
-                .survey(survey)
+                .createdAt(createdAt)
+                .preferredDate(preferredDate)
+                .timeType(TimeType.MINUTE_30)
+                .counterpartNickname(member.getNickname())
                 .build();
 
-        reservation.setTimeUnit(timeUnit);
-        timeUnit.setReservation(reservation);
-
-        // Set createdAt field using reflection (fail-fast)
-        LocalDateTime now = LocalDateTime.now();
-
-        assertDoesNotThrow(() -> {
-            java.lang.reflect.Field createdAtField =
-                    coffeandcommit.crema.global.common.entity.BaseEntity.class.getDeclaredField("createdAt");
-            createdAtField.setAccessible(true);
-            createdAtField.set(reservation, now);
-        });
-
-        assertNotNull(reservation.getCreatedAt(), "createdAt 설정 실패");
-
-        List<Reservation> pendingReservations = List.of(reservation);
-
         when(guideRepository.findByMember_Id(loginMemberId)).thenReturn(Optional.of(guide));
-        when(reservationRepository.findByGuideAndStatus(guide, Status.PENDING)).thenReturn(pendingReservations);
+        // size + 1건 조회로 다음 페이지 판단
+        when(reservationRepository.findSummariesByGuide(guide.getId(), Status.PENDING, null, 2))
+                .thenReturn(List.of(newer, older));
 
         // When
-        List<GuidePendingReservationResponseDTO> result = guideMeService.getPendingReservations(loginMemberId);
+        CursorPageResponse<GuidePendingReservationResponseDTO> result = guideMeService.getPendingReservations(loginMemberId, null, 1);
 
         // Then
         assertNotNull(result);
-        assertEquals(1, result.size());
-        assertEquals(1L, result.get(0).getReservationId());
-        assertEquals(Status.PENDING, result.get(0).getStatus());
-        assertNotNull(result.get(0).getMember());
-        assertEquals(member.getNickname(), result.get(0).getMember().getNickname());
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.isHasNext());
+        assertEquals(newer.toCursor(), ReservationCursor.decode(result.getNextCursor()));
+
+        GuidePendingReservationResponseDTO first = result.getContent().get(0);
+        assertEquals(2L, first.getReservationId());
+        assertEquals(Status.PENDING, first.getStatus());
+        assertEquals(member.getNickname(), first.getMember().getNickname());
+        assertEquals("2030-01-07", first.getPreferredDateOnly());
+        assertEquals("월", first.getPreferredDayOfWeek());
+        assertEquals("19:00~19:30", first.getPreferredTimeRange());
 
         // Verify
         verify(guideRepository).findByMember_Id(loginMemberId);
-        verify(reservationRepository).findByGuideAndStatus(guide, Status.PENDING);
+        verify(reservationRepository).findSummariesByGuide(guide.getId(), Status.PENDING, null, 2);
+    }
+
+    @Test
+    @DisplayName("getPendingReservations 잘못된 커서 테스트")
+    void getPendingReservations_InvalidCursor() {
+        // Given
+        when(guideRepository.findByMember_Id(memberId)).thenReturn(Optional.of(guide));
+
+        // When & Then
+        BaseException exception = assertThrows(BaseException.class, () ->
+            guideMeService.getPendingReservations(memberId, "not-a-cursor", 20)
+        );
+
+        assertEquals(ErrorStatus.INVALID_CURSOR, exception.getErrorCode());
+        verifyNoInteractions(reservationRepository);
     }
 
     @Test
@@ -1930,7 +1941,7 @@ public class GuideMeServiceTest {
 
         // When & Then
         BaseException exception = assertThrows(BaseException.class, () -> 
-            guideMeService.getPendingReservations(loginMemberId)
+            guideMeService.getPendingReservations(loginMemberId, null, 20)
         );
 
         assertEquals(ErrorStatus.GUIDE_NOT_FOUND, exception.getErrorCode());
@@ -2031,10 +2042,11 @@ public class GuideMeServiceTest {
         });
 
         Pageable pageable = PageRequest.of(0, 10);
-        Page<Reservation> page = new PageImpl<>(List.of(reservation), pageable, 1);
+        Page<Long> idPage = new PageImpl<>(List.of(10L), pageable, 1);
 
         when(guideRepository.findByMember_Id(loginMemberId)).thenReturn(Optional.of(guide));
-        when(reservationRepository.findByGuide(guide, pageable)).thenReturn(page);
+        when(reservationRepository.findIdsByGuide(guide, pageable)).thenReturn(idPage);
+        when(reservationRepository.findAllWithMenteeByIdIn(List.of(10L))).thenReturn(List.of(reservation));
 
         // When
         Page<GuidePendingReservationResponseDTO> result = guideMeService.getAllReservations(loginMemberId, pageable);
@@ -2050,7 +2062,25 @@ public class GuideMeServiceTest {
         assertEquals(member.getNickname(), dto.getMember().getNickname());
 
         verify(guideRepository).findByMember_Id(loginMemberId);
-        verify(reservationRepository).findByGuide(guide, pageable);
+        verify(reservationRepository).findIdsByGuide(guide, pageable);
+        verify(reservationRepository).findAllWithMenteeByIdIn(List.of(10L));
+    }
+
+    @Test
+    @DisplayName("getAllReservations 성공 - 빈 페이지면 예약 로딩 생략")
+    void getAllReservations_EmptyPage() {
+        // Given
+        Pageable pageable = PageRequest.of(3, 10);
+        when(guideRepository.findByMember_Id(memberId)).thenReturn(Optional.of(guide));
+        when(reservationRepository.findIdsByGuide(guide, pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 25));
+
+        // When
+        Page<GuidePendingReservationResponseDTO> result = guideMeService.getAllReservations(memberId, pageable);
+
+        // Then
+        assertTrue(result.getContent().isEmpty());
+        assertEquals(25, result.getTotalElements());
+        verify(reservationRepository, never()).findAllWithMenteeByIdIn(any());
     }
 
     @Test
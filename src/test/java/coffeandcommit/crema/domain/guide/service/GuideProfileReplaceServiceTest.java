@@ -0,0 +1,373 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.globalTag.dto.TopicDTO;
+import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicDeduplicator;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
+import coffeandcommit.crema.domain.guide.dto.request.GroupRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideChatTopicRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideExperienceRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideHashTagRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.GuideScheduleRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.ScheduleRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.request.TimeSlotRequestDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GroupResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideChatTopicResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideHashTagResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.GuideScheduleResponseDTO;
+import coffeandcommit.crema.domain.guide.dto.response.ScheduleResponseDTO;
+import coffeandcommit.crema.domain.guide.entity.ExperienceGroup;
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.GuideChatTopic;
+import coffeandcommit.crema.domain.guide.entity.GuideSchedule;
+import coffeandcommit.crema.domain.guide.entity.HashTag;
+import coffeandcommit.crema.domain.guide.entity.TimeSlot;
+import coffeandcommit.crema.domain.guide.enums.DayType;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.reservation.entity.Candidate;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.review.entity.Review;
+import coffeandcommit.crema.domain.review.entity.ReviewExperience;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static coffeandcommit.crema.global.common.query.QueryCountAssertions.countStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * 일괄 교체가 (가이드 조회 + 현재 목록 조회 1회) 뒤에 테이블마다 DELETE 1회 / 배치 INSERT 1회로 끝나고,
+ * 재조회 없이 반영 결과를 응답하는지 확인한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, ChatTopicRegistry.class, ChatTopicDeduplicator.class, GuideProfileReplaceService.class})
+class GuideProfileReplaceServiceTest {
+
+    private static final String MEMBER_ID = "replace-guide";
+
+    @Autowired
+    private GuideProfileReplaceService guideProfileReplaceService;
+
+    @Autowired
+    private ChatTopicRegistry chatTopicRegistry;
+
+    @Autowired
+    private EntityManager em;
+
+    private Guide guide;
+
+    @BeforeEach
+    void setUp() {
+        Member guideMember = Member.builder().id(MEMBER_ID).nickname(MEMBER_ID).role(MemberRole.GUIDE).build();
+        em.persist(guideMember);
+        guide = Guide.builder().member(guideMember).title("replace guide").isOpened(true).build();
+        em.persist(guide);
+        em.flush();
+    }
+
+    @Test
+    @DisplayName("채팅 주제 교체 - 빠진 주제와 그 경험은 삭제, 남은 주제는 유지, 새 주제는 배치 저장")
+    void replaceChatTopics() {
+        GuideChatTopic resume = persistTopic(TopicNameType.RESUME);
+        GuideChatTopic interview = persistTopic(TopicNameType.INTERVIEW);
+        persistExperience(interview, "면접 경험");
+        em.flush();
+        em.clear();
+
+        AtomicReference<List<GuideChatTopicResponseDTO>> result = new AtomicReference<>();
+        int statements = countStatements(() -> {
+            result.set(guideProfileReplaceService.replaceChatTopics(MEMBER_ID, topics(
+                    TopicNameType.RESUME, TopicNameType.PORTFOLIO, TopicNameType.JOB_CHANGE)));
+            em.flush();
+        });
+
+        // 가이드 조회(3) + 주제 목록 조회, 후기 참조 확인, 경험 DELETE, 주제 DELETE, 주제 INSERT(배치)
+        assertThat(statements).isEqualTo(8);
+        assertThat(result.get())
+                .extracting(dto -> dto.getTopic().getTopicName())
+                .containsExactly(TopicNameType.RESUME, TopicNameType.PORTFOLIO, TopicNameType.JOB_CHANGE);
+        assertThat(result.get().get(0).getId()).isEqualTo(resume.getId());
+        assertThat(result.get()).allSatisfy(dto -> assertThat(dto.getId()).isNotNull());
+
+        em.clear();
+        assertThat(em.createQuery("SELECT gct.chatTopic.topicName FROM GuideChatTopic gct", TopicNameType.class)
+                .getResultList())
+                .containsExactlyInAnyOrder(TopicNameType.RESUME, TopicNameType.PORTFOLIO, TopicNameType.JOB_CHANGE);
+        assertThat(em.createQuery("SELECT COUNT(eg) FROM ExperienceGroup eg", Long.class).getSingleResult()).isZero();
+    }
+
+    @Test
+    @DisplayName("해시태그 교체 - 이름 기준으로 비교해 바뀐 것만 삭제 / 추가")
+    void replaceHashTags() {
+        persistHashTag("자바");
+        persistHashTag("스프링");
+        em.flush();
+        em.clear();
+
+        AtomicReference<List<GuideHashTagResponseDTO>> result = new AtomicReference<>();
+        int statements = countStatements(() -> {
+            result.set(guideProfileReplaceService.replaceGuideHashTags(MEMBER_ID, List.of(
+                    hashTag("스프링"), hashTag("코틀린"), hashTag("JPA"), hashTag("코틀린"))));
+            em.flush();
+        });
+
+        // 가이드 조회(3) + 해시태그 조회, DELETE, INSERT(배치)
+        assertThat(statements).isEqualTo(6);
+        assertThat(result.get()).extracting(GuideHashTagResponseDTO::getHashTagName)
+                .containsExactly("스프링", "코틀린", "JPA");
+
+        em.clear();
+        assertThat(em.createQuery("SELECT h.hashTagName FROM HashTag h", String.class).getResultList())
+                .containsExactlyInAnyOrder("스프링", "코틀린", "JPA");
+    }
+
+    @Test
+    @DisplayName("해시태그 교체 - 5개를 넘으면 실패")
+    void replaceHashTags_exceedsLimit() {
+        List<GuideHashTagRequestDTO> requests = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            requests.add(hashTag("태그" + i));
+        }
+
+        assertThatThrownBy(() -> guideProfileReplaceService.replaceGuideHashTags(MEMBER_ID, requests))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MAX_HASHTAG_EXCEEDED);
+    }
+
+    @Test
+    @DisplayName("스케줄 교체 - 요일별 시간대 단위로 비교하고, 요청에 없는 요일은 스케줄째 삭제")
+    void replaceSchedules() {
+        persistSchedule(DayType.MONDAY, slot(9, 10), slot(11, 12));
+        persistSchedule(DayType.TUESDAY, slot(9, 10));
+        em.flush();
+        em.clear();
+
+        AtomicReference<GuideScheduleResponseDTO> result = new AtomicReference<>();
+        int statements = countStatements(() -> {
+            result.set(guideProfileReplaceService.replaceGuideSchedules(MEMBER_ID, GuideScheduleRequestDTO.builder()
+                    .schedules(List.of(
+                            schedule(DayType.MONDAY, slotRequest(9, 10), slotRequest(14, 15)),
+                            schedule(DayType.WEDNESDAY, slotRequest(18, 19))))
+                    .build()));
+            em.flush();
+        });
+
+        // 가이드 조회(3) + 스케줄(시간대 포함) 조회, 예약 후보 참조 확인, 시간대 DELETE, 스케줄 DELETE, 스케줄 INSERT, 시간대 INSERT(배치)
+        assertThat(statements).isEqualTo(9);
+        assertThat(result.get().getSchedules()).extracting(ScheduleResponseDTO::getDayOfWeek)
+                .containsExactly(DayType.MONDAY, DayType.WEDNESDAY);
+        assertThat(result.get().getSchedules().get(0).getTimeSlots()).hasSize(2);
+
+        em.clear();
+        assertThat(em.createQuery("SELECT t.schedule.dayOfWeek, t.startTimeOption FROM TimeSlot t", Object[].class)
+                .getResultList())
+                .extracting(row -> tuple(row[0], row[1]))
+                .containsExactlyInAnyOrder(
+                        tuple(DayType.MONDAY, LocalTime.of(9, 0)),
+                        tuple(DayType.MONDAY, LocalTime.of(14, 0)),
+                        tuple(DayType.WEDNESDAY, LocalTime.of(18, 0)));
+        assertThat(em.createQuery("SELECT COUNT(s) FROM GuideSchedule s", Long.class).getSingleResult()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("스케줄 교체 - 같은 요일 안에서 시간대가 겹치면 실패")
+    void replaceSchedules_overlap() {
+        GuideScheduleRequestDTO request = GuideScheduleRequestDTO.builder()
+                .schedules(List.of(schedule(DayType.FRIDAY, slotRequest(9, 11), slotRequest(10, 12))))
+                .build();
+
+        assertThatThrownBy(() -> guideProfileReplaceService.replaceGuideSchedules(MEMBER_ID, request))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.DUPLICATE_TIME_SLOT);
+    }
+
+    @Test
+    @DisplayName("경험 교체 - 기존 주제의 경험은 수정, 빠진 주제의 경험은 삭제, 새 주제는 주제와 경험을 함께 생성")
+    void replaceExperiences() {
+        GuideChatTopic resume = persistTopic(TopicNameType.RESUME);
+        GuideChatTopic interview = persistTopic(TopicNameType.INTERVIEW);
+        ExperienceGroup resumeGroup = persistExperience(resume, "이력서 경험");
+        persistExperience(interview, "면접 경험");
+        em.flush();
+        em.clear();
+
+        AtomicReference<List<GroupResponseDTO>> result = new AtomicReference<>();
+        int statements = countStatements(() -> {
+            result.set(guideProfileReplaceService.replaceGuideExperiences(MEMBER_ID, GuideExperienceRequestDTO.builder()
+                    .groups(List.of(group(TopicNameType.RESUME, "이력서 첨삭"), group(TopicNameType.PORTFOLIO, "포트폴리오 리뷰")))
+                    .build()).getGroups());
+            em.flush();
+        });
+
+        // 가이드 조회(3) + 주제/경험 조회, 후기 참조 확인, 경험 DELETE, 주제 INSERT, 경험 INSERT, 경험 UPDATE
+        assertThat(statements).isEqualTo(9);
+        assertThat(result.get()).extracting(GroupResponseDTO::getExperienceTitle)
+                .containsExactly("이력서 첨삭", "포트폴리오 리뷰");
+        assertThat(result.get().get(0).getId()).isEqualTo(resumeGroup.getId());
+
+        em.clear();
+        assertThat(em.createQuery("SELECT eg.guideChatTopic.chatTopic.topicName, eg.experienceTitle FROM ExperienceGroup eg",
+                        Object[].class).getResultList())
+                .extracting(row -> tuple(row[0], row[1]))
+                .containsExactlyInAnyOrder(
+                        tuple(TopicNameType.RESUME, "이력서 첨삭"),
+                        tuple(TopicNameType.PORTFOLIO, "포트폴리오 리뷰"));
+        // 경험 교체는 주제를 지우지 않는다
+        assertThat(em.createQuery("SELECT COUNT(gct) FROM GuideChatTopic gct", Long.class).getSingleResult()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("스케줄 교체 - 예약 후보가 참조하는 시간대를 빼면 삭제하지 않고 실패")
+    void replaceSchedules_slotReferencedByCandidate() {
+        TimeSlot referenced = slot(9, 10);
+        persistSchedule(DayType.MONDAY, referenced);
+        em.persist(Candidate.builder()
+                .reservation(persistReservation())
+                .timeSlot(referenced)
+                .priority(1)
+                .date(LocalDateTime.of(2030, 1, 7, 9, 0))
+                .build());
+        em.flush();
+        em.clear();
+
+        GuideScheduleRequestDTO request = GuideScheduleRequestDTO.builder()
+                .schedules(List.of(schedule(DayType.MONDAY, slotRequest(14, 15))))
+                .build();
+
+        assertThatThrownBy(() -> guideProfileReplaceService.replaceGuideSchedules(MEMBER_ID, request))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.TIME_SLOT_IN_RESERVATION);
+        assertThat(em.createQuery("SELECT COUNT(t) FROM TimeSlot t", Long.class).getSingleResult()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("경험 교체 - 후기에서 평가된 경험을 빼면 삭제하지 않고 실패")
+    void replaceExperiences_groupReferencedByReview() {
+        GuideChatTopic interview = persistTopic(TopicNameType.INTERVIEW);
+        ExperienceGroup reviewed = persistExperience(interview, "면접 경험");
+        Review review = Review.builder()
+                .reservation(persistReservation())
+                .starReview(new BigDecimal("4.5"))
+                .build();
+        em.persist(review);
+        em.persist(ReviewExperience.builder().review(review).experienceGroup(reviewed).isThumbsUp(true).build());
+        em.flush();
+        em.clear();
+
+        GuideExperienceRequestDTO request = GuideExperienceRequestDTO.builder()
+                .groups(List.of(group(TopicNameType.RESUME, "이력서 첨삭")))
+                .build();
+
+        assertThatThrownBy(() -> guideProfileReplaceService.replaceGuideExperiences(MEMBER_ID, request))
+                .isInstanceOf(BaseException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.EXPERIENCE_IN_REVIEW);
+        assertThat(em.createQuery("SELECT COUNT(eg) FROM ExperienceGroup eg", Long.class).getSingleResult()).isEqualTo(1L);
+    }
+
+    private Reservation persistReservation() {
+        Member mentee = Member.builder().id("replace-mentee").nickname("replace-mentee").role(MemberRole.ROOKIE).build();
+        em.persist(mentee);
+        Reservation reservation = Reservation.builder()
+                .guide(guide)
+                .member(mentee)
+                .status(Status.COMPLETED)
+                .survey(Survey.builder()
+                        .fileUploadURL("")
+                        .preferredDate(LocalDateTime.of(2030, 1, 7, 9, 0))
+                        .build())
+                .build();
+        em.persist(reservation);
+        return reservation;
+    }
+
+    private GuideChatTopic persistTopic(TopicNameType topicName) {
+        GuideChatTopic guideChatTopic = GuideChatTopic.builder()
+                .guide(guide)
+                .chatTopic(chatTopicRegistry.get(topicName))
+                .build();
+        em.persist(guideChatTopic);
+        return guideChatTopic;
+    }
+
+    private ExperienceGroup persistExperience(GuideChatTopic guideChatTopic, String title) {
+        ExperienceGroup group = ExperienceGroup.builder()
+                .guide(guide)
+                .guideChatTopic(guideChatTopic)
+                .experienceTitle(title)
+                .experienceContent(title + " 내용")
+                .build();
+        em.persist(group);
+        return group;
+    }
+
+    private void persistHashTag(String name) {
+        em.persist(HashTag.builder().guide(guide).hashTagName(name).build());
+    }
+
+    private void persistSchedule(DayType day, TimeSlot... slots) {
+        GuideSchedule schedule = GuideSchedule.builder().guide(guide).dayOfWeek(day).build();
+        for (TimeSlot slot : slots) {
+            schedule.addTimeSlot(slot);
+        }
+        em.persist(schedule);
+    }
+
+    private static TimeSlot slot(int startHour, int endHour) {
+        return TimeSlot.builder()
+                .startTimeOption(LocalTime.of(startHour, 0))
+                .endTimeOption(LocalTime.of(endHour, 0))
+                .build();
+    }
+
+    private static GuideChatTopicRequestDTO topics(TopicNameType... topicNames) {
+        List<TopicDTO> topics = new ArrayList<>();
+        for (TopicNameType topicName : topicNames) {
+            topics.add(TopicDTO.builder().topicName(topicName).build());
+        }
+        return GuideChatTopicRequestDTO.builder().topics(topics).build();
+    }
+
+    private static GuideHashTagRequestDTO hashTag(String name) {
+        return GuideHashTagRequestDTO.builder().hashTagName(name).build();
+    }
+
+    private static ScheduleRequestDTO schedule(DayType day, TimeSlotRequestDTO... slots) {
+        return ScheduleRequestDTO.builder().dayOfWeek(day).timeSlots(List.of(slots)).build();
+    }
+
+    private static TimeSlotRequestDTO slotRequest(int startHour, int endHour) {
+        return TimeSlotRequestDTO.builder()
+                .startTime(LocalTime.of(startHour, 0))
+                .endTime(LocalTime.of(endHour, 0))
+                .build();
+    }
+
+    private static GroupRequestDTO group(TopicNameType topicName, String title) {
+        return GroupRequestDTO.builder()
+                .topicName(topicName)
+                .experienceTitle(title)
+                .experienceContent(title + " 내용")
+                .build();
+    }
+}
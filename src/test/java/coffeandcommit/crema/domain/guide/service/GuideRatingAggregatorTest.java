@@ -0,0 +1,71 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.guide.repository.GuideRatingRepository;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GuideRatingAggregatorTest {
+
+    private static final Long GUIDE_ID = 10L;
+    private static final BigDecimal STAR = new BigDecimal("4.5");
+
+    @Mock
+    private GuideRatingRepository guideRatingRepository;
+
+    @Mock
+    private GuideRatingService guideRatingService;
+
+    @InjectMocks
+    private GuideRatingAggregator guideRatingAggregator;
+
+    @Test
+    @DisplayName("집계 행이 있으면 증분만 반영한다")
+    void incrementsExistingRating() {
+        given(guideRatingRepository.existsById(GUIDE_ID)).willReturn(true);
+        given(guideRatingRepository.increment(eq(GUIDE_ID), eq(STAR), eq(2L), any())).willReturn(1);
+
+        guideRatingAggregator.onReviewCreated(new ReviewCreatedEvent(1L, 2L, GUIDE_ID, "guide-member", STAR, 2));
+
+        verify(guideRatingService, never()).initialize(any());
+    }
+
+    @Test
+    @DisplayName("집계 행이 없으면 같은 트랜잭션에서 이번 리뷰까지 포함해 만들고 증분은 하지 않는다")
+    void initializesMissingRatingWithoutIncrement() {
+        given(guideRatingRepository.existsById(GUIDE_ID)).willReturn(false);
+        ReviewCreatedEvent event = new ReviewCreatedEvent(1L, 2L, GUIDE_ID, "guide-member", STAR, 0);
+
+        guideRatingAggregator.onReviewCreated(event);
+
+        verify(guideRatingService).initialize(event);
+        verify(guideRatingRepository, never()).increment(anyLong(), any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("증분 대상 행이 끝내 없으면 리뷰 트랜잭션을 실패시킨다")
+    void failsWhenRatingStillMissing() {
+        given(guideRatingRepository.existsById(GUIDE_ID)).willReturn(true);
+        given(guideRatingRepository.increment(eq(GUIDE_ID), eq(STAR), eq(0L), any())).willReturn(0);
+
+        ReviewCreatedEvent event = new ReviewCreatedEvent(1L, 2L, GUIDE_ID, "guide-member", STAR, 0);
+
+        assertThatThrownBy(() -> guideRatingAggregator.onReviewCreated(event))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,50 @@
+package coffeandcommit.crema.domain.guide.service;
+
+import coffeandcommit.crema.domain.guide.repository.GuideRatingRepository;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
+import coffeandcommit.crema.domain.review.repository.ReviewExperienceRepository;
+import coffeandcommit.crema.domain.review.repository.ReviewRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class GuideRatingServiceTest {
+
+    private static final Long GUIDE_ID = 10L;
+
+    @Mock
+    private GuideRatingRepository guideRatingRepository;
+
+    @Mock
+    private ReviewRepository reviewRepository;
+
+    @Mock
+    private ReviewExperienceRepository reviewExperienceRepository;
+
+    @InjectMocks
+    private GuideRatingService guideRatingService;
+
+    @Test
+    @DisplayName("기존 리뷰 집계(이번 리뷰 포함)를 seed 로, 이번 리뷰를 동시 생성 시 증분으로 넘긴다")
+    void seedsFromReviewsInSameTransaction() {
+        given(reviewRepository.countByGuideId(GUIDE_ID)).willReturn(3L);
+        given(reviewRepository.sumStarByGuideId(GUIDE_ID)).willReturn(new BigDecimal("13.5"));
+        given(reviewExperienceRepository.countThumbsUpByGuideId(GUIDE_ID)).willReturn(4L);
+
+        guideRatingService.initialize(new ReviewCreatedEvent(1L, 2L, GUIDE_ID, "guide-member", new BigDecimal("4.5"), 2));
+
+        verify(guideRatingRepository).seedOrIncrement(eq(GUIDE_ID), eq(3L), eq(new BigDecimal("13.5")), eq(4L),
+                eq(new BigDecimal("4.5")), eq(2L), any());
+    }
+}
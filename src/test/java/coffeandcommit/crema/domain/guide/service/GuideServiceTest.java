@@ -3,6 +3,7 @@ package coffeandcommit.crema.domain.guide.service;
 import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
 import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.guide.dto.response.*;
 import coffeandcommit.crema.domain.guide.entity.ExperienceDetail;
 import coffeandcommit.crema.domain.guide.entity.ExperienceGroup;
@@ -27,6 +28,7 @@ import coffeandcommit.crema.domain.review.repository.ReviewRepository;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -50,12 +52,18 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 public class GuideServiceTest {
 
+    @Mock
+    private CremaMetrics metrics;
+
     @InjectMocks
     private GuideService guideService;
 
     @Mock
     private GuideRepository guideRepository;
 
+    @Mock
+    private ChatTopicRegistry chatTopicRegistry;
+
     @Mock
     private GuideJobFieldRepository guideJobFieldRepository;
 
@@ -1085,8 +1093,10 @@ public class GuideServiceTest {
         // 페이지 객체 생성
         Page<Guide> guidePage = new PageImpl<>(List.of(guide1));
 
-        // Mock 설정
-        when(guideRepository.findBySearchConditions(jobNames, chatTopicNames, keyword, pageable))
+        // Mock 설정 - 주제명은 레지스트리에서 id 로 바꿔 조인 없이 필터링
+        List<Long> chatTopicIds = List.of(4L, 1L);
+        when(chatTopicRegistry.idsOf(chatTopicNames)).thenReturn(chatTopicIds);
+        when(guideRepository.findBySearchConditions(jobNames, chatTopicIds, keyword, pageable))
                 .thenReturn(guidePage);
         when(reservationRepository.countByGuideAndStatus(guide1, Status.COMPLETED)).thenReturn(5L);
         when(reviewRepository.calculateAverageStarByGuide(guide1)).thenReturn(java.math.BigDecimal.valueOf(4.5));
@@ -1114,7 +1124,7 @@ public class GuideServiceTest {
         assertEquals(7L, dto.getStats().getThumbsUpCount());
 
         // 메서드 호출 검증
-        verify(guideRepository).findBySearchConditions(jobNames, chatTopicNames, keyword, pageable);
+        verify(guideRepository).findBySearchConditions(jobNames, chatTopicIds, keyword, pageable);
         verify(reservationRepository).countByGuideAndStatus(guide1, Status.COMPLETED);
         verify(reviewRepository).calculateAverageStarByGuide(guide1);
         verify(reviewRepository).countByGuide(guide1);
@@ -1136,7 +1146,7 @@ public class GuideServiceTest {
         Page<Guide> emptyPage = new PageImpl<>(List.of());
 
         // Mock 설정
-        when(guideRepository.findBySearchConditions(jobNames, chatTopicNames, keyword, pageable))
+        when(guideRepository.findBySearchConditions(jobNames, null, keyword, pageable))
                 .thenReturn(emptyPage);
 
         // 테스트 실행
@@ -1148,8 +1158,8 @@ public class GuideServiceTest {
         assertTrue(result.getContent().isEmpty());
 
         // 메서드 호출 검증
-        verify(guideRepository).findBySearchConditions(jobNames, chatTopicNames, keyword, pageable);
-        verifyNoInteractions(reservationRepository, reviewRepository, reviewExperienceRepository);
+        verify(guideRepository).findBySearchConditions(jobNames, null, keyword, pageable);
+        verifyNoInteractions(reservationRepository, reviewRepository, reviewExperienceRepository, chatTopicRegistry);
     }
 
     @Test
@@ -1195,7 +1205,7 @@ public class GuideServiceTest {
         Page<Guide> guidePage = new PageImpl<>(List.of(guide1, guide3));
 
         // Mock 설정
-        when(guideRepository.findBySearchConditions(jobNames, chatTopicNames, keyword, pageable))
+        when(guideRepository.findBySearchConditions(jobNames, null, keyword, pageable))
                 .thenReturn(guidePage);
 
         // guide1 설정
@@ -1230,7 +1240,7 @@ public class GuideServiceTest {
         assertEquals(10L, second.getStats().getTotalReviews());
 
         // 메서드 호출 검증
-        verify(guideRepository).findBySearchConditions(jobNames, chatTopicNames, keyword, pageable);
+        verify(guideRepository).findBySearchConditions(jobNames, null, keyword, pageable);
     }
 
 }
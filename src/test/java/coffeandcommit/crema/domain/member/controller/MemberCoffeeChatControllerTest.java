@@ -13,6 +13,7 @@ import coffeandcommit.crema.domain.review.dto.response.GuideInfo;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
 import coffeandcommit.crema.global.common.exception.response.ApiResponse;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -385,39 +386,44 @@ class MemberCoffeeChatControllerTest {
         @DisplayName("성공: 전체 커피챗 조회")
         void getAllReservations_Success() {
             // given
-            given(memberCoffeeChatService.getAllReservations("testMemberId"))
-                    .willReturn(testCoffeeChatResponses);
+            CursorPageResponse<MemberCoffeeChatResponse> page = CursorPageResponse.<MemberCoffeeChatResponse>builder()
+                    .content(testCoffeeChatResponses)
+                    .size(20)
+                    .hasNext(false)
+                    .build();
+            given(memberCoffeeChatService.getAllReservations("testMemberId", null, 20))
+                    .willReturn(page);
 
             // when
-            ApiResponse<List<MemberCoffeeChatResponse>> response =
-                    memberCoffeeChatController.getAllReservations(testUserDetails);
+            ApiResponse<CursorPageResponse<MemberCoffeeChatResponse>> response =
+                    memberCoffeeChatController.getAllReservations(null, 20, testUserDetails);
 
             // then
             assertThat(response).isNotNull();
             assertThat(response.isSuccess()).isTrue();
             assertThat(response.getResult()).isNotNull();
-            assertThat(response.getResult()).hasSize(2);
-            assertThat(response.getResult().get(0).getPreferredDateOnly()).isEqualTo("2024-12-01");
-            assertThat(response.getResult().get(1).getPreferredTimeRange()).isEqualTo("19:00~20:00");
+            assertThat(response.getResult().getContent()).hasSize(2);
+            assertThat(response.getResult().getContent().get(0).getPreferredDateOnly()).isEqualTo("2024-12-01");
+            assertThat(response.getResult().getContent().get(1).getPreferredTimeRange()).isEqualTo("19:00~20:00");
 
-            verify(memberCoffeeChatService).getAllReservations("testMemberId");
+            verify(memberCoffeeChatService).getAllReservations("testMemberId", null, 20);
         }
 
         @Test
         @DisplayName("실패: 존재하지 않는 회원의 예약 조회")
         void getReservations_MemberNotFound() {
             // given
-            given(memberCoffeeChatService.getAllReservations("invalidMemberId"))
+            given(memberCoffeeChatService.getAllReservations("invalidMemberId", null, 20))
                     .willThrow(new BaseException(ErrorStatus.MEMBER_NOT_FOUND));
 
             UserDetails invalidUserDetails = new User("invalidMemberId", "password", Collections.emptyList());
 
             // when & then
-            assertThatThrownBy(() -> memberCoffeeChatController.getAllReservations(invalidUserDetails))
+            assertThatThrownBy(() -> memberCoffeeChatController.getAllReservations(null, 20, invalidUserDetails))
                     .isInstanceOf(BaseException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
 
-            verify(memberCoffeeChatService).getAllReservations("invalidMemberId");
+            verify(memberCoffeeChatService).getAllReservations("invalidMemberId", null, 20);
         }
     }
 
@@ -480,19 +486,23 @@ class MemberCoffeeChatControllerTest {
         @DisplayName("성공: 예약이 없는 회원의 조회")
         void getReservations_NoReservations() {
             // given
-            given(memberCoffeeChatService.getAllReservations("testMemberId"))
-                    .willReturn(Collections.emptyList());
+            given(memberCoffeeChatService.getAllReservations("testMemberId", null, 20))
+                    .willReturn(CursorPageResponse.<MemberCoffeeChatResponse>builder()
+                            .content(Collections.emptyList())
+                            .size(20)
+                            .hasNext(false)
+                            .build());
 
             // when
-            ApiResponse<List<MemberCoffeeChatResponse>> response =
-                    memberCoffeeChatController.getAllReservations(testUserDetails);
+            ApiResponse<CursorPageResponse<MemberCoffeeChatResponse>> response =
+                    memberCoffeeChatController.getAllReservations(null, 20, testUserDetails);
 
             // then
             assertThat(response).isNotNull();
             assertThat(response.isSuccess()).isTrue();
-            assertThat(response.getResult()).isEmpty();
+            assertThat(response.getResult().getContent()).isEmpty();
 
-            verify(memberCoffeeChatService).getAllReservations("testMemberId");
+            verify(memberCoffeeChatService).getAllReservations("testMemberId", null, 20);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,76 @@
+package coffeandcommit.crema.domain.member.repository;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 신규 회원 삽입 - ID 가 겹치면 기존 회원을 덮어쓰지 않고 제약 위반으로 실패하는지,
+ * 엔티티 저장이 원장으로 바뀐 포인트를 덮어쓰지 않는지 검증.
+ * 삽입이 자체 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRepositoryTest {
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 ID 로 삽입하면 제약 위반이고 기존 회원은 그대로 남는다")
+    void insert_DuplicateIdKeepsExistingMember() {
+        memberRepository.insert(member("g0000001", "기존회원"));
+
+        assertThatThrownBy(() -> memberRepository.insert(member("g0000001", "새회원")))
+                .isInstanceOf(DataIntegrityViolationException.class);
+
+        assertThat(memberRepository.findById("g0000001"))
+                .hasValueSatisfying(saved -> assertThat(saved.getNickname()).isEqualTo("기존회원"));
+        assertThat(memberRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래된 회원 엔티티를 저장해도 그사이 원장으로 적립된 포인트를 덮어쓰지 않는다")
+    void save_StaleMemberKeepsLedgerCredit() {
+        memberRepository.insert(member("g0000002", "적립회원"));
+        Member stale = memberRepository.findById("g0000002").orElseThrow();
+
+        new TransactionTemplate(transactionManager)
+                .executeWithoutResult(status -> memberRepository.increasePoint("g0000002", 500));
+        stale.updateProfile("새닉네임", null, null, null);
+        memberRepository.save(stale);
+
+        assertThat(memberRepository.findPointById("g0000002")).contains(500);
+        assertThat(memberRepository.findById("g0000002"))
+                .hasValueSatisfying(saved -> assertThat(saved.getNickname()).isEqualTo("새닉네임"));
+    }
+
+    private static Member member(String id, String nickname) {
+        return Member.builder().id(id).nickname(nickname).role(MemberRole.ROOKIE).build();
+    }
+}
@@ -3,24 +3,29 @@ package coffeandcommit.crema.domain.member.service;
 import coffeandcommit.crema.domain.globalTag.entity.ChatTopic;
 import coffeandcommit.crema.domain.globalTag.enums.JobNameType;
 import coffeandcommit.crema.domain.globalTag.enums.TopicNameType;
-import coffeandcommit.crema.domain.globalTag.repository.ChatTopicRepository;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
 import coffeandcommit.crema.domain.guide.entity.Guide;
 import coffeandcommit.crema.domain.member.dto.request.MemberChatTopicRequest;
 import coffeandcommit.crema.domain.member.dto.request.MemberJobFieldRequest;
 import coffeandcommit.crema.domain.member.dto.response.MemberChatTopicResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberJobFieldResponse;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatDashboardResponse;
 import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatResponse;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatSliceResponse;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.domain.member.entity.MemberChatTopic;
 import coffeandcommit.crema.domain.member.entity.MemberJobField;
 import coffeandcommit.crema.domain.member.enums.MemberRole;
 import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.reservation.dto.request.ReservationCursor;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
 import coffeandcommit.crema.domain.reservation.entity.Candidate;
 import coffeandcommit.crema.domain.reservation.entity.Reservation;
 import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.response.CursorPageResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,7 +39,9 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -51,7 +58,7 @@ class MemberCoffeeChatServiceTest {
     private MemberRepository memberRepository;
 
     @Mock
-    private ChatTopicRepository chatTopicRepository;
+    private ChatTopicRegistry chatTopicRegistry;
 
     @Mock
     private ReservationRepository reservationRepository;
@@ -156,11 +163,9 @@ class MemberCoffeeChatServiceTest {
 
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(chatTopicRepository.findByTopicName(TopicNameType.CAREER_CHANGE))
-                    .willReturn(Optional.of(testChatTopic));
-            given(chatTopicRepository.findByTopicName(TopicNameType.COVER_LETTER))
-                    .willReturn(Optional.empty());
-            given(chatTopicRepository.save(any(ChatTopic.class)))
+            given(chatTopicRegistry.get(TopicNameType.CAREER_CHANGE))
+                    .willReturn(testChatTopic);
+            given(chatTopicRegistry.get(TopicNameType.COVER_LETTER))
                     .willReturn(ChatTopic.builder().id(2L).topicName(TopicNameType.COVER_LETTER).build());
             given(memberRepository.save(any(Member.class)))
                     .willReturn(testMember);
@@ -173,9 +178,8 @@ class MemberCoffeeChatServiceTest {
             assertThat(result).hasSize(2);
 
             verify(memberRepository).findByIdAndIsDeletedFalse("testMemberId");
-            verify(chatTopicRepository).findByTopicName(TopicNameType.CAREER_CHANGE);
-            verify(chatTopicRepository).findByTopicName(TopicNameType.COVER_LETTER);
-            verify(chatTopicRepository).save(any(ChatTopic.class));
+            verify(chatTopicRegistry).get(TopicNameType.CAREER_CHANGE);
+            verify(chatTopicRegistry).get(TopicNameType.COVER_LETTER);
             verify(memberRepository).save(any(Member.class));
         }
 
@@ -473,30 +477,43 @@ class MemberCoffeeChatServiceTest {
         }
 
         @Test
-        @DisplayName("성공: 전체 예약 조회")
+        @DisplayName("성공: 전체 예약 조회 (키셋 페이지)")
         void getAllReservations_Success() {
             // given
-            Reservation confirmedReservation = testReservation.toBuilder()
-                    .id(2L)
+            LocalDateTime createdAt = LocalDateTime.of(2025, 8, 15, 14, 1);
+            ReservationSummaryDTO pending = ReservationSummaryDTO.builder()
+                    .reservationId(2L)
+                    .status(Status.PENDING)
+                    .createdAt(createdAt)
+                    .counterpartNickname("테스트가이드")
+                    .build();
+            ReservationSummaryDTO confirmed = ReservationSummaryDTO.builder()
+                    .reservationId(1L)
                     .status(Status.CONFIRMED)
+                    .createdAt(createdAt.minusDays(1))
+                    .counterpartNickname("테스트가이드")
                     .build();
+            ReservationCursor cursor = new ReservationCursor(createdAt.plusDays(1), 3L);
 
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(reservationRepository.findByMemberIdWithFetchJoin("testMemberId"))
-                    .willReturn(List.of(testReservation, confirmedReservation));
+            given(reservationRepository.findSummariesByMember("testMemberId", null, cursor, 11))
+                    .willReturn(List.of(pending, confirmed));
 
             // when
-            List<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations("testMemberId");
+            CursorPageResponse<MemberCoffeeChatResponse> result =
+                    memberCoffeeChatService.getAllReservations("testMemberId", cursor.encode(), 10);
 
             // then
-            assertThat(result).isNotNull();
-            assertThat(result).hasSize(2);
-            assertThat(result.get(0).getStatus()).isEqualTo(Status.PENDING);
-            assertThat(result.get(1).getStatus()).isEqualTo(Status.CONFIRMED);
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.getContent().get(0).getStatus()).isEqualTo(Status.PENDING);
+            assertThat(result.getContent().get(0).getGuide().getNickname()).isEqualTo("테스트가이드");
+            assertThat(result.getContent().get(1).getStatus()).isEqualTo(Status.CONFIRMED);
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
 
             verify(memberRepository).findByIdAndIsDeletedFalse("testMemberId");
-            verify(reservationRepository).findByMemberIdWithFetchJoin("testMemberId");
+            verify(reservationRepository).findSummariesByMember("testMemberId", null, cursor, 11);
         }
 
         @Test
@@ -507,7 +524,7 @@ class MemberCoffeeChatServiceTest {
                     .willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> memberCoffeeChatService.getAllReservations("invalidMemberId"))
+            assertThatThrownBy(() -> memberCoffeeChatService.getAllReservations("invalidMemberId", null, 20))
                     .isInstanceOf(BaseException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
 
@@ -520,18 +537,95 @@ class MemberCoffeeChatServiceTest {
             // given
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(reservationRepository.findByMemberIdWithFetchJoin("testMemberId"))
+            given(reservationRepository.findSummariesByMember("testMemberId", null, null, 21))
                     .willReturn(Collections.emptyList());
 
             // when
-            List<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations("testMemberId");
+            CursorPageResponse<MemberCoffeeChatResponse> result =
+                    memberCoffeeChatService.getAllReservations("testMemberId", null, 20);
 
             // then
             assertThat(result).isNotNull();
-            assertThat(result).isEmpty();
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
 
             verify(memberRepository).findByIdAndIsDeletedFalse("testMemberId");
-            verify(reservationRepository).findByMemberIdWithFetchJoin("testMemberId");
+            verify(reservationRepository).findSummariesByMember("testMemberId", null, null, 21);
+        }
+    }
+
+    @Nested
+    @DisplayName("커피챗 대시보드 조회")
+    class CoffeeChatDashboardTests {
+
+        @Test
+        @DisplayName("성공: 상태별 개수와 상태별 페이지를 한 번에 조회")
+        void getDashboard_Success() {
+            // given
+            Reservation confirmedReservation = testReservation.toBuilder()
+                    .id(2L)
+                    .status(Status.CONFIRMED)
+                    .build();
+            Map<Status, Long> counts = new EnumMap<>(Status.class);
+            counts.put(Status.PENDING, 3L);
+            counts.put(Status.CONFIRMED, 1L);
+            counts.put(Status.COMPLETED, 0L);
+            counts.put(Status.CANCELLED, 0L);
+
+            given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
+                    .willReturn(Optional.of(testMember));
+            given(reservationRepository.countByMemberGroupByStatus("testMemberId"))
+                    .willReturn(counts);
+            given(reservationRepository.findSliceIdsPerStatusByMember("testMemberId", 0, 1))
+                    .willReturn(List.of(1L, 2L));
+            given(reservationRepository.findAllByIdInWithFetchJoin(List.of(1L, 2L)))
+                    .willReturn(List.of(testReservation, confirmedReservation));
+
+            // when
+            MemberCoffeeChatDashboardResponse result = memberCoffeeChatService.getDashboard("testMemberId", 0, 1);
+
+            // then
+            assertThat(result.getPendingCount()).isEqualTo(3L);
+            assertThat(result.getConfirmedCount()).isEqualTo(1L);
+            assertThat(result.getTotalCount()).isEqualTo(4L);
+
+            MemberCoffeeChatSliceResponse pending = result.getReservations().get(Status.PENDING);
+            assertThat(pending.getContent()).extracting(MemberCoffeeChatResponse::getReservationId).containsExactly(1L);
+            assertThat(pending.isHasNext()).isTrue();
+
+            MemberCoffeeChatSliceResponse confirmed = result.getReservations().get(Status.CONFIRMED);
+            assertThat(confirmed.getContent()).extracting(MemberCoffeeChatResponse::getReservationId).containsExactly(2L);
+            assertThat(confirmed.isHasNext()).isFalse();
+
+            assertThat(result.getReservations().get(Status.COMPLETED).getContent()).isEmpty();
+
+            // 상태별 반복 조회 없이 집계 1회 + ID 1회 + 로딩 1회
+            verify(reservationRepository, never()).findByMemberIdAndStatusWithFetchJoin(any(), any());
+            verify(reservationRepository, never()).countByMember_IdAndStatus(any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 예약이 없으면 목록 조회를 생략")
+        void getDashboard_NoReservations() {
+            // given
+            Map<Status, Long> counts = new EnumMap<>(Status.class);
+            for (Status status : Status.values()) {
+                counts.put(status, 0L);
+            }
+
+            given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
+                    .willReturn(Optional.of(testMember));
+            given(reservationRepository.countByMemberGroupByStatus("testMemberId"))
+                    .willReturn(counts);
+
+            // when
+            MemberCoffeeChatDashboardResponse result = memberCoffeeChatService.getDashboard("testMemberId", 0, 10);
+
+            // then
+            assertThat(result.getTotalCount()).isZero();
+            assertThat(result.getReservations()).hasSize(Status.values().length);
+            verify(reservationRepository, never()).findSliceIdsPerStatusByMember(any(), anyInt(), anyInt());
+            verify(reservationRepository, never()).findAllByIdInWithFetchJoin(any());
         }
     }
 
@@ -584,7 +678,7 @@ class MemberCoffeeChatServiceTest {
                     .willReturn(Optional.of(testMember));
 
             // when
-            List<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations("testMemberId");
+            CursorPageResponse<MemberCoffeeChatResponse> result = memberCoffeeChatService.getAllReservations("testMemberId", null, 20);
 
             // then - 예외가 발생하지 않고 정상 처리됨을 확인
             assertThat(result).isNotNull();
@@ -600,7 +694,7 @@ class MemberCoffeeChatServiceTest {
                     .willReturn(Optional.empty());
 
             // when & then
-            assertThatThrownBy(() -> memberCoffeeChatService.getAllReservations("deletedMemberId"))
+            assertThatThrownBy(() -> memberCoffeeChatService.getAllReservations("deletedMemberId", null, 20))
                     .isInstanceOf(BaseException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
 
@@ -608,51 +702,29 @@ class MemberCoffeeChatServiceTest {
         }
 
         @Test
-        @DisplayName("성공: findOrCreateChatTopic - 기존 주제 조회")
-        void findOrCreateChatTopic_ExistingTopic() {
-            // given
-            MemberChatTopicRequest request = MemberChatTopicRequest.builder()
-                    .topicNames(List.of(TopicNameType.CAREER_CHANGE))
-                    .build();
-
-            given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
-                    .willReturn(Optional.of(testMember));
-            given(chatTopicRepository.findByTopicName(TopicNameType.CAREER_CHANGE))
-                    .willReturn(Optional.of(testChatTopic));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberCoffeeChatService.registerChatTopics("testMemberId", request);
-
-            // then
-            verify(chatTopicRepository).findByTopicName(TopicNameType.CAREER_CHANGE);
-            verify(chatTopicRepository, never()).save(any(ChatTopic.class));
-        }
-
-        @Test
-        @DisplayName("성공: findOrCreateChatTopic - 새 주제 생성")
-        void findOrCreateChatTopic_CreateNewTopic() {
+        @DisplayName("성공: 주제 엔티티는 레지스트리에서 가져와 응답까지 그대로 쓴다")
+        void registerChatTopics_UsesRegistryTopic() {
             // given
             MemberChatTopicRequest request = MemberChatTopicRequest.builder()
                     .topicNames(List.of(TopicNameType.PORTFOLIO))
                     .build();
+            ChatTopic portfolio = ChatTopic.builder().id(3L).topicName(TopicNameType.PORTFOLIO).build();
 
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(chatTopicRepository.findByTopicName(TopicNameType.PORTFOLIO))
-                    .willReturn(Optional.empty());
-            given(chatTopicRepository.save(any(ChatTopic.class)))
-                    .willReturn(ChatTopic.builder().id(3L).topicName(TopicNameType.PORTFOLIO).build());
+            given(chatTopicRegistry.get(TopicNameType.PORTFOLIO))
+                    .willReturn(portfolio);
             given(memberRepository.save(any(Member.class)))
                     .willReturn(testMember);
 
             // when
-            memberCoffeeChatService.registerChatTopics("testMemberId", request);
+            List<MemberChatTopicResponse> result = memberCoffeeChatService.registerChatTopics("testMemberId", request);
 
             // then
-            verify(chatTopicRepository).findByTopicName(TopicNameType.PORTFOLIO);
-            verify(chatTopicRepository).save(any(ChatTopic.class));
+            assertThat(result).hasSize(1);
+            assertThat(result.get(0).getTopic().getTopicName()).isEqualTo(TopicNameType.PORTFOLIO);
+            assertThat(testMember.getChatTopics()).extracting(MemberChatTopic::getChatTopic).containsExactly(portfolio);
+            verify(chatTopicRegistry).get(TopicNameType.PORTFOLIO);
         }
     }
 
@@ -674,8 +746,8 @@ class MemberCoffeeChatServiceTest {
 
             // 모든 주제에 대해 기존 주제 조회 설정
             for (TopicNameType topic : allTopics) {
-                given(chatTopicRepository.findByTopicName(topic))
-                        .willReturn(Optional.of(ChatTopic.builder().topicName(topic).build()));
+                given(chatTopicRegistry.get(topic))
+                        .willReturn(ChatTopic.builder().topicName(topic).build());
             }
 
             given(memberRepository.save(any(Member.class)))
@@ -702,8 +774,8 @@ class MemberCoffeeChatServiceTest {
 
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(chatTopicRepository.findByTopicName(TopicNameType.CAREER_CHANGE))
-                    .willReturn(Optional.of(testChatTopic));
+            given(chatTopicRegistry.get(TopicNameType.CAREER_CHANGE))
+                    .willReturn(testChatTopic);
             given(memberRepository.save(any(Member.class)))
                     .willReturn(testMember);
 
@@ -727,8 +799,8 @@ class MemberCoffeeChatServiceTest {
 
             given(memberRepository.findByIdAndIsDeletedFalse("testMemberId"))
                     .willReturn(Optional.of(testMember));
-            given(chatTopicRepository.findByTopicName(TopicNameType.CAREER_CHANGE))
-                    .willReturn(Optional.of(testChatTopic));
+            given(chatTopicRegistry.get(TopicNameType.CAREER_CHANGE))
+                    .willReturn(testChatTopic);
             given(memberRepository.save(any(Member.class)))
                     .willThrow(new RuntimeException("Database error"));
 
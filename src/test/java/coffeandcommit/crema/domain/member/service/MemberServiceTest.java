@@ -13,6 +13,7 @@ import coffeandcommit.crema.domain.member.repository.MemberRepository;
 import coffeandcommit.crema.global.auth.service.CustomUserDetails;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.id.MemberIdGenerator;
 import coffeandcommit.crema.global.file.FileService;
 import coffeandcommit.crema.global.storage.StorageService;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
@@ -26,11 +27,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.function.Function;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -63,6 +66,9 @@ class MemberServiceTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private MemberIdGenerator memberIdGenerator;
+
     @InjectMocks
     private MemberService memberService;
 
@@ -598,40 +604,6 @@ class MemberServiceTest {
             verify(memberRepository).findByIdAndIsDeletedFalse("testId");
         }
 
-        @Test
-        @DisplayName("성공: 회원 포인트 추가")
-        void addPoints_Success() {
-            // given
-            given(memberRepository.findByIdAndIsDeletedFalse("testId"))
-                    .willReturn(Optional.of(testMember));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberService.addPoints("testId", 500);
-
-            // then
-            verify(memberRepository).findByIdAndIsDeletedFalse("testId");
-            verify(memberRepository).save(testMember);
-        }
-
-        @Test
-        @DisplayName("성공: 회원 포인트 차감")
-        void decreasePoints_Success() {
-            // given
-            given(memberRepository.findByIdAndIsDeletedFalse("testId"))
-                    .willReturn(Optional.of(testMember));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberService.decreasePoints("testId", 200);
-
-            // then
-            verify(memberRepository).findByIdAndIsDeletedFalse("testId");
-            verify(memberRepository).save(testMember);
-        }
-
         @Test
         @DisplayName("실패: 포인트 관련 작업에서 회원 없음")
         void pointOperations_MemberNotFound() {
@@ -643,14 +615,6 @@ class MemberServiceTest {
             assertThatThrownBy(() -> memberService.getMemberPoints("invalidId"))
                     .isInstanceOf(BaseException.class)
                     .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
-
-            assertThatThrownBy(() -> memberService.addPoints("invalidId", 100))
-                    .isInstanceOf(BaseException.class)
-                    .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
-
-            assertThatThrownBy(() -> memberService.decreasePoints("invalidId", 100))
-                    .isInstanceOf(BaseException.class)
-                    .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.MEMBER_NOT_FOUND);
         }
     }
 
@@ -768,54 +732,6 @@ class MemberServiceTest {
             verify(memberRepository, never()).existsByNicknameAndIsDeletedFalse("testUser");
         }
 
-        @Test
-        @DisplayName("경계값: 0 포인트 추가")
-        void addPoints_ZeroPoints() {
-            // given
-            given(memberRepository.findByIdAndIsDeletedFalse("testId"))
-                    .willReturn(Optional.of(testMember));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberService.addPoints("testId", 0);
-
-            // then
-            verify(memberRepository).save(testMember);
-        }
-
-        @Test
-        @DisplayName("경계값: 0 포인트 차감")
-        void decreasePoints_ZeroPoints() {
-            // given
-            given(memberRepository.findByIdAndIsDeletedFalse("testId"))
-                    .willReturn(Optional.of(testMember));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberService.decreasePoints("testId", 0);
-
-            // then
-            verify(memberRepository).save(testMember);
-        }
-
-        @Test
-        @DisplayName("경계값: 최대 포인트 추가")
-        void addPoints_MaxPoints() {
-            // given
-            given(memberRepository.findByIdAndIsDeletedFalse("testId"))
-                    .willReturn(Optional.of(testMember));
-            given(memberRepository.save(any(Member.class)))
-                    .willReturn(testMember);
-
-            // when
-            memberService.addPoints("testId", Integer.MAX_VALUE);
-
-            // then
-            verify(memberRepository).save(testMember);
-        }
-
         @Test
         @DisplayName("경계값: 공백만 있는 닉네임")
         void isNicknameAvailable_WhitespaceOnly() {
@@ -877,4 +793,48 @@ class MemberServiceTest {
                     .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.FILE_UPLOAD_FAILED);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("신규 회원 저장")
+    class SaveNewMemberTests {
+
+        private final Function<String, Member> rookieForId = memberId -> Member.builder()
+                .id(memberId)
+                .nickname("사용자_" + memberId)
+                .role(MemberRole.ROOKIE)
+                .build();
+
+        @Test
+        @DisplayName("성공: 제약 위반이면 새 ID 와 그 ID 로 만든 닉네임으로 한 번 다시 저장한다")
+        void saveNewMember_RetriesOnceWithNewId() {
+            // given
+            given(memberIdGenerator.nextId()).willReturn("g0000001", "g0000002");
+            given(memberRepository.insert(any(Member.class)))
+                    .willThrow(new DataIntegrityViolationException("uk_member_nickname_is_deleted"))
+                    .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            Member saved = memberService.saveNewMember(rookieForId);
+
+            // then
+            assertThat(saved.getId()).isEqualTo("g0000002");
+            assertThat(saved.getNickname()).isEqualTo("사용자_g0000002");
+            verify(memberRepository, times(2)).insert(any(Member.class));
+        }
+
+        @Test
+        @DisplayName("실패: 다시 시도해도 제약 위반이면 서버 오류")
+        void saveNewMember_FailsAfterSingleRetry() {
+            // given
+            given(memberIdGenerator.nextId()).willReturn("g0000001", "g0000002");
+            given(memberRepository.insert(any(Member.class)))
+                    .willThrow(new DataIntegrityViolationException("uk_member_provider"));
+
+            // when & then
+            assertThatThrownBy(() -> memberService.saveNewMember(rookieForId))
+                    .isInstanceOf(BaseException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorStatus.INTERNAL_SERVER_ERROR);
+            verify(memberRepository, times(2)).insert(any(Member.class));
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package coffeandcommit.crema.domain.notification.stream;
+
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationStreamRegistryTest {
+
+    private static final ReservationDelta DELTA = new ReservationDelta(
+            ReservationChange.DECIDED, ReservationDelta.Role.MENTEE, 1L, 2L, Status.CONFIRMED);
+
+    private NotificationStreamProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new NotificationStreamProperties();
+        properties.setSendBufferSize(2);
+        properties.setMaxConnectionsPerMember(2);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("연결 직후 connected 를 보내고, 델타는 해당 회원의 모든 연결에만 보낸다")
+    void sendsDeltaToMemberConnectionsOnly() {
+        NotificationStreamRegistry registry = registry(Runnable::run);
+        RecordingEmitter first = new RecordingEmitter();
+        RecordingEmitter second = new RecordingEmitter();
+        RecordingEmitter other = new RecordingEmitter();
+        registry.register("mentee", first);
+        registry.register("mentee", second);
+        registry.register("other", other);
+
+        registry.send("mentee", DELTA);
+        registry.send("unknown", DELTA);
+
+        assertThat(first.sent).hasSize(2);
+        assertThat(first.sent.get(0)).contains("event:connected");
+        assertThat(first.sent.get(1)).contains("event:DECIDED").contains("\"reservationId\":1").contains("\"status\":\"CONFIRMED\"");
+        assertThat(second.sent).hasSize(2);
+        assertThat(other.sent).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("회원당 연결 한도를 넘으면 가장 오래된 연결을 닫는다")
+    void evictsOldestConnectionOverLimit() {
+        NotificationStreamRegistry registry = registry(Runnable::run);
+        RecordingEmitter oldest = new RecordingEmitter();
+        registry.register("mentee", oldest);
+        registry.register("mentee", new RecordingEmitter());
+        registry.register("mentee", new RecordingEmitter());
+
+        registry.send("mentee", DELTA);
+
+        assertThat(registry.connectionCount("mentee")).isEqualTo(2);
+        assertThat(oldest.completed).isTrue();
+        assertThat(oldest.sent).hasSize(1);
+        assertThat(meterRegistry.get(CremaMetrics.NOTIFICATION_STREAM)
+                .tag(CremaMetrics.TAG_OUTCOME, NotificationStreamRegistry.OUTCOME_EVICTED).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("전송 대기열이 가득 차면(느린 클라이언트) 연결을 닫는다")
+    void closesConnectionOnBufferOverflow() {
+        List<Runnable> pending = new ArrayList<>();
+        NotificationStreamRegistry registry = registry(pending::add);
+        RecordingEmitter slow = new RecordingEmitter();
+        registry.register("mentee", slow);
+
+        // connected 1건 + 델타 1건으로 대기열(2) 가득 - 세 번째에서 종료
+        registry.send("mentee", DELTA);
+        registry.send("mentee", DELTA);
+
+        assertThat(slow.completed).isTrue();
+        assertThat(registry.connectionCount()).isZero();
+        assertThat(meterRegistry.get(CremaMetrics.NOTIFICATION_STREAM)
+                .tag(CremaMetrics.TAG_OUTCOME, NotificationStreamRegistry.OUTCOME_OVERFLOW).counter().count()).isEqualTo(1);
+
+        // 뒤늦게 실행된 전송 작업은 닫힌 연결에 쓰지 않는다
+        pending.forEach(Runnable::run);
+        assertThat(slow.sent).isEmpty();
+    }
+
+    @Test
+    @DisplayName("하트비트 전송이 실패한 연결은 정리한다")
+    void heartbeatRemovesBrokenConnection() {
+        NotificationStreamRegistry registry = registry(Runnable::run);
+        RecordingEmitter alive = new RecordingEmitter();
+        RecordingEmitter broken = new RecordingEmitter();
+        registry.register("guide", alive);
+        registry.register("mentee", broken);
+        broken.failing = true;
+
+        registry.heartbeat();
+
+        assertThat(registry.connectionCount()).isEqualTo(1);
+        assertThat(registry.connectionCount("mentee")).isZero();
+        assertThat(alive.sent.get(1)).contains(":heartbeat");
+    }
+
+    private NotificationStreamRegistry registry(Executor executor) {
+        return new NotificationStreamRegistry(properties, new ObjectMapper(), new CremaMetrics(meterRegistry), executor);
+    }
+
+    // 서블릿 응답 없이 보낸 이벤트를 문자열로 기록
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<String> sent = new ArrayList<>();
+        private boolean failing;
+        private boolean completed;
+
+        @Override
+        public synchronized void send(Set<ResponseBodyEmitter.DataWithMediaType> items) throws IOException {
+            if (failing) {
+                throw new IOException("Broken pipe");
+            }
+            sent.add(items.stream().map(item -> String.valueOf(item.getData())).collect(Collectors.joining()));
+        }
+
+        @Override
+        public synchronized void complete() {
+            completed = true;
+            super.complete();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package coffeandcommit.crema.domain.point.repository;
+
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.point.entity.PointLedger;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대사용 잔액 스냅샷 - 잔액과 반영 완료 원장 합계를 한 문장으로 읽는지 검증.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class PointLedgerRepositoryTest {
+
+    @Autowired
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Test
+    @DisplayName("잔액과 반영 완료 원장 합계만 읽고, 반영 대기 원장은 합계에서 뺀다")
+    void findBalanceSnapshot() {
+        Member member = Member.builder().id("snap-member").nickname("snap-member").role(MemberRole.ROOKIE).point(12000).build();
+        em.persist(member);
+        persistLedger(member, "opening", 10000, true);
+        persistLedger(member, "income", 3000, true);
+        persistLedger(member, "pending", 5000, false);
+        em.flush();
+        em.clear();
+
+        PointBalanceSnapshot snapshot = pointLedgerRepository.findBalanceSnapshot("snap-member").orElseThrow();
+
+        assertThat(snapshot.point()).isEqualTo(12000);
+        assertThat(snapshot.appliedSum()).isEqualTo(13000L);
+        assertThat(snapshot.drift()).isEqualTo(-1000L);
+    }
+
+    @Test
+    @DisplayName("원장이 없으면 합계는 0, 회원이 없으면 빈 결과")
+    void findBalanceSnapshot_WithoutLedger() {
+        em.persist(Member.builder().id("snap-empty").nickname("snap-empty").role(MemberRole.ROOKIE).point(500).build());
+        em.flush();
+
+        assertThat(pointLedgerRepository.findBalanceSnapshot("snap-empty"))
+                .hasValueSatisfying(snapshot -> assertThat(snapshot.appliedSum()).isZero());
+        assertThat(pointLedgerRepository.findBalanceSnapshot("missing")).isEmpty();
+    }
+
+    private void persistLedger(Member member, String key, int amount, boolean applied) {
+        em.persist(PointLedger.builder()
+                .member(member)
+                .type(applied ? PointLedgerType.OPENING_BALANCE : PointLedgerType.RESERVATION_INCOME)
+                .amount(amount)
+                .idempotencyKey("snap:" + key)
+                .applied(applied)
+                .build());
+    }
+}
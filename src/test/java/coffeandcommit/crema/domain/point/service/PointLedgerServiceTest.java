@@ -0,0 +1,202 @@
+package coffeandcommit.crema.domain.point.service;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.point.entity.PointLedger;
+import coffeandcommit.crema.domain.point.enums.PointLedgerType;
+import coffeandcommit.crema.domain.point.event.PointLedgerRecordedEvent;
+import coffeandcommit.crema.domain.point.repository.PointBalanceSnapshot;
+import coffeandcommit.crema.domain.point.repository.PointLedgerRepository;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PointLedgerServiceTest {
+
+    @Mock
+    private PointLedgerRepository pointLedgerRepository;
+
+    @Mock
+    private MemberRepository memberRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private PointLedgerService pointLedgerService;
+
+    private Member mentee;
+    private Member guideMember;
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        mentee = Member.builder().id("mentee-id").point(20000).build();
+        guideMember = Member.builder().id("guide-member-id").point(0).build();
+        reservation = Reservation.builder()
+                .id(1L)
+                .member(mentee)
+                .guide(Guide.builder().id(1L).member(guideMember).build())
+                .build();
+    }
+
+    @Test
+    @DisplayName("transferForReservation - 성공 케이스: 멘티 차감은 즉시 반영, 가이드 적립은 미반영 원장으로 기록")
+    void transferForReservation_Success() {
+        // Given
+        when(pointLedgerRepository.existsByIdempotencyKey("reservation:1:RESERVATION_PAYMENT")).thenReturn(false);
+        when(memberRepository.decreasePointIfSufficient("mentee-id", 5000)).thenReturn(1);
+        when(pointLedgerRepository.save(any(PointLedger.class)))
+                .thenAnswer(invocation -> ((PointLedger) invocation.getArgument(0)).toBuilder().id(10L).build());
+
+        // When
+        pointLedgerService.transferForReservation(reservation, 5000);
+
+        // Then
+        ArgumentCaptor<PointLedger> captor = ArgumentCaptor.forClass(PointLedger.class);
+        verify(pointLedgerRepository, times(2)).save(captor.capture());
+        List<PointLedger> saved = captor.getAllValues();
+
+        assertEquals(PointLedgerType.RESERVATION_PAYMENT, saved.get(0).getType());
+        assertEquals(-5000, saved.get(0).getAmount());
+        assertTrue(saved.get(0).getApplied());
+
+        assertEquals(PointLedgerType.RESERVATION_INCOME, saved.get(1).getType());
+        assertEquals(5000, saved.get(1).getAmount());
+        assertFalse(saved.get(1).getApplied());
+        assertEquals(guideMember, saved.get(1).getMember());
+
+        // 가이드 잔액은 트랜잭션 안에서 갱신하지 않음
+        verify(memberRepository, never()).increasePoint(any(), anyInt());
+        verify(eventPublisher, times(1)).publishEvent(new PointLedgerRecordedEvent(10L));
+    }
+
+    @Test
+    @DisplayName("transferForReservation - 이미 기록된 예약이면 다시 차감하지 않는다")
+    void transferForReservation_Idempotent() {
+        // Given
+        when(pointLedgerRepository.existsByIdempotencyKey("reservation:1:RESERVATION_PAYMENT")).thenReturn(true);
+
+        // When
+        pointLedgerService.transferForReservation(reservation, 5000);
+
+        // Then
+        verify(memberRepository, never()).decreasePointIfSufficient(any(), anyInt());
+        verify(pointLedgerRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("transferForReservation - 실패 케이스: 잔액이 부족하면 원장을 기록하지 않는다")
+    void transferForReservation_InsufficientPoints() {
+        // Given
+        when(pointLedgerRepository.existsByIdempotencyKey(any())).thenReturn(false);
+        when(memberRepository.decreasePointIfSufficient("mentee-id", 50000)).thenReturn(0);
+
+        // When & Then
+        BaseException exception = assertThrows(BaseException.class,
+                () -> pointLedgerService.transferForReservation(reservation, 50000));
+
+        assertEquals(ErrorStatus.INSUFFICIENT_POINTS, exception.getErrorCode());
+        verify(pointLedgerRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("applyPending - 반영 선점에 성공한 경우에만 잔액을 증가시킨다")
+    void applyPending_Success() {
+        // Given
+        PointLedger pending = PointLedger.builder()
+                .id(10L)
+                .member(guideMember)
+                .type(PointLedgerType.RESERVATION_INCOME)
+                .amount(5000)
+                .build();
+        when(pointLedgerRepository.findById(10L)).thenReturn(Optional.of(pending));
+        when(pointLedgerRepository.markApplied(eq(10L), any())).thenReturn(1);
+
+        // When
+        boolean applied = pointLedgerService.applyPending(10L);
+
+        // Then
+        assertTrue(applied);
+        verify(memberRepository, times(1)).increasePoint("guide-member-id", 5000);
+    }
+
+    @Test
+    @DisplayName("applyPending - 다른 반영기가 먼저 처리한 경우 잔액을 다시 증가시키지 않는다")
+    void applyPending_AlreadyClaimed() {
+        // Given
+        PointLedger pending = PointLedger.builder()
+                .id(10L)
+                .member(guideMember)
+                .type(PointLedgerType.RESERVATION_INCOME)
+                .amount(5000)
+                .build();
+        when(pointLedgerRepository.findById(10L)).thenReturn(Optional.of(pending));
+        when(pointLedgerRepository.markApplied(eq(10L), any())).thenReturn(0);
+
+        // When
+        boolean applied = pointLedgerService.applyPending(10L);
+
+        // Then
+        assertFalse(applied);
+        verify(memberRepository, never()).increasePoint(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("reconcile - 기초 잔액이 없으면 현재 잔액과 원장 합계의 차이로 기초 잔액을 생성한다")
+    void reconcile_CreatesOpeningBalance() {
+        // Given
+        when(pointLedgerRepository.findBalanceSnapshot("mentee-id"))
+                .thenReturn(Optional.of(new PointBalanceSnapshot(15000, -5000L)));
+        when(pointLedgerRepository.existsByMember_IdAndType("mentee-id", PointLedgerType.OPENING_BALANCE))
+                .thenReturn(false);
+        when(memberRepository.getReferenceById("mentee-id")).thenReturn(mentee);
+
+        // When
+        long drift = pointLedgerService.reconcile("mentee-id");
+
+        // Then
+        assertEquals(0L, drift);
+        ArgumentCaptor<PointLedger> captor = ArgumentCaptor.forClass(PointLedger.class);
+        verify(pointLedgerRepository, times(1)).save(captor.capture());
+        assertEquals(PointLedgerType.OPENING_BALANCE, captor.getValue().getType());
+        assertEquals(20000, captor.getValue().getAmount());
+    }
+
+    @Test
+    @DisplayName("reconcile - 기초 잔액이 있으면 잔액과 원장 합계의 차이를 반환한다")
+    void reconcile_ReturnsDrift() {
+        // Given
+        when(pointLedgerRepository.findBalanceSnapshot("mentee-id"))
+                .thenReturn(Optional.of(new PointBalanceSnapshot(15000, 14000L)));
+        when(pointLedgerRepository.existsByMember_IdAndType("mentee-id", PointLedgerType.OPENING_BALANCE))
+                .thenReturn(true);
+
+        // When
+        long drift = pointLedgerService.reconcile("mentee-id");
+
+        // Then
+        assertEquals(1000L, drift);
+        verify(pointLedgerRepository, never()).save(any());
+    }
+}
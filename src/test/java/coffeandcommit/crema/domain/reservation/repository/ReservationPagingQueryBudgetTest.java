@@ -0,0 +1,144 @@
+package coffeandcommit.crema.domain.reservation.repository;
+
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicDeduplicator;
+import coffeandcommit.crema.domain.globalTag.service.ChatTopicRegistry;
+import coffeandcommit.crema.domain.guide.dto.response.GuidePendingReservationResponseDTO;
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.TimeUnit;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.guide.service.GuideMeService;
+import coffeandcommit.crema.domain.member.dto.response.MemberCoffeeChatDashboardResponse;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.member.service.MemberCoffeeChatService;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static coffeandcommit.crema.global.common.query.QueryCountAssertions.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 페이지 조회가 페이지 크기와 무관하게 고정된 쿼리 수 안에서 끝나는지 검증한다.
+ * (N+1 지연 로딩이 다시 생기면 예산 초과로 실패)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, JacksonAutoConfiguration.class, ChatTopicRegistry.class, ChatTopicDeduplicator.class, OutboxEventPublisher.class,
+        GuideMeService.class, MemberCoffeeChatService.class})
+class ReservationPagingQueryBudgetTest {
+
+    private static final int ROW_COUNT = 12;
+
+    @Autowired
+    private GuideMeService guideMeService;
+
+    @Autowired
+    private MemberCoffeeChatService memberCoffeeChatService;
+
+    @Autowired
+    private EntityManager em;
+
+    @BeforeEach
+    void setUp() {
+        Member guideMember = Member.builder().id("budget-guide").nickname("budget-guide").role(MemberRole.GUIDE).build();
+        em.persist(guideMember);
+        Guide guide = Guide.builder().member(guideMember).title("budget guide").isOpened(true).build();
+        em.persist(guide);
+
+        Member mentee = Member.builder()
+                .id("budget-mentee")
+                .nickname("budget-mentee")
+                .role(MemberRole.ROOKIE)
+                .isDeleted(false)
+                .build();
+        em.persist(mentee);
+
+        // 가이드 쪽은 매 행 다른 멘티, 멘티 쪽은 매 행 다른 가이드
+        // 행 단위 지연 로딩이 있으면 쿼리 수가 페이지 크기에 비례해 늘어남
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Member otherMentee = Member.builder()
+                    .id("budget-mentee-" + i)
+                    .nickname("budget-mentee-" + i)
+                    .role(MemberRole.ROOKIE)
+                    .build();
+            em.persist(otherMentee);
+            persistReservation(guide, otherMentee, i);
+
+            Member otherGuideMember = Member.builder()
+                    .id("budget-guide-" + i)
+                    .nickname("budget-guide-" + i)
+                    .role(MemberRole.GUIDE)
+                    .build();
+            em.persist(otherGuideMember);
+            Guide otherGuide = Guide.builder().member(otherGuideMember).title("budget guide " + i).isOpened(true).build();
+            em.persist(otherGuide);
+            persistReservation(otherGuide, mentee, i);
+        }
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("가이드 전체 예약 페이지 - 가이드 조회(3) + ID 페이지 + COUNT + 일괄 로딩")
+    void guideReservationPage_withinBudget() {
+        // 가이드 조회 시 mappedBy OneToOne(experienceDetail, guideJobField) 2건 포함
+        assertMaxStatements(6, () -> {
+            Page<GuidePendingReservationResponseDTO> page = guideMeService.getAllReservations(
+                    "budget-guide", PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "createdAt")));
+
+            assertThat(page.getContent()).hasSize(10);
+            assertThat(page.getTotalElements()).isEqualTo(ROW_COUNT);
+            assertThat(page.getContent()).allSatisfy(dto -> {
+                assertThat(dto.getMember().getNickname()).startsWith("budget-mentee-");
+                assertThat(dto.getPreferredTimeRange()).isEqualTo("10:00~10:30");
+            });
+        });
+    }
+
+    @Test
+    @DisplayName("멘티 커피챗 대시보드 - 회원 확인(3) + 상태별 집계 + 슬라이스 ID + 일괄 로딩")
+    void memberDashboard_withinBudget() {
+        // 회원 확인 시 mappedBy OneToOne(guide, jobField) 2건 포함
+        assertMaxStatements(6, () -> {
+            MemberCoffeeChatDashboardResponse dashboard = memberCoffeeChatService.getDashboard("budget-mentee", 0, 10);
+
+            assertThat(dashboard.getTotalCount()).isEqualTo(ROW_COUNT);
+            assertThat(dashboard.getReservations().get(Status.PENDING).getContent()).hasSize(ROW_COUNT / 2);
+            assertThat(dashboard.getReservations().get(Status.CONFIRMED).getContent()).hasSize(ROW_COUNT / 2);
+        });
+    }
+
+    private void persistReservation(Guide guide, Member member, int i) {
+        Reservation reservation = Reservation.builder()
+                .guide(guide)
+                .member(member)
+                .status(i % 2 == 0 ? Status.PENDING : Status.CONFIRMED)
+                .survey(Survey.builder()
+                        .fileUploadURL("")
+                        .preferredDate(LocalDateTime.of(2030, 1, 7, 10, 0).plusDays(i))
+                        .build())
+                .build();
+        em.persist(reservation);
+        TimeUnit timeUnit = TimeUnit.builder().timeType(TimeType.MINUTE_30).build();
+        reservation.setTimeUnit(timeUnit);
+        em.persist(timeUnit);
+    }
+}
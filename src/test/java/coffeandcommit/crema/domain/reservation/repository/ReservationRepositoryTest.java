@@ -0,0 +1,127 @@
+package coffeandcommit.crema.domain.reservation.repository;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.reservation.dto.response.ReservationSummaryDTO;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 예약 목록 조회 쿼리 (대시보드 집계/슬라이스, 키셋 페이지) 검증.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class ReservationRepositoryTest {
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private final List<Long> pendingIds = new ArrayList<>();
+    private final List<Long> confirmedIds = new ArrayList<>();
+    private Long guideId;
+
+    @BeforeEach
+    void setUp() {
+        Member guideMember = Member.builder().id("dash-guide").nickname("dash-guide").role(MemberRole.GUIDE).build();
+        Member mentee = Member.builder().id("dash-mentee").nickname("dash-mentee").role(MemberRole.ROOKIE).build();
+        Member other = Member.builder().id("dash-other").nickname("dash-other").role(MemberRole.ROOKIE).build();
+        em.persist(guideMember);
+        em.persist(mentee);
+        em.persist(other);
+
+        Guide guide = Guide.builder().member(guideMember).title("dash guide").isOpened(true).build();
+        em.persist(guide);
+        guideId = guide.getId();
+
+        for (int i = 0; i < 3; i++) {
+            pendingIds.add(persistReservation(guide, mentee, Status.PENDING));
+        }
+        confirmedIds.add(persistReservation(guide, mentee, Status.CONFIRMED));
+        persistReservation(guide, other, Status.PENDING);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    @DisplayName("상태별 예약 수를 한 번에 집계하고, 없는 상태는 0으로 채운다")
+    void countByMemberGroupByStatus() {
+        Map<Status, Long> counts = reservationRepository.countByMemberGroupByStatus("dash-mentee");
+
+        assertThat(counts).containsEntry(Status.PENDING, 3L)
+                .containsEntry(Status.CONFIRMED, 1L)
+                .containsEntry(Status.COMPLETED, 0L)
+                .containsEntry(Status.CANCELLED, 0L);
+    }
+
+    @Test
+    @DisplayName("상태마다 최신순으로 offset 이후 limit건의 ID만 조회한다")
+    void findSliceIdsPerStatusByMember() {
+        List<Long> firstPage = reservationRepository.findSliceIdsPerStatusByMember("dash-mentee", 0, 2);
+        assertThat(firstPage).containsExactlyInAnyOrder(pendingIds.get(2), pendingIds.get(1), confirmedIds.get(0));
+
+        List<Long> secondPage = reservationRepository.findSliceIdsPerStatusByMember("dash-mentee", 2, 2);
+        assertThat(secondPage).containsExactly(pendingIds.get(0));
+
+        List<Reservation> loaded = reservationRepository.findAllByIdInWithFetchJoin(firstPage);
+        assertThat(loaded).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 - 최신순으로 커서 이후 행만 조회하고 상대방 정보를 함께 프로젝션한다")
+    void findSummariesByMember_keyset() {
+        List<ReservationSummaryDTO> first = reservationRepository.findSummariesByMember("dash-mentee", null, null, 3);
+        assertThat(first).extracting(ReservationSummaryDTO::getReservationId)
+                .containsExactly(confirmedIds.get(0), pendingIds.get(2), pendingIds.get(1));
+        assertThat(first.get(0).getCounterpartNickname()).isEqualTo("dash-guide");
+
+        List<ReservationSummaryDTO> second = reservationRepository.findSummariesByMember(
+                "dash-mentee", null, first.get(2).toCursor(), 3);
+        assertThat(second).extracting(ReservationSummaryDTO::getReservationId)
+                .containsExactly(pendingIds.get(0));
+    }
+
+    @Test
+    @DisplayName("키셋 페이지 - 가이드 기준 상태 필터와 멘티 정보 프로젝션")
+    void findSummariesByGuide_statusFilter() {
+        List<ReservationSummaryDTO> pending = reservationRepository.findSummariesByGuide(guideId, Status.PENDING, null, 10);
+
+        assertThat(pending).hasSize(4);
+        assertThat(pending).extracting(ReservationSummaryDTO::getStatus).containsOnly(Status.PENDING);
+        assertThat(pending).extracting(ReservationSummaryDTO::getCounterpartNickname)
+                .containsExactly("dash-other", "dash-mentee", "dash-mentee", "dash-mentee");
+    }
+
+    private Long persistReservation(Guide guide, Member member, Status status) {
+        Reservation reservation = Reservation.builder()
+                .guide(guide)
+                .member(member)
+                .status(status)
+                .survey(Survey.builder().fileUploadURL("").preferredDate(LocalDateTime.of(2030, 1, 7, 10, 0)).build())
+                .build();
+        em.persist(reservation);
+        return reservation.getId();
+    }
+}
@@ -6,6 +6,7 @@ import coffeandcommit.crema.domain.guide.enums.TimeType;
 import coffeandcommit.crema.domain.guide.repository.GuideRepository;
 import coffeandcommit.crema.domain.member.entity.Member;
 import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.point.service.PointLedgerService;
 import coffeandcommit.crema.domain.reservation.dto.request.ReservationDecisionRequestDTO;
 import coffeandcommit.crema.domain.reservation.dto.request.ReservationRequestDTO;
 import coffeandcommit.crema.domain.reservation.dto.request.SurveyFileRequestDTO;
@@ -22,6 +23,7 @@ import coffeandcommit.crema.domain.reservation.enums.Status;
 import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
 import coffeandcommit.crema.global.file.FileService;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
 import coffeandcommit.crema.global.validation.FileType;
@@ -38,6 +40,7 @@ import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -59,6 +62,15 @@ class ReservationServiceTest {
     @Mock
     private FileService fileService;
 
+    @Mock
+    private ReservationSlotService reservationSlotService;
+
+    @Mock
+    private PointLedgerService pointLedgerService;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -252,6 +264,24 @@ class ReservationServiceTest {
         verify(reservationRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("createReservation - 실패 케이스: 이미 확정된 시간대인 경우")
+    void createReservation_SlotAlreadyReserved() {
+        // Given
+        when(memberRepository.findById(MEMBER_ID)).thenReturn(Optional.of(testMember));
+        when(guideRepository.findById(GUIDE_ID)).thenReturn(Optional.of(testGuide));
+        when(reservationSlotService.isSlotTaken(eq(testGuide), any(LocalDateTime.class), eq(TimeType.MINUTE_30)))
+                .thenReturn(true);
+
+        // When & Then
+        BaseException exception = assertThrows(BaseException.class, () -> {
+            reservationService.createReservation(MEMBER_ID, testReservationRequestDTO, Collections.emptyList());
+        });
+
+        assertEquals(ErrorStatus.SLOT_ALREADY_RESERVED, exception.getErrorCode());
+        verify(reservationRepository, never()).save(any());
+    }
+
     @Test
     @DisplayName("decideReservation - 성공 케이스: 예약 승인")
     void decideReservation_ConfirmSuccess() {
@@ -271,12 +301,6 @@ class ReservationServiceTest {
         when(reservationRepository.findById(RESERVATION_ID))
                 .thenReturn(Optional.of(testReservation));
 
-        // Pessimistic lock 적용된 MemberRepository mock
-        when(memberRepository.findByIdForUpdate(testMember.getId()))
-                .thenReturn(Optional.of(testMember));
-        when(memberRepository.findByIdForUpdate(testGuide.getMember().getId()))
-                .thenReturn(Optional.of(testGuide.getMember()));
-
         // When
         ReservationDecisionResponseDTO result =
                 reservationService.decideReservation(guideLoginId, RESERVATION_ID, confirmRequest);
@@ -285,19 +309,37 @@ class ReservationServiceTest {
         assertNotNull(result);
         assertEquals(Status.CONFIRMED.name(), result.getStatus());
 
-        // Verify 락 쿼리 호출
-        verify(memberRepository, times(1)).findByIdForUpdate(testMember.getId());
-        verify(memberRepository, times(1)).findByIdForUpdate(testGuide.getMember().getId());
+        // Verify 슬롯 점유 및 매칭 시간 확정
+        verify(reservationSlotService, times(1)).claim(testReservation);
+        assertEquals(testReservation.getSurvey().getPreferredDate(), testReservation.getMatchingTime());
 
-        // Verify 포인트 이동
+        // Verify 포인트 이체 원장 기록
         int expectedPrice = testReservation.getTimeUnit().getTimeType().getPrice();
-        assertEquals(20000 - expectedPrice, testMember.getPoint()); // 멘티 포인트 차감
-        assertEquals(expectedPrice, testGuide.getMember().getPoint()); // 가이드 포인트 적립
+        verify(pointLedgerService, times(1)).transferForReservation(testReservation, expectedPrice);
 
         // ReservationRepository 호출 검증
         verify(reservationRepository, times(1)).findById(RESERVATION_ID);
     }
 
+    @Test
+    @DisplayName("decideReservation - 실패 케이스: 시간대가 이미 다른 예약으로 확정된 경우")
+    void decideReservation_SlotAlreadyReserved() {
+        // Given
+        String guideLoginId = "guide-member-id";
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(testReservation));
+        doThrow(new BaseException(ErrorStatus.SLOT_ALREADY_RESERVED))
+                .when(reservationSlotService).claim(testReservation);
+
+        // When & Then
+        BaseException exception = assertThrows(BaseException.class, () -> {
+            reservationService.decideReservation(guideLoginId, RESERVATION_ID, testReservationDecisionRequestDTO);
+        });
+
+        assertEquals(ErrorStatus.SLOT_ALREADY_RESERVED, exception.getErrorCode());
+        assertEquals(Status.PENDING, testReservation.getStatus());
+        verify(pointLedgerService, never()).transferForReservation(any(), anyInt());
+    }
+
     @Test
     @DisplayName("decideReservation - 성공 케이스: 예약 거절")
     void decideReservation_CancelSuccess() {
@@ -408,9 +450,9 @@ class ReservationServiceTest {
         when(reservationRepository.findById(RESERVATION_ID))
                 .thenReturn(Optional.of(reservationWithPoorMember));
 
-        // Pessimistic lock mock (멘티만 차감 시도)
-        when(memberRepository.findByIdForUpdate(poorMember.getId()))
-                .thenReturn(Optional.of(poorMember));
+        // 원장 이체 시 잔액 부족
+        doThrow(new BaseException(ErrorStatus.INSUFFICIENT_POINTS))
+                .when(pointLedgerService).transferForReservation(eq(reservationWithPoorMember), anyInt());
 
         // When & Then
         BaseException exception = assertThrows(BaseException.class, () -> {
@@ -420,8 +462,7 @@ class ReservationServiceTest {
         assertEquals(ErrorStatus.INSUFFICIENT_POINTS, exception.getErrorCode());
 
         verify(reservationRepository, times(1)).findById(RESERVATION_ID);
-        verify(memberRepository, times(1)).findByIdForUpdate(poorMember.getId());
-        verify(memberRepository, never()).findByIdForUpdate(testGuide.getMember().getId());
+        assertEquals(Status.PENDING, reservationWithPoorMember.getStatus());
     }
 
     @Test
@@ -634,9 +675,10 @@ class ReservationServiceTest {
         int confirmedCount = 3;
         int completedCount = 1;
 
-        when(reservationRepository.countByMember_IdAndStatus(MEMBER_ID, Status.PENDING)).thenReturn(pendingCount);
-        when(reservationRepository.countByMember_IdAndStatus(MEMBER_ID, Status.CONFIRMED)).thenReturn(confirmedCount);
-        when(reservationRepository.countByMember_IdAndStatus(MEMBER_ID, Status.COMPLETED)).thenReturn(completedCount);
+        when(reservationRepository.countByMemberGroupByStatus(MEMBER_ID)).thenReturn(Map.of(
+                Status.PENDING, (long) pendingCount,
+                Status.CONFIRMED, (long) confirmedCount,
+                Status.COMPLETED, (long) completedCount));
 
         // When
         CoffeeChatSummaryResponseDTO result = reservationService.getMyCoffeeChatSummary(MEMBER_ID);
@@ -648,9 +690,8 @@ class ReservationServiceTest {
         assertEquals(completedCount, result.getCompletedCount());
 
         // Verify repository calls
-        verify(reservationRepository, times(1)).countByMember_IdAndStatus(MEMBER_ID, Status.PENDING);
-        verify(reservationRepository, times(1)).countByMember_IdAndStatus(MEMBER_ID, Status.CONFIRMED);
-        verify(reservationRepository, times(1)).countByMember_IdAndStatus(MEMBER_ID, Status.COMPLETED);
+        verify(reservationRepository, times(1)).countByMemberGroupByStatus(MEMBER_ID);
+        verify(reservationRepository, never()).countByMember_IdAndStatus(any(), any());
     }
 
     @Test
@@ -0,0 +1,193 @@
+package coffeandcommit.crema.domain.reservation.service;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.TimeUnit;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationSlotRepository;
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 한 가이드의 동일 시간대에 대해 다수의 예약 확정이 동시에 몰릴 때
+ * 슬롯 유니크 제약만으로 단 하나의 예약만 확정되는지 검증한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({ReservationSlotService.class, QueryDslConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ReservationSlotConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final LocalDateTime SLOT_START = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @Autowired
+    private ReservationSlotService reservationSlotService;
+
+    @Autowired
+    private ReservationSlotRepository reservationSlotRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private Guide guide;
+    private List<Reservation> reservations;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        reservations = new ArrayList<>();
+
+        tx.executeWithoutResult(status -> {
+            Member guideMember = Member.builder()
+                    .id("slot-guide")
+                    .nickname("slot-guide")
+                    .role(MemberRole.GUIDE)
+                    .build();
+            em.persist(guideMember);
+
+            guide = Guide.builder()
+                    .member(guideMember)
+                    .title("slot test guide")
+                    .isOpened(true)
+                    .build();
+            em.persist(guide);
+
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                Member mentee = Member.builder()
+                        .id("slot-mentee-" + i)
+                        .nickname("slot-mentee-" + i)
+                        .role(MemberRole.ROOKIE)
+                        .build();
+                em.persist(mentee);
+
+                // 같은 시작 시각 또는 겹치는 시각(09:30 시작 60분)을 번갈아 신청
+                LocalDateTime preferred = i % 2 == 0 ? SLOT_START : SLOT_START.minusMinutes(30);
+                TimeType timeType = i % 2 == 0 ? TimeType.MINUTE_30 : TimeType.MINUTE_60;
+
+                Reservation reservation = Reservation.builder()
+                        .guide(guide)
+                        .member(mentee)
+                        .status(Status.PENDING)
+                        .survey(Survey.builder()
+                                .fileUploadURL("")
+                                .preferredDate(preferred)
+                                .build())
+                        .build();
+                em.persist(reservation);
+                reservation.setTimeUnit(TimeUnit.builder().timeType(timeType).build());
+                em.persist(reservation.getTimeUnit());
+                reservations.add(reservation);
+            }
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("DELETE FROM ReservationSlot").executeUpdate();
+            em.createQuery("DELETE FROM TimeUnit").executeUpdate();
+            em.createQuery("DELETE FROM Reservation").executeUpdate();
+            em.createQuery("DELETE FROM Survey").executeUpdate();
+            em.createQuery("DELETE FROM Guide").executeUpdate();
+            em.createQuery("DELETE FROM Member").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("동일 가이드의 겹치는 슬롯을 동시에 점유하면 하나만 성공한다")
+    void concurrentClaims_onlyOneSucceeds() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        for (Reservation reservation : reservations) {
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    tx.executeWithoutResult(status ->
+                            reservationSlotService.claim(em.find(Reservation.class, reservation.getId())));
+                    success.incrementAndGet();
+                } catch (BaseException e) {
+                    if (e.getErrorCode() == ErrorStatus.SLOT_ALREADY_RESERVED) {
+                        rejected.incrementAndGet();
+                    } else {
+                        unexpected.add(e);
+                    }
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, java.util.concurrent.TimeUnit.SECONDS));
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        assertEquals(1, success.get());
+        assertEquals(THREAD_COUNT - 1, rejected.get());
+
+        long claimedSlots = reservationSlotRepository.count();
+        assertTrue(claimedSlots == 1 || claimedSlots == 2, "winner must own exactly its own slots");
+    }
+
+    @Test
+    @DisplayName("점유된 슬롯은 사전 검사에서 조회되고, 해제 후에는 다시 점유할 수 있다")
+    void claimReleaseAndReclaim() {
+        Reservation first = reservations.get(0);
+        Reservation second = reservations.get(2);
+
+        tx.executeWithoutResult(status -> reservationSlotService.claim(em.find(Reservation.class, first.getId())));
+        assertTrue(reservationSlotService.isSlotTaken(guide, SLOT_START.plusMinutes(10), TimeType.MINUTE_30));
+        assertFalse(reservationSlotService.isSlotTaken(guide, SLOT_START.plusMinutes(30), TimeType.MINUTE_30));
+
+        tx.executeWithoutResult(status -> reservationSlotService.release(em.find(Reservation.class, first.getId())));
+        tx.executeWithoutResult(status -> reservationSlotService.claim(em.find(Reservation.class, second.getId())));
+
+        assertEquals(1, reservationSlotRepository.count());
+    }
+
+    @Test
+    @DisplayName("슬롯 시작 시각은 30분 단위로 정렬되고 종료 시각까지 연속으로 생성된다")
+    void toSlotStarts_alignsToHalfHour() {
+        List<LocalDateTime> slots = ReservationSlotService.toSlotStarts(SLOT_START.plusMinutes(15), TimeType.MINUTE_60);
+
+        assertEquals(List.of(SLOT_START, SLOT_START.plusMinutes(30), SLOT_START.plusMinutes(60)), slots);
+    }
+}
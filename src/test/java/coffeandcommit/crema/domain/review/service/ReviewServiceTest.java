@@ -16,9 +16,11 @@ import coffeandcommit.crema.domain.review.dto.response.MyReviewResponseDTO;
 import coffeandcommit.crema.domain.review.dto.response.ReviewResponseDTO;
 import coffeandcommit.crema.domain.review.dto.response.ReviewInfo;
 import coffeandcommit.crema.domain.review.entity.Review;
+import coffeandcommit.crema.domain.review.event.ReviewCreatedEvent;
 import coffeandcommit.crema.domain.review.repository.ReviewRepository;
 import coffeandcommit.crema.global.common.exception.BaseException;
 import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -27,6 +29,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -36,7 +39,7 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -58,6 +61,12 @@ class ReviewServiceTest {
     @Mock
     private ReservationRepository reservationRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
     @InjectMocks
     private ReviewService reviewService;
 
@@ -138,11 +147,11 @@ class ReviewServiceTest {
     void createReview_Success() {
         // Given
         when(reservationService.getReservationOrThrow(RESERVATION_ID)).thenReturn(testReservation);
-        when(experienceGroupRepository.findById(EXPERIENCE_GROUP_ID)).thenReturn(java.util.Optional.of(testExperienceGroup));
+        when(experienceGroupRepository.findAllByIdInAndGuide_Id(Set.of(EXPERIENCE_GROUP_ID), testGuide.getId()))
+                .thenReturn(List.of(testExperienceGroup));
         when(reviewRepository.existsByReservation(testReservation)).thenReturn(false);
-        when(reviewRepository.save(any(Review.class))).thenReturn(testReview);
-        when(reviewRepository.findByIdWithExperiences(testReview.getId()))
-                .thenReturn(Optional.of(testReview));
+        when(reviewRepository.save(any(Review.class))).thenAnswer(invocation ->
+                ((Review) invocation.getArgument(0)).toBuilder().id(testReview.getId()).build());
 
         // When
         ReviewResponseDTO result = reviewService.createReview(LOGIN_MEMBER_ID, testReviewRequestDTO);
@@ -153,13 +162,19 @@ class ReviewServiceTest {
         assertEquals(RESERVATION_ID, result.getReservationId());
         assertEquals(STAR_REVIEW, result.getStarReview());
         assertEquals(COMMENT, result.getComment());
+        assertEquals(1, result.getExperienceEvaluations().size());
+        assertEquals("Test Experience", result.getExperienceEvaluations().get(0).getExperienceTitle());
 
         // Verify interactions
         verify(reservationService, times(1)).getReservationOrThrow(RESERVATION_ID);
         verify(reviewRepository, times(1)).existsByReservation(testReservation);
-        verify(experienceGroupRepository, times(1)).findById(EXPERIENCE_GROUP_ID);
+        verify(experienceGroupRepository, times(1)).findAllByIdInAndGuide_Id(Set.of(EXPERIENCE_GROUP_ID), testGuide.getId());
         verify(reviewRepository, times(1)).save(any(Review.class));
-        verify(reviewRepository, times(1)).findByIdWithExperiences(testReview.getId());
+        verify(reviewRepository, never()).findByIdWithExperiences(any());
+        ReviewCreatedEvent expectedEvent = new ReviewCreatedEvent(
+                testReview.getId(), RESERVATION_ID, testGuide.getId(), LOGIN_MEMBER_ID, STAR_REVIEW, 1);
+        verify(eventPublisher).publishEvent(expectedEvent);
+        verify(outboxEventPublisher).append(expectedEvent);
 
         // Capture the Review object passed to save method to verify its properties
         ArgumentCaptor<Review> reviewCaptor = ArgumentCaptor.forClass(Review.class);
@@ -213,7 +228,8 @@ class ReviewServiceTest {
         // Given
         when(reservationService.getReservationOrThrow(RESERVATION_ID)).thenReturn(testReservation);
         when(reviewRepository.existsByReservation(testReservation)).thenReturn(false);
-        when(experienceGroupRepository.findById(EXPERIENCE_GROUP_ID)).thenReturn(java.util.Optional.empty());
+        when(experienceGroupRepository.findAllByIdInAndGuide_Id(Set.of(EXPERIENCE_GROUP_ID), testGuide.getId()))
+                .thenReturn(List.of());
 
         // When & Then
         BaseException exception = assertThrows(BaseException.class, () -> {
@@ -223,7 +239,37 @@ class ReviewServiceTest {
         assertEquals(ErrorStatus.EXPERIENCE_NOT_FOUND, exception.getErrorCode());
         verify(reservationService, times(1)).getReservationOrThrow(RESERVATION_ID);
         verify(reviewRepository, times(1)).existsByReservation(testReservation);
-        verify(experienceGroupRepository, times(1)).findById(EXPERIENCE_GROUP_ID);
+        verify(experienceGroupRepository, times(1)).findAllByIdInAndGuide_Id(Set.of(EXPERIENCE_GROUP_ID), testGuide.getId());
+        verify(reviewRepository, never()).save(any(Review.class));
+        verify(eventPublisher, never()).publishEvent(any());
+        verify(outboxEventPublisher, never()).append(any());
+    }
+
+    @Test
+    @DisplayName("createReview - 실패 케이스: 같은 경험 그룹을 중복 평가한 경우")
+    void createReview_DuplicateExperienceEvaluation() {
+        // Given
+        ExperienceEvaluationRequestDTO evaluationDTO = ExperienceEvaluationRequestDTO.builder()
+                .experienceGroupId(EXPERIENCE_GROUP_ID)
+                .isThumbsUp(false)
+                .build();
+        ReviewRequestDTO duplicatedRequest = ReviewRequestDTO.builder()
+                .reservationId(RESERVATION_ID)
+                .starReview(STAR_REVIEW)
+                .comment(COMMENT)
+                .experienceEvaluations(List.of(evaluationDTO, evaluationDTO))
+                .build();
+
+        when(reservationService.getReservationOrThrow(RESERVATION_ID)).thenReturn(testReservation);
+        when(reviewRepository.existsByReservation(testReservation)).thenReturn(false);
+
+        // When & Then
+        BaseException exception = assertThrows(BaseException.class, () -> {
+            reviewService.createReview(LOGIN_MEMBER_ID, duplicatedRequest);
+        });
+
+        assertEquals(ErrorStatus.DUPLICATE_EXPERIENCE_EVALUATION, exception.getErrorCode());
+        verify(experienceGroupRepository, never()).findAllByIdInAndGuide_Id(any(), any());
         verify(reviewRepository, never()).save(any(Review.class));
     }
 
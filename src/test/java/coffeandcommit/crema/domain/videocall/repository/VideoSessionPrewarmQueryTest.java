@@ -0,0 +1,153 @@
+package coffeandcommit.crema.domain.videocall.repository;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 세션 사전 생성 대상 / 유휴 세션 정리 대상 조회 쿼리 검증.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class VideoSessionPrewarmQueryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2030, 1, 7, 10, 0);
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VideoSessionRepository videoSessionRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Guide guide;
+    private Member mentee;
+
+    @BeforeEach
+    void setUp() {
+        Member guideMember = Member.builder().id("warm-guide").nickname("warm-guide").role(MemberRole.GUIDE).build();
+        mentee = Member.builder().id("warm-mentee").nickname("warm-mentee").role(MemberRole.ROOKIE).build();
+        em.persist(guideMember);
+        em.persist(mentee);
+
+        guide = Guide.builder().member(guideMember).title("warm guide").isOpened(true).build();
+        em.persist(guide);
+    }
+
+    @Test
+    @DisplayName("사전 생성 대상 - 구간 내 확정 예약 중 세션이 없는 예약만 매칭 시간 순으로 조회한다")
+    void findIdsWithoutVideoSessionBetween() {
+        Reservation later = persistReservation(Status.CONFIRMED, NOW.plusMinutes(8));
+        Reservation sooner = persistReservation(Status.CONFIRMED, NOW.plusMinutes(3));
+        persistReservation(Status.PENDING, NOW.plusMinutes(5));
+        persistReservation(Status.CONFIRMED, NOW.plusMinutes(30));
+        persistReservation(Status.CONFIRMED, NOW.minusMinutes(1));
+        Reservation linked = persistReservation(Status.CONFIRMED, NOW.plusMinutes(5));
+        linkSession(linked);
+        em.flush();
+        em.clear();
+
+        List<Long> ids = reservationRepository.findIdsWithoutVideoSessionBetween(
+                Status.CONFIRMED, NOW, NOW.plusMinutes(10), PageRequest.of(0, 10));
+
+        assertThat(ids).containsExactly(sooner.getId(), later.getId());
+    }
+
+    @Test
+    @DisplayName("정리 대상 - 참가자가 없는 활성 세션 중 예약 취소 또는 노쇼인 세션만 조회한다")
+    void findIdleReservationSessionIds() {
+        VideoSession cancelled = linkSession(persistReservation(Status.CANCELLED, NOW.plusMinutes(5)));
+        VideoSession noShow = linkSession(persistReservation(Status.CONFIRMED, NOW.minusMinutes(90)));
+        linkSession(persistReservation(Status.CONFIRMED, NOW.plusMinutes(5)));
+
+        VideoSession joined = linkSession(persistReservation(Status.CONFIRMED, NOW.minusMinutes(90)));
+        Participant participant = Participant.builder()
+                .connectionId("warm-conn").token("warm-token").username("warm-mentee")
+                .joinedAt(NOW.minusMinutes(90)).isConnected(false).build();
+        joined.addParticipant(participant);
+        em.persist(participant);
+
+        VideoSession ended = linkSession(persistReservation(Status.CANCELLED, NOW.plusMinutes(5)));
+        ended.deactivateSession();
+        em.flush();
+        em.clear();
+
+        List<Long> ids = videoSessionRepository.findIdleReservationSessionIds(
+                Status.CANCELLED, NOW.minusMinutes(60), PageRequest.of(0, 10));
+
+        assertThat(ids).containsExactlyInAnyOrder(cancelled.getId(), noShow.getId());
+    }
+
+    @Test
+    @DisplayName("유휴 세션 비활성화 - 참가자가 없는 활성 세션만 비활성화한다")
+    void deactivateIfIdle() {
+        VideoSession idle = linkSession(persistReservation(Status.CANCELLED, NOW.plusMinutes(5)));
+        VideoSession joined = linkSession(persistReservation(Status.CONFIRMED, NOW.minusMinutes(90)));
+        Participant participant = Participant.builder()
+                .connectionId("warm-conn-2").token("warm-token-2").username("warm-mentee")
+                .joinedAt(NOW.minusMinutes(90)).isConnected(true).build();
+        joined.addParticipant(participant);
+        em.persist(participant);
+        em.flush();
+        em.clear();
+
+        assertThat(videoSessionRepository.findIdleById(idle.getId())).isPresent();
+        assertThat(videoSessionRepository.findIdleById(joined.getId())).isEmpty();
+        assertThat(videoSessionRepository.deactivateIfIdle(idle.getId(), NOW)).isEqualTo(1);
+        assertThat(videoSessionRepository.deactivateIfIdle(joined.getId(), NOW)).isZero();
+
+        em.clear();
+        assertThat(videoSessionRepository.findById(idle.getId()).orElseThrow().getIsActive()).isFalse();
+        assertThat(videoSessionRepository.findById(joined.getId()).orElseThrow().getIsActive()).isTrue();
+        // 이미 비활성화된 세션은 다시 건드리지 않는다
+        assertThat(videoSessionRepository.deactivateIfIdle(idle.getId(), NOW)).isZero();
+    }
+
+    private Reservation persistReservation(Status status, LocalDateTime matchingTime) {
+        Reservation reservation = Reservation.builder()
+                .guide(guide)
+                .member(mentee)
+                .status(status)
+                .survey(Survey.builder().fileUploadURL("").preferredDate(matchingTime).build())
+                .build();
+        reservation.assignMatchingTime(matchingTime);
+        em.persist(reservation);
+        return reservation;
+    }
+
+    private VideoSession linkSession(Reservation reservation) {
+        String sessionName = "reservation_" + reservation.getId();
+        VideoSession session = VideoSession.builder()
+                .sessionName(sessionName)
+                .sessionId("session_" + sessionName)
+                .build();
+        session.assignReservation(reservation);
+        reservation.assignVideoSession(session);
+        em.persist(session);
+        return session;
+    }
+}
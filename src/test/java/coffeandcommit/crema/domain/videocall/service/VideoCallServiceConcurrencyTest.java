@@ -0,0 +1,177 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.member.enums.MemberRole;
+import coffeandcommit.crema.domain.member.repository.MemberRepository;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.entity.Survey;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.reservation.service.ReservationSlotService;
+import coffeandcommit.crema.domain.videocall.dto.response.QuickJoinResponse;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.ParticipantRepository;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 같은 예약에 다수가 동시에 입장할 때 행 잠금 없이도
+ * 세션이 하나만 만들어지고 모든 참가자가 같은 세션의 토큰을 받는지 검증한다.
+ * (OpenVidu 호출은 목으로 대체하고, 세션 저장은 VideoSessionWriter 와 실제 DB 유니크 제약에 맡긴다)
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VideoCallServiceConcurrencyTest {
+
+    private static final int THREAD_COUNT = 16;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private VideoSessionRepository videoSessionRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+    private BasicVideoCallService basicVideoCallService;
+    private VideoCallService videoCallService;
+    private Long reservationId;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+
+        tx.executeWithoutResult(status -> {
+            Member guideMember = Member.builder().id("join-guide").nickname("join-guide").role(MemberRole.GUIDE).build();
+            Member mentee = Member.builder().id("join-mentee").nickname("join-mentee").role(MemberRole.ROOKIE).build();
+            em.persist(guideMember);
+            em.persist(mentee);
+
+            Guide guide = Guide.builder().member(guideMember).title("join guide").isOpened(true).build();
+            em.persist(guide);
+
+            Reservation reservation = Reservation.builder()
+                    .guide(guide)
+                    .member(mentee)
+                    .status(Status.CONFIRMED)
+                    .survey(Survey.builder().fileUploadURL("").preferredDate(LocalDateTime.of(2030, 1, 7, 10, 0)).build())
+                    .build();
+            em.persist(reservation);
+            reservationId = reservation.getId();
+        });
+
+        // OpenVidu 왕복 지연을 흉내 낸 뒤 실제 저장 경로(VideoSessionWriter)로 저장 - 동시 생성은 유니크 제약으로 정리된다
+        VideoSessionWriter videoSessionWriter = new VideoSessionWriter(videoSessionRepository,
+                mock(ParticipantRepository.class), transactionManager);
+        basicVideoCallService = mock(BasicVideoCallService.class);
+        when(basicVideoCallService.createVideoSession(anyString(), any(Reservation.class))).thenAnswer(invocation -> {
+            String sessionName = invocation.getArgument(0);
+            Thread.sleep(20);
+            return videoSessionWriter.insertIfAbsent("session_" + sessionName, sessionName, invocation.getArgument(1));
+        });
+        when(basicVideoCallService.joinSession(anyString(), anyString()))
+                .thenAnswer(invocation -> "token:" + invocation.getArgument(0));
+
+        MemberRepository memberRepository = mock(MemberRepository.class);
+        when(memberRepository.findByIdAndIsDeletedFalse(anyString())).thenAnswer(invocation ->
+                Optional.of(Member.builder().id(invocation.getArgument(0)).nickname(invocation.getArgument(0)).build()));
+
+        videoCallService = new VideoCallService(memberRepository, basicVideoCallService, videoSessionRepository,
+                reservationRepository, mock(ChatService.class), mock(ParticipantRepository.class),
+                mock(ReservationSlotService.class), mock(OutboxEventPublisher.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            em.createQuery("UPDATE Reservation r SET r.videoSession = null").executeUpdate();
+            em.createQuery("DELETE FROM VideoSession").executeUpdate();
+            em.createQuery("DELETE FROM Reservation").executeUpdate();
+            em.createQuery("DELETE FROM Survey").executeUpdate();
+            em.createQuery("DELETE FROM Guide").executeUpdate();
+            em.createQuery("DELETE FROM Member").executeUpdate();
+        });
+    }
+
+    @Test
+    @DisplayName("동시에 입장해도 세션은 하나만 저장되고 모든 참가자가 같은 세션 토큰을 받는다")
+    void concurrentQuickJoin_sharesOneSession() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch ready = new CountDownLatch(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger success = new AtomicInteger();
+        Set<String> tokens = ConcurrentHashMap.newKeySet();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            String username = "join-user-" + i;
+            executor.submit(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    QuickJoinResponse response = videoCallService.quickJoin(reservationId,
+                            User.withUsername(username).password("").build());
+                    tokens.add(response.getToken());
+                    success.incrementAndGet();
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        ready.await();
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, java.util.concurrent.TimeUnit.SECONDS));
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        assertEquals(THREAD_COUNT, success.get());
+        assertEquals(Set.of("token:session_reservation_" + reservationId), tokens);
+        assertEquals(1, videoSessionRepository.count());
+
+        VideoSession session = videoSessionRepository.findBySessionName("reservation_" + reservationId).orElseThrow();
+        Long linkedSessionId = tx.execute(status ->
+                em.find(Reservation.class, reservationId).getVideoSession().getId());
+        assertEquals(session.getId(), linkedSessionId);
+
+        // 이후 입장은 저장된 세션을 그대로 쓴다
+        clearInvocations(basicVideoCallService);
+        videoCallService.quickJoin(reservationId, User.withUsername("join-late").password("").build());
+        verify(basicVideoCallService, never()).createVideoSession(anyString(), any(Reservation.class));
+    }
+}
@@ -0,0 +1,151 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.exception.SessionCreationException;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoSessionPrewarmServiceTest {
+
+    private static final Long RESERVATION_ID = 7L;
+    private static final String SESSION_NAME = "reservation_7";
+    private static final String CLAIM_KEY = "videocall:prewarm:7";
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private VideoSessionRepository videoSessionRepository;
+
+    @Mock
+    private BasicVideoCallService basicVideoCallService;
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private VideoSessionPrewarmService prewarmService;
+
+    private Reservation reservation;
+
+    @BeforeEach
+    void setUp() {
+        reservation = Reservation.builder().id(RESERVATION_ID).status(Status.CONFIRMED).build();
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+    }
+
+    @Test
+    @DisplayName("세션이 없으면 예약을 넣어 새로 만들고 예약과 양방향으로 연결한다")
+    void prewarm_createsAndLinks() {
+        VideoSession created = VideoSession.builder().id(1L).sessionName(SESSION_NAME).sessionId("session_" + SESSION_NAME).build();
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+        when(valueOperations.setIfAbsent(eq(CLAIM_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(videoSessionRepository.findBySessionName(SESSION_NAME)).thenReturn(Optional.empty());
+        when(basicVideoCallService.createVideoSession(SESSION_NAME, reservation)).thenReturn(created);
+
+        String outcome = prewarmService.prewarm(RESERVATION_ID);
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_CREATED, outcome);
+        verify(videoSessionRepository).linkReservation(1L, reservation);
+        verify(reservationRepository).linkVideoSession(RESERVATION_ID, created);
+    }
+
+    @Test
+    @DisplayName("같은 이름의 세션이 이미 있으면 새로 만들지 않고 연결만 한다")
+    void prewarm_linksExistingSession() {
+        VideoSession existing = VideoSession.builder().id(2L).sessionName(SESSION_NAME).sessionId("session_" + SESSION_NAME).build();
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+        when(valueOperations.setIfAbsent(eq(CLAIM_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(videoSessionRepository.findBySessionName(SESSION_NAME)).thenReturn(Optional.of(existing));
+
+        String outcome = prewarmService.prewarm(RESERVATION_ID);
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_LINKED, outcome);
+        verify(videoSessionRepository).linkReservation(2L, reservation);
+        verify(reservationRepository).linkVideoSession(RESERVATION_ID, existing);
+        verify(basicVideoCallService, never()).createVideoSession(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 선점했거나 확정 상태가 아니면 건너뛴다")
+    void prewarm_skipsWhenNotClaimedOrNotConfirmed() {
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+        when(valueOperations.setIfAbsent(eq(CLAIM_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_SKIPPED, prewarmService.prewarm(RESERVATION_ID));
+
+        Reservation cancelled = Reservation.builder().id(8L).status(Status.CANCELLED).build();
+        when(reservationRepository.findById(8L)).thenReturn(Optional.of(cancelled));
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_SKIPPED, prewarmService.prewarm(8L));
+        verify(basicVideoCallService, never()).createVideoSession(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("세션 생성에 실패하면 다음 주기에 재시도하도록 선점을 해제한다")
+    void prewarm_releasesClaimOnFailure() {
+        when(reservationRepository.findById(RESERVATION_ID)).thenReturn(Optional.of(reservation));
+        when(valueOperations.setIfAbsent(eq(CLAIM_KEY), anyString(), any(Duration.class))).thenReturn(true);
+        when(videoSessionRepository.findBySessionName(SESSION_NAME)).thenReturn(Optional.empty());
+        when(basicVideoCallService.createVideoSession(SESSION_NAME, reservation)).thenThrow(new SessionCreationException());
+
+        assertThrows(SessionCreationException.class, () -> prewarmService.prewarm(RESERVATION_ID));
+
+        verify(redisTemplate).delete(CLAIM_KEY);
+        verify(reservationRepository, never()).linkVideoSession(any(), any());
+    }
+
+    @Test
+    @DisplayName("참가자가 없는 세션은 닫은 뒤 비활성화하고, 참가자가 있으면 건드리지 않는다")
+    void collect() {
+        VideoSession idle = VideoSession.builder().id(1L).sessionId("session_idle").build();
+        when(videoSessionRepository.findIdleById(1L)).thenReturn(Optional.of(idle));
+        when(videoSessionRepository.findIdleById(2L)).thenReturn(Optional.empty());
+        when(basicVideoCallService.endSession("session_idle")).thenReturn(true);
+        when(videoSessionRepository.deactivateIfIdle(eq(1L), any(LocalDateTime.class))).thenReturn(1);
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_CLOSED, prewarmService.collect(1L));
+        assertEquals(VideoSessionPrewarmService.OUTCOME_SKIPPED, prewarmService.collect(2L));
+
+        verify(basicVideoCallService).endSession("session_idle");
+        verify(basicVideoCallService, times(1)).endSession(anyString());
+        verify(videoSessionRepository, never()).deactivateIfIdle(eq(2L), any());
+    }
+
+    @Test
+    @DisplayName("OpenVidu 세션을 닫지 못하면 활성으로 남겨 다음 주기에 다시 시도한다")
+    void collect_keepsSessionWhenCloseFails() {
+        VideoSession idle = VideoSession.builder().id(1L).sessionId("session_idle").build();
+        when(videoSessionRepository.findIdleById(1L)).thenReturn(Optional.of(idle));
+        when(basicVideoCallService.endSession("session_idle")).thenReturn(false);
+
+        assertEquals(VideoSessionPrewarmService.OUTCOME_CLOSE_FAILED, prewarmService.collect(1L));
+
+        verify(videoSessionRepository, never()).deactivateIfIdle(any(), any());
+    }
+}
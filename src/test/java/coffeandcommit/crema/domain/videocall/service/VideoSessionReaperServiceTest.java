@@ -0,0 +1,196 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.guide.entity.Guide;
+import coffeandcommit.crema.domain.guide.entity.TimeUnit;
+import coffeandcommit.crema.domain.guide.enums.TimeType;
+import coffeandcommit.crema.domain.member.entity.Member;
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.event.ReservationCompletedEvent;
+import coffeandcommit.crema.domain.reservation.service.ReservationSlotService;
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.domain.videocall.util.ScreenShareRegistry;
+import coffeandcommit.crema.global.common.outbox.OutboxEventPublisher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class VideoSessionReaperServiceTest {
+
+    private static final String SESSION_ID = "session_reservation_1";
+
+    @Mock
+    private VideoSessionRepository videoSessionRepository;
+
+    @Mock
+    private BasicVideoCallService basicVideoCallService;
+
+    @Mock
+    private ScreenShareRegistry screenShareRegistry;
+
+    @Mock
+    private ReservationSlotService reservationSlotService;
+
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @InjectMocks
+    private VideoSessionReaperService reaperService;
+
+    private LocalDateTime now;
+    private Reservation reservation;
+    private VideoSession session;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(reaperService, "joinGraceSeconds", 120L);
+        ReflectionTestUtils.setField(reaperService, "idleTimeoutMinutes", 10L);
+
+        now = LocalDateTime.now();
+        Guide guideProfile = Guide.builder().id(2L).member(Member.builder().id("guide-member").build()).build();
+        reservation = Reservation.builder().id(1L).status(Status.CONFIRMED)
+                .guide(guideProfile).member(Member.builder().id("mentee").build())
+                .matchingTime(now.minusMinutes(60))
+                .timeUnit(TimeUnit.builder().timeType(TimeType.MINUTE_30).build())
+                .build();
+        session = VideoSession.builder().id(10L).sessionId(SESSION_ID).reservation(reservation).build();
+        when(videoSessionRepository.findById(10L)).thenReturn(Optional.of(session));
+    }
+
+    @Test
+    @DisplayName("OpenVidu 에 연결이 남아 있는 참가자는 그대로 두고 세션도 유지한다")
+    void keepsLiveParticipants() {
+        Participant guide = participant("conn-guide", now.minusMinutes(20));
+
+        String outcome = reaperService.reap(10L, Map.of(SESSION_ID, Set.of("conn-guide")), now);
+
+        assertEquals(VideoSessionReaperService.OUTCOME_KEPT, outcome);
+        assertTrue(guide.getIsConnected());
+        assertTrue(session.getIsActive());
+    }
+
+    @Test
+    @DisplayName("OpenVidu 세션이 사라졌으면 참가자를 연결 종료로 기록하고 세션을 닫은 뒤 확정 예약을 완료한다")
+    void closesSessionGoneFromOpenVidu() {
+        Participant guide = participant("conn-guide", now.minusMinutes(40));
+        Participant mentee = participant("conn-mentee", now.minusMinutes(40));
+
+        String outcome = reaperService.reap(10L, Map.of(), now);
+
+        assertEquals(VideoSessionReaperService.OUTCOME_COMPLETED, outcome);
+        assertFalse(guide.getIsConnected());
+        assertFalse(mentee.getIsConnected());
+        assertFalse(session.getIsActive());
+        assertEquals(Status.COMPLETED, reservation.getStatus());
+        verify(reservationSlotService).release(reservation);
+        verify(outboxEventPublisher).append(new ReservationCompletedEvent(1L, 2L, "guide-member", "mentee"));
+        verify(basicVideoCallService, never()).endSession(anyString());
+        verify(screenShareRegistry).release(SESSION_ID, "conn-guide");
+    }
+
+    @Test
+    @DisplayName("OpenVidu 세션이 남아 있으면 유휴 시간이 지나야 닫는다")
+    void waitsIdleTimeoutBeforeClosingLiveSession() {
+        Participant guide = participant("conn-guide", now.minusMinutes(40));
+
+        assertEquals(VideoSessionReaperService.OUTCOME_DISCONNECTED,
+                reaperService.reap(10L, Map.of(SESSION_ID, Set.of()), now));
+        assertFalse(guide.getIsConnected());
+        assertTrue(session.getIsActive());
+
+        when(basicVideoCallService.endSession(SESSION_ID)).thenReturn(true);
+        assertEquals(VideoSessionReaperService.OUTCOME_COMPLETED,
+                reaperService.reap(10L, Map.of(SESSION_ID, Set.of()), now.plusMinutes(11)));
+        assertFalse(session.getIsActive());
+        verify(basicVideoCallService).endSession(SESSION_ID);
+    }
+
+    @Test
+    @DisplayName("예약 시간 중에 일찍 들어왔다 모두 나가면 연결 종료만 기록하고 세션과 예약은 그대로 둔다")
+    void keepsSessionWhenEveryoneLeavesBeforeScheduledEnd() {
+        reservation.assignMatchingTime(now.minusMinutes(10));
+        Participant guide = participant("conn-guide", now.minusMinutes(8));
+        Participant mentee = participant("conn-mentee", now.minusMinutes(8));
+
+        // OpenVidu 세션이 사라졌어도, 남아 있고 유휴 시간이 지났어도 예약 종료 전에는 닫지 않는다
+        assertEquals(VideoSessionReaperService.OUTCOME_DISCONNECTED, reaperService.reap(10L, Map.of(), now));
+        assertEquals(VideoSessionReaperService.OUTCOME_KEPT,
+                reaperService.reap(10L, Map.of(SESSION_ID, Set.of()), now.plusMinutes(15)));
+
+        assertFalse(guide.getIsConnected());
+        assertFalse(mentee.getIsConnected());
+        assertTrue(session.getIsActive());
+        assertEquals(Status.CONFIRMED, reservation.getStatus());
+        verify(basicVideoCallService, never()).endSession(anyString());
+        verify(reservationSlotService, never()).release(any());
+        verify(outboxEventPublisher, never()).append(any());
+
+        // 예약 시간이 끝난 뒤 다음 주기에 닫고 완료 처리한다
+        assertEquals(VideoSessionReaperService.OUTCOME_COMPLETED, reaperService.reap(10L, Map.of(), now.plusMinutes(21)));
+        assertFalse(session.getIsActive());
+        assertEquals(Status.COMPLETED, reservation.getStatus());
+    }
+
+    @Test
+    @DisplayName("OpenVidu 세션을 닫지 못하면 세션을 활성으로 남기고 예약도 완료하지 않는다")
+    void keepsSessionWhenCloseFails() {
+        participant("conn-guide", now.minusMinutes(40));
+        when(basicVideoCallService.endSession(SESSION_ID)).thenReturn(false);
+
+        assertEquals(VideoSessionReaperService.OUTCOME_DISCONNECTED,
+                reaperService.reap(10L, Map.of(SESSION_ID, Set.of()), now.plusMinutes(11)));
+        assertTrue(session.getIsActive());
+        assertEquals(Status.CONFIRMED, reservation.getStatus());
+    }
+
+    @Test
+    @DisplayName("스냅샷 직전에 입장한 참가자는 연결 대기 중으로 보고 건드리지 않는다")
+    void skipsParticipantsWithinJoinGrace() {
+        Participant late = participant("conn-late", now.minusSeconds(30));
+
+        assertEquals(VideoSessionReaperService.OUTCOME_KEPT, reaperService.reap(10L, Map.of(), now));
+        assertTrue(late.getIsConnected());
+        assertTrue(session.getIsActive());
+    }
+
+    @Test
+    @DisplayName("확정되지 않은 예약의 세션은 닫되 예약 상태는 바꾸지 않고 확인 대상으로 남긴다")
+    void flagsNonConfirmedReservation() {
+        reservation.setStatus(Status.CANCELLED);
+        participant("conn-guide", now.minusMinutes(40));
+
+        assertEquals(VideoSessionReaperService.OUTCOME_FLAGGED, reaperService.reap(10L, Map.of(), now));
+        assertEquals(Status.CANCELLED, reservation.getStatus());
+        assertFalse(session.getIsActive());
+    }
+
+    private Participant participant(String connectionId, LocalDateTime joinedAt) {
+        Participant participant = Participant.builder()
+                .connectionId(connectionId)
+                .token("t")
+                .username(connectionId)
+                .joinedAt(joinedAt)
+                .isConnected(true)
+                .build();
+        session.addParticipant(participant);
+        return participant;
+    }
+}
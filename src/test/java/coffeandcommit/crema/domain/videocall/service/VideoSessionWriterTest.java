@@ -0,0 +1,109 @@
+package coffeandcommit.crema.domain.videocall.service;
+
+import coffeandcommit.crema.domain.videocall.entity.Participant;
+import coffeandcommit.crema.domain.videocall.entity.VideoSession;
+import coffeandcommit.crema.domain.videocall.repository.ParticipantRepository;
+import coffeandcommit.crema.domain.videocall.repository.VideoSessionRepository;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 세션 행 저장이 실제 유니크 제약 위반(DataIntegrityViolationException) 후 저장된 행을 다시 읽는지 검증한다.
+ * 저장이 자체 트랜잭션으로 커밋되므로 테스트 트랜잭션 없이 실행한다.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, VideoSessionWriter.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class VideoSessionWriterTest {
+
+    private static final int THREAD_COUNT = 8;
+
+    @Autowired
+    private VideoSessionWriter videoSessionWriter;
+
+    @Autowired
+    private VideoSessionRepository videoSessionRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @AfterEach
+    void tearDown() {
+        participantRepository.deleteAllInBatch();
+        videoSessionRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 이름의 행이 이미 있으면 삽입이 유니크 제약에 걸리고 저장된 행을 돌려준다")
+    void duplicateInsert_returnsExistingRow() {
+        VideoSession first = videoSessionWriter.insertIfAbsent("session_reservation_1", "reservation_1", null);
+
+        VideoSession second = videoSessionWriter.insertIfAbsent("session_reservation_1", "reservation_1", null);
+
+        assertNotNull(first.getId());
+        assertEquals(first.getId(), second.getId());
+        assertEquals(1, videoSessionRepository.count());
+    }
+
+    @Test
+    @DisplayName("참가자 행은 호출자 트랜잭션 없이 바로 커밋된다")
+    void insertParticipant_commitsImmediately() {
+        VideoSession session = videoSessionWriter.insertIfAbsent("session_reservation_3", "reservation_3", null);
+
+        Participant saved = videoSessionWriter.insertParticipant(Participant.builder()
+                .connectionId("con_writer")
+                .token("tok_writer")
+                .username("writer")
+                .videoSession(session)
+                .joinedAt(LocalDateTime.now())
+                .isConnected(true)
+                .build());
+
+        assertNotNull(saved.getId());
+        assertEquals(1, participantRepository.findByVideoSessionAndIsConnectedTrue(session).size());
+    }
+
+    @Test
+    @DisplayName("동시에 저장해도 행은 하나만 남고 모두 같은 행을 받는다")
+    void concurrentInsert_sharesOneRow() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch start = new CountDownLatch(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    ids.add(videoSessionWriter.insertIfAbsent("session_reservation_2", "reservation_2", null).getId());
+                } catch (Throwable t) {
+                    unexpected.add(t);
+                }
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+
+        assertTrue(unexpected.isEmpty(), () -> "unexpected failures: " + unexpected);
+        assertEquals(1, ids.size());
+        assertEquals(1, videoSessionRepository.count());
+    }
+}
@@ -0,0 +1,44 @@
+package coffeandcommit.crema.domain.videocall.util;
+
+import coffeandcommit.crema.domain.videocall.exception.OpenViduOverloadedException;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenViduBulkheadTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기 시간 후 OpenViduOverloadedException 으로 거절한다")
+    void rejectsWhenSaturated() {
+        OpenViduBulkhead bulkhead = new OpenViduBulkhead(2, 10, new CremaMetrics(registry));
+        bulkhead.acquire("create_connection");
+        bulkhead.acquire("create_connection");
+
+        long started = System.nanoTime();
+        assertThatThrownBy(() -> bulkhead.acquire("create_connection"))
+                .isInstanceOf(OpenViduOverloadedException.class);
+
+        assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(1_000);
+        assertThat(registry.get(CremaMetrics.OPENVIDU_BULKHEAD_REJECTIONS)
+                .tag(CremaMetrics.TAG_OPERATION, "create_connection")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("release 하면 허가가 반환되어 다음 호출이 통과한다")
+    void releaseReturnsPermit() {
+        OpenViduBulkhead bulkhead = new OpenViduBulkhead(1, 10, new CremaMetrics(registry));
+
+        bulkhead.acquire("create_session");
+        bulkhead.release();
+        bulkhead.acquire("create_session");
+
+        assertThat(bulkhead.availablePermits()).isZero();
+    }
+}
@@ -2,6 +2,7 @@ package coffeandcommit.crema.global.auth.service;
 
 import coffeandcommit.crema.global.auth.jwt.JwtTokenProvider;
 import coffeandcommit.crema.global.auth.util.CookieUtil;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -26,6 +27,9 @@ import static org.mockito.Mockito.*;
 @DisplayName("AuthService 테스트 - 자동 토큰 재발급 (String 반환)")
 class AuthServiceTest {
 
+    @Mock
+    private CremaMetrics metrics;
+
     @InjectMocks
     private AuthService authService;
 
@@ -0,0 +1,121 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource replicaDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private Statement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        monitor = new ReplicaLagMonitor(replicaDataSource, Duration.ofSeconds(3), Duration.ofSeconds(5), clock::get);
+    }
+
+    @Test
+    @DisplayName("첫 확인 전에는 복제본을 쓰지 않는다")
+    void unusableBeforeFirstCheck() {
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("지연이 허용치 이내면 사용하고, 넘으면 사용하지 않는다")
+    void usableOnlyWithinMaxLag() throws SQLException {
+        givenReplicaStatus(true, 2L, false);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+        assertThat(monitor.getLagSeconds()).isEqualTo(2L);
+
+        givenReplicaStatus(true, 10L, false);
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    @Test
+    @DisplayName("마지막 확인이 확인 주기의 2배보다 오래되면 사용하지 않는다")
+    void staleCheckIsUnusable() throws SQLException {
+        givenReplicaStatus(true, 0L, false);
+        monitor.check();
+
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+        assertThat(monitor.isReplicaUsable()).isTrue();
+
+        clock.addAndGet(1);
+        assertThat(monitor.isReplicaUsable()).isFalse();
+
+        monitor.check();
+        assertThat(monitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제가 멈춰 지연 값이 NULL 이면 사용하지 않는다")
+    void stoppedReplicationIsUnusable() throws SQLException {
+        givenReplicaStatus(true, 0L, true);
+
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+        assertThat(monitor.getLagSeconds()).isEqualTo(ReplicaLagMonitor.UNKNOWN_LAG);
+    }
+
+    @Test
+    @DisplayName("복제 상태 행이 없으면 (복제본이 아닌 단일 DB) 지연 0 으로 본다")
+    void noReplicaStatusMeansNoLag() throws SQLException {
+        givenReplicaStatus(false, 0L, false);
+
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복제본 연결에 실패하면 사용하지 않는다")
+    void connectionFailureIsUnusable() throws SQLException {
+        given(replicaDataSource.getConnection()).willThrow(new SQLException("connection refused"));
+
+        monitor.check();
+
+        assertThat(monitor.isReplicaUsable()).isFalse();
+    }
+
+    private void givenReplicaStatus(boolean hasRow, long lag, boolean isNull) throws SQLException {
+        given(replicaDataSource.getConnection()).willReturn(connection);
+        given(connection.createStatement()).willReturn(statement);
+        given(statement.executeQuery("SHOW REPLICA STATUS")).willReturn(resultSet);
+        given(resultSet.next()).willReturn(hasRow);
+        if (hasRow) {
+            given(resultSet.getLong("Seconds_Behind_Source")).willReturn(lag);
+            given(resultSet.wasNull()).willReturn(isNull);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 로컬 2-DataSource 구성 (H2 primary / replica) 으로 라우팅 결정을 확인한다.
+ * 각 DB 의 marker 테이블에 자기 이름을 넣어 두고, 어느 쪽에서 읽었는지로 판별한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class ReplicationRoutingDataSourceTest {
+
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    @Mock
+    private ReadYourWritesTracker readYourWritesTracker;
+
+    @Mock
+    private CremaMetrics metrics;
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readWriteTx;
+    private TransactionTemplate readOnlyTx;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = markedDataSource("primary");
+        DataSource replica = markedDataSource("replica");
+
+        ReplicationRoutingDataSource routing =
+                new ReplicationRoutingDataSource(lagMonitor, readYourWritesTracker, metrics);
+        routing.setTargetDataSources(Map.of(DataSourceType.PRIMARY, primary, DataSourceType.REPLICA, replica));
+        routing.setDefaultTargetDataSource(primary);
+        routing.afterPropertiesSet();
+
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(routing);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        readWriteTx = new TransactionTemplate(transactionManager);
+        readOnlyTx = new TransactionTemplate(transactionManager);
+        readOnlyTx.setReadOnly(true);
+
+        lenient().when(lagMonitor.isReplicaUsable()).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("readOnly 트랜잭션은 복제본에서 읽는다")
+    void readOnlyGoesToReplica() {
+        String marker = readOnlyTx.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("쓰기 트랜잭션은 primary 로 가고, 커밋 후 해당 회원을 read-your-writes 대상으로 기록한다")
+    void writeGoesToPrimaryAndMarksMember() {
+        given(readYourWritesTracker.currentMemberId()).willReturn("member01");
+
+        String marker = readWriteTx.execute(status -> {
+            jdbcTemplate.update("UPDATE marker SET touched = touched + 1");
+            return currentMarker();
+        });
+
+        assertThat(marker).isEqualTo("primary");
+        verify(readYourWritesTracker).markWrite("member01");
+    }
+
+    @Test
+    @DisplayName("롤백된 쓰기는 read-your-writes 대상으로 기록하지 않는다")
+    void rolledBackWriteDoesNotMark() {
+        given(readYourWritesTracker.currentMemberId()).willReturn("member01");
+
+        readWriteTx.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE marker SET touched = touched + 1");
+            status.setRollbackOnly();
+        });
+
+        verify(readYourWritesTracker, never()).markWrite(anyString());
+    }
+
+    @Test
+    @DisplayName("최근 쓰기를 커밋한 회원의 readOnly 트랜잭션은 primary 에서 읽는다")
+    void stickyMemberReadsFromPrimary() {
+        given(readYourWritesTracker.isSticky()).willReturn(true);
+
+        String marker = readOnlyTx.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("복제 지연이 허용치를 넘으면 readOnly 트랜잭션도 primary 에서 읽는다")
+    void laggingReplicaFallsBackToPrimary() {
+        given(lagMonitor.isReplicaUsable()).willReturn(false);
+
+        String marker = readOnlyTx.execute(status -> currentMarker());
+
+        assertThat(marker).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖의 조회는 primary 에서 읽는다")
+    void nonTransactionalReadGoesToPrimary() {
+        assertThat(currentMarker()).isEqualTo("primary");
+    }
+
+    private String currentMarker() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource markedDataSource(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE marker (name VARCHAR(20), touched INT)");
+        jdbc.update("INSERT INTO marker VALUES (?, 0)", name);
+        return dataSource;
+    }
+}
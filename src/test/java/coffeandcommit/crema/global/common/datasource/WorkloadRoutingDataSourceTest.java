@@ -0,0 +1,147 @@
+package coffeandcommit.crema.global.common.datasource;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.aop.support.ComposablePointcut;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 워크로드별 H2 풀 3개로 라우팅 / 풀 격리 / 대기 메트릭을 확인한다.
+ */
+class WorkloadRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private WorkloadRoutingDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Map<WorkloadType, HikariDataSource> pools = new EnumMap<>(WorkloadType.class);
+        for (WorkloadType workload : WorkloadType.values()) {
+            pools.put(workload, markedPool(workload.poolName()));
+        }
+        dataSource = new WorkloadRoutingDataSource(pools, new CremaMetrics(registry));
+        dataSource.afterPropertiesSet();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("지정이 없으면 interactive, 묶인 구간에서는 해당 풀을 쓰고 끝나면 이전 워크로드로 돌아온다")
+    void routesByBoundWorkload() {
+        assertThat(currentPool()).isEqualTo("interactive");
+
+        String nested = WorkloadContext.call(WorkloadType.BACKGROUND, () -> {
+            assertThat(currentPool()).isEqualTo("background");
+            return WorkloadContext.call(WorkloadType.REPORTING, this::currentPool);
+        });
+
+        assertThat(nested).isEqualTo("reporting");
+        assertThat(currentPool()).isEqualTo("interactive");
+    }
+
+    @Test
+    @DisplayName("@Workload 메서드 지정이 클래스 지정보다 우선한다")
+    void annotationBindsWorkload() {
+        ProxyFactory factory = new ProxyFactory(new BatchJob(jdbcTemplate));
+        factory.setProxyTargetClass(true);
+        factory.addAdvisor(new DefaultPointcutAdvisor(
+                new ComposablePointcut(new AnnotationMatchingPointcut(Workload.class, true))
+                        .union(AnnotationMatchingPointcut.forMethodAnnotation(Workload.class)),
+                new WorkloadInterceptor()));
+        BatchJob job = (BatchJob) factory.getProxy();
+
+        assertThat(job.sweep()).isEqualTo("background");
+        assertThat(job.summarize()).isEqualTo("reporting");
+        assertThat(currentPool()).isEqualTo("interactive");
+    }
+
+    @Test
+    @DisplayName("background 풀이 포화돼도 interactive 커넥션은 바로 얻고, 대기 시간은 풀별로 기록된다")
+    void saturatedPoolDoesNotStarveOthers() throws SQLException {
+        try (Connection held = WorkloadContext.call(WorkloadType.BACKGROUND, this::connection)) {
+            assertThatThrownBy(() -> WorkloadContext.call(WorkloadType.BACKGROUND, this::connection))
+                    .hasCauseInstanceOf(SQLException.class);
+
+            assertThat(currentPool()).isEqualTo("interactive");
+        }
+
+        Timer timeouts = registry.find(CremaMetrics.POOL_WAIT)
+                .tags("pool", "background", CremaMetrics.TAG_OUTCOME, WorkloadRoutingDataSource.OUTCOME_TIMEOUT)
+                .timer();
+        Timer interactive = registry.find(CremaMetrics.POOL_WAIT)
+                .tags("pool", "interactive", CremaMetrics.TAG_OUTCOME, CremaMetrics.SUCCESS)
+                .timer();
+        assertThat(timeouts).isNotNull();
+        assertThat(timeouts.count()).isEqualTo(1);
+        assertThat(interactive).isNotNull();
+        assertThat(interactive.count()).isEqualTo(1);
+    }
+
+    private String currentPool() {
+        return jdbcTemplate.queryForObject("SELECT name FROM pool_marker", String.class);
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static HikariDataSource markedPool(String name) {
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl("jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        pool.setUsername("sa");
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE pool_marker (name VARCHAR(20))");
+        jdbc.update("INSERT INTO pool_marker VALUES (?)", name);
+        return pool;
+    }
+
+    @Workload(WorkloadType.BACKGROUND)
+    static class BatchJob {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        BatchJob(JdbcTemplate jdbcTemplate) {
+            this.jdbcTemplate = jdbcTemplate;
+        }
+
+        public String sweep() {
+            return jdbcTemplate.queryForObject("SELECT name FROM pool_marker", String.class);
+        }
+
+        @Workload(WorkloadType.REPORTING)
+        public String summarize() {
+            return jdbcTemplate.queryForObject("SELECT name FROM pool_marker", String.class);
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MemberIdGeneratorTest {
+
+    private static final long NOW = MemberIdGenerator.EPOCH_SECONDS + 10_000_000L;
+
+    @Test
+    @DisplayName("8자리 소문자 base36 이고, 기존 16진수 ID 와 겹치지 않도록 g 이후 문자로 시작한다")
+    void formatIsEightCharBase36OutsideHexRange() {
+        MemberIdGenerator generator = generator(0, new AtomicLong(MemberIdGenerator.EPOCH_SECONDS));
+        MemberIdGenerator latest = generator(TimeSortedIdFactory.MAX_NODE_ID, new AtomicLong(MemberIdGenerator.EPOCH_SECONDS
+                + MemberIdGenerator.MAX_TIMESTAMP - MemberIdGenerator.MAX_BORROW_SECONDS - 1));
+
+        for (String id : List.of(generator.nextId(), latest.nextId())) {
+            assertThat(id).hasSize(MemberIdGenerator.ID_LENGTH).matches("[g-u][0-9a-z]{7}");
+        }
+    }
+
+    @Test
+    @DisplayName("같은 초 안에서는 시퀀스로, 넘치면 다음 초를 빌려 중복 없이 증가한다")
+    void sequenceOverflowBorrowsNextSecond() {
+        MemberIdGenerator generator = generator(3, new AtomicLong(NOW));
+
+        List<Long> values = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            values.add(Long.parseLong(generator.nextId(), 36));
+        }
+
+        assertThat(values).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("노드가 다르면 같은 시각에도 ID 가 겹치지 않는다")
+    void differentNodesNeverCollide() {
+        AtomicLong clock = new AtomicLong(NOW);
+        MemberIdGenerator node1 = generator(1, clock);
+        MemberIdGenerator node2 = generator(2, clock);
+
+        Set<String> ids = new HashSet<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(node1.nextId());
+            ids.add(node2.nextId());
+        }
+
+        assertThat(ids).hasSize(400);
+    }
+
+    @Test
+    @DisplayName("동시 가입에서도 중복 없이 생성된다")
+    void concurrentGenerationIsUnique() throws Exception {
+        MemberIdGenerator generator = generator(9, new AtomicLong(NOW));
+        int threads = 8;
+        int perThread = 2_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<String>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<String> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(generator.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        Set<String> all = new HashSet<>();
+        for (Future<List<String>> future : futures) {
+            all.addAll(future.get());
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(threads * perThread);
+    }
+
+    @Test
+    @DisplayName("빌려 쓰는 초는 현재 시각 + MAX_BORROW_SECONDS 까지이고, 재시작한 생성기는 그 이후부터 시작해 겹치지 않는다")
+    void restartNeverReusesBorrowedSeconds() {
+        AtomicLong clock = new AtomicLong(NOW - 60);
+        MemberIdGenerator before = new MemberIdGenerator(4, clock::get, millis -> {
+            throw new BorrowLimitReached();
+        });
+        clock.set(NOW);
+
+        // 한 초 안에 몰린 가입 - 빌릴 수 있는 만큼 발급하다가 한도에서 대기(여기서는 중단)한다
+        List<Long> issued = new ArrayList<>();
+        assertThatThrownBy(() -> {
+            while (true) {
+                issued.add(Long.parseLong(before.nextId(), 36));
+            }
+        }).isInstanceOf(BorrowLimitReached.class);
+        assertThat(issued).hasSize((int) ((MemberIdGenerator.MAX_BORROW_SECONDS + 1) * (MemberIdGenerator.SEQUENCE_MASK + 1)));
+
+        // 같은 초에 재시작
+        MemberIdGenerator after = generator(4, clock);
+        long first = Long.parseLong(after.nextId(), 36);
+
+        assertThat(first).isGreaterThan(issued.get(issued.size() - 1));
+    }
+
+    @Test
+    @DisplayName("노드 번호가 범위를 벗어나면 생성할 수 없다")
+    void rejectsInvalidNode() {
+        assertThatThrownBy(() -> new MemberIdGenerator(64, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /* 대기 대신 가짜 시계를 1초 앞으로 돌린다 */
+    private static MemberIdGenerator generator(int nodeId, AtomicLong clock) {
+        return new MemberIdGenerator(nodeId, clock::get, millis -> clock.incrementAndGet());
+    }
+
+    private static class BorrowLimitReached extends RuntimeException {
+    }
+}
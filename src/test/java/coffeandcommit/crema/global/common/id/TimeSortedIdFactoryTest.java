@@ -0,0 +1,90 @@
+package coffeandcommit.crema.global.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeSortedIdFactoryTest {
+
+    private static final long NOW = TimeSortedIdFactory.EPOCH_MILLIS + 1_000_000L;
+
+    @Test
+    @DisplayName("같은 ms 안에서는 시퀀스로, 시퀀스가 넘치면 다음 ms 로 넘어가며 단조 증가한다")
+    void monotonicWithinSameMillisecond() {
+        TimeSortedIdFactory factory = new TimeSortedIdFactory(5, () -> NOW);
+
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            ids.add(factory.nextId());
+        }
+
+        assertThat(ids).isSorted().doesNotHaveDuplicates();
+        assertThat(ids.get(0) >> 12).isEqualTo(NOW - TimeSortedIdFactory.EPOCH_MILLIS);
+        assertThat((ids.get(0) >> 6) & TimeSortedIdFactory.MAX_NODE_ID).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("시계가 뒤로 가도 직전 값보다 큰 ID 를 만든다")
+    void clockRegressionKeepsOrder() {
+        AtomicLong clock = new AtomicLong(NOW);
+        TimeSortedIdFactory factory = new TimeSortedIdFactory(1, clock::get);
+
+        long before = factory.nextId();
+        clock.addAndGet(-5_000);
+        long after = factory.nextId();
+
+        assertThat(after).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("동시에 생성해도 중복이 없고, JavaScript 안전 정수 범위(2^53) 안에 있다")
+    void concurrentUniqueAndJsSafe() throws Exception {
+        TimeSortedIdFactory factory = TimeSortedIdFactory.forNode(7);
+        int threads = 8;
+        int perThread = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            futures.add(executor.submit(() -> {
+                List<Long> ids = new ArrayList<>(perThread);
+                for (int i = 0; i < perThread; i++) {
+                    ids.add(factory.nextId());
+                }
+                return ids;
+            }));
+        }
+
+        Set<Long> all = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            List<Long> ids = future.get(30, TimeUnit.SECONDS);
+            assertThat(ids).isSorted();
+            all.addAll(ids);
+        }
+        executor.shutdown();
+
+        assertThat(all).hasSize(threads * perThread);
+        assertThat(all).allMatch(id -> id > 0 && id < (1L << 53));
+    }
+
+    @Test
+    @DisplayName("노드 번호는 설정값만 쓰고, 미설정이면 필수 여부에 따라 기동 실패 또는 0 이다")
+    void resolveNodeId() {
+        assertThat(TimeSortedIdFactory.resolveNodeId(" 12 ", true)).isEqualTo(12);
+        assertThatThrownBy(() -> TimeSortedIdFactory.resolveNodeId("", "true"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> TimeSortedIdFactory.resolveNodeId(null, null))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(TimeSortedIdFactory.resolveNodeId(null, "false")).isZero();
+        assertThatThrownBy(() -> new TimeSortedIdFactory(64, () -> NOW))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
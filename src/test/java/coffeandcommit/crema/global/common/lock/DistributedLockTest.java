@@ -0,0 +1,77 @@
+package coffeandcommit.crema.global.common.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class DistributedLockTest {
+
+    private static final Duration TTL = Duration.ofMinutes(1);
+    private static final String KEY = DistributedLock.KEY_PREFIX + "videocall:screenshare:s1";
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private DistributedLock distributedLock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        distributedLock = new DistributedLock(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("다른 소유자가 점유 중이면 실패하고, 같은 소유자는 TTL 을 연장하며 재획득한다 (스크립트 한 번)")
+    void tryLock_ownerSemantics() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("conn-a"), eq("60000"))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("conn-b"), eq("60000"))).thenReturn(0L);
+
+        assertThat(distributedLock.tryLock("videocall:screenshare:s1", "conn-b", TTL)).isFalse();
+        assertThat(distributedLock.tryLock("videocall:screenshare:s1", "conn-a", TTL)).isTrue();
+
+        // 확인과 연장을 따로 호출하지 않는다
+        verify(valueOperations, never()).get(anyString());
+        verify(redisTemplate, never()).expire(anyString(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("해제는 소유 토큰을 넘겨 비교 후 삭제 스크립트로 수행한다")
+    void unlock_comparesOwner() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("conn-a"))).thenReturn(1L);
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of(KEY)), eq("conn-b"))).thenReturn(0L);
+
+        assertThat(distributedLock.unlock("videocall:screenshare:s1", "conn-b")).isFalse();
+        assertThat(distributedLock.unlock("videocall:screenshare:s1", "conn-a")).isTrue();
+        assertThat(distributedLock.unlock("videocall:screenshare:s1", null)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 토큰 획득은 null 로 처리하고, 소유자 지정 획득은 예외로 올린다")
+    void redisFailure() {
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(distributedLock.tryLock("videocall:reaper", TTL)).isNull();
+        assertThatThrownBy(() -> distributedLock.tryLock("videocall:screenshare:s1", "conn-a", TTL))
+                .isInstanceOf(RedisConnectionFailureException.class);
+    }
+}
@@ -0,0 +1,141 @@
+package coffeandcommit.crema.global.common.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 비동기 로깅 설정(neverBlock)의 동작 검증.
+ * 소요 시간은 비교하지 않고, 출력 대상을 래치로 멈춘 상태에서 호출 스레드가 끝까지 진행하는지만 본다.
+ * (동기/비동기 지연 비교는 src/jmh 의 AsyncLoggingBenchmark)
+ */
+class AsyncLoggingLatencyTest {
+
+    private static final int EVENTS = 1_000;
+
+    private LoggerContext context;
+    private StallingAppender sink;
+    private ExecutorService caller;
+
+    @BeforeEach
+    void setUp() {
+        context = new LoggerContext();
+        // 비동기 appender 는 이벤트를 넘기기 전에 MDC 를 복사하므로 어댑터가 필요하다 (없으면 append 실패)
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        sink = new StallingAppender();
+        sink.setContext(context);
+        sink.start();
+        caller = Executors.newSingleThreadExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sink.release.countDown();
+        caller.shutdownNow();
+        context.stop();
+    }
+
+    @Test
+    @DisplayName("출력 대상이 멈춰도 호출 스레드는 막히지 않고, 큐가 가득 차면 INFO 이벤트는 버려진다")
+    void stalledSink_doesNotBlockCaller() throws Exception {
+        AsyncAppender async = asyncAppender(16, 4);
+        Logger logger = logger("stall", async);
+        CountDownLatch callerDone = new CountDownLatch(1);
+
+        logger.info("first");
+        assertTrue(sink.entered.await(10, TimeUnit.SECONDS), "sink should be stalled on the first event");
+
+        caller.execute(() -> {
+            for (int i = 0; i < EVENTS; i++) {
+                logger.info("event {}", i);
+            }
+            callerDone.countDown();
+        });
+
+        // 출력 대상은 아직 첫 이벤트에서 멈춰 있다 - 그래도 호출 스레드는 끝나야 한다
+        assertTrue(callerDone.await(10, TimeUnit.SECONDS), "caller blocked on a stalled sink");
+        assertEquals(1, sink.events.size());
+
+        sink.release.countDown();
+        async.stop();
+        assertTrue(sink.events.size() < EVENTS, () -> "events should be dropped: " + sink.events.size());
+    }
+
+    @Test
+    @DisplayName("key-value 이벤트는 요청당 한 건으로 출력되고 값은 메시지가 아닌 key-value 로 전달된다")
+    void keyValueEvent_isSingleEvent() throws Exception {
+        sink.release.countDown();
+        AsyncAppender async = asyncAppender(16, 0);
+        Logger logger = logger("kv", async);
+
+        logger.atInfo()
+                .setMessage("[SESSION-JOIN] 세션 참가 완료")
+                .addKeyValue("sessionId", "session_1")
+                .addKeyValue("totalMs", 12)
+                .log();
+        async.stop();
+
+        assertEquals(1, sink.events.size());
+        ILoggingEvent event = sink.events.get(0);
+        assertEquals("[SESSION-JOIN] 세션 참가 완료", event.getFormattedMessage());
+        assertEquals(List.of("sessionId", "totalMs"),
+                event.getKeyValuePairs().stream().map(pair -> pair.key).toList());
+    }
+
+    private AsyncAppender asyncAppender(int queueSize, int discardingThreshold) {
+        AsyncAppender async = new AsyncAppender();
+        async.setContext(context);
+        async.setQueueSize(queueSize);
+        async.setDiscardingThreshold(discardingThreshold);
+        async.setNeverBlock(true);
+        async.setIncludeCallerData(false);
+        async.setMaxFlushTime(0);
+        async.addAppender(sink);
+        async.start();
+        return async;
+    }
+
+    private Logger logger(String name, AsyncAppender appender) {
+        Logger logger = context.getLogger(name);
+        logger.setAdditive(false);
+        logger.setLevel(Level.INFO);
+        logger.addAppender(appender);
+        return logger;
+    }
+
+    /* release 전까지 출력에서 멈추는 appender (느린/막힌 stdout 흉내) */
+    private static class StallingAppender extends AppenderBase<ILoggingEvent> {
+
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<ILoggingEvent> events = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            events.add(event);
+            entered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
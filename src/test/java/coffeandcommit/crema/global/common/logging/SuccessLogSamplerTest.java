@@ -0,0 +1,42 @@
+package coffeandcommit.crema.global.common.logging;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.spi.LoggingEventBuilder;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class SuccessLogSamplerTest {
+
+    @Test
+    @DisplayName("비율이 0이면 성공 이벤트는 항상 DEBUG로 내려간다")
+    void zeroRate_alwaysDebug() {
+        SuccessLogSampler sampler = new SuccessLogSampler(0.0);
+        Logger logger = mock(Logger.class);
+        LoggingEventBuilder debug = mock(LoggingEventBuilder.class);
+        when(logger.atDebug()).thenReturn(debug);
+
+        for (int i = 0; i < 100; i++) {
+            assertFalse(sampler.sample());
+            assertSame(debug, sampler.success(logger));
+        }
+        verify(logger, never()).atInfo();
+    }
+
+    @Test
+    @DisplayName("비율이 1 이상이면 성공 이벤트는 항상 INFO로 남는다")
+    void fullRate_alwaysInfo() {
+        SuccessLogSampler sampler = new SuccessLogSampler(5.0);
+        Logger logger = mock(Logger.class);
+        LoggingEventBuilder info = mock(LoggingEventBuilder.class);
+        when(logger.atInfo()).thenReturn(info);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(sampler.sample());
+            assertSame(info, sampler.success(logger));
+        }
+        verify(logger, never()).atDebug();
+    }
+}
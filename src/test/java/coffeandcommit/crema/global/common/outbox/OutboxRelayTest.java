@@ -0,0 +1,216 @@
+package coffeandcommit.crema.global.common.outbox;
+
+import coffeandcommit.crema.domain.guide.event.GuideUpdatedEvent;
+import coffeandcommit.crema.global.common.config.OutboxConfig;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 아웃박스 기록 → 커밋 이후 전달 → 실패 시 재시도 흐름과, 재전달 시 이미 처리한 소비자를 건너뛰는지 확인한다.
+ * 릴레이가 별도 트랜잭션을 쓰므로 테스트 트랜잭션 없이 실제로 커밋한다.
+ */
+@DataJpaTest(properties = "crema.outbox.max-attempts=3")
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, OutboxConfig.class, JacksonAutoConfiguration.class,
+        OutboxEventPublisher.class, OutboxRelay.class, OutboxRelayTest.HandlerConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class OutboxRelayTest {
+
+    @Autowired
+    private OutboxEventPublisher outboxEventPublisher;
+
+    @Autowired
+    private OutboxRelay outboxRelay;
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+
+    @Autowired
+    private OutboxConsumptionRepository outboxConsumptionRepository;
+
+    @Autowired
+    private RecordingHandler recordingHandler;
+
+    @Autowired
+    private FlakyHandler flakyHandler;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate tx;
+
+    @BeforeEach
+    void setUp() {
+        tx = new TransactionTemplate(transactionManager);
+        recordingHandler.received.clear();
+        flakyHandler.remainingFailures.set(0);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tx.executeWithoutResult(status -> {
+            outboxConsumptionRepository.deleteAllInBatch();
+            outboxEventRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("커밋 직후 모든 소비자에게 전달하고 발행 완료로 표시한다")
+    void dispatchesAfterCommit() {
+        tx.executeWithoutResult(status -> outboxEventPublisher.append(new GuideUpdatedEvent(7L)));
+
+        OutboxEvent event = onlyEvent();
+        assertThat(event.getEventType()).isEqualTo(OutboxEventType.GUIDE_UPDATED);
+        assertThat(event.getAggregateId()).isEqualTo(7L);
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(event.getAttempts()).isEqualTo(1);
+        assertThat(recordingHandler.received).containsExactly(new GuideUpdatedEvent(7L));
+        assertThat(outboxConsumptionRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 남지 않는다")
+    void discardsRolledBackEvent() {
+        assertThatThrownBy(() -> tx.executeWithoutResult(status -> {
+            outboxEventPublisher.append(new GuideUpdatedEvent(7L));
+            throw new IllegalStateException("rollback");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(outboxEventRepository.count()).isZero();
+        assertThat(recordingHandler.received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("한 소비자가 실패하면 재시도하고, 재전달 때 이미 처리한 소비자는 건너뛴다")
+    void retriesOnlyFailedConsumer() {
+        flakyHandler.remainingFailures.set(1);
+        tx.executeWithoutResult(status -> outboxEventPublisher.append(new GuideUpdatedEvent(7L)));
+
+        OutboxEvent failed = onlyEvent();
+        assertThat(failed.getStatus()).isEqualTo(OutboxStatus.PENDING);
+        assertThat(failed.getAttempts()).isEqualTo(1);
+        assertThat(failed.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        assertThat(failed.getLastError()).contains("flaky");
+
+        // 재시도 시각 전에는 선점되지 않는다
+        assertThat(outboxRelay.dispatch(failed.getId())).isFalse();
+
+        makeDue(failed);
+        assertThat(outboxRelay.dispatch(failed.getId())).isTrue();
+
+        assertThat(onlyEvent().getStatus()).isEqualTo(OutboxStatus.PUBLISHED);
+        assertThat(recordingHandler.received).hasSize(1);
+        assertThat(flakyHandler.handled.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 재시도를 넘기면 FAILED 로 남기고 폴러가 더 가져가지 않는다")
+    void marksFailedAfterMaxAttempts() {
+        flakyHandler.remainingFailures.set(Integer.MAX_VALUE);
+        tx.executeWithoutResult(status -> outboxEventPublisher.append(new GuideUpdatedEvent(7L)));
+
+        for (int i = 0; i < 2; i++) {
+            makeDue(onlyEvent());
+            outboxRelay.poll();
+        }
+
+        OutboxEvent event = onlyEvent();
+        assertThat(event.getStatus()).isEqualTo(OutboxStatus.FAILED);
+        assertThat(event.getAttempts()).isEqualTo(3);
+
+        makeDue(event);
+        assertThat(outboxRelay.dispatch(event.getId())).isFalse();
+    }
+
+    private OutboxEvent onlyEvent() {
+        List<OutboxEvent> events = outboxEventRepository.findAll();
+        assertThat(events).hasSize(1);
+        return events.get(0);
+    }
+
+    private void makeDue(OutboxEvent event) {
+        tx.executeWithoutResult(status ->
+                outboxEventRepository.save(event.toBuilder().nextAttemptAt(LocalDateTime.now().minusSeconds(1)).build()));
+    }
+
+    static class RecordingHandler implements OutboxEventHandler<GuideUpdatedEvent> {
+        final List<GuideUpdatedEvent> received = new ArrayList<>();
+
+        @Override
+        public Class<GuideUpdatedEvent> payloadType() {
+            return GuideUpdatedEvent.class;
+        }
+
+        @Override
+        public void handle(GuideUpdatedEvent payload) {
+            received.add(payload);
+        }
+    }
+
+    static class FlakyHandler implements OutboxEventHandler<GuideUpdatedEvent> {
+        final AtomicInteger remainingFailures = new AtomicInteger();
+        final AtomicInteger handled = new AtomicInteger();
+
+        @Override
+        public Class<GuideUpdatedEvent> payloadType() {
+            return GuideUpdatedEvent.class;
+        }
+
+        @Override
+        public void handle(GuideUpdatedEvent payload) {
+            if (remainingFailures.getAndDecrement() > 0) {
+                throw new IllegalStateException("flaky consumer");
+            }
+            handled.incrementAndGet();
+        }
+    }
+
+    @TestConfiguration
+    static class HandlerConfig {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+
+        @Bean
+        CremaMetrics cremaMetrics(MeterRegistry meterRegistry) {
+            return new CremaMetrics(meterRegistry);
+        }
+
+        @Bean
+        RecordingHandler recordingHandler() {
+            return new RecordingHandler();
+        }
+
+        @Bean
+        FlakyHandler flakyHandler() {
+            return new FlakyHandler();
+        }
+    }
+}
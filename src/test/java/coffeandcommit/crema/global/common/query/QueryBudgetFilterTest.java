@@ -0,0 +1,138 @@
+package coffeandcommit.crema.global.common.query;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class QueryBudgetFilterTest {
+
+    private final QueryCountInspector inspector = new QueryCountInspector();
+
+    private SimpleMeterRegistry registry;
+    private QueryBudgetProperties properties;
+    private QueryBudgetFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        properties = new QueryBudgetProperties();
+        properties.setDefaultBudget(5);
+        properties.setEndpoints(Map.of("SampleController#list", 2));
+        filter = new QueryBudgetFilter(properties, new CremaMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("LOG 모드 - 핸들러 태그로 문장 수를 기록하고 예산 초과를 표시한다")
+    void logMode_recordsStatementsPerHandler() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+
+        filter.doFilter(request, new MockHttpServletResponse(), dispatching(request, "list", 3));
+
+        assertThat(registry.get(CremaMetrics.REQUEST_QUERIES)
+                .tag(CremaMetrics.TAG_HANDLER, "SampleController#list")
+                .summary().totalAmount()).isEqualTo(3);
+        assertThat(registry.get(CremaMetrics.REQUEST_QUERIES)
+                .tag(CremaMetrics.TAG_OUTCOME, "over_budget")
+                .summary().count()).isEqualTo(1);
+        assertThat(QueryCountContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("FAIL 모드 - 엔드포인트 예산을 넘는 문장에서 요청을 실패시킨다")
+    void failMode_throwsWhenOverBudget() {
+        properties.setMode(QueryBudgetProperties.Mode.FAIL);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(),
+                dispatching(request, "list", 3)))
+                .isInstanceOf(BaseException.class)
+                .extracting("errorCode").isEqualTo(ErrorStatus.QUERY_BUDGET_EXCEEDED);
+        assertThat(QueryCountContext.current()).isNull();
+    }
+
+    @Test
+    @DisplayName("FAIL 모드 - 핸들러 결정 전 문장은 집계만 하고 기본 예산 이내면 통과한다")
+    void failMode_countsPreDispatchStatements() throws Exception {
+        properties.setMode(QueryBudgetProperties.Mode.FAIL);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+
+        FilterChain chain = (req, res) -> {
+            // 인증 필터의 회원 조회처럼 핸들러 결정 전에 실행되는 쿼리
+            inspector.inspect("select 1");
+            inspector.inspect("select 1");
+            dispatching(request, "detail", 2).doFilter(req, res);
+        };
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(registry.get(CremaMetrics.REQUEST_QUERIES)
+                .tag(CremaMetrics.TAG_HANDLER, "SampleController#detail")
+                .summary().totalAmount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("OFF 모드 - 컨텍스트를 열지 않는다")
+    void offMode_skipsCounting() throws Exception {
+        properties.setMode(QueryBudgetProperties.Mode.OFF);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/sample");
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> assertThat(QueryCountContext.current()).isNull());
+
+        assertThat(registry.find(CremaMetrics.REQUEST_QUERIES).summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("중첩 컨텍스트 - 안쪽에서 실행된 문장도 바깥 요청에 집계된다")
+    void nestedContext_propagatesToOuter() {
+        try (QueryCountContext outer = QueryCountContext.open()) {
+            inspector.inspect("select 1");
+            try (QueryCountContext inner = QueryCountContext.open()) {
+                inspector.inspect("select 1");
+                inspector.inspect("select 1");
+                assertThat(inner.getStatementCount()).isEqualTo(2);
+            }
+            assertThat(QueryCountContext.current()).isSameAs(outer);
+            assertThat(outer.getStatementCount()).isEqualTo(3);
+        }
+    }
+
+    /* DispatcherServlet 처럼 핸들러를 결정한 뒤 statements 개의 문장을 실행하는 체인 */
+    private FilterChain dispatching(MockHttpServletRequest request, String method, int statements) {
+        return (req, res) -> {
+            request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handlerMethod(method));
+            for (int i = 0; i < statements; i++) {
+                inspector.inspect("select 1");
+            }
+        };
+    }
+
+    private HandlerMethod handlerMethod(String method) {
+        try {
+            return new HandlerMethod(new SampleController(), SampleController.class.getMethod(method));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static class SampleController {
+        public void list() {
+        }
+
+        public void detail() {
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package coffeandcommit.crema.global.common.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서비스/리포지토리 테스트용 쿼리 수 검증 헬퍼.
+ * application.yml 에 등록된 QueryCountInspector 가 동작하는 JPA 테스트(@DataJpaTest 등)에서 사용한다.
+ */
+public final class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    /* action 실행 중 Hibernate 가 준비한 SQL 문장 수 */
+    public static int countStatements(Runnable action) {
+        try (QueryCountContext context = QueryCountContext.open()) {
+            action.run();
+            return context.getStatementCount();
+        }
+    }
+
+    public static void assertStatementCount(int expected, Runnable action) {
+        int executed = countStatements(action);
+        assertThat(executed)
+                .as("expected %d statements but %d were executed", expected, executed)
+                .isEqualTo(expected);
+    }
+
+    public static void assertMaxStatements(int budget, Runnable action) {
+        int executed = countStatements(action);
+        assertThat(executed)
+                .as("query budget exceeded: %d statements (budget %d)", executed, budget)
+                .isLessThanOrEqualTo(budget);
+    }
+}
@@ -0,0 +1,195 @@
+package coffeandcommit.crema.global.common.ratelimit;
+
+import coffeandcommit.crema.global.common.exception.BaseException;
+import coffeandcommit.crema.global.common.exception.code.ErrorStatus;
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class RateLimiterTest {
+
+    private RedisTemplate<String, String> redisTemplate;
+    private SimpleMeterRegistry registry;
+    private RateLimitProperties properties;
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        registry = new SimpleMeterRegistry();
+        properties = new RateLimitProperties();
+        rateLimiter = new RateLimiter(redisTemplate, properties, new CremaMetrics(registry));
+    }
+
+    @Test
+    @DisplayName("로컬 버킷이 비면 Redis 를 호출하지 않고 거부한다")
+    void localFastPath_rejectsWithoutRedis() {
+        redisAllows();
+        RateLimitProperties.Bucket bucket = bucket(2, 0.01);
+
+        assertThat(rateLimiter.tryAcquire("H#m", "member", "k", bucket)).isZero();
+        assertThat(rateLimiter.tryAcquire("H#m", "member", "k", bucket)).isZero();
+        long retryAfter = rateLimiter.tryAcquire("H#m", "member", "k", bucket);
+
+        assertThat(retryAfter).isPositive();
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(count(RateLimiter.REJECTED_LOCAL)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Redis 가 거부하면 로컬 토큰을 되돌려 로컬 버킷이 전역보다 엄격해지지 않는다")
+    void redisRejection_refundsLocalToken() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 1500L));
+        RateLimitProperties.Bucket bucket = bucket(1, 0.01);
+
+        assertThat(rateLimiter.tryAcquire("H#m", "total", "k", bucket)).isEqualTo(1500L);
+        assertThat(rateLimiter.tryAcquire("H#m", "total", "k", bucket)).isEqualTo(1500L);
+
+        // 두 번 모두 Redis 까지 도달 (로컬 토큰이 환불됨)
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+        assertThat(count(RateLimiter.REJECTED)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 시 fail-open 이면 허용, 아니면 거부한다")
+    void redisFailure_followsFailOpenSetting() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(rateLimiter.tryAcquire("H#m", "member", "a", bucket(5, 1))).isZero();
+
+        properties.setFailOpen(false);
+        assertThat(rateLimiter.tryAcquire("H#m", "member", "b", bucket(5, 1))).isPositive();
+        assertThat(count(RateLimiter.REDIS_ERROR)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("로컬 버킷 수가 한도를 넘으면 가득 찬 버킷을 정리한다")
+    void localBuckets_evictIdleBuckets() {
+        redisAllows();
+        properties.setLocalMaxBuckets(3);
+        RateLimitProperties.Bucket bucket = bucket(1, 0.001);
+
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("H#m", "member", "used-" + i, bucket);
+        }
+        assertThat(rateLimiter.localBucketCount()).isEqualTo(3);
+
+        // 사용 중(비어 있는) 버킷은 남고 새 버킷이 추가된다
+        rateLimiter.tryAcquire("H#m", "member", "new", bucket);
+        assertThat(rateLimiter.localBucketCount()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("인터셉터 - 설정된 핸들러가 한도를 넘으면 Retry-After 와 함께 TOO_MANY_REQUESTS")
+    void interceptor_rejectsWithRetryAfter() throws Exception {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(0L, 2500L));
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setMember(bucket(5, 1));
+        properties.setEndpoints(Map.of("SampleController#create", policy));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, rateLimiter);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("create"));
+        assertThatThrownBy(() -> interceptor.preHandle(new MockHttpServletRequest(), response, handler))
+                .isInstanceOf(BaseException.class)
+                .extracting(e -> ((BaseException) e).getErrorCode())
+                .isEqualTo(ErrorStatus.TOO_MANY_REQUESTS);
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("3");
+
+        HandlerMethod other = new HandlerMethod(new SampleController(), SampleController.class.getMethod("list"));
+        assertThat(interceptor.preHandle(new MockHttpServletRequest(), new MockHttpServletResponse(), other)).isTrue();
+    }
+
+    @Test
+    @DisplayName("인터셉터 - 회원 한도에 걸린 요청은 엔드포인트 전체 토큰을 소모하지 않는다")
+    void interceptor_memberRejectionKeepsTotalToken() throws Exception {
+        redisAllows();
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setMember(bucket(1, 0.001));
+        policy.setTotal(bucket(2, 0.001));
+        properties.setEndpoints(Map.of("SampleController#create", policy));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, rateLimiter);
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("create"));
+
+        assertThat(interceptor.preHandle(requestFrom("10.0.0.1"), new MockHttpServletResponse(), handler)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(requestFrom("10.0.0.1"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(BaseException.class);
+
+        // 남은 전체 토큰 1개는 다른 회원이 쓸 수 있다
+        assertThat(interceptor.preHandle(requestFrom("10.0.0.2"), new MockHttpServletResponse(), handler)).isTrue();
+    }
+
+    @Test
+    @DisplayName("인터셉터 - 전체 한도에 걸린 요청은 회원 토큰을 되돌린다")
+    void interceptor_totalRejectionRefundsMemberToken() throws Exception {
+        redisAllows();
+        RateLimitProperties.Policy policy = new RateLimitProperties.Policy();
+        policy.setMember(bucket(1, 0.001));
+        policy.setTotal(bucket(1, 0.001));
+        properties.setEndpoints(Map.of("SampleController#create", policy));
+        RateLimitInterceptor interceptor = new RateLimitInterceptor(properties, rateLimiter);
+        HandlerMethod handler = new HandlerMethod(new SampleController(), SampleController.class.getMethod("create"));
+
+        // 다른 회원이 전체 토큰을 다 쓴 뒤 거부된 요청
+        assertThat(interceptor.preHandle(requestFrom("10.0.0.1"), new MockHttpServletResponse(), handler)).isTrue();
+        assertThatThrownBy(() -> interceptor.preHandle(requestFrom("10.0.0.2"), new MockHttpServletResponse(), handler))
+                .isInstanceOf(BaseException.class);
+        assertThat(count(RateLimiter.REFUNDED)).isEqualTo(1);
+
+        // 되돌려 받은 회원 토큰은 전체 버킷이 다시 차면 쓸 수 있다
+        assertThat(rateLimiter.tryAcquire("SampleController#create", RateLimitInterceptor.SCOPE_MEMBER,
+                "SampleController#create:member:ip:10.0.0.2", policy.getMember())).isZero();
+    }
+
+    private static MockHttpServletRequest requestFrom(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+
+    private void redisAllows() {
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class)))
+                .thenReturn(List.of(1L, 0L));
+    }
+
+    private double count(String outcome) {
+        return registry.get(CremaMetrics.RATE_LIMIT).tag(CremaMetrics.TAG_OUTCOME, outcome).counter().count();
+    }
+
+    private static RateLimitProperties.Bucket bucket(int capacity, double refillPerSecond) {
+        RateLimitProperties.Bucket bucket = new RateLimitProperties.Bucket();
+        bucket.setCapacity(capacity);
+        bucket.setRefillPerSecond(refillPerSecond);
+        return bucket;
+    }
+
+    static class SampleController {
+        public void create() {
+        }
+
+        public void list() {
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<String> transitions = new ArrayList<>();
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.Settings settings = new ResilienceProperties.Settings();
+        settings.setSlidingWindowSize(10);
+        settings.setMinimumCalls(4);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(Duration.ofSeconds(10));
+        settings.setHalfOpenProbes(2);
+        breaker = new CircuitBreaker("test", settings, clock::get);
+        breaker.addListener((name, from, to) -> transitions.add(from + "->" + to));
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 전에는 실패율과 관계없이 CLOSED 를 유지한다")
+    void staysClosedBelowMinimumCalls() {
+        call(false);
+        call(false);
+        call(false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getFailureRate()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("실패율이 임계값 이상이면 OPEN - 유지 시간 동안 호출을 거절한다")
+    void opensOnFailureRate() {
+        call(true);
+        call(true);
+        call(false);
+        call(false);
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN");
+    }
+
+    @Test
+    @DisplayName("유지 시간 후 HALF_OPEN 에서 시험 호출 수만 허용하고, 모두 성공하면 CLOSED")
+    void halfOpenProbesClose() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        breaker.onSuccess();
+        breaker.onSuccess();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->CLOSED");
+    }
+
+    @Test
+    @DisplayName("HALF_OPEN 시험 호출이 실패하면 다시 OPEN")
+    void halfOpenFailureReopens() {
+        open();
+        clock.addAndGet(Duration.ofSeconds(10).toNanos());
+
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        breaker.onFailure();
+
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(breaker.tryAcquirePermission()).isFalse();
+        assertThat(transitions).containsExactly("CLOSED->OPEN", "OPEN->HALF_OPEN", "HALF_OPEN->OPEN");
+    }
+
+    @Test
+    @DisplayName("창이 가득 차면 오래된 결과부터 밀려난다")
+    void slidingWindowEvictsOldest() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+            if (breaker.getState() == CircuitBreaker.State.OPEN) {
+                break;
+            }
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+
+        CircuitBreaker fresh = new CircuitBreaker("window", settingsWithWindow(4), clock::get);
+        fresh.onFailure();
+        fresh.onSuccess();
+        fresh.onSuccess();
+        fresh.onSuccess();
+        fresh.onSuccess();   // 첫 실패가 밀려나 실패율 0%
+
+        assertThat(fresh.getFailureRate()).isZero();
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            call(false);
+        }
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean success) {
+        assertThat(breaker.tryAcquirePermission()).isTrue();
+        if (success) {
+            breaker.onSuccess();
+        } else {
+            breaker.onFailure();
+        }
+    }
+
+    private static ResilienceProperties.Settings settingsWithWindow(int size) {
+        ResilienceProperties.Settings settings = new ResilienceProperties.Settings();
+        settings.setSlidingWindowSize(size);
+        settings.setMinimumCalls(size);
+        return settings;
+    }
+}
@@ -0,0 +1,116 @@
+package coffeandcommit.crema.global.common.resilience;
+
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.health.Status;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ExternalCallGuardTest {
+
+    private SimpleMeterRegistry registry;
+    private ExternalCallGuards guards;
+    private ExternalCallGuard guard;
+
+    @BeforeEach
+    void setUp() {
+        ResilienceProperties.Settings settings = new ResilienceProperties.Settings();
+        settings.setSlidingWindowSize(4);
+        settings.setMinimumCalls(2);
+        settings.setFailureRateThreshold(50);
+        settings.setOpenDuration(Duration.ofMinutes(1));
+        settings.setMinTimeout(Duration.ofMillis(50));
+        settings.setMaxTimeout(Duration.ofMillis(200));
+        settings.setTimeoutMultiplier(2.0);
+        ResilienceProperties properties = new ResilienceProperties();
+        properties.getServices().put("sample", settings);
+
+        registry = new SimpleMeterRegistry();
+        guards = new ExternalCallGuards(properties, new CremaMetrics(registry));
+        // IOException 만 장애로 집계
+        guard = guards.register("sample", e -> e instanceof IOException);
+    }
+
+    @AfterEach
+    void tearDown() {
+        guards.shutdown();
+    }
+
+    @Test
+    @DisplayName("타임아웃 안에 응답하지 않으면 ExternalCallTimeoutException, 장애로 집계된다")
+    void timeoutCountsAsFailure() {
+        assertThatThrownBy(() -> guard.execute("slow", () -> {
+            Thread.sleep(5_000);
+            return "late";
+        })).isInstanceOf(ExternalCallTimeoutException.class);
+
+        assertThatThrownBy(() -> guard.execute("slow", () -> {
+            Thread.sleep(5_000);
+            return "late";
+        })).isInstanceOf(ExternalCallTimeoutException.class);
+
+        assertThat(guard.isOpen()).isTrue();
+        assertThatThrownBy(() -> guard.execute("fast", () -> "ok"))
+                .isInstanceOf(CircuitOpenException.class);
+        assertThat(registry.get(CremaMetrics.CIRCUIT_REJECTIONS).tag(CremaMetrics.TAG_NAME, "sample")
+                .counter().count()).isEqualTo(1);
+        assertThat(registry.get(CremaMetrics.CIRCUIT_STATE).tag(CremaMetrics.TAG_NAME, "sample")
+                .gauge().value()).isEqualTo(CircuitBreaker.State.OPEN.ordinal());
+    }
+
+    @Test
+    @DisplayName("원래 예외를 그대로 던지고, 장애가 아닌 예외는 실패율에 넣지 않는다")
+    void rethrowsOriginalExceptions() {
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> guard.execute("notFound", () -> {
+                throw new IllegalArgumentException("404");
+            })).isInstanceOf(IllegalArgumentException.class);
+        }
+        assertThat(guard.isOpen()).isFalse();
+
+        assertThatThrownBy(() -> guard.execute("io", () -> {
+            throw new IOException("connection reset");
+        })).isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> guard.execute("io", () -> {
+            throw new IOException("connection reset");
+        })).isInstanceOf(IOException.class);
+        assertThat(guard.isOpen()).isTrue();
+    }
+
+    @Test
+    @DisplayName("적응형 타임아웃 - 최근 성공 지연 p99 x multiplier 를 최소값으로 제한한다")
+    void adaptiveTimeoutFollowsLatency() throws Exception {
+        assertThat(guard.currentTimeoutMs()).isEqualTo(200);
+
+        for (int i = 0; i < AdaptiveTimeout.MIN_SAMPLES; i++) {
+            assertThat(guard.execute("fast", () -> "ok")).isEqualTo("ok");
+        }
+
+        // 빠른 호출(수 ms) x 2 는 최소값 50ms 로 제한된다
+        assertThat(guard.currentTimeoutMs()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("헬스 체크 - 열린 브레이커가 있으면 DEGRADED")
+    void healthIndicatorReportsDegraded() throws Exception {
+        CircuitBreakerHealthIndicator indicator = new CircuitBreakerHealthIndicator(guards);
+        guard.execute("fast", () -> "ok");
+        assertThat(indicator.health().getStatus()).isEqualTo(Status.UP);
+
+        // 성공 1 + 실패 1 = 실패율 50%
+        assertThatThrownBy(() -> guard.execute("io", () -> {
+            throw new IOException("down");
+        })).isInstanceOf(IOException.class);
+
+        assertThat(indicator.health().getStatus()).isEqualTo(CircuitBreakerHealthIndicator.DEGRADED);
+        assertThat(indicator.health().getDetails()).containsKey("sample");
+    }
+}
@@ -0,0 +1,89 @@
+package coffeandcommit.crema.global.loadtest;
+
+import coffeandcommit.crema.domain.reservation.entity.Reservation;
+import coffeandcommit.crema.domain.reservation.enums.Status;
+import coffeandcommit.crema.domain.reservation.repository.ReservationRepository;
+import coffeandcommit.crema.global.common.config.QueryDslConfig;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@Import(QueryDslConfig.class)
+@ActiveProfiles("test")
+@DirtiesContext // 커밋된 시드 데이터가 다른 테스트 컨텍스트로 새지 않도록
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class LoadTestDataGeneratorTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Test
+    @DisplayName("회원/가이드/예약/리뷰/화상 세션을 FK 일관성 있게 생성하고 재실행은 거부한다")
+    void seed_createsConsistentDataset() {
+        LoadTestSeedProperties properties = new LoadTestSeedProperties();
+        properties.setMembers(60);
+        properties.setGuides(10);
+        properties.setReservations(500);
+        properties.setVideoSessions(5);
+        properties.setBatchSize(64);
+
+        LoadTestDataGenerator generator = new LoadTestDataGenerator(jdbcTemplate);
+        LoadTestSeedResult result = generator.seed(properties);
+
+        assertThat(count("SELECT COUNT(*) FROM member WHERE provider = 'test' AND id LIKE 'lt%'")).isEqualTo(60);
+        assertThat(count("SELECT COUNT(*) FROM guide g JOIN member m ON g.member_id = m.id WHERE m.role = 'GUIDE'")).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM guide_job_field")).isEqualTo(10);
+        assertThat(count("SELECT COUNT(*) FROM reservation r JOIN survey s ON r.survey_id = s.id "
+                + "JOIN time_unit t ON t.reservation_id = r.id")).isEqualTo(500);
+        assertThat(result.reviews()).isPositive();
+        assertThat(count("SELECT COUNT(*) FROM review v JOIN reservation r ON v.reservation_id = r.id "
+                + "WHERE r.status = 'COMPLETED'")).isEqualTo(result.reviews());
+
+        // 회원 잔액 = 기초 잔액 원장
+        assertThat(count("SELECT COUNT(*) FROM point_ledger l JOIN member m ON l.member_id = m.id "
+                + "WHERE l.type = 'OPENING_BALANCE' AND l.applied = TRUE AND l.amount = m.point")).isEqualTo(60);
+
+        // 확정 예약은 시간 단위만큼 슬롯을 점유하고, 다른 상태의 예약은 슬롯이 없다
+        assertThat(count("SELECT COUNT(*) FROM reservation r JOIN time_unit t ON t.reservation_id = r.id "
+                + "WHERE r.status = 'CONFIRMED' AND (SELECT COUNT(*) FROM reservation_slot s WHERE s.reservation_id = r.id "
+                + "AND s.guide_id = r.guide_id AND s.slot_start >= r.matching_time) "
+                + "<> CASE t.time_type WHEN 'MINUTE_60' THEN 2 ELSE 1 END")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM reservation_slot s JOIN reservation r ON s.reservation_id = r.id "
+                + "WHERE r.status <> 'CONFIRMED'")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM reservation_slot")).isPositive();
+
+        // 화상 세션: 가이드/멘티 참여자 2명 + 예약 연결
+        assertThat(result.sessions()).hasSize(5);
+        LoadTestSeedResult.SeededSession session = result.sessions().get(0);
+        Reservation reservation = reservationRepository.findById(session.reservationId()).orElseThrow();
+        assertThat(reservation.getStatus()).isEqualTo(Status.CONFIRMED);
+        assertThat(count("SELECT COUNT(*) FROM participants p JOIN video_session v ON p.video_session_id = v.video_session_id "
+                + "WHERE v.session_id = '" + session.sessionId() + "'")).isEqualTo(2);
+        assertThat(session.guideNickname()).startsWith(LoadTestDataGenerator.GUIDE_NICKNAME_PREFIX);
+        assertThat(session.menteeNickname()).startsWith(LoadTestDataGenerator.ROOKIE_NICKNAME_PREFIX);
+
+        // identity 재시작 - 이후 애플리케이션 INSERT 가 시드 id 와 충돌하지 않는다
+        jdbcTemplate.update("INSERT INTO survey (file_upload_url, preferred_date) VALUES ('', CURRENT_TIMESTAMP)");
+
+        assertThatThrownBy(() -> generator.seed(properties))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private int count(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+}
@@ -5,6 +5,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
 
+import coffeandcommit.crema.global.common.metrics.CremaMetrics;
+import coffeandcommit.crema.global.common.resilience.ExternalCallGuards;
+import coffeandcommit.crema.global.common.resilience.ResilienceProperties;
 import coffeandcommit.crema.global.storage.dto.FileUploadResponse;
 import coffeandcommit.crema.global.storage.impl.GcsStorageServiceImpl;
 import coffeandcommit.crema.global.validation.FileType;
@@ -12,12 +15,14 @@ import coffeandcommit.crema.global.validation.FileValidator;
 import coffeandcommit.crema.global.validation.ValidatedFile;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import java.io.IOException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -34,15 +39,19 @@ class StorageServiceTest {
     private FileValidator fileValidator;
 
     // 실사용에선 구체 클래스가 아닌 StorageService를 써서 구현해주세요
-    @InjectMocks
     private GcsStorageServiceImpl storageService;
 
     private final String bucketName = "test-bucket";
     private final String testUser = "1234";
 
+    private SimpleMeterRegistry meterRegistry;
+
     @BeforeEach
     void setUp() {
-        storageService = new GcsStorageServiceImpl(storage, bucketName);
+        meterRegistry = new SimpleMeterRegistry();
+        CremaMetrics metrics = new CremaMetrics(meterRegistry);
+        storageService = new GcsStorageServiceImpl(storage, bucketName, metrics,
+                new ExternalCallGuards(new ResilienceProperties(), metrics));
     }
 
     @Test
@@ -77,5 +86,13 @@ class StorageServiceTest {
 
         // call count check
         verify(storage, times(1)).create(any(BlobInfo.class), eq(imageFile.getBytes()));
+
+        // 업로드 지연 / 크기 메트릭 기록
+        Timer uploadTimer = meterRegistry.get(CremaMetrics.STORAGE_UPLOAD)
+                .tag(CremaMetrics.TAG_OUTCOME, CremaMetrics.SUCCESS).timer();
+        DistributionSummary uploadSize = meterRegistry.get(CremaMetrics.STORAGE_UPLOAD_SIZE)
+                .tag(CremaMetrics.TAG_OUTCOME, CremaMetrics.SUCCESS).summary();
+        assertThat(uploadTimer.count()).isEqualTo(1);
+        assertThat(uploadSize.totalAmount()).isEqualTo(imageFile.getSize());
     }
 }
\ No newline at end of file